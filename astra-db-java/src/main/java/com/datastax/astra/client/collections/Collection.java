@@ -55,6 +55,7 @@ import com.datastax.astra.client.collections.exceptions.CollectionInsertManyExce
 import com.datastax.astra.client.collections.exceptions.TooManyDocumentsToCountException;
 import com.datastax.astra.client.core.DataAPIKeywords;
 import com.datastax.astra.client.core.commands.Command;
+import com.datastax.astra.client.core.commands.PreparedCommand;
 import com.datastax.astra.client.core.options.BaseOptions;
 import com.datastax.astra.client.core.paging.Page;
 import com.datastax.astra.client.core.query.Filter;
@@ -63,8 +64,10 @@ import com.datastax.astra.client.core.query.Projection;
 import com.datastax.astra.client.core.rerank.RerankedResult;
 import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.datastax.astra.client.databases.Database;
+import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
 import com.datastax.astra.client.exceptions.DataAPIException;
 import com.datastax.astra.client.exceptions.DataAPIResponseException;
+import com.datastax.astra.client.exceptions.DataAPITimeoutException;
 import com.datastax.astra.client.exceptions.UnexpectedDataAPIResponseException;
 import com.datastax.astra.internal.api.DataAPIResponse;
 import com.datastax.astra.client.tables.commands.options.TableDistinctOptions;
@@ -91,12 +94,16 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -594,12 +601,14 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
         // Grouping All Insert ids in the same list.
         CollectionInsertManyResult finalResult = new CollectionInsertManyResult();
         List<CollectionInsertManyException> partialExceptions = new ArrayList<>();
+        List<DataAPIErrorDescriptor> partialErrors = new ArrayList<>();
         
         try {
             // Collect results from all futures, even if some fail
             for (Future<CollectionInsertManyResult> future : futures) {
                 try {
-                    CollectionInsertManyResult res = future.get();
+                    long remaining = options.getDeadlineRemainingMillis();
+                    CollectionInsertManyResult res = (remaining < 0) ? future.get() : future.get(remaining, TimeUnit.MILLISECONDS);
                     finalResult.getInsertedIds().addAll(res.getInsertedIds());
                     finalResult.getDocumentResponses().addAll(res.getDocumentResponses());
                 } catch (ExecutionException e) {
@@ -609,11 +618,19 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
                         // Add the partial IDs from this failed chunk
                         finalResult.getInsertedIds().addAll(partialEx.getInsertedIds());
                         partialExceptions.add(partialEx);
+                        partialErrors.addAll(partialEx.getErrors());
                     } else if (e.getCause() instanceof DataAPIException) {
+                        executor.shutdownNow();
                         throw (DataAPIException) e.getCause();
                     } else {
+                        executor.shutdownNow();
                         throw new DataAPIException(ERROR_CODE_INTERRUPTED, "Error during insertMany execution", e.getCause());
                     }
+                } catch (TimeoutException e) {
+                    // Deadline reached, outstanding chunks are cancelled
+                    executor.shutdownNow();
+                    throw new DataAPITimeoutException("Deadline exceeded during insertMany, "
+                            + finalResult.getInsertedIds().size() + " documents inserted");
                 }
             }
             
@@ -633,13 +650,16 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
             if (!partialExceptions.isEmpty()) {
                 throw new CollectionInsertManyException(
                     finalResult.getInsertedIds(),
-                    String.format("Partial insertion: %d documents inserted across %d chunks, %d chunks failed",
+                    String.format("Partial insertion: %d documents inserted across %d chunks, %d chunks failed (first: %s)",
                         finalResult.getInsertedIds().size(),
                         futures.size(),
-                        partialExceptions.size())
+                        partialExceptions.size(),
+                        partialExceptions.get(0).getMessage()),
+                    partialErrors
                 );
             }
         } catch (InterruptedException e) {
+            executor.shutdownNow();
             Thread.currentThread().interrupt();
             throw new DataAPIException(ERROR_CODE_INTERRUPTED, "Thread was interrupted while waiting", e);
         }
@@ -855,7 +875,7 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
                 // Throw CollectionInsertManyException with partial IDs
                 throw new CollectionInsertManyException(partialIds,
                     "Partial insertion: " + partialIds.size() + " documents inserted before error. " +
-                    "Error: " + e.getMessage());
+                    "Error: " + e.getMessage(), e.getApiErrors());
             }
         };
     }
@@ -1320,6 +1340,81 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
      * @return A {@link Page} object containing the documents that match the query, along with pagination information.
      */
     public <R> Page<R> findPage(Filter filter, CollectionFindOptions options, Class<R> newRowType) {
+        DataAPIResponse apiResponse = runCommand(buildFindCommand(filter, options), options);
+
+        // load sortVector if available
+        DataAPIVector sortVector = null;
+        if (options != null && options.includeSortVector() != null && apiResponse.getStatus() != null) {
+            sortVector = apiResponse.getStatus().getSortVector();
+        }
+        return new Page<>(
+                apiResponse.getData().getNextPageState(),
+                apiResponse.getData().getDocuments().stream()
+                        .map(d -> d.map(newRowType))
+                        .collect(Collectors.toList()), sortVector);
+    }
+
+    /**
+     * Prepare a 'find' command to be executed many times with different parameter values.
+     * <p>
+     * The filter and options are used as a sample: the values declared with
+     * {@link PreparedCommand#withParameter(String, String...)} are replaced at execution time, everything else is
+     * serialized only once. The optional parameter {@link PreparedCommand#PARAM_PAGE_STATE} is declared to
+     * fetch the next pages, it is left out of the command when not provided.
+     * </p>
+     *
+     * @param filter
+     *      sample filter
+     * @param options
+     *      sample find options, also used to execute the command
+     * @return
+     *      the prepared command
+     */
+    public PreparedCommand prepareFind(Filter filter, CollectionFindOptions options) {
+        return new PreparedCommand(buildFindCommand(filter, options), getSerializer(), options)
+                .withOptionalParameter(PreparedCommand.PARAM_PAGE_STATE, "options", OPTIONS_PAGE_STATE);
+    }
+
+    /**
+     * Executes a prepared 'find' command, see {@link #prepareFind(Filter, CollectionFindOptions)}.
+     *
+     * @param preparedFind
+     *      prepared find command
+     * @param parameters
+     *      parameter values, missing parameters are sent as {@code null} and a missing page state is left out
+     * @return
+     *      A {@link Page} object containing the documents that match the query, along with pagination information.
+     */
+    public Page<T> findPage(PreparedCommand preparedFind, Map<String, ?> parameters) {
+        return findPage(preparedFind, parameters, getDocumentClass());
+    }
+
+    /**
+     * Executes a prepared 'find' command, see {@link #prepareFind(Filter, CollectionFindOptions)}.
+     *
+     * @param <R>
+     *      type of the result rows after mapping
+     * @param preparedFind
+     *      prepared find command
+     * @param parameters
+     *      parameter values, missing parameters are sent as {@code null} and a missing page state is left out
+     * @param newRowType
+     *      The class type to which the documents should be mapped.
+     * @return
+     *      A {@link Page} object containing the documents that match the query, along with pagination information.
+     */
+    public <R> Page<R> findPage(PreparedCommand preparedFind, Map<String, ?> parameters, Class<R> newRowType) {
+        Assert.notNull(preparedFind, "preparedFind");
+        DataAPIResponse apiResponse = runCommand(preparedFind.bind(parameters), preparedFind.getOptions());
+        DataAPIVector sortVector = apiResponse.getStatus() == null ? null : apiResponse.getStatus().getSortVector();
+        return new Page<>(
+                apiResponse.getData().getNextPageState(),
+                apiResponse.getData().getDocuments().stream()
+                        .map(d -> d.map(newRowType))
+                        .collect(Collectors.toList()), sortVector);
+    }
+
+    private Command buildFindCommand(Filter filter, CollectionFindOptions options) {
         Command findCommand = Command
                 .create("find")
                 .withFilter(filter);
@@ -1333,18 +1428,7 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
                             .appendIfNotNull(OPTIONS_INCLUDE_SORT_VECTOR, options.includeSortVector())
                             .appendIfNotNull(OPTIONS_INCLUDE_SIMILARITY, options.includeSimilarity()));
         }
-        DataAPIResponse apiResponse = runCommand(findCommand, options);
-
-        // load sortVector if available
-        DataAPIVector sortVector = null;
-        if (options != null && options.includeSortVector() != null && apiResponse.getStatus() != null) {
-            sortVector = apiResponse.getStatus().getSortVector();
-        }
-        return new Page<>(
-                apiResponse.getData().getNextPageState(),
-                apiResponse.getData().getDocuments().stream()
-                        .map(d -> d.map(newRowType))
-                        .collect(Collectors.toList()), sortVector);
+        return findCommand;
     }
 
     /**
@@ -1653,6 +1737,19 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
     /**
      * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not modified.
      *
+     * <p>When {@code partitions} are provided in the {@link CollectionDeleteManyOptions}, each partition is combined
+     * with the filter and its paging loop runs on its own, at most {@code concurrency} partitions at a time. The progress listener, if any, receives the running total after each page.</p>
+     *
+     * <p><b>Example usage:</b> Purging a year of documents with 8 parallel partitions</p>
+     * <pre>
+     * {@code
+     * collection.deleteMany(Filters.lt("expiry", Instant.now()), new CollectionDeleteManyOptions()
+     *   .partitions(Filters.objectIdTimeRanges(lastYear, Instant.now(), 32))
+     *   .concurrency(8)
+     *   .progressListener(res -> log.info("{} deleted", res.getDeletedCount())));
+     * }
+     * </pre>
+     *
      * @param filter
      *      the query filter to apply the delete operation
      * @param options
@@ -1661,24 +1758,158 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
      *      the result of the remove many operation
      */
     public CollectionDeleteResult deleteMany(Filter filter, CollectionDeleteManyOptions options) {
+        notNull(options, ARG_OPTIONS);
+        return deleteMany(filter, options, new AtomicBoolean(false));
+    }
+
+    /**
+     * Asynchronously removes all documents from the collection that match the given query filter. Cancelling the
+     * returned future stops every partition before its next page. The operation waits for its partitions on a
+     * dedicated thread, released when the future completes; to bound the threads of many operations, pass an
+     * executor you own and close instead.
+     *
+     * @param filter
+     *      the query filter to apply the delete operation
+     * @param options
+     *      the options to apply to the operation
+     * @return
+     *      the result of the remove many operation
+     */
+    public CompletableFuture<CollectionDeleteResult> deleteManyAsync(Filter filter, CollectionDeleteManyOptions options) {
+        ExecutorService executor = bulkExecutor();
+        CompletableFuture<CollectionDeleteResult> future = deleteManyAsync(filter, options, executor);
+        future.whenComplete((res, err) -> executor.shutdownNow());
+        return future;
+    }
+
+    /**
+     * Asynchronously removes all documents from the collection that match the given query filter, the operation
+     * waiting for its partitions on the provided executor. The task blocks until the last partition completes, so
+     * the executor should not be the one running the callbacks of the HTTP client.
+     *
+     * @param filter
+     *      the query filter to apply the delete operation
+     * @param options
+     *      the options to apply to the operation
+     * @param executor
+     *      executor running the operation
+     * @return
+     *      the result of the remove many operation
+     */
+    public CompletableFuture<CollectionDeleteResult> deleteManyAsync(Filter filter, CollectionDeleteManyOptions options, Executor executor) {
+        notNull(options, ARG_OPTIONS);
+        notNull(executor, "executor");
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        CompletableFuture<CollectionDeleteResult> future =
+                CompletableFuture.supplyAsync(() -> deleteMany(filter, options, cancelled), executor);
+        future.whenComplete((res, err) -> cancelled.compareAndSet(false, future.isCancelled()));
+        return future;
+    }
+
+    /**
+     * Executor of an asynchronous bulk operation: a single daemon thread waiting for the partitions, shut down by
+     * the caller when the operation completes. Cancelling the operation interrupts it.
+     *
+     * @return
+     *      executor for one bulk operation
+     */
+    private ExecutorService bulkExecutor() {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "data-api-bulk-" + collectionName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run the deleteMany paging loops, one per partition.
+     *
+     * @param filter
+     *      the query filter to apply the delete operation
+     * @param options
+     *      the options to apply to the operation
+     * @param cancelled
+     *      flag checked before each page
+     * @return
+     *      the result of the remove many operation
+     */
+    private CollectionDeleteResult deleteMany(Filter filter, CollectionDeleteManyOptions options, AtomicBoolean cancelled) {
         AtomicInteger totalCount = new AtomicInteger(0);
-        boolean moreData = false;
-        do {
-            Command deleteMany = Command
-                    .create("deleteMany")
-                    .withFilter(filter);
-            DataAPIResponse apiResponse = runCommand(deleteMany, options);
-            DataAPIStatus status = apiResponse.getStatus();
-            if (status != null) {
-                if (status.containsKey(RESULT_DELETED_COUNT)) {
-                    totalCount.addAndGet(status.getInteger(RESULT_DELETED_COUNT));
+        runPartitions(filter, options.partitions(), options.concurrency(), cancelled, partition -> {
+            boolean moreData = false;
+            do {
+                Command deleteMany = Command
+                        .create("deleteMany")
+                        .withFilter(partition);
+                DataAPIResponse apiResponse = runCommand(deleteMany, options);
+                DataAPIStatus status = apiResponse.getStatus();
+                if (status != null) {
+                    if (status.containsKey(RESULT_DELETED_COUNT)) {
+                        totalCount.addAndGet(status.getInteger(RESULT_DELETED_COUNT));
+                    }
+                    moreData = status.containsKey(RESULT_MORE_DATA);
                 }
-                moreData = status.containsKey(RESULT_MORE_DATA);
-            }
-        } while(moreData);
+                if (options.progressListener() != null) {
+                    options.progressListener().accept(new CollectionDeleteResult(totalCount.get()));
+                }
+            } while(moreData && !cancelled.get());
+        });
         return new CollectionDeleteResult(totalCount.get());
     }
 
+    /**
+     * Execute a paging loop for each partition with a bounded concurrency. Without partitions the loop is
+     * executed once, in the calling thread, with the original filter.
+     *
+     * @param filter
+     *      main filter, combined with each partition
+     * @param partitions
+     *      split predicates, can be null
+     * @param concurrency
+     *      maximum number of partitions processed at the same time
+     * @param cancelled
+     *      flag raised on failure or interruption to stop the other partitions
+     * @param pagingLoop
+     *      loop to execute for a filter
+     */
+    private void runPartitions(Filter filter, List<Filter> partitions, int concurrency,
+                               AtomicBoolean cancelled, Consumer<Filter> pagingLoop) {
+        if (partitions == null || partitions.isEmpty()) {
+            pagingLoop.accept(filter);
+            return;
+        }
+        Assert.isTrue(concurrency > 0, "concurrency should be greater than 0");
+        boolean emptyFilter = filter == null || filter.getDocumentMap().isEmpty();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, partitions.size()));
+        List<Future<?>> futures = new ArrayList<>();
+        for (Filter partition : partitions) {
+            Filter partitionFilter = emptyFilter ? partition : Filters.and(filter, partition);
+            futures.add(executor.submit(() -> {
+                if (!cancelled.get()) {
+                    pagingLoop.accept(partitionFilter);
+                }
+            }));
+        }
+        executor.shutdown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            cancelled.set(true);
+            executor.shutdownNow();
+            if (e.getCause() instanceof DataAPIException) {
+                throw (DataAPIException) e.getCause();
+            }
+            throw new DataAPIException(ERROR_CODE_INTERRUPTED, "Error during partitioned execution", e.getCause());
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new DataAPIException(ERROR_CODE_INTERRUPTED, "Thread was interrupted while waiting", e);
+        }
+    }
+
     /**
      * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not modified.
      *
@@ -2019,35 +2250,132 @@ public class Collection<T> extends AbstractCommandRunner<CollectionOptions> {
     public CollectionUpdateResult updateMany(Filter filter, Update update, CollectionUpdateManyOptions options) {
         notNull(update, ARG_UPDATE);
         notNull(options, ARG_OPTIONS);
-        String nextPageState = null;
+        return updateMany(filter, update, options, new AtomicBoolean(false));
+    }
+
+    /**
+     * Asynchronously update all documents in the collection according to the specified arguments. Cancelling the
+     * returned future stops every partition before its next page. The operation waits for its partitions on a
+     * dedicated thread, released when the future completes; to bound the threads of many operations, pass an
+     * executor you own and close instead.
+     *
+     * @param filter
+     *      a document describing the query filter, which may not be null.
+     * @param update
+     *      a document describing the update, which may not be null. The update to apply must include only update operators.
+     * @param options
+     *      the options to apply to the update operation
+     * @return
+     *      the result of the update many operation
+     */
+    public CompletableFuture<CollectionUpdateResult> updateManyAsync(Filter filter, Update update, CollectionUpdateManyOptions options) {
+        ExecutorService executor = bulkExecutor();
+        CompletableFuture<CollectionUpdateResult> future = updateManyAsync(filter, update, options, executor);
+        future.whenComplete((res, err) -> executor.shutdownNow());
+        return future;
+    }
+
+    /**
+     * Asynchronously update all documents in the collection according to the specified arguments, the operation
+     * waiting for its partitions on the provided executor. The task blocks until the last partition completes, so
+     * the executor should not be the one running the callbacks of the HTTP client.
+     *
+     * @param filter
+     *      a document describing the query filter, which may not be null.
+     * @param update
+     *      a document describing the update, which may not be null. The update to apply must include only update operators.
+     * @param options
+     *      the options to apply to the update operation
+     * @param executor
+     *      executor running the operation
+     * @return
+     *      the result of the update many operation
+     */
+    public CompletableFuture<CollectionUpdateResult> updateManyAsync(Filter filter, Update update, CollectionUpdateManyOptions options, Executor executor) {
+        notNull(update, ARG_UPDATE);
+        notNull(options, ARG_OPTIONS);
+        notNull(executor, "executor");
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        CompletableFuture<CollectionUpdateResult> future =
+                CompletableFuture.supplyAsync(() -> updateMany(filter, update, options, cancelled), executor);
+        future.whenComplete((res, err) -> cancelled.compareAndSet(false, future.isCancelled()));
+        return future;
+    }
+
+    /**
+     * Run the updateMany paging loops, one per partition.
+     *
+     * @param filter
+     *      a document describing the query filter, which may not be null.
+     * @param update
+     *      a document describing the update, which may not be null.
+     * @param options
+     *      the options to apply to the update operation
+     * @param cancelled
+     *      flag checked before each page
+     * @return
+     *      the result of the update many operation
+     */
+    private CollectionUpdateResult updateMany(Filter filter, Update update, CollectionUpdateManyOptions options, AtomicBoolean cancelled) {
+        if (options.partitions() != null && !options.partitions().isEmpty() && Boolean.TRUE.equals(options.upsert())) {
+            throw new IllegalArgumentException("Cannot run a partitioned updateMany with upsert.");
+        }
+        AtomicInteger matchedCount  = new AtomicInteger(0);
+        AtomicInteger modifiedCount = new AtomicInteger(0);
+        AtomicReference<Object> upsertedId = new AtomicReference<>();
+        runPartitions(filter, options.partitions(), options.concurrency(), cancelled, partition -> {
+            String nextPageState = null;
+            do {
+                Command cmd = Command
+                        .create("updateMany")
+                        .withFilter(partition)
+                        .withUpdate(update)
+                        .withOptions(new Document()
+                                .appendIfNotNull(OPTIONS_UPSERT, options.upsert())
+                                .appendIfNotNull(OPTIONS_PAGE_STATE, nextPageState));
+                DataAPIResponse res = runCommand(cmd, options);
+                // Data
+                nextPageState = null;
+                if (res.getData() != null) {
+                    nextPageState = res.getData().getNextPageState();
+                }
+                // Status
+                DataAPIStatus status = res.getStatus();
+                if (status.containsKey(RESULT_MATCHED_COUNT)) {
+                    matchedCount.addAndGet(status.getInteger(RESULT_MATCHED_COUNT));
+                }
+                if (status.containsKey(RESULT_MODIFIED_COUNT)) {
+                    modifiedCount.addAndGet(status.getInteger(RESULT_MODIFIED_COUNT));
+                }
+                if (status.containsKey(RESULT_UPSERTED_ID)) {
+                    upsertedId.set(status.get(RESULT_UPSERTED_ID));
+                }
+                if (options.progressListener() != null) {
+                    options.progressListener().accept(
+                            toUpdateResult(matchedCount.get(), modifiedCount.get(), upsertedId.get()));
+                }
+            } while(nextPageState != null && !cancelled.get());
+        });
+        return toUpdateResult(matchedCount.get(), modifiedCount.get(), upsertedId.get());
+    }
+
+    /**
+     * Build an update result from the aggregated counters.
+     *
+     * @param matchedCount
+     *      number of matched documents
+     * @param modifiedCount
+     *      number of modified documents
+     * @param upsertedId
+     *      identifier of the upserted document if any
+     * @return
+     *      update result
+     */
+    private CollectionUpdateResult toUpdateResult(int matchedCount, int modifiedCount, Object upsertedId) {
         CollectionUpdateResult result = new CollectionUpdateResult();
-        result.setMatchedCount(0);
-        result.setModifiedCount(0);
-        do {
-            Command cmd = Command
-                    .create("updateMany")
-                    .withFilter(filter)
-                    .withUpdate(update)
-                    .withOptions(new Document()
-                            .appendIfNotNull(OPTIONS_UPSERT, options.upsert())
-                            .appendIfNotNull(OPTIONS_PAGE_STATE, nextPageState));
-            DataAPIResponse res = runCommand(cmd, options);
-            // Data
-            if (res.getData() != null) {
-                nextPageState = res.getData().getNextPageState();
-            }
-            // Status
-            DataAPIStatus status = res.getStatus();
-            if (status.containsKey(RESULT_MATCHED_COUNT)) {
-                result.setMatchedCount(result.getMatchedCount() + status.getInteger(RESULT_MATCHED_COUNT));
-            }
-            if (status.containsKey(RESULT_MODIFIED_COUNT)) {
-                result.setModifiedCount(result.getModifiedCount() + status.getInteger(RESULT_MODIFIED_COUNT));
-            }
-            if (status.containsKey(RESULT_UPSERTED_ID)) {
-                result.setUpsertedId(status.get(RESULT_UPSERTED_ID));
-            }
-        } while(nextPageState != null);
+        result.setMatchedCount(matchedCount);
+        result.setModifiedCount(modifiedCount);
+        result.setUpsertedId(upsertedId);
         return result;
     }
 
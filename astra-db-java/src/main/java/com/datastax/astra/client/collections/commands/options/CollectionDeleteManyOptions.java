@@ -20,12 +20,17 @@ package com.datastax.astra.client.collections.commands.options;
  * #L%
  */
 
+import com.datastax.astra.client.collections.commands.results.CollectionDeleteResult;
 import com.datastax.astra.client.core.options.BaseOptions;
+import com.datastax.astra.client.core.query.Filter;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Options to delete many documents.
  */
@@ -34,6 +39,21 @@ import lombok.experimental.Accessors;
 @Accessors(fluent = true, chain = true)
 public class CollectionDeleteManyOptions extends BaseOptions<CollectionDeleteManyOptions> {
 
+    /**
+     * Split predicates, each one is combined with the main filter with a $and. Partitions should not overlap.
+     */
+    private List<Filter> partitions;
+
+    /**
+     * Number of partitions processed in parallel.
+     */
+    private int concurrency = 1;
+
+    /**
+     * Invoked after each page with the running total of deleted documents.
+     */
+    private Consumer<CollectionDeleteResult> progressListener;
+
     /**
      * Default constructor.
      */
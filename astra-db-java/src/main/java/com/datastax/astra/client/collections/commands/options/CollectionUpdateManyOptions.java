@@ -20,12 +20,17 @@ package com.datastax.astra.client.collections.commands.options;
  * #L%
  */
 
+import com.datastax.astra.client.collections.commands.results.CollectionUpdateResult;
 import com.datastax.astra.client.core.options.BaseOptions;
+import com.datastax.astra.client.core.query.Filter;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Options for the updateOne operation
  */
@@ -38,6 +43,21 @@ public class CollectionUpdateManyOptions extends BaseOptions<CollectionUpdateMan
      */
     private Boolean upsert;
 
+    /**
+     * Split predicates, each one is combined with the main filter with a $and. Partitions should not overlap.
+     */
+    private List<Filter> partitions;
+
+    /**
+     * Number of partitions processed in parallel.
+     */
+    private int concurrency = 1;
+
+    /**
+     * Invoked after each page with the running matched and modified counts.
+     */
+    private Consumer<CollectionUpdateResult> progressListener;
+
     /**
      * Default constructor.
      */
@@ -451,7 +451,7 @@ public class Document implements Serializable {
      *      self reference
      */
     public Document vector(float[] vector) {
-        return append(DataAPIKeywords.VECTOR.getKeyword(), vector);
+        return append(DataAPIKeywords.VECTOR.getKeyword(), vector == null ? null : new DataAPIVector(vector));
     }
 
     /**
@@ -787,7 +787,11 @@ public class Document implements Serializable {
 
     @SuppressWarnings("unchecked")
     private <T> List<T> constructValuesList(final String key, final Class<T> clazz, final List<T> defaultValue) {
-        List<T> value = get(key, List.class);
+        Object raw = get(key);
+        // Vectors are decoded as DataAPIVector, they are still readable as the list of numbers of the JSON
+        List<T> value = (raw instanceof DataAPIVector)
+                ? (List<T>) vectorAsList((DataAPIVector) raw)
+                : (List<T>) SERIALIZER.convertValue(raw, List.class);
         if (value == null) {
             return defaultValue;
         }
@@ -805,6 +809,23 @@ public class Document implements Serializable {
         return value;
     }
 
+    /**
+     * Copy the embeddings of a vector in a list of numbers.
+     *
+     * @param vector
+     *      vector value
+     * @return
+     *      mutable list of floats
+     */
+    static List<Object> vectorAsList(DataAPIVector vector) {
+        float[] embeddings = vector.getEmbeddings();
+        List<Object> list = new ArrayList<>(embeddings.length);
+        for (float embedding : embeddings) {
+            list.add(embedding);
+        }
+        return list;
+    }
+
     /**
      * Serialization with Jackson.
      *
@@ -0,0 +1,315 @@
+package com.datastax.astra.client.collections.definition.documents;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.DataAPIKeywords;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.exceptions.DataAPIException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static com.datastax.astra.client.exceptions.DataAPIException.ERROR_CODE_SERIALIZATION;
+
+/**
+ * Document keeping the raw UTF-8 JSON returned by the Data API and decoding it on demand.
+ * <p>
+ * The raw object is copied once while the response is read, recording where the value of each top-level field
+ * starts. A field is decoded the first time it is accessed, including as the first segment of a dotted path
+ * with {@link #read(String)}, by parsing only its value from the recorded offset: the other fields are neither
+ * scanned again nor materialized. The full map is only inflated for operations needing all the fields
+ * (iteration, size, updates, serialization). Mapping to a bean with {@link #map(Class)} reads the raw JSON directly.
+ * </p>
+ * <p>
+ * Lazy documents are returned when {@code lazyDocuments(true)} is set on the {@link
+ * com.datastax.astra.client.core.options.DataAPIClientOptions} of the client or of a command. Reading a lazy document
+ * from several threads is safe, the fields being decoded under a lock; updates are not, as for a {@link Document}.
+ * </p>
+ */
+public class LazyDocument extends Document {
+
+    /**
+     * Create a lazy document, the field offsets are computed in a single pass on first access.
+     *
+     * @param json
+     *      raw document as UTF-8 JSON
+     * @param codec
+     *      codec used to decode the fields
+     * @param vectorFields
+     *      fields decoded as vectors in addition to {@code $vector}, can be null
+     */
+    public LazyDocument(byte[] json, ObjectCodec codec, Set<String> vectorFields) {
+        this(json, null, codec, vectorFields);
+    }
+
+    /**
+     * Create a lazy document with the offsets of its fields, recorded while copying the raw object.
+     *
+     * @param json
+     *      raw document as UTF-8 JSON
+     * @param fieldOffsets
+     *      offset in {@code json} of the value of each top-level field, computed on first access if null
+     * @param codec
+     *      codec used to decode the fields
+     * @param vectorFields
+     *      fields decoded as vectors in addition to {@code $vector}, can be null
+     */
+    public LazyDocument(byte[] json, Map<String, Integer> fieldOffsets, ObjectCodec codec, Set<String> vectorFields) {
+        super();
+        this.documentMap = new LazyDocumentMap(json, fieldOffsets, codec, vectorFields);
+    }
+
+    /**
+     * Check whether the full map has been materialized.
+     *
+     * @return
+     *      true if all the fields have been decoded
+     */
+    public boolean isInflated() {
+        return lazyMap().inflated != null;
+    }
+
+    /**
+     * Raw JSON of the document as returned by the Data API.
+     *
+     * @return
+     *      UTF-8 JSON, not reflecting later updates
+     */
+    public byte[] getRawJson() {
+        return lazyMap().json;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T map(Class<T> clazz) {
+        if (clazz.isInstance(this)) {
+            return (T) this;
+        }
+        LazyDocumentMap map = lazyMap();
+        if (map.inflated != null || clazz == Document.class || Map.class.isAssignableFrom(clazz)) {
+            return super.map(clazz);
+        }
+        try (JsonParser parser = map.codec.getFactory().createParser(map.json)) {
+            parser.setCodec(map.codec);
+            return map.codec.readValue(parser, clazz);
+        } catch (IOException e) {
+            throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot map document to " + clazz.getName(), e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return isInflated() ? super.toString() : new String(getRawJson(), StandardCharsets.UTF_8);
+    }
+
+    private LazyDocumentMap lazyMap() {
+        return (LazyDocumentMap) documentMap;
+    }
+
+    /**
+     * Map decoding the top-level fields from the raw JSON on first access. The decoding state is guarded by the
+     * map, the inflated map is published through a volatile field and then read without locking.
+     */
+    private static final class LazyDocumentMap extends AbstractMap<String, Object> {
+
+        /** Marker for a field absent from the document. */
+        private static final Object ABSENT = new Object();
+
+        /** Raw document. */
+        private final byte[] json;
+
+        /** Codec used to decode the fields. */
+        private final ObjectCodec codec;
+
+        /** Fields to decode as vectors. */
+        private final Set<String> vectorFields;
+
+        /** Offset of the value of each top-level field, null until indexed, guarded by this. */
+        private Map<String, Integer> fieldOffsets;
+
+        /** Fields decoded individually, values are kept when inflating, guarded by this. */
+        private final Map<String, Object> decoded = new HashMap<>();
+
+        /** All fields, null until inflated. */
+        private volatile LinkedHashMap<String, Object> inflated;
+
+        private LazyDocumentMap(byte[] json, Map<String, Integer> fieldOffsets, ObjectCodec codec, Set<String> vectorFields) {
+            this.json         = json;
+            this.fieldOffsets = fieldOffsets;
+            this.codec        = codec;
+            this.vectorFields = vectorFields;
+        }
+
+        @Override
+        public Object get(Object key) {
+            LinkedHashMap<String, Object> all = inflated;
+            if (all != null) {
+                return all.get(key);
+            }
+            Object value = decode(key);
+            return value == ABSENT ? null : value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            LinkedHashMap<String, Object> all = inflated;
+            if (all != null) {
+                return all.containsKey(key);
+            }
+            return key instanceof String && index().containsKey(key);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return inflate().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return inflate().remove(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return inflate().entrySet();
+        }
+
+        private synchronized Object decode(Object key) {
+            if (inflated != null) {
+                return inflated.containsKey(key) ? inflated.get(key) : ABSENT;
+            }
+            if (!(key instanceof String)) {
+                return ABSENT;
+            }
+            String fieldName = (String) key;
+            if (!decoded.containsKey(fieldName)) {
+                Integer offset = index().get(fieldName);
+                decoded.put(fieldName, offset == null ? ABSENT : readAt(fieldName, offset));
+            }
+            return decoded.get(fieldName);
+        }
+
+        /**
+         * Offsets of the field values, computed in a single pass when they were not provided.
+         */
+        private synchronized Map<String, Integer> index() {
+            if (fieldOffsets == null) {
+                Map<String, Integer> offsets = new HashMap<>();
+                try (JsonParser parser = openParser()) {
+                    for (JsonToken t = parser.nextToken(); t == JsonToken.FIELD_NAME; t = parser.nextToken()) {
+                        String name = parser.currentName();
+                        parser.nextToken();
+                        offsets.put(name, (int) parser.currentTokenLocation().getByteOffset());
+                        parser.skipChildren();
+                    }
+                } catch (IOException e) {
+                    throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot index document", e);
+                }
+                fieldOffsets = offsets;
+            }
+            return fieldOffsets;
+        }
+
+        /**
+         * Decode a single field value starting at its offset, the rest of the document is not read.
+         */
+        private Object readAt(String fieldName, int offset) {
+            // The offset may point to the separator before the value
+            int start = offset;
+            while (start < json.length && (json[start] == ':' || Character.isWhitespace(json[start]))) {
+                start++;
+            }
+            // A number is parsed alone, the parser rejects a root-level number followed by ',' or '}'
+            int end = json.length;
+            if (start < json.length && (json[start] == '-' || (json[start] >= '0' && json[start] <= '9'))) {
+                end = start + 1;
+                while (end < json.length && isNumberChar(json[end])) {
+                    end++;
+                }
+            }
+            try (JsonParser parser = codec.getFactory().createParser(json, start, end - start)) {
+                parser.setCodec(codec);
+                return readValue(parser, fieldName, parser.nextToken());
+            } catch (IOException e) {
+                throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot decode field " + fieldName, e);
+            }
+        }
+
+        private static boolean isNumberChar(byte b) {
+            return (b >= '0' && b <= '9') || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+        }
+
+        private synchronized LinkedHashMap<String, Object> inflate() {
+            if (inflated == null) {
+                LinkedHashMap<String, Object> all = new LinkedHashMap<>();
+                try (JsonParser parser = openParser()) {
+                    for (JsonToken t = parser.nextToken(); t == JsonToken.FIELD_NAME; t = parser.nextToken()) {
+                        String name = parser.currentName();
+                        JsonToken valueToken = parser.nextToken();
+                        Object previous = decoded.get(name);
+                        if (previous != null && previous != ABSENT) {
+                            // Keep the instance already handed out, it may have been modified
+                            all.put(name, previous);
+                            parser.skipChildren();
+                        } else {
+                            all.put(name, readValue(parser, name, valueToken));
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot decode document", e);
+                }
+                inflated = all;
+                decoded.clear();
+            }
+            return inflated;
+        }
+
+        private JsonParser openParser() throws IOException {
+            JsonParser parser = codec.getFactory().createParser(json);
+            parser.setCodec(codec);
+            // Move to START_OBJECT
+            parser.nextToken();
+            return parser;
+        }
+
+        private Object readValue(JsonParser parser, String name, JsonToken valueToken) throws IOException {
+            if (valueToken == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            boolean vector = DataAPIKeywords.VECTOR.getKeyword().equals(name)
+                    || (vectorFields != null && vectorFields.contains(name));
+            if (vector && (valueToken == JsonToken.START_ARRAY || valueToken == JsonToken.START_OBJECT)) {
+                return codec.readValue(parser, DataAPIVector.class);
+            }
+            return codec.readValue(parser, Object.class);
+        }
+    }
+}
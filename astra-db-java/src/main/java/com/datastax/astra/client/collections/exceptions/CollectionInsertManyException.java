@@ -21,6 +21,7 @@ package com.datastax.astra.client.collections.exceptions;
  */
 
 import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import  com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
 import  com.datastax.astra.client.exceptions.DataAPIException;
 
 import java.util.List;
@@ -32,12 +33,18 @@ public class CollectionInsertManyException extends DataAPIException {
      */
     private final List<Object> insertedIds;
 
+    /**
+     * Errors returned by the API for the failed chunks, in the order of the chunks.
+     */
+    private final transient List<DataAPIErrorDescriptor> errors;
+
     /**
      * Default constructor.
      */
     public CollectionInsertManyException() {
         super(ERROR_CODE_PARTIAL_INSERTION, "Some documents were not inserted, check insertedIds property.");
         this.insertedIds = List.of();
+        this.errors = List.of();
     }
 
     /**
@@ -50,6 +57,7 @@ public class CollectionInsertManyException extends DataAPIException {
               String.format("Partial insertion: %d documents were inserted before error occurred.", 
                            insertedIds != null ? insertedIds.size() : 0));
         this.insertedIds = insertedIds != null ? List.copyOf(insertedIds) : List.of();
+        this.errors = List.of();
     }
 
     /**
@@ -59,8 +67,20 @@ public class CollectionInsertManyException extends DataAPIException {
      * @param message Custom error message
      */
     public CollectionInsertManyException(List<Object> insertedIds, String message) {
+        this(insertedIds, message, null);
+    }
+
+    /**
+     * Constructor with inserted IDs, custom message and the errors returned by the API.
+     *
+     * @param insertedIds List of successfully inserted document IDs
+     * @param message Custom error message
+     * @param errors Errors returned by the API, can be null
+     */
+    public CollectionInsertManyException(List<Object> insertedIds, String message, List<DataAPIErrorDescriptor> errors) {
         super(ERROR_CODE_PARTIAL_INSERTION, message);
         this.insertedIds = insertedIds != null ? List.copyOf(insertedIds) : List.of();
+        this.errors = errors != null ? List.copyOf(errors) : List.of();
     }
 
     /**
@@ -72,4 +92,14 @@ public class CollectionInsertManyException extends DataAPIException {
         return insertedIds;
     }
 
+    /**
+     * Get the errors returned by the API, with their error codes. With ordered inserts the first error is the one
+     * of the document that stopped the insertion.
+     *
+     * @return Unmodifiable list of errors, empty when unknown
+     */
+    public List<DataAPIErrorDescriptor> getErrors() {
+        return errors;
+    }
+
 }
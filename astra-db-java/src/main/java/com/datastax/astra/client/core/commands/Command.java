@@ -303,6 +303,10 @@ public class Command implements Serializable {
         /** {@inheritDoc} */
         @Override
         public void serialize(Command command, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (command instanceof PreparedCommand.BoundCommand) {
+                gen.writeRawValue(((PreparedCommand.BoundCommand) command).getJson());
+                return;
+            }
             LinkedHashMap<String, Object> commandMap = new LinkedHashMap<>();
             commandMap.put(command.getName(), command.getPayload());
             gen.writeObject(commandMap);
@@ -0,0 +1,363 @@
+package com.datastax.astra.client.core.commands;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.options.BaseOptions;
+import com.datastax.astra.client.exceptions.DataAPIException;
+import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.utils.Assert;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.datastax.astra.client.exceptions.DataAPIException.ERROR_CODE_SERIALIZATION;
+
+/**
+ * A command serialized once into a JSON template with named parameter slots.
+ * <p>
+ * Hot queries usually keep the same shape (filter operators, sort, projection, options) and only change a few
+ * values such as ids, a query vector or the page state. A prepared command declares those values as parameters
+ * by their path in the payload; the rest of the command is rendered to JSON a single time, when the command is
+ * first bound. Binding then only serializes the parameter values and concatenates them with the static fragments,
+ * without rebuilding the payload maps or walking the whole command with Jackson.
+ * </p>
+ * <pre>{@code
+ * PreparedCommand find = collection
+ *   .prepareFind(Filters.in("_id", "sample"), new CollectionFindOptions().sort(Sort.vector(new float[] {0f})))
+ *   .withParameter("ids", "filter", "_id", "$in")
+ *   .withParameter("vector", "sort", "$vector");
+ * Page<Document> page = collection.findPage(find, Map.of("ids", ids, "vector", vector));
+ * }</pre>
+ * Parameters declared with {@link #withOptionalParameter(String, String...)}, like the page state of the
+ * prepared find commands, are left out of the command when they have no value; a template is rendered for each
+ * combination of optional parameters used. Rendering works on a copy of the sample payload, the filter and options
+ * used as sample are not modified.
+ * Instances are thread-safe once parameters are declared.
+ */
+public class PreparedCommand {
+
+    /** Optional parameter declared by the prepared find commands to carry the page state. */
+    public static final String PARAM_PAGE_STATE = "pageState";
+
+    /** Prefix of the placeholder written in the template for a parameter. */
+    private static final String MARKER_PREFIX = "\"__data_api_param:";
+
+    /** Suffix of the placeholder written in the template for a parameter. */
+    private static final String MARKER_SUFFIX = "__\"";
+
+    /** Sample command, never modified: placeholders are written in a copy of its payload. */
+    private final Command command;
+
+    /** Serializer used for the template and for the parameter values. */
+    private final DataAPISerializer serializer;
+
+    /** Options to use when executing the command (timeouts, http options, etc.). */
+    @Getter
+    private final BaseOptions<?> options;
+
+    /** Paths of the parameters in the payload, keyed by parameter name. */
+    private final Map<String, List<String>> parameters = new LinkedHashMap<>();
+
+    /** Names of the parameters left out of the command when they have no value. */
+    private final Set<String> optionalParameters = new LinkedHashSet<>();
+
+    /** Templates keyed by the optional parameters they contain. */
+    private final Map<Set<String>, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Command rendered to JSON with its parameters replaced by slots.
+     */
+    private static class Template {
+
+        /** Static fragments of the template, one more than the number of slots. */
+        private final List<String> fragments;
+
+        /** Parameter name for each slot of the template. */
+        private final List<String> slots;
+
+        Template(List<String> fragments, List<String> slots) {
+            this.fragments = fragments;
+            this.slots     = slots;
+        }
+    }
+
+    /**
+     * Create a prepared command from a sample command.
+     *
+     * @param command
+     *      command with sample values, the values at the parameter paths are replaced
+     * @param serializer
+     *      serializer of the collection or table
+     * @param options
+     *      options used when executing the command
+     */
+    public PreparedCommand(Command command, DataAPISerializer serializer, BaseOptions<?> options) {
+        Assert.notNull(command, "command");
+        Assert.notNull(serializer, "serializer");
+        this.command    = command;
+        this.serializer = serializer;
+        this.options    = options;
+    }
+
+    /**
+     * Declare a parameter at the given path of the payload. Intermediate objects are created when missing.
+     * A missing value is rendered as {@code null}.
+     *
+     * @param name
+     *      name of the parameter
+     * @param path
+     *      keys from the payload root to the value, e.g. {@code "sort", "$vector"}
+     * @return
+     *      current instance
+     */
+    public synchronized PreparedCommand withParameter(String name, String... path) {
+        Assert.hasLength(name, "parameter name");
+        if (path == null || path.length == 0) {
+            throw new IllegalArgumentException("Parameter path must not be empty");
+        }
+        if (!templates.isEmpty()) {
+            throw new IllegalStateException("Parameters cannot be added once the command has been bound");
+        }
+        parameters.put(name, Arrays.asList(path));
+        optionalParameters.remove(name);
+        return this;
+    }
+
+    /**
+     * Declare a parameter at the given path of the payload, left out of the command when it has no value.
+     *
+     * @param name
+     *      name of the parameter
+     * @param path
+     *      keys from the payload root to the value, e.g. {@code "options", "pageState"}
+     * @return
+     *      current instance
+     */
+    public synchronized PreparedCommand withOptionalParameter(String name, String... path) {
+        withParameter(name, path);
+        optionalParameters.add(name);
+        return this;
+    }
+
+    /**
+     * Name of the command.
+     *
+     * @return
+     *      command name
+     */
+    public String getName() {
+        return command.getName();
+    }
+
+    /**
+     * Names of the declared parameters.
+     *
+     * @return
+     *      parameter names
+     */
+    public Set<String> getParameterNames() {
+        return Collections.unmodifiableSet(parameters.keySet());
+    }
+
+    /**
+     * Render the command with the provided values. Missing parameters are rendered as {@code null}, missing
+     * optional parameters are left out.
+     *
+     * @param values
+     *      parameter values
+     * @return
+     *      the command as JSON
+     */
+    public String render(Map<String, ?> values) {
+        Set<String> present = new HashSet<>();
+        for (String optional : optionalParameters) {
+            if (values != null && values.get(optional) != null) {
+                present.add(optional);
+            }
+        }
+        Template template = templates.get(present);
+        if (template == null) {
+            template = compile(present);
+        }
+        StringBuilder json = new StringBuilder(template.fragments.get(0));
+        for (int i = 0; i < template.slots.size(); i++) {
+            Object value = values == null ? null : values.get(template.slots.get(i));
+            json.append(serializeValue(value)).append(template.fragments.get(i + 1));
+        }
+        return json.toString();
+    }
+
+    /**
+     * Bind the parameters and create a command ready to be executed.
+     *
+     * @param values
+     *      parameter values
+     * @return
+     *      command holding the rendered JSON
+     */
+    public Command bind(Map<String, ?> values) {
+        for (String key : values == null ? Collections.<String>emptySet() : values.keySet()) {
+            if (!parameters.containsKey(key)) {
+                throw new IllegalArgumentException("Unknown parameter '" + key + "' for prepared command '" + getName()
+                        + "', expected one of " + parameters.keySet());
+            }
+        }
+        return new BoundCommand(getName(), render(values));
+    }
+
+    private String serializeValue(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        try {
+            return serializer.getMapper().writeValueAsString(value);
+        } catch (Exception e) {
+            throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot marshall parameter value " + value, e);
+        }
+    }
+
+    /**
+     * Replace the parameters with placeholders in a copy of the payload, serialize it once and split the result
+     * on the placeholders. Absent optional parameters are removed from the copy.
+     */
+    private synchronized Template compile(Set<String> presentOptional) {
+        Template template = templates.get(presentOptional);
+        if (template != null) {
+            return template;
+        }
+        Map<String, Object> payload = copyMap(command.getPayload().getDocumentMap());
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            if (optionalParameters.contains(parameter.getKey()) && !presentOptional.contains(parameter.getKey())) {
+                removeValue(payload, parameter.getValue());
+            } else {
+                placeMarker(payload, parameter.getKey(), parameter.getValue());
+            }
+        }
+        String json = serializer.marshall(new Command(getName(), new Document(payload)));
+        List<String> parts = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        int start;
+        while ((start = json.indexOf(MARKER_PREFIX, from)) >= 0) {
+            int end = json.indexOf(MARKER_SUFFIX, start + MARKER_PREFIX.length());
+            parts.add(json.substring(from, start));
+            names.add(json.substring(start + MARKER_PREFIX.length(), end));
+            from = end + MARKER_SUFFIX.length();
+        }
+        parts.add(json.substring(from));
+        template = new Template(Collections.unmodifiableList(parts), Collections.unmodifiableList(names));
+        templates.put(Collections.unmodifiableSet(new HashSet<>(presentOptional)), template);
+        return template;
+    }
+
+    /**
+     * Copy the objects and arrays of the payload, so placeholders never reach the sample filter or options.
+     * Other values are not modified and are kept as is.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof Document) {
+            return copyMap(((Document) value).getDocumentMap());
+        } else if (value instanceof Map) {
+            return copyMap((Map<String, Object>) value);
+        } else if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object item : (List<?>) value) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(key, copyValue(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void placeMarker(Map<String, Object> payload, String name, List<String> path) {
+        Map<String, Object> current = payload;
+        for (int i = 0; i < path.size() - 1; i++) {
+            String key = path.get(i);
+            Object child = current.get(key);
+            Map<String, Object> next;
+            if (child instanceof Map) {
+                next = (Map<String, Object>) child;
+            } else if (child == null) {
+                next = new LinkedHashMap<>();
+                current.put(key, next);
+            } else {
+                throw new IllegalArgumentException("Invalid path " + path + " for parameter '" + name
+                        + "', '" + key + "' is not an object");
+            }
+            current = next;
+        }
+        current.put(path.get(path.size() - 1), "__data_api_param:" + name + "__");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void removeValue(Map<String, Object> payload, List<String> path) {
+        Map<String, Object> current = payload;
+        for (int i = 0; i < path.size() - 1; i++) {
+            Object child = current.get(path.get(i));
+            if (!(child instanceof Map)) {
+                return;
+            }
+            current = (Map<String, Object>) child;
+        }
+        current.remove(path.get(path.size() - 1));
+    }
+
+    /**
+     * Command produced by binding a prepared command, the payload is already rendered as JSON.
+     */
+    @Getter
+    public static class BoundCommand extends Command {
+
+        /** Rendered command. */
+        private final String json;
+
+        /**
+         * Constructor with the rendered command.
+         *
+         * @param name
+         *      command name
+         * @param json
+         *      rendered command
+         */
+        public BoundCommand(String name, String json) {
+            super(name);
+            this.json = json;
+        }
+    }
+}
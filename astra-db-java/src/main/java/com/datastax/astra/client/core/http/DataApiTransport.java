@@ -0,0 +1,58 @@
+package com.datastax.astra.client.core.http;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.internal.api.ApiResponseHttp;
+
+import java.io.IOException;
+
+/**
+ * Service provider interface for the HTTP layer. The client ships a default implementation based on
+ * the JDK {@code java.net.http.HttpClient}; an application can provide its own implementation (shared
+ * connection pools, event loops, specific protocol settings) with the {@code transport} option of {@link HttpClientOptions}.
+ * <p>
+ * Retries, timeouts and deadlines are handled by the client above the transport, an implementation
+ * only has to execute a single request and must be thread safe.
+ * </p>
+ * <p>
+ * The compression options of {@link HttpClientOptions} are applied by the default transport only: an
+ * implementation has to gzip request bodies and decode responses itself, and fill the body and wire sizes
+ * of {@link ApiResponseHttp} for the compression metrics to be reported.
+ * </p>
+ */
+public interface DataApiTransport {
+
+    /**
+     * Execute a single HTTP request.
+     *
+     * @param request
+     *      request to execute
+     * @return
+     *      http response with its status code, body and headers
+     * @throws IOException
+     *      if an I/O error occurs when sending or receiving (including timeouts)
+     * @throws InterruptedException
+     *      if the operation is interrupted
+     */
+    ApiResponseHttp execute(DataApiTransportRequest request) throws IOException, InterruptedException;
+
+}
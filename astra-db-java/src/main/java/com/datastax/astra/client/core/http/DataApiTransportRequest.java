@@ -0,0 +1,87 @@
+package com.datastax.astra.client.core.http;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transport neutral representation of an HTTP request sent to the Data API.
+ */
+@Getter
+public class DataApiTransportRequest {
+
+    /** Target url. */
+    private final URI uri;
+
+    /** Http method. */
+    private final String method;
+
+    /** Request headers in insertion order, a header given several values is sent once per value. */
+    private final Map<String, List<String>> headers;
+
+    /** Request payload. */
+    private final String body;
+
+    /** Request timeout, can be null. */
+    private final Duration timeout;
+
+    /**
+     * Full constructor.
+     *
+     * @param uri
+     *      target url
+     * @param method
+     *      http method
+     * @param headers
+     *      request headers, with their values
+     * @param body
+     *      request payload
+     * @param timeout
+     *      request timeout, can be null
+     */
+    public DataApiTransportRequest(URI uri, String method, Map<String, List<String>> headers, String body, Duration timeout) {
+        this.uri     = uri;
+        this.method  = method;
+        this.headers = new LinkedHashMap<>();
+        headers.forEach((name, values) -> this.headers.put(name, List.copyOf(values)));
+        this.body    = body;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Copy of the request with another timeout (used for retries bounded by a deadline).
+     *
+     * @param newTimeout
+     *      request timeout
+     * @return
+     *      a new request
+     */
+    public DataApiTransportRequest withTimeout(Duration newTimeout) {
+        return new DataApiTransportRequest(uri, method, headers, body, newTimeout);
+    }
+}
@@ -29,6 +29,7 @@ import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Options to set up http Client.
@@ -170,6 +171,90 @@ public class HttpClientOptions implements Cloneable {
         return httpProxy;
     }
 
+    // --------------------------------------------
+    // -------------- COMPRESSION -----------------
+    // --------------------------------------------
+
+    /** Compression of request bodies is disabled by default. */
+    public static final int COMPRESSION_DISABLED = -1;
+
+    /**
+     * Request bodies with at least this number of bytes are sent with {@code Content-Encoding: gzip}.
+     */
+    int compressionThreshold = COMPRESSION_DISABLED;
+
+    /**
+     * When set, the client sends {@code Accept-Encoding: gzip, deflate} and decodes compressed responses.
+     */
+    boolean acceptCompressedResponses = false;
+
+    /**
+     * Enable gzip compression of requests above a threshold and compressed responses.
+     * <p>
+     * Compression is applied by the default JDK transport only: a custom {@link DataApiTransport} has to
+     * compress requests and decode responses itself, and report the body and wire sizes of the exchange.
+     *
+     * @param thresholdBytes
+     *      minimum size of a request body to be compressed
+     * @return
+     *      this
+     */
+    public HttpClientOptions compression(int thresholdBytes) {
+        this.compressionThreshold      = thresholdBytes;
+        this.acceptCompressedResponses = true;
+        return this;
+    }
+
+    /**
+     * Gets compressionThreshold
+     *
+     * @return value of compressionThreshold
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Gets acceptCompressedResponses
+     *
+     * @return value of acceptCompressedResponses
+     */
+    public boolean isAcceptCompressedResponses() {
+        return acceptCompressedResponses;
+    }
+
+    // --------------------------------------------
+    // --------------- TRANSPORT ------------------
+    // --------------------------------------------
+
+    /**
+     * Custom transport, when null the JDK client is used.
+     */
+    DataApiTransport transport;
+
+    /**
+     * Executor used by the JDK client for asynchronous tasks and response handling.
+     */
+    Executor executor;
+
+    /**
+     * Gets transport
+     *
+     * @return value of transport
+     */
+    public DataApiTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Gets executor
+     *
+     * @return value of executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
     // --------------------------------------------
     // ------------- INITIALIZATION ---------------
     // --------------------------------------------
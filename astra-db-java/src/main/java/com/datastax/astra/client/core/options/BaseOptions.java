@@ -33,6 +33,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.NoArgsConstructor;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -64,6 +65,11 @@ public class BaseOptions<T extends BaseOptions<T>> implements Cloneable {
      */
     protected CommandType commandType = CommandType.GENERAL_METHOD;
 
+    /**
+     * Operation-level deadline shared by every page, chunk and retry of the command.
+     */
+    protected Instant deadline;
+
     // --------------------------------------------
     // ----- Setters (Fluent)                 -----
     // --------------------------------------------
@@ -147,6 +153,34 @@ public class BaseOptions<T extends BaseOptions<T>> implements Cloneable {
         return timeout(duration.toMillis(), getCommandType());
     }
 
+    /**
+     * Provide an operation-level deadline. Every HTTP request issued for the operation (pages, chunks and
+     * retries) is bounded by the remaining time and no new request is sent once the deadline is reached.
+     *
+     * @param deadline
+     *      instant after which the operation fails with a timeout
+     * @return
+     *      service key
+     */
+    @SuppressWarnings("unchecked")
+    public T deadline(Instant deadline) {
+        this.deadline = deadline;
+        return (T) this;
+    }
+
+    /**
+     * Provide an operation-level deadline relative to now, the budget starts when this method is invoked.
+     *
+     * @param budget
+     *      total time allowed for the operation
+     * @return
+     *      service key
+     */
+    public T deadline(Duration budget) {
+        Assert.notNull(budget, "budget");
+        return deadline(Instant.now().plus(budget));
+    }
+
     // --------------------------------------------
     // ----- Setters                          -----
     // --------------------------------------------
@@ -441,6 +475,30 @@ public class BaseOptions<T extends BaseOptions<T>> implements Cloneable {
         return serializer;
     }
 
+    /**
+     * Gets deadline
+     *
+     * @return value of deadline
+     */
+    @JsonIgnore
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Time left before the deadline.
+     *
+     * @return
+     *      remaining milliseconds (zero when expired), or -1 if no deadline is set
+     */
+    @JsonIgnore
+    public long getDeadlineRemainingMillis() {
+        if (deadline == null) {
+            return -1;
+        }
+        return Math.max(0, Duration.between(Instant.now(), deadline).toMillis());
+    }
+
     // --------------------------------------------
     // ----- Java Core                        -----
     // --------------------------------------------
@@ -165,6 +165,12 @@ public class DataAPIClientOptions implements Cloneable {
      */
     private Map<String, CommandObserver> observers = new TreeMap<>();
 
+    /**
+     * Return the documents of the responses as {@link com.datastax.astra.client.collections.definition.documents.LazyDocument},
+     * decoding their fields on first access.
+     */
+    private boolean lazyDocuments = false;
+
     // --------------------------------------------------
     // --- Accessors                                  ---
     // --------------------------------------------------
@@ -301,6 +307,15 @@ public class DataAPIClientOptions implements Cloneable {
         return serdesOptions;
     }
 
+    /**
+     * Gets lazyDocuments
+     *
+     * @return value of lazyDocuments
+     */
+    public boolean isLazyDocuments() {
+        return lazyDocuments;
+    }
+
     /**
      * Gets rerankHeadersProvider
      *
@@ -449,6 +464,7 @@ public class DataAPIClientOptions implements Cloneable {
         this.apiVersion                 = options.apiVersion;
         this.destination                = options.destination;
         this.embeddingHeadersProvider = options.embeddingHeadersProvider;
+        this.lazyDocuments              = options.lazyDocuments;
         // Deep Copy
         this.databaseAdditionalHeaders  = options.databaseAdditionalHeaders != null ?
                 new HashMap<>(options.databaseAdditionalHeaders) : null;
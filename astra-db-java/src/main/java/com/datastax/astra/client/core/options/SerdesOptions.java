@@ -37,6 +37,12 @@ public class SerdesOptions implements Cloneable {
     /** Encode the vector as binary. */
     boolean encodeDataApiVectorsAsBase64 = true;
 
+    /**
+     * Register the Jackson Blackbird module (optional dependency) on the mappers built afterward. The shared mappers
+     * are built on first use, set it before executing the first command.
+     */
+    boolean blackbird = false;
+
     /**
      * Default constructor.
      */
@@ -61,6 +67,15 @@ public class SerdesOptions implements Cloneable {
         return encodeDataApiVectorsAsBase64;
     }
 
+    /**
+     * Gets blackbird
+     *
+     * @return value of blackbird
+     */
+    public boolean isBlackbird() {
+        return blackbird;
+    }
+
     /**
      * Disable the encoding of Data API vectors as Base64.
      *
@@ -20,15 +20,23 @@ package com.datastax.astra.client.core.query;
  * #L%
  */
 
+import com.datastax.astra.client.collections.definition.documents.types.ObjectId;
+import com.datastax.astra.client.collections.definition.documents.types.UUIDv7;
 import com.datastax.astra.client.core.DataAPIKeywords;
+import com.datastax.astra.internal.utils.Assert;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Helper to create Filter
@@ -573,8 +581,122 @@ public class Filters {
         return valuesFilter;
     }
 
+    /**
+     * Split a time window into contiguous {@code _id} ranges for collections using {@link ObjectId} as default id type.
+     * Each filter is {@code {"_id": {"$gte": lower, "$lt": upper}}} where bounds are the smallest ObjectId of each
+     * sub-window. The filters are meant to be used as partitions in parallel bulk mutations.
+     * <p>
+     * ObjectIds hold a timestamp in seconds: the window is widened to whole seconds, the upper bound rounded up so
+     * that documents created during its last second are included, and a window shorter than {@code partitions}
+     * seconds gives one range per second.
+     * </p>
+     *
+     * <blockquote><pre>
+     *    objectIdTimeRanges(Instant.parse("2024-01-01T00:00:00Z"), Instant.now(), 8)
+     * </pre></blockquote>
+     *
+     * @param from
+     *      lower bound of the time window (inclusive)
+     * @param to
+     *      upper bound of the time window (exclusive)
+     * @param partitions
+     *      maximum number of ranges to create
+     * @return
+     *      list of contiguous range filters on {@code _id}
+     */
+    public static List<Filter> objectIdTimeRanges(final Instant from, final Instant to, final int partitions) {
+        return idTimeRanges(from, to, partitions, 1000, Filters::minObjectId);
+    }
 
+    /**
+     * Split a time window into contiguous {@code _id} ranges for collections using {@link UUIDv7} as default id type.
+     * Each filter is {@code {"_id": {"$gte": lower, "$lt": upper}}} where bounds are the smallest UUIDv7 of each
+     * sub-window. The filters are meant to be used as partitions in parallel bulk mutations.
+     * <p>
+     * UUIDv7 hold a timestamp in milliseconds: the upper bound is rounded up to the next millisecond, and a window
+     * shorter than {@code partitions} milliseconds gives one range per millisecond.
+     * </p>
+     *
+     * @param from
+     *      lower bound of the time window (inclusive)
+     * @param to
+     *      upper bound of the time window (exclusive)
+     * @param partitions
+     *      maximum number of ranges to create
+     * @return
+     *      list of contiguous range filters on {@code _id}
+     */
+    public static List<Filter> uuidv7TimeRanges(final Instant from, final Instant to, final int partitions) {
+        return idTimeRanges(from, to, partitions, 1, Filters::minUUIDv7);
+    }
 
+    /**
+     * Build contiguous ranges on {@code _id} from a time window, bounds aligned on the resolution of the identifiers.
+     *
+     * @param from
+     *      lower bound of the time window (inclusive)
+     * @param to
+     *      upper bound of the time window (exclusive)
+     * @param partitions
+     *      maximum number of ranges to create
+     * @param resolutionMillis
+     *      resolution of the timestamp held by the identifiers
+     * @param boundary
+     *      function computing the smallest identifier for an instant
+     * @return
+     *      list of contiguous range filters on {@code _id}
+     */
+    private static List<Filter> idTimeRanges(Instant from, Instant to, int partitions, long resolutionMillis,
+                                             Function<Instant, Object> boundary) {
+        Assert.notNull(from, "from");
+        Assert.notNull(to, "to");
+        Assert.isTrue(from.isBefore(to), "from should be before to");
+        Assert.isTrue(partitions > 0, "partitions should be greater than 0");
+        // Lower bound rounded down and upper bound rounded up to the resolution
+        long startUnit = Math.floorDiv(from.toEpochMilli(), resolutionMillis);
+        long toMillis  = to.toEpochMilli() + ((to.getNano() % 1_000_000 == 0) ? 0 : 1);
+        long endUnit   = -Math.floorDiv(-toMillis, resolutionMillis);
+        long units     = endUnit - startUnit;
+        int  count     = (int) Math.min(partitions, units);
+        List<Filter> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long lower = startUnit + units * i / count;
+            long upper = startUnit + units * (i + 1) / count;
+            Map<String, Object> range = new LinkedHashMap<>();
+            range.put(FilterOperator.GREATER_THAN_OR_EQUALS_TO.getOperator(),
+                    boundary.apply(Instant.ofEpochMilli(lower * resolutionMillis)));
+            range.put(FilterOperator.LESS_THAN.getOperator(),
+                    boundary.apply(Instant.ofEpochMilli(upper * resolutionMillis)));
+            Filter filter = new Filter();
+            filter.documentMap.put(DataAPIKeywords.ID.getKeyword(), range);
+            ranges.add(filter);
+        }
+        return ranges;
+    }
+
+    /**
+     * Smallest ObjectId for a given instant (timestamp in seconds, all other bytes set to zero).
+     *
+     * @param instant
+     *      instant
+     * @return
+     *      object id
+     */
+    private static ObjectId minObjectId(Instant instant) {
+        return new ObjectId(ByteBuffer.allocate(12).putInt((int) instant.getEpochSecond()).array());
+    }
 
+    /**
+     * Smallest UUIDv7 for a given instant (48 bits of milliseconds, version and variant, random bits set to zero).
+     *
+     * @param instant
+     *      instant
+     * @return
+     *      uuid v7
+     */
+    private static UUIDv7 minUUIDv7(Instant instant) {
+        long msb = (instant.toEpochMilli() << 16) | 0x7000L;
+        return new UUIDv7(new UUID(msb, 0x8000000000000000L));
+    }
 
 }
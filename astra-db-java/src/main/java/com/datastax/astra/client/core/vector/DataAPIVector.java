@@ -21,6 +21,7 @@ package com.datastax.astra.client.core.vector;
  */
 
 
+import com.datastax.astra.internal.utils.Assert;
 import lombok.Getter;
 
 import java.io.Serializable;
@@ -47,6 +48,14 @@ public class DataAPIVector implements Serializable {
         this.embeddings = vector;
     }
 
+    /**
+     * Constructor for the vectors not held on the heap, the subclass reads its embeddings from its own storage
+     * and overrides {@link #getEmbeddings()} and {@link #dimension()}.
+     */
+    protected DataAPIVector() {
+        this.embeddings = null;
+    }
+
     /**
      * Access dimension of the Vector.
      *
@@ -57,4 +66,31 @@ public class DataAPIVector implements Serializable {
         return getEmbeddings().length;
     }
 
+    /**
+     * Compute the similarity with another vector, on the same scale as the {@code $similarity} of the Data API.
+     *
+     * @param other
+     *      vector to compare with
+     * @param metric
+     *      similarity metric
+     * @return
+     *      similarity score
+     */
+    public float similarity(DataAPIVector other, SimilarityMetric metric) {
+        Assert.notNull(other, "other");
+        return VectorSimilarity.score(metric, getEmbeddings(), other.getEmbeddings());
+    }
+
+    /**
+     * Quantize the vector to a compact client-side representation.
+     *
+     * @param encoding
+     *      target encoding
+     * @return
+     *      quantized vector
+     */
+    public QuantizedVector quantize(QuantizedVector.Encoding encoding) {
+        return QuantizedVector.of(getEmbeddings(), encoding);
+    }
+
 }
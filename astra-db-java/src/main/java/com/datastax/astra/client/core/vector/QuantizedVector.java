@@ -0,0 +1,346 @@
+package com.datastax.astra.client.core.vector;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.internal.utils.Assert;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * Compact client-side representation of a {@link DataAPIVector}.
+ * <p>
+ * Quantized vectors keep 2x ({@link Encoding#FLOAT16}), 4x ({@link Encoding#INT8}) or 32x ({@link Encoding#BINARY})
+ * more candidates in memory than {@code float[]} and support fast approximate scoring. They are meant to pre-filter
+ * candidates before an exact scoring with {@link VectorSimilarity}; the Data API still receives full vectors.
+ * Approximate scores are on the same scale as {@link VectorSimilarity#score(SimilarityMetric, float[], float[])}.
+ * </p>
+ */
+@Getter
+public class QuantizedVector implements Serializable {
+
+    /**
+     * Supported encodings.
+     */
+    public enum Encoding {
+
+        /** IEEE 754 half precision, 2 bytes per component. */
+        FLOAT16,
+
+        /** Signed byte per component scaled by the largest absolute value of the vector. */
+        INT8,
+
+        /** Sign of each component, 1 bit per component, with the norm kept for distances. */
+        BINARY
+    }
+
+    /** Encoding of the data. */
+    private final Encoding encoding;
+
+    /** Dimension of the original vector. */
+    private final int dimension;
+
+    /** Quantized components. */
+    private final byte[] data;
+
+    /** Scale of the components for {@link Encoding#INT8}, norm of the vector for {@link Encoding#BINARY}. */
+    private final float scale;
+
+    private QuantizedVector(Encoding encoding, int dimension, byte[] data, float scale) {
+        this.encoding  = encoding;
+        this.dimension = dimension;
+        this.data      = data;
+        this.scale     = scale;
+    }
+
+    /**
+     * Quantize a vector.
+     *
+     * @param vector
+     *      vector to quantize
+     * @param encoding
+     *      target encoding
+     * @return
+     *      quantized vector
+     */
+    public static QuantizedVector of(DataAPIVector vector, Encoding encoding) {
+        Assert.notNull(vector, "vector");
+        return of(vector.getEmbeddings(), encoding);
+    }
+
+    /**
+     * Quantize a vector.
+     *
+     * @param embeddings
+     *      vector to quantize
+     * @param encoding
+     *      target encoding
+     * @return
+     *      quantized vector
+     */
+    public static QuantizedVector of(float[] embeddings, Encoding encoding) {
+        Assert.notNull(embeddings, "embeddings");
+        Assert.notNull(encoding, "encoding");
+        int dimension = embeddings.length;
+        switch (encoding) {
+            case FLOAT16: {
+                byte[] data = new byte[dimension * 2];
+                for (int i = 0; i < dimension; i++) {
+                    short half = toHalf(embeddings[i]);
+                    data[2 * i]     = (byte) (half >> 8);
+                    data[2 * i + 1] = (byte) half;
+                }
+                return new QuantizedVector(encoding, dimension, data, 1f);
+            }
+            case INT8: {
+                float max = 0f;
+                for (float f : embeddings) {
+                    max = Math.max(max, Math.abs(f));
+                }
+                float scale = max == 0f ? 1f : max / 127f;
+                byte[] data = new byte[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    data[i] = (byte) Math.round(embeddings[i] / scale);
+                }
+                return new QuantizedVector(encoding, dimension, data, scale);
+            }
+            case BINARY:
+            default: {
+                byte[] data = new byte[(dimension + 7) / 8];
+                float norm = 0f;
+                for (int i = 0; i < dimension; i++) {
+                    if (embeddings[i] > 0f) {
+                        data[i >> 3] |= (byte) (0x80 >>> (i & 7));
+                    }
+                    norm += embeddings[i] * embeddings[i];
+                }
+                return new QuantizedVector(encoding, dimension, data, (float) Math.sqrt(norm));
+            }
+        }
+    }
+
+    /**
+     * Restore an approximation of the original vector.
+     *
+     * @return
+     *      vector, for {@link Encoding#BINARY} components are {@code ±norm/√dimension}
+     */
+    public DataAPIVector toVector() {
+        float[] embeddings = new float[dimension];
+        if (encoding == Encoding.BINARY) {
+            float unit = dimension == 0 ? 0f : scale / (float) Math.sqrt(dimension);
+            for (int i = 0; i < dimension; i++) {
+                embeddings[i] = bit(i) ? unit : -unit;
+            }
+        } else {
+            for (int i = 0; i < dimension; i++) {
+                embeddings[i] = component(i);
+            }
+        }
+        return new DataAPIVector(embeddings);
+    }
+
+    /**
+     * Size of the quantized data.
+     *
+     * @return
+     *      number of bytes for the components
+     */
+    public int sizeInBytes() {
+        return data.length;
+    }
+
+    /**
+     * Approximate similarity with a full precision vector.
+     *
+     * @param query
+     *      full precision vector
+     * @param metric
+     *      similarity metric
+     * @return
+     *      approximate similarity score
+     */
+    public float approximateScore(DataAPIVector query, SimilarityMetric metric) {
+        Assert.notNull(query, "query");
+        float[] q = query.getEmbeddings();
+        checkDimension(q.length);
+        if (encoding == Encoding.BINARY) {
+            return approximateScore(of(q, Encoding.BINARY), metric);
+        }
+        float dot = 0f, norm = 0f, queryNorm = 0f;
+        for (int i = 0; i < dimension; i++) {
+            float v = component(i);
+            dot       += v * q[i];
+            norm      += v * v;
+            queryNorm += q[i] * q[i];
+        }
+        return toScore(metric, dot, norm, queryNorm);
+    }
+
+    /**
+     * Approximate similarity between two quantized vectors with the same encoding.
+     *
+     * @param other
+     *      quantized vector
+     * @param metric
+     *      similarity metric
+     * @return
+     *      approximate similarity score
+     */
+    public float approximateScore(QuantizedVector other, SimilarityMetric metric) {
+        Assert.notNull(other, "other");
+        checkDimension(other.dimension);
+        if (other.encoding != encoding) {
+            throw new IllegalArgumentException("Cannot compare " + encoding + " with " + other.encoding);
+        }
+        switch (encoding) {
+            case INT8: {
+                long dot = 0, norm = 0, otherNorm = 0;
+                for (int i = 0; i < dimension; i++) {
+                    dot       += data[i] * other.data[i];
+                    norm      += data[i] * data[i];
+                    otherNorm += other.data[i] * other.data[i];
+                }
+                return toScore(metric,
+                        dot * scale * other.scale,
+                        norm * scale * scale,
+                        otherNorm * other.scale * other.scale);
+            }
+            case BINARY: {
+                int hamming = 0;
+                for (int i = 0; i < data.length; i++) {
+                    hamming += Integer.bitCount((data[i] ^ other.data[i]) & 0xFF);
+                }
+                // Angle between the vectors estimated from the proportion of differing signs
+                float cosine = dimension == 0 ? 0f : (float) Math.cos(Math.PI * hamming / dimension);
+                return toScore(metric, cosine * scale * other.scale, scale * scale, other.scale * other.scale);
+            }
+            case FLOAT16:
+            default: {
+                float dot = 0f, norm = 0f, otherNorm = 0f;
+                for (int i = 0; i < dimension; i++) {
+                    float v = component(i);
+                    float o = other.component(i);
+                    dot       += v * o;
+                    norm      += v * v;
+                    otherNorm += o * o;
+                }
+                return toScore(metric, dot, norm, otherNorm);
+            }
+        }
+    }
+
+    private float component(int i) {
+        if (encoding == Encoding.INT8) {
+            return data[i] * scale;
+        }
+        return toFloat((short) (((data[2 * i] & 0xFF) << 8) | (data[2 * i + 1] & 0xFF)));
+    }
+
+    private boolean bit(int i) {
+        return (data[i >> 3] & (0x80 >>> (i & 7))) != 0;
+    }
+
+    private void checkDimension(int otherDimension) {
+        if (otherDimension != dimension) {
+            throw new IllegalArgumentException("Vectors have different dimensions: " + dimension + " and " + otherDimension);
+        }
+    }
+
+    private static float toScore(SimilarityMetric metric, float dot, float squaredNorm, float otherSquaredNorm) {
+        Assert.notNull(metric, "metric");
+        switch (metric) {
+            case DOT_PRODUCT:
+                return (1f + dot) / 2f;
+            case EUCLIDEAN:
+                return 1f / (1f + Math.max(0f, squaredNorm + otherSquaredNorm - 2 * dot));
+            case COSINE:
+            default:
+                if (squaredNorm == 0f || otherSquaredNorm == 0f) {
+                    return 0.5f;
+                }
+                return (1f + (float) (dot / Math.sqrt((double) squaredNorm * otherSquaredNorm))) / 2f;
+        }
+    }
+
+    /**
+     * Convert a float to IEEE 754 half precision bits, rounding to nearest.
+     *
+     * @param value
+     *      float value
+     * @return
+     *      half precision bits
+     */
+    static short toHalf(float value) {
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int abs  = bits & 0x7fffffff;
+        if (abs >= 0x7f800000) {
+            // Infinity or NaN
+            return (short) (sign | 0x7c00 | (abs > 0x7f800000 ? 0x200 : 0));
+        }
+        int rounded = abs + 0x1000;
+        if (rounded >= 0x47800000) {
+            // Overflow to infinity
+            return (short) (sign | 0x7c00);
+        }
+        if (rounded >= 0x38800000) {
+            // Normal half
+            return (short) (sign | ((rounded - 0x38000000) >>> 13));
+        }
+        if (abs < 0x33000000) {
+            // Too small, signed zero
+            return (short) sign;
+        }
+        // Subnormal half
+        int exponent = abs >>> 23;
+        return (short) (sign | (((abs & 0x7fffff) | 0x800000) + (0x800000 >>> (exponent - 102)) >>> (126 - exponent)));
+    }
+
+    /**
+     * Convert IEEE 754 half precision bits to a float.
+     *
+     * @param half
+     *      half precision bits
+     * @return
+     *      float value
+     */
+    static float toFloat(short half) {
+        int bits     = half & 0xffff;
+        int sign     = (bits & 0x8000) << 16;
+        int exponent = bits & 0x7c00;
+        int mantissa = bits & 0x03ff;
+        if (exponent == 0x7c00) {
+            exponent = 0x3fc00;
+        } else if (exponent != 0) {
+            exponent += 0x1c000;
+        } else if (mantissa != 0) {
+            // Subnormal half, normalized as a float
+            exponent = 0x1c400;
+            do {
+                mantissa <<= 1;
+                exponent -= 0x400;
+            } while ((mantissa & 0x400) == 0);
+            mantissa &= 0x3ff;
+        }
+        return Float.intBitsToFloat(sign | (exponent | mantissa) << 13);
+    }
+}
@@ -0,0 +1,57 @@
+package com.datastax.astra.client.core.vector;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Getter;
+
+/**
+ * Result scored on the client against a query vector.
+ *
+ * @param <DOC>
+ *     document result type
+ */
+@Getter
+public class ScoredResult<DOC> {
+
+    /**
+     * Document result.
+     */
+    private final DOC document;
+
+    /**
+     * Similarity score, same scale as the {@code $similarity} returned by the Data API.
+     */
+    private final float score;
+
+    /**
+     * Constructor.
+     *
+     * @param document
+     *      document result
+     * @param score
+     *      similarity score
+     */
+    public ScoredResult(DOC document, float score) {
+        this.document = document;
+        this.score = score;
+    }
+
+}
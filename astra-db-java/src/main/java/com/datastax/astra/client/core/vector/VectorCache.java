@@ -0,0 +1,810 @@
+package com.datastax.astra.client.core.vector;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.definition.documents.types.ObjectId;
+import com.datastax.astra.internal.utils.Assert;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Local cache of embeddings keyed by document {@code _id} or row primary key.
+ * <p>
+ * Vectors are stored contiguously outside of the heap, in a direct buffer or in a memory-mapped file, using one
+ * fixed-size slot per key. When the cache is full the least recently used entry is evicted and its slot is reused.
+ * Cached vectors are returned as {@link CachedVector} views reading the slot in place, so a large working set does
+ * not create {@code float[]} garbage. A file-backed cache writes its index next to the data file on {@link #flush()}
+ * and {@link #close()}, and reloads both when reopened with the same dimension and capacity. Each slot starts with a
+ * stamp, unique to each write, that the index records for its entry: when the cache is reopened after a crash, the
+ * entries rewritten, invalidated or evicted since the last flush no longer match their slot and are dropped, they
+ * never resolve to the vector of another key. The index is a plain
+ * typed format, so keys are limited to strings, numbers, booleans, {@link UUID}, {@link ObjectId} and lists of
+ * those for composite primary keys. A closed cache cannot be used anymore.
+ * </p>
+ * <p>
+ * With {@link Storage#INT8} the slots hold one signed byte per component and a scale, as
+ * {@link QuantizedVector.Encoding#INT8}: the cache keeps close to 4x more vectors in the same memory and returns
+ * approximations of the vectors put, each component within half the scale of its vector.
+ * </p>
+ * <pre>{@code
+ * try (VectorCache cache = VectorCache.mapped(Path.of("embeddings.bin"), 1536, 100_000)) {
+ *   DataAPIVector vector = cache.getOrLoad(id, key -> collection.findOne(Filters.eq(key)).flatMap(Document::getVector).orElse(null));
+ * }
+ * }</pre>
+ */
+public class VectorCache implements AutoCloseable {
+
+    /** Suffix of the index file for a file-backed cache. */
+    public static final String INDEX_FILE_SUFFIX = ".index";
+
+    /** Header of the index file, followed by the format version. */
+    private static final int INDEX_MAGIC = 0x56434958;
+
+    /** Version of the index file format, indexes of previous versions are discarded. */
+    private static final int INDEX_VERSION = 3;
+
+    /** Type tags of the keys in the index file. */
+    private static final byte KEY_STRING    = 1;
+    private static final byte KEY_INT       = 2;
+    private static final byte KEY_LONG      = 3;
+    private static final byte KEY_DOUBLE    = 4;
+    private static final byte KEY_BOOLEAN   = 5;
+    private static final byte KEY_UUID      = 6;
+    private static final byte KEY_OBJECT_ID = 7;
+    private static final byte KEY_LIST      = 8;
+
+    /**
+     * Encoding of the vectors in the slots.
+     */
+    public enum Storage {
+
+        /** Full precision, 4 bytes per component. */
+        FLOAT32,
+
+        /** Signed byte per component scaled by the largest absolute value of the vector, 1 byte per component. */
+        INT8
+    }
+
+    /** Dimension of the vectors. */
+    private final int dimension;
+
+    /** Encoding of the vectors. */
+    private final Storage storage;
+
+    /** Maximum number of vectors. */
+    private final int capacity;
+
+    /** Vectors with {@link Storage#FLOAT32}, one slot of {@code dimension} floats per entry, released on close. */
+    private FloatBuffer vectors;
+
+    /** Vectors with {@link Storage#INT8}, one slot of {@code dimension} bytes per entry, released on close. */
+    private ByteBuffer quantized;
+
+    /** Scale of each slot with {@link Storage#INT8}, released on close. */
+    private FloatBuffer scales;
+
+    /** Stamp of the last write of each slot, 0 for a slot without valid vector, released on close. */
+    private LongBuffer stamps;
+
+    /** Last stamp given to a write. */
+    private long lastStamp;
+
+    /** Mapped buffer when the cache is backed by a file, released on close. */
+    private MappedByteBuffer mappedBuffer;
+
+    /** Data file when the cache is backed by a file. */
+    private final Path file;
+
+    /** Slot of each key, in access order for LRU eviction. */
+    private final LinkedHashMap<Object, Integer> slots = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Slots freed by invalidations. */
+    private final List<Integer> freeSlots = new ArrayList<>();
+
+    /** Next slot never used. */
+    private int nextSlot;
+
+    /** Evictions counter. */
+    private long evictions;
+
+    /** Set when the cache is closed. */
+    private boolean closed;
+
+    private VectorCache(int dimension, int capacity, Storage storage, ByteBuffer buffer, Path file) {
+        int stampsSize    = capacity * Long.BYTES;
+        this.dimension    = dimension;
+        this.capacity     = capacity;
+        this.storage      = storage;
+        this.stamps       = buffer.slice(0, stampsSize).asLongBuffer();
+        if (storage == Storage.INT8) {
+            int scalesSize = capacity * Float.BYTES;
+            this.scales    = buffer.slice(stampsSize, scalesSize).asFloatBuffer();
+            this.quantized = buffer.slice(stampsSize + scalesSize, buffer.capacity() - stampsSize - scalesSize);
+        } else {
+            this.vectors   = buffer.slice(stampsSize, buffer.capacity() - stampsSize).asFloatBuffer();
+        }
+        this.mappedBuffer = buffer instanceof MappedByteBuffer ? (MappedByteBuffer) buffer : null;
+        this.file         = file;
+        for (int i = 0; i < capacity; i++) {
+            lastStamp = Math.max(lastStamp, stamps.get(i));
+        }
+    }
+
+    /**
+     * Create a cache in a direct buffer, outside the heap but not persisted.
+     *
+     * @param dimension
+     *      dimension of the vectors
+     * @param capacity
+     *      maximum number of vectors
+     * @return
+     *      the cache
+     */
+    public static VectorCache offHeap(int dimension, int capacity) {
+        return offHeap(dimension, capacity, Storage.FLOAT32);
+    }
+
+    /**
+     * Create a cache in a direct buffer with the given encoding, outside the heap but not persisted.
+     *
+     * @param dimension
+     *      dimension of the vectors
+     * @param capacity
+     *      maximum number of vectors
+     * @param storage
+     *      encoding of the vectors
+     * @return
+     *      the cache
+     */
+    public static VectorCache offHeap(int dimension, int capacity, Storage storage) {
+        checkSize(dimension, capacity, storage);
+        return new VectorCache(dimension, capacity, storage,
+                ByteBuffer.allocateDirect((int) storageSize(dimension, capacity, storage)), null);
+    }
+
+    /**
+     * Create or reopen a cache backed by a memory-mapped file.
+     *
+     * @param file
+     *      data file, the index is stored in the same folder with suffix {@link #INDEX_FILE_SUFFIX}
+     * @param dimension
+     *      dimension of the vectors
+     * @param capacity
+     *      maximum number of vectors
+     * @return
+     *      the cache
+     */
+    public static VectorCache mapped(Path file, int dimension, int capacity) {
+        return mapped(file, dimension, capacity, Storage.FLOAT32);
+    }
+
+    /**
+     * Create or reopen a cache backed by a memory-mapped file with the given encoding.
+     *
+     * @param file
+     *      data file, the index is stored in the same folder with suffix {@link #INDEX_FILE_SUFFIX}
+     * @param dimension
+     *      dimension of the vectors
+     * @param capacity
+     *      maximum number of vectors
+     * @param storage
+     *      encoding of the vectors, a cache is reopened with the encoding it was created with
+     * @return
+     *      the cache
+     */
+    public static VectorCache mapped(Path file, int dimension, int capacity, Storage storage) {
+        checkSize(dimension, capacity, storage);
+        Assert.notNull(file, "file");
+        long size = storageSize(dimension, capacity, storage);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            VectorCache cache = new VectorCache(dimension, capacity, storage,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, size), file);
+            cache.loadIndex();
+            return cache;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map vector cache file " + file, e);
+        }
+    }
+
+    /**
+     * Store a vector, evicting the least recently used entry when the cache is full.
+     *
+     * @param key
+     *      document id or primary key
+     * @param vector
+     *      vector to store
+     */
+    public synchronized void put(Object key, DataAPIVector vector) {
+        ensureOpen();
+        Assert.notNull(key, "key");
+        Assert.notNull(vector, "vector");
+        if (vector.dimension() != dimension) {
+            throw new IllegalArgumentException("Expected a vector of dimension " + dimension + " but got " + vector.dimension());
+        }
+        Integer slot = slots.get(key);
+        if (slot == null) {
+            slot = allocateSlot();
+            slots.put(key, slot);
+        }
+        // The slot has no valid stamp while written, a crash cannot leave an index entry on a partial vector
+        stamps.put(slot, 0L);
+        if (storage == Storage.INT8) {
+            QuantizedVector encoded = QuantizedVector.of(vector.getEmbeddings(), QuantizedVector.Encoding.INT8);
+            quantized.put(slot * dimension, encoded.getData());
+            scales.put(slot, encoded.getScale());
+        } else {
+            vectors.put(slot * dimension, vector.getEmbeddings());
+        }
+        stamps.put(slot, ++lastStamp);
+    }
+
+    /**
+     * Store the vector of a document keyed by its {@code _id}, documents without {@code $vector} are ignored.
+     *
+     * @param document
+     *      document with an {@code _id} and a {@code $vector}
+     */
+    public void put(Document document) {
+        Assert.notNull(document, "document");
+        Object id = document.get("_id");
+        if (id != null) {
+            document.getVector().ifPresent(vector -> put(id, vector));
+        }
+    }
+
+    /**
+     * Read a vector from the cache.
+     *
+     * @param key
+     *      document id or primary key
+     * @return
+     *      a view on the cached vector if present
+     */
+    public synchronized Optional<DataAPIVector> get(Object key) {
+        ensureOpen();
+        Integer slot = slots.get(key);
+        return slot == null ? Optional.empty() : Optional.of(new CachedVector(this, slot, stamps.get(slot)));
+    }
+
+    /**
+     * Read a vector from the cache, loading and storing it when absent.
+     *
+     * @param key
+     *      document id or primary key
+     * @param loader
+     *      function loading the vector, may return null
+     * @return
+     *      the vector or null if it could not be loaded
+     */
+    public DataAPIVector getOrLoad(Object key, Function<Object, DataAPIVector> loader) {
+        Optional<DataAPIVector> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        DataAPIVector loaded = loader.apply(key);
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Remove a vector from the cache.
+     *
+     * @param key
+     *      document id or primary key
+     */
+    public synchronized void invalidate(Object key) {
+        ensureOpen();
+        Integer slot = slots.remove(key);
+        if (slot != null) {
+            stamps.put(slot, 0L);
+            freeSlots.add(slot);
+        }
+    }
+
+    /**
+     * Number of cached vectors.
+     *
+     * @return
+     *      cached vectors
+     */
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    /**
+     * Number of entries evicted since the cache was opened.
+     *
+     * @return
+     *      evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Dimension of the vectors.
+     *
+     * @return
+     *      dimension
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Maximum number of vectors.
+     *
+     * @return
+     *      capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Encoding of the vectors.
+     *
+     * @return
+     *      storage
+     */
+    public Storage getStorage() {
+        return storage;
+    }
+
+    /**
+     * Write the mapped vectors and the index to disk, no-op for an off-heap cache. The vectors are forced to disk
+     * before the index replaces the previous one, which only references the slots written before it.
+     */
+    public synchronized void flush() {
+        ensureOpen();
+        if (file == null) {
+            return;
+        }
+        mappedBuffer.force();
+        Path indexFile = indexFile();
+        Path tmpFile   = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeInt(dimension);
+            out.writeInt(capacity);
+            out.writeByte(storage.ordinal());
+            out.writeInt(slots.size());
+            for (Map.Entry<Object, Integer> entry : slots.entrySet()) {
+                writeKey(out, entry.getKey());
+                out.writeInt(entry.getValue());
+                out.writeLong(stamps.get(entry.getValue()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write vector cache index " + indexFile, e);
+        }
+        try {
+            Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write vector cache index " + indexFile, e);
+        }
+    }
+
+    /**
+     * Flush a file-backed cache and release the buffers, the cache and the vectors read from it cannot be used
+     * anymore. Closing a closed cache has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed       = true;
+            vectors      = null;
+            quantized    = null;
+            scales       = null;
+            stamps       = null;
+            mappedBuffer = null;
+            slots.clear();
+            freeSlots.clear();
+        }
+    }
+
+    /**
+     * Tell if the cache has been closed.
+     *
+     * @return
+     *      true if closed
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void loadIndex() {
+        Path indexFile = indexFile();
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC) {
+                throw new IllegalStateException("Vector cache index " + indexFile + " has an unknown format");
+            }
+            if (in.readInt() != INDEX_VERSION) {
+                // Slots of previous versions have no stamp, the cache starts empty
+                return;
+            }
+            int storedDimension = in.readInt();
+            int storedCapacity  = in.readInt();
+            int storedStorage   = in.readByte();
+            if (storedDimension != dimension || storedCapacity != capacity || storedStorage != storage.ordinal()) {
+                throw new IllegalStateException("Vector cache " + file + " was created with dimension " + storedDimension
+                        + ", capacity " + storedCapacity + " and storage " + storageName(storedStorage)
+                        + ", cannot reopen it with dimension " + dimension + ", capacity " + capacity
+                        + " and storage " + storage);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > capacity) {
+                throw new IllegalStateException("Vector cache index " + indexFile + " is corrupted");
+            }
+            boolean[] used = new boolean[capacity];
+            for (int i = 0; i < count; i++) {
+                Object key = readKey(in);
+                int slot   = in.readInt();
+                long stamp = in.readLong();
+                if (slot < 0 || slot >= capacity || used[slot]) {
+                    throw new IllegalStateException("Vector cache index " + indexFile + " is corrupted");
+                }
+                // The slot has been rewritten or invalidated after the index was written
+                if (stamp != 0L && stamps.get(slot) == stamp) {
+                    used[slot] = true;
+                    slots.put(key, slot);
+                }
+            }
+            nextSlot = slots.values().stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+            for (int i = 0; i < nextSlot; i++) {
+                if (!used[i]) {
+                    freeSlots.add(i);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read vector cache index " + indexFile, e);
+        }
+    }
+
+    private static void writeKey(DataOutputStream out, Object key) throws IOException {
+        if (key instanceof String) {
+            out.writeByte(KEY_STRING);
+            out.writeUTF((String) key);
+        } else if (key instanceof Integer) {
+            out.writeByte(KEY_INT);
+            out.writeInt((Integer) key);
+        } else if (key instanceof Long) {
+            out.writeByte(KEY_LONG);
+            out.writeLong((Long) key);
+        } else if (key instanceof Double) {
+            out.writeByte(KEY_DOUBLE);
+            out.writeDouble((Double) key);
+        } else if (key instanceof Boolean) {
+            out.writeByte(KEY_BOOLEAN);
+            out.writeBoolean((Boolean) key);
+        } else if (key instanceof UUID) {
+            out.writeByte(KEY_UUID);
+            writeUUID(out, (UUID) key);
+        } else if (key instanceof ObjectId) {
+            out.writeByte(KEY_OBJECT_ID);
+            out.writeUTF(((ObjectId) key).toHexString());
+        } else if (key instanceof List) {
+            List<?> values = (List<?>) key;
+            out.writeByte(KEY_LIST);
+            out.writeInt(values.size());
+            for (Object value : values) {
+                writeKey(out, value);
+            }
+        } else {
+            throw new IllegalArgumentException("Vector cache keys of type "
+                    + (key == null ? "null" : key.getClass().getName()) + " cannot be persisted");
+        }
+    }
+
+    private static Object readKey(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case KEY_STRING:
+                return in.readUTF();
+            case KEY_INT:
+                return in.readInt();
+            case KEY_LONG:
+                return in.readLong();
+            case KEY_DOUBLE:
+                return in.readDouble();
+            case KEY_BOOLEAN:
+                return in.readBoolean();
+            case KEY_UUID:
+                return readUUID(in);
+            case KEY_OBJECT_ID:
+                return new ObjectId(in.readUTF());
+            case KEY_LIST:
+                int size = in.readInt();
+                if (size < 0) {
+                    throw new IllegalStateException("Invalid key in vector cache index");
+                }
+                List<Object> values = new ArrayList<>(Math.min(size, 16));
+                for (int i = 0; i < size; i++) {
+                    values.add(readKey(in));
+                }
+                return values;
+            default:
+                throw new IllegalStateException("Invalid key type " + type + " in vector cache index");
+        }
+    }
+
+    private static void writeUUID(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Vector cache is closed");
+        }
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.remove(freeSlots.size() - 1);
+        }
+        if (nextSlot < capacity) {
+            return nextSlot++;
+        }
+        // Evict the least recently used entry
+        Map.Entry<Object, Integer> eldest = slots.entrySet().iterator().next();
+        slots.remove(eldest.getKey());
+        evictions++;
+        return eldest.getValue();
+    }
+
+    private Path indexFile() {
+        return file.resolveSibling(file.getFileName() + INDEX_FILE_SUFFIX);
+    }
+
+    private static String storageName(int ordinal) {
+        return ordinal >= 0 && ordinal < Storage.values().length ? Storage.values()[ordinal].name() : String.valueOf(ordinal);
+    }
+
+    private synchronized float read(int slot, long stamp, int index) {
+        checkStamp(slot, stamp);
+        if (storage == Storage.INT8) {
+            return quantized.get(slot * dimension + index) * scales.get(slot);
+        }
+        return vectors.get(slot * dimension + index);
+    }
+
+    private synchronized void read(int slot, long stamp, int index, float[] target, int offset, int length) {
+        checkStamp(slot, stamp);
+        if (storage == Storage.INT8) {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            int base    = slot * dimension + index;
+            float scale = scales.get(slot);
+            for (int i = 0; i < length; i++) {
+                target[offset + i] = quantized.get(base + i) * scale;
+            }
+        } else {
+            vectors.get(slot * dimension + index, target, offset, length);
+        }
+    }
+
+    private synchronized float[] read(int slot, long stamp) {
+        checkStamp(slot, stamp);
+        float[] embeddings = new float[dimension];
+        read(slot, stamp, 0, embeddings, 0, dimension);
+        return embeddings;
+    }
+
+    private synchronized float score(int slot, long stamp, SimilarityMetric metric, float[] other) {
+        checkStamp(slot, stamp);
+        if (other.length != dimension) {
+            throw new IllegalArgumentException("Vectors have different dimensions: " + dimension + " and " + other.length);
+        }
+        int offset  = slot * dimension;
+        boolean int8 = storage == Storage.INT8;
+        float scale = int8 ? scales.get(slot) : 1f;
+        float dot = 0f, norm = 0f, otherNorm = 0f, distance = 0f;
+        for (int i = 0; i < dimension; i++) {
+            float v = int8 ? quantized.get(offset + i) * scale : vectors.get(offset + i);
+            float o = other[i];
+            dot       += v * o;
+            norm      += v * v;
+            otherNorm += o * o;
+            distance  += (v - o) * (v - o);
+        }
+        switch (metric) {
+            case DOT_PRODUCT:
+                return (1f + dot) / 2f;
+            case EUCLIDEAN:
+                return 1f / (1f + distance);
+            case COSINE:
+            default:
+                float cosine = (norm == 0f || otherNorm == 0f) ? 0f : (float) (dot / Math.sqrt((double) norm * otherNorm));
+                return (1f + cosine) / 2f;
+        }
+    }
+
+    private void checkStamp(int slot, long stamp) {
+        ensureOpen();
+        if (stamps.get(slot) != stamp) {
+            throw new IllegalStateException("Cached vector has been evicted or updated");
+        }
+    }
+
+    private static void checkSize(int dimension, int capacity, Storage storage) {
+        Assert.isTrue(dimension > 0, "dimension should be positive");
+        Assert.isTrue(capacity > 0, "capacity should be positive");
+        Assert.notNull(storage, "storage");
+        if (storageSize(dimension, capacity, storage) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Vector cache cannot exceed 2GB, reduce dimension or capacity");
+        }
+    }
+
+    /**
+     * Size of the storage: the stamps of the slots, the scales with {@link Storage#INT8}, then the vectors.
+     */
+    private static long storageSize(int dimension, int capacity, Storage storage) {
+        if (storage == Storage.INT8) {
+            return (long) capacity * (Long.BYTES + Float.BYTES + (long) dimension);
+        }
+        return (long) capacity * (Long.BYTES + (long) dimension * Float.BYTES);
+    }
+
+    /**
+     * View on a vector stored in a {@link VectorCache}, reading the off-heap slot in place.
+     * <p>
+     * The view is invalidated when its entry is evicted or replaced, access then raises an
+     * {@link IllegalStateException}. {@link #getEmbeddings()} copies the vector to the heap. Each read locks the
+     * cache once: to read several components, prefer {@link #get(int, float[], int, int)} to a loop on
+     * {@link #get(int)}.
+     * </p>
+     */
+    public static class CachedVector extends DataAPIVector {
+
+        /** Owning cache. */
+        private final transient VectorCache cache;
+
+        /** Slot in the cache. */
+        private final int slot;
+
+        /** Stamp of the slot when the view was created. */
+        private final long stamp;
+
+        CachedVector(VectorCache cache, int slot, long stamp) {
+            this.cache = cache;
+            this.slot  = slot;
+            this.stamp = stamp;
+        }
+
+        /**
+         * Read a single component without copying the vector.
+         *
+         * @param index
+         *      index of the component
+         * @return
+         *      value of the component
+         */
+        public float get(int index) {
+            if (index < 0 || index >= cache.dimension) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for dimension " + cache.dimension);
+            }
+            return cache.read(slot, stamp, index);
+        }
+
+        /**
+         * Copy a range of components without copying the whole vector.
+         *
+         * @param index
+         *      index of the first component
+         * @param target
+         *      array receiving the components
+         * @param offset
+         *      position of the first component in the array
+         * @param length
+         *      number of components
+         */
+        public void get(int index, float[] target, int offset, int length) {
+            Assert.notNull(target, "target");
+            if (index < 0 || length < 0 || index + length > cache.dimension) {
+                throw new IndexOutOfBoundsException("Range [" + index + ", " + (index + length)
+                        + ") out of bounds for dimension " + cache.dimension);
+            }
+            cache.read(slot, stamp, index, target, offset, length);
+        }
+
+        /**
+         * Copy the vector to the heap.
+         *
+         * @return
+         *      embeddings
+         */
+        @Override
+        public float[] getEmbeddings() {
+            return cache.read(slot, stamp);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int dimension() {
+            return cache.dimension;
+        }
+
+        /**
+         * Serialize as a regular vector, the view is only valid in the current process.
+         *
+         * @return
+         *      vector copied to the heap
+         */
+        private Object writeReplace() {
+            return new DataAPIVector(getEmbeddings());
+        }
+
+        /**
+         * Compute the similarity with another vector, reading the cached vector in place.
+         *
+         * @param other
+         *      vector to compare with
+         * @param metric
+         *      similarity metric
+         * @return
+         *      similarity score
+         */
+        @Override
+        public float similarity(DataAPIVector other, SimilarityMetric metric) {
+            Assert.notNull(other, "other");
+            Assert.notNull(metric, "metric");
+            return cache.score(slot, stamp, metric, other.getEmbeddings());
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package com.datastax.astra.client.core.vector;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.internal.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Client-side similarity scoring, exact top-k and maximal marginal relevance (MMR) re-ranking.
+ * <p>
+ * Scores follow the scale of the {@code $similarity} returned by the Data API so that thresholds can be shared
+ * between server and client: {@code (1 + cos) / 2} for {@link SimilarityMetric#COSINE},
+ * {@code (1 + dot) / 2} for {@link SimilarityMetric#DOT_PRODUCT} and {@code 1 / (1 + d²)} for
+ * {@link SimilarityMetric#EUCLIDEAN}.
+ * </p>
+ * <p>
+ * The kernels are scalar loops unrolled by four with independent accumulators, which shortens the dependency chain
+ * of the sums so that the multiplications and additions overlap. They are not SIMD code: the JIT does not
+ * vectorize floating point reductions, and the incubating {@code jdk.incubator.vector} module is not used as it
+ * has to be enabled with {@code --add-modules}. Sums are reordered, results can differ from a sequential loop in
+ * the last bits.
+ * </p>
+ */
+public final class VectorSimilarity {
+
+    /**
+     * Hide constructor for utility class.
+     */
+    private VectorSimilarity() {}
+
+    /**
+     * Compute the dot product of two vectors.
+     *
+     * @param a
+     *      first vector
+     * @param b
+     *      second vector
+     * @return
+     *      dot product
+     */
+    public static float dotProduct(float[] a, float[] b) {
+        checkDimensions(a, b);
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int bound = a.length & ~3;
+        for (; i < bound; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    /**
+     * Compute the squared euclidean distance of two vectors.
+     *
+     * @param a
+     *      first vector
+     * @param b
+     *      second vector
+     * @return
+     *      squared euclidean distance
+     */
+    public static float squaredDistance(float[] a, float[] b) {
+        checkDimensions(a, b);
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int bound = a.length & ~3;
+        for (; i < bound; i += 4) {
+            float d0 = a[i] - b[i];
+            float d1 = a[i + 1] - b[i + 1];
+            float d2 = a[i + 2] - b[i + 2];
+            float d3 = a[i + 3] - b[i + 3];
+            s0 += d0 * d0;
+            s1 += d1 * d1;
+            s2 += d2 * d2;
+            s3 += d3 * d3;
+        }
+        for (; i < a.length; i++) {
+            float d = a[i] - b[i];
+            s0 += d * d;
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    /**
+     * Compute the cosine of the angle between two vectors.
+     *
+     * @param a
+     *      first vector
+     * @param b
+     *      second vector
+     * @return
+     *      cosine, 0 if one of the vectors has a zero norm
+     */
+    public static float cosine(float[] a, float[] b) {
+        checkDimensions(a, b);
+        float d0 = 0f, d1 = 0f, d2 = 0f, d3 = 0f;
+        float na0 = 0f, na1 = 0f, na2 = 0f, na3 = 0f;
+        float nb0 = 0f, nb1 = 0f, nb2 = 0f, nb3 = 0f;
+        int i = 0;
+        int bound = a.length & ~3;
+        for (; i < bound; i += 4) {
+            float a0 = a[i], a1 = a[i + 1], a2 = a[i + 2], a3 = a[i + 3];
+            float b0 = b[i], b1 = b[i + 1], b2 = b[i + 2], b3 = b[i + 3];
+            d0  += a0 * b0;
+            d1  += a1 * b1;
+            d2  += a2 * b2;
+            d3  += a3 * b3;
+            na0 += a0 * a0;
+            na1 += a1 * a1;
+            na2 += a2 * a2;
+            na3 += a3 * a3;
+            nb0 += b0 * b0;
+            nb1 += b1 * b1;
+            nb2 += b2 * b2;
+            nb3 += b3 * b3;
+        }
+        for (; i < a.length; i++) {
+            d0  += a[i] * b[i];
+            na0 += a[i] * a[i];
+            nb0 += b[i] * b[i];
+        }
+        float dot   = d0 + d1 + d2 + d3;
+        float normA = na0 + na1 + na2 + na3;
+        float normB = nb0 + nb1 + nb2 + nb3;
+        if (normA == 0f || normB == 0f) {
+            return 0f;
+        }
+        return (float) (dot / Math.sqrt((double) normA * normB));
+    }
+
+    /**
+     * Compute the similarity score of two vectors for a metric.
+     *
+     * @param metric
+     *      similarity metric
+     * @param a
+     *      first vector
+     * @param b
+     *      second vector
+     * @return
+     *      similarity score on the Data API scale
+     */
+    public static float score(SimilarityMetric metric, float[] a, float[] b) {
+        Assert.notNull(metric, "metric");
+        switch (metric) {
+            case DOT_PRODUCT:
+                return (1f + dotProduct(a, b)) / 2f;
+            case EUCLIDEAN:
+                return 1f / (1f + squaredDistance(a, b));
+            case COSINE:
+            default:
+                return (1f + cosine(a, b)) / 2f;
+        }
+    }
+
+    /**
+     * Score the results against a query vector and keep the best ones.
+     *
+     * @param results
+     *      results to score, e.g. {@code page.getResults()} or a cursor
+     * @param vectorExtractor
+     *      access the vector of a result, results without vector are ignored
+     * @param query
+     *      query vector
+     * @param metric
+     *      similarity metric
+     * @param k
+     *      maximum number of results
+     * @param <DOC>
+     *      document result type
+     * @return
+     *      best results, highest score first
+     */
+    public static <DOC> List<ScoredResult<DOC>> topK(Iterable<DOC> results, Function<DOC, DataAPIVector> vectorExtractor,
+                                                     DataAPIVector query, SimilarityMetric metric, int k) {
+        return topK(results, vectorExtractor, query, metric, k, Float.NEGATIVE_INFINITY);
+    }
+
+    /**
+     * Score the results against a query vector and keep the best ones above a threshold.
+     *
+     * @param results
+     *      results to score, e.g. {@code page.getResults()} or a cursor
+     * @param vectorExtractor
+     *      access the vector of a result, results without vector are ignored
+     * @param query
+     *      query vector
+     * @param metric
+     *      similarity metric
+     * @param k
+     *      maximum number of results
+     * @param minScore
+     *      results scored below this value are discarded
+     * @param <DOC>
+     *      document result type
+     * @return
+     *      best results, highest score first
+     */
+    public static <DOC> List<ScoredResult<DOC>> topK(Iterable<DOC> results, Function<DOC, DataAPIVector> vectorExtractor,
+                                                     DataAPIVector query, SimilarityMetric metric, int k, float minScore) {
+        Assert.notNull(vectorExtractor, "vectorExtractor");
+        Assert.notNull(query, "query");
+        return topK(results, doc -> {
+            DataAPIVector vector = vectorExtractor.apply(doc);
+            return vector == null ? Float.NaN : score(metric, query.getEmbeddings(), vector.getEmbeddings());
+        }, k, minScore);
+    }
+
+    /**
+     * Keep the best results using approximate scores on quantized vectors, typically to pre-filter a larger
+     * set of candidates before an exact {@link #topK(Iterable, Function, DataAPIVector, SimilarityMetric, int)}.
+     *
+     * @param results
+     *      results to score
+     * @param vectorExtractor
+     *      access the quantized vector of a result, results without vector are ignored
+     * @param query
+     *      query vector, in full precision
+     * @param metric
+     *      similarity metric
+     * @param k
+     *      maximum number of results
+     * @param <DOC>
+     *      document result type
+     * @return
+     *      best results with their approximate score, highest score first
+     */
+    public static <DOC> List<ScoredResult<DOC>> approximateTopK(Iterable<DOC> results, Function<DOC, QuantizedVector> vectorExtractor,
+                                                                DataAPIVector query, SimilarityMetric metric, int k) {
+        Assert.notNull(vectorExtractor, "vectorExtractor");
+        Assert.notNull(query, "query");
+        return topK(results, doc -> {
+            QuantizedVector vector = vectorExtractor.apply(doc);
+            return vector == null ? Float.NaN : vector.approximateScore(query, metric);
+        }, k, Float.NEGATIVE_INFINITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <DOC> List<ScoredResult<DOC>> topK(Iterable<DOC> results, ToDoubleFunction<DOC> scorer, int k, float minScore) {
+        Assert.notNull(results, "results");
+        Assert.isTrue(k > 0, "k should be positive");
+        // Min-heap on primitive scores, the root is the worst result kept
+        float[] scores = new float[k];
+        Object[] docs  = new Object[k];
+        int size = 0;
+        for (DOC doc : results) {
+            float score = (float) scorer.applyAsDouble(doc);
+            // NaN when the result has no vector
+            if (Float.isNaN(score) || score < minScore) {
+                continue;
+            }
+            if (size < k) {
+                scores[size] = score;
+                docs[size]   = doc;
+                siftUp(scores, docs, size++);
+            } else if (score > scores[0]) {
+                scores[0] = score;
+                docs[0]   = doc;
+                siftDown(scores, docs, size);
+            }
+        }
+        List<ScoredResult<DOC>> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(new ScoredResult<>((DOC) docs[i], scores[i]));
+        }
+        top.sort((r1, r2) -> Float.compare(r2.getScore(), r1.getScore()));
+        return top;
+    }
+
+    /**
+     * Re-rank results with maximal marginal relevance to balance relevance and diversity.
+     *
+     * @param results
+     *      candidate results, e.g. over-fetched from an ANN search
+     * @param vectorExtractor
+     *      access the vector of a result, results without vector are ignored
+     * @param query
+     *      query vector
+     * @param metric
+     *      similarity metric
+     * @param k
+     *      number of results to select
+     * @param lambda
+     *      between 0 (diversity only) and 1 (relevance only)
+     * @param <DOC>
+     *      document result type
+     * @return
+     *      selected results in selection order, with their relevance score
+     */
+    public static <DOC> List<ScoredResult<DOC>> mmr(Iterable<DOC> results, Function<DOC, DataAPIVector> vectorExtractor,
+                                                    DataAPIVector query, SimilarityMetric metric, int k, float lambda) {
+        Assert.notNull(results, "results");
+        Assert.notNull(vectorExtractor, "vectorExtractor");
+        Assert.notNull(query, "query");
+        Assert.isTrue(k > 0, "k should be positive");
+        Assert.isTrue(lambda >= 0f && lambda <= 1f, "lambda should be between 0 and 1");
+        List<DOC> candidates = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (DOC doc : results) {
+            DataAPIVector vector = vectorExtractor.apply(doc);
+            if (vector != null) {
+                candidates.add(doc);
+                vectors.add(vector.getEmbeddings());
+            }
+        }
+        int n = candidates.size();
+        float[] relevance = new float[n];
+        // Highest similarity of each candidate with the selected results
+        float[] redundancy = new float[n];
+        boolean[] selected = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            relevance[i]  = score(metric, query.getEmbeddings(), vectors.get(i));
+            redundancy[i] = Float.NEGATIVE_INFINITY;
+        }
+        int limit = Math.min(k, n);
+        if (limit == 0) {
+            return Collections.emptyList();
+        }
+        List<ScoredResult<DOC>> mmr = new ArrayList<>(limit);
+        for (int round = 0; round < limit; round++) {
+            int best = -1;
+            float bestValue = Float.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                if (selected[i]) {
+                    continue;
+                }
+                float value = round == 0
+                        ? relevance[i]
+                        : lambda * relevance[i] - (1f - lambda) * redundancy[i];
+                if (best < 0 || value > bestValue) {
+                    best      = i;
+                    bestValue = value;
+                }
+            }
+            selected[best] = true;
+            mmr.add(new ScoredResult<>(candidates.get(best), relevance[best]));
+            for (int i = 0; i < n; i++) {
+                if (!selected[i]) {
+                    redundancy[i] = Math.max(redundancy[i], score(metric, vectors.get(best), vectors.get(i)));
+                }
+            }
+        }
+        return mmr;
+    }
+
+    private static void siftUp(float[] scores, Object[] docs, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (scores[parent] <= scores[i]) {
+                return;
+            }
+            swap(scores, docs, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(float[] scores, Object[] docs, int size) {
+        int i = 0;
+        while (true) {
+            int left     = 2 * i + 1;
+            int right    = left + 1;
+            int smallest = i;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == i) {
+                return;
+            }
+            swap(scores, docs, i, smallest);
+            i = smallest;
+        }
+    }
+
+    private static void swap(float[] scores, Object[] docs, int i, int j) {
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+        Object doc = docs[i];
+        docs[i] = docs[j];
+        docs[j] = doc;
+    }
+
+    private static void checkDimensions(float[] a, float[] b) {
+        Assert.notNull(a, "vector");
+        Assert.notNull(b, "vector");
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vectors have different dimensions: " + a.length + " and " + b.length);
+        }
+    }
+}
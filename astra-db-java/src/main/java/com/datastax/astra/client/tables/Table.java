@@ -23,7 +23,9 @@ package com.datastax.astra.client.tables;
 import com.datastax.astra.client.collections.commands.options.CollectionFindOptions;
 import com.datastax.astra.client.collections.definition.CollectionDefinition;
 import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.DataAPIKeywords;
 import com.datastax.astra.client.core.commands.Command;
+import com.datastax.astra.client.core.commands.PreparedCommand;
 import com.datastax.astra.client.core.options.BaseOptions;
 import com.datastax.astra.client.core.paging.Page;
 import com.datastax.astra.client.core.query.Filter;
@@ -31,6 +33,7 @@ import com.datastax.astra.client.core.query.Projection;
 import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.datastax.astra.client.databases.Database;
 import com.datastax.astra.client.exceptions.DataAPIException;
+import com.datastax.astra.client.exceptions.DataAPITimeoutException;
 import com.datastax.astra.client.tables.commands.AlterTableOperation;
 import com.datastax.astra.client.tables.commands.TableUpdateOperation;
 import com.datastax.astra.client.tables.commands.options.AlterTableOptions;
@@ -48,6 +51,7 @@ import com.datastax.astra.client.tables.commands.options.TableFindOptions;
 import com.datastax.astra.client.tables.commands.options.TableInsertManyOptions;
 import com.datastax.astra.client.tables.commands.options.TableInsertOneOptions;
 import com.datastax.astra.client.tables.commands.options.TableUpdateOneOptions;
+import com.datastax.astra.client.tables.commands.results.TableColumnarPage;
 import com.datastax.astra.client.tables.commands.results.TableInsertManyResult;
 import com.datastax.astra.client.tables.commands.results.TableInsertOneResult;
 import com.datastax.astra.client.tables.cursor.TableFindCursor;
@@ -61,6 +65,7 @@ import com.datastax.astra.client.tables.definition.indexes.TableVectorIndexDefin
 import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
 import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
 import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.client.tables.definition.rows.RowSchema;
 import com.datastax.astra.client.tables.definition.types.TableDataAPIUserDefinedType;
 import com.datastax.astra.client.tables.definition.types.TableUserDefinedTypeDefinition;
 import com.datastax.astra.client.tables.exceptions.TooManyRowsToCountException;
@@ -69,19 +74,28 @@ import com.datastax.astra.internal.api.DataAPIResponse;
 import com.datastax.astra.internal.command.AbstractCommandRunner;
 import com.datastax.astra.internal.command.CommandObserver;
 import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.shared.DataAPIResponseDeserializer;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
+import com.datastax.astra.internal.serdes.shared.DocumentListDeserializer;
 import com.datastax.astra.internal.serdes.tables.RowMapper;
 import com.datastax.astra.internal.serdes.tables.RowSerializer;
 import com.datastax.astra.internal.utils.Assert;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -128,6 +142,11 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
      */
     private CollectionDefinition collectionDefinition;
 
+    /**
+     * Vector columns, learned from the table definition and from the projection schemas of the responses.
+     */
+    private final Set<String> vectorColumns = ConcurrentHashMap.newKeySet();
+
     /**
      * Constructs an instance of a table within the specified database. This constructor
      * initializes the table with a given name and associates it with a specific class type
@@ -236,13 +255,50 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
      *         and identity within the database.
      */
     public TableDefinition getDefinition() {
-        return database
+        TableDefinition definition = database
                 .listTables().stream()
                 .filter(col -> col.getName().equals(tableName))
                 .findFirst()
                 .map(TableDescriptor::getDefinition)
                 .orElseThrow(() -> new DataAPIException("[TABLE_NOT_EXIST] - Table does not exist, " +
                         "table name: '" + tableName + "'", "TABLE_NOT_EXIST", null));
+        registerVectorColumns(definition.getColumns());
+        return definition;
+    }
+
+    /**
+     * Vector columns of the table, decoded directly as {@link DataAPIVector} when reading rows.
+     *
+     * @return
+     *      vector columns known so far
+     */
+    @Override
+    protected Set<String> getVectorFields() {
+        return vectorColumns;
+    }
+
+    /**
+     * Decode the vector columns as vectors, including the ones of the projection schema of the response: the
+     * schema is handed over while the response is parsed, before the rows are decoded.
+     *
+     * @return
+     *      attributes read by the deserializers
+     */
+    @Override
+    protected Map<String, Object> getDecodingAttributes() {
+        return Map.of(DocumentDeserializer.ATTRIBUTE_VECTOR_FIELDS, vectorColumns,
+                DataAPIResponseDeserializer.ATTRIBUTE_PROJECTION_SCHEMA_LISTENER,
+                (DataAPIResponseDeserializer.ProjectionSchemaListener) this::registerVectorColumns);
+    }
+
+    private void registerVectorColumns(Map<String, TableColumnDefinition> columns) {
+        if (columns != null) {
+            columns.forEach((name, column) -> {
+                if (column != null && column.getType() == TableColumnTypes.VECTOR) {
+                    vectorColumns.add(name);
+                }
+            });
+        }
     }
 
     /**
@@ -595,7 +651,8 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
         try {
             boolean first = true;
             for (Future<TableInsertManyResult> future : futures) {
-                TableInsertManyResult res = future.get();
+                long remaining = insertManyOptions.getDeadlineRemainingMillis();
+                TableInsertManyResult res = (remaining < 0) ? future.get() : future.get(remaining, TimeUnit.MILLISECONDS);
                 if (first) {
                     finalResult.setPrimaryKeySchema(res.getPrimaryKeySchema());
                     first = false;
@@ -619,7 +676,13 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
             } else {
                 throw new DataAPIException(ERROR_CODE_TIMEOUT, "Request did not complete withing ");
             }
+        } catch (TimeoutException e) {
+            // Deadline reached, outstanding chunks are cancelled
+            executor.shutdownNow();
+            throw new DataAPITimeoutException("Deadline exceeded during insertMany, "
+                    + finalResult.getInsertedIds().size() + " rows inserted");
         } catch (InterruptedException | ExecutionException e) {
+            executor.shutdownNow();
             if (e.getCause() instanceof DataAPIException) {
                 throw (DataAPIException) e.getCause();
             }
@@ -924,6 +987,140 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
      *      A {@link Page} object containing the rows that match the query, along with pagination information.
      */
     public <R> Page<R> findPage(Filter filter, TableFindOptions options, Class<R> newRowType) {
+        RowPageReader reader = new RowPageReader();
+        DataAPIResponse apiResponse = runCommandWithAttributes(buildFindCommand(filter, options), options,
+                reader.attributes());
+
+        // load sortVector if available
+        DataAPIVector sortVector = null;
+        if (options!= null && options.includeSortVector() != null && apiResponse.getStatus() != null) {
+            sortVector = apiResponse.getStatus().getSortVector();
+        }
+        return mapFindPage(apiResponse, reader.rows, sortVector, newRowType);
+    }
+
+    /**
+     * Prepare a 'find' command to be executed many times with different parameter values.
+     * <p>
+     * The filter and options are used as a sample: the values declared with
+     * {@link PreparedCommand#withParameter(String, String...)} are replaced at execution time, everything else is
+     * serialized only once. The optional parameter {@link PreparedCommand#PARAM_PAGE_STATE} is declared to
+     * fetch the next pages, it is left out of the command when not provided.
+     * </p>
+     *
+     * @param filter
+     *      sample filter
+     * @param options
+     *      sample find options, also used to execute the command
+     * @return
+     *      the prepared command
+     */
+    public PreparedCommand prepareFind(Filter filter, TableFindOptions options) {
+        return new PreparedCommand(buildFindCommand(filter, options), getSerializer(), options)
+                .withOptionalParameter(PreparedCommand.PARAM_PAGE_STATE, "options", OPTIONS_PAGE_STATE);
+    }
+
+    /**
+     * Executes a prepared 'find' command, see {@link #prepareFind(Filter, TableFindOptions)}.
+     *
+     * @param preparedFind
+     *      prepared find command
+     * @param parameters
+     *      parameter values, missing parameters are sent as {@code null} and a missing page state is left out
+     * @return
+     *      A {@link Page} object containing the rows that match the query, along with pagination information.
+     */
+    public Page<T> findPage(PreparedCommand preparedFind, Map<String, ?> parameters) {
+        return findPage(preparedFind, parameters, getRowClass());
+    }
+
+    /**
+     * Executes a prepared 'find' command, see {@link #prepareFind(Filter, TableFindOptions)}.
+     *
+     * @param <R>
+     *      projection for the new type
+     * @param preparedFind
+     *      prepared find command
+     * @param parameters
+     *      parameter values, missing parameters are sent as {@code null} and a missing page state is left out
+     * @param newRowType
+     *      the class representing the row type for the result; must not be {@code null}.
+     * @return
+     *      A {@link Page} object containing the rows that match the query, along with pagination information.
+     */
+    public <R> Page<R> findPage(PreparedCommand preparedFind, Map<String, ?> parameters, Class<R> newRowType) {
+        Assert.notNull(preparedFind, "preparedFind");
+        RowPageReader reader = new RowPageReader();
+        DataAPIResponse apiResponse = runCommandWithAttributes(preparedFind.bind(parameters), preparedFind.getOptions(),
+                reader.attributes());
+        DataAPIVector sortVector = apiResponse.getStatus() == null ? null : apiResponse.getStatus().getSortVector();
+        return mapFindPage(apiResponse, reader.rows, sortVector, newRowType);
+    }
+
+    /**
+     * Executes a paginated 'find' query and decodes the page into one vector per column.
+     * <p>
+     * Primitive CQL types are returned as primitive arrays with a null bitmap, text columns are dictionary-encoded
+     * and vector columns are returned as {@code float[][]}, which suits analytic scans better than rows. The rows
+     * are decoded from the response straight into the columns, without materializing rows.
+     * </p>
+     *
+     * @param filter
+     *      The filter criteria used to select rows from the table.
+     * @param options
+     *      The {@link TableFindOptions} providing additional query parameters, such as projection and pagination.
+     * @return
+     *      the columnar page, with the state to fetch the next one
+     */
+    public TableColumnarPage findPageColumnar(Filter filter, TableFindOptions options) {
+        // The projection schema is handed over to the decoder before the rows are parsed
+        TableColumnarPage.Decoder decoder = new TableColumnarPage.Decoder(null);
+        DataAPIResponse apiResponse = runCommandWithAttributes(buildFindCommand(filter, options), options,
+                Map.of(DataAPIResponseDeserializer.ATTRIBUTE_PROJECTION_SCHEMA_LISTENER, decoder,
+                        DocumentListDeserializer.ATTRIBUTE_DOCUMENT_READER, decoder));
+        DataAPIVector sortVector = null;
+        if (apiResponse.getStatus() != null && options != null && options.includeSortVector() != null) {
+            sortVector = apiResponse.getStatus().getSortVector();
+        }
+        return decoder.build(apiResponse.getData().getNextPageState(), sortVector);
+    }
+
+    /**
+     * Iterate over all the pages of a 'find' query as columnar pages, fetching each page when requested.
+     *
+     * @param filter
+     *      The filter criteria used to select rows from the table.
+     * @param options
+     *      The {@link TableFindOptions} providing additional query parameters, the page state is ignored.
+     * @return
+     *      columnar pages, the iteration stops after the page without page state
+     */
+    public Iterable<TableColumnarPage> findColumnar(Filter filter, TableFindOptions options) {
+        return () -> new Iterator<>() {
+
+            private final TableFindOptions pageOptions = options == null ? new TableFindOptions() : new TableFindOptions(options);
+
+            private boolean hasMore = true;
+
+            @Override
+            public boolean hasNext() {
+                return hasMore;
+            }
+
+            @Override
+            public TableColumnarPage next() {
+                if (!hasMore) {
+                    throw new NoSuchElementException("No more pages");
+                }
+                TableColumnarPage page = findPageColumnar(filter, pageOptions);
+                pageOptions.pageState(page.getPageState());
+                hasMore = page.getPageState() != null;
+                return page;
+            }
+        };
+    }
+
+    private Command buildFindCommand(Filter filter, TableFindOptions options) {
         Command findCommand = Command
                 .create("find")
                 .withFilter(filter);
@@ -938,27 +1135,66 @@ public class Table<T>  extends AbstractCommandRunner<TableOptions> {
                             .appendIfNotNull(OPTIONS_INCLUDE_SORT_VECTOR, options.includeSortVector())
                             .appendIfNotNull(OPTIONS_INCLUDE_SIMILARITY, options.includeSimilarity()));
         }
-        DataAPIResponse apiResponse = runCommand(findCommand, options);
-
-        // load sortVector if available
-        DataAPIVector sortVector = null;
-        if (options!= null && options.includeSortVector() != null && apiResponse.getStatus() != null) {
-            sortVector = apiResponse.getStatus().getSortVector();
-        }
+        return findCommand;
+    }
 
+    private <R> Page<R> mapFindPage(DataAPIResponse apiResponse, List<Row> rows, DataAPIVector sortVector, Class<R> newRowType) {
         return new Page<>(
                 apiResponse.getData().getNextPageState(),
-                apiResponse.getData().getDocuments().stream()
-                .map(doc -> {
-                    Row targetRow =  new Row();
-                    targetRow.getColumnMap().putAll(doc.getDocumentMap());
-                    populateNullAttributesFromResponse(targetRow, apiResponse);
-                    return targetRow;
+                rows.stream()
+                .map(row -> {
+                    populateNullAttributesFromResponse(row, apiResponse);
+                    return row;
                 })
                 .map(d -> RowMapper.mapFromRow(d, getSerializer(), newRowType))
                 .collect(Collectors.toList()), sortVector);
     }
 
+    /**
+     * Reads the rows of a page straight from the response. The projection schema is received before the rows, which
+     * are then stored by position in one layout shared by the page instead of a hash map per row.
+     */
+    private final class RowPageReader implements DocumentListDeserializer.DocumentReader,
+            DataAPIResponseDeserializer.ProjectionSchemaListener {
+
+        /** Rows read. */
+        private final List<Row> rows = new ArrayList<>();
+
+        /** Layout of the page, null without projection schema. */
+        private RowSchema schema;
+
+        private Map<String, Object> attributes() {
+            return Map.of(DocumentDeserializer.ATTRIBUTE_VECTOR_FIELDS, vectorColumns,
+                    DataAPIResponseDeserializer.ATTRIBUTE_PROJECTION_SCHEMA_LISTENER, this,
+                    DocumentListDeserializer.ATTRIBUTE_DOCUMENT_READER, this);
+        }
+
+        @Override
+        public void onProjectionSchema(Map<String, TableColumnDefinition> projectionSchema) {
+            registerVectorColumns(projectionSchema);
+            schema = RowSchema.of(projectionSchema);
+        }
+
+        @Override
+        public void read(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            Row row = schema != null ? Row.of(schema, null) : new Row();
+            Map<String, Object> columns = row.getColumnMap();
+            for (JsonToken t = parser.nextToken(); t == JsonToken.FIELD_NAME; t = parser.nextToken()) {
+                String name = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    columns.put(name, null);
+                } else if ((valueToken == JsonToken.START_ARRAY || valueToken == JsonToken.START_OBJECT)
+                        && (DataAPIKeywords.VECTOR.getKeyword().equals(name) || vectorColumns.contains(name))) {
+                    columns.put(name, ctxt.readValue(parser, DataAPIVector.class));
+                } else {
+                    columns.put(name, ctxt.readValue(parser, Object.class));
+                }
+            }
+            rows.add(row);
+        }
+    }
+
     // -------------------------
     // ---   distinct       ----
     // -------------------------
@@ -0,0 +1,239 @@
+package com.datastax.astra.client.tables.commands.results;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import lombok.Getter;
+
+import java.util.BitSet;
+
+/**
+ * Values of one column for all the rows of a {@link TableColumnarPage}.
+ * <p>
+ * Primitive CQL types are stored in primitive arrays with a null bitmap, text columns are dictionary-encoded
+ * and vector columns are stored as {@code float[][]}. Other types keep their decoded objects. Columns are filled
+ * by {@link TableColumnarPage.Decoder} while the response is parsed.
+ * </p>
+ */
+@Getter
+public abstract class ColumnVector {
+
+    /** Column name. */
+    protected final String name;
+
+    /** Column type. */
+    protected final TableColumnTypes type;
+
+    /** Number of rows. */
+    protected final int size;
+
+    /** Rows where the value is null or missing. */
+    protected final BitSet nulls;
+
+    /**
+     * Constructor for subclasses.
+     *
+     * @param name
+     *      column name
+     * @param type
+     *      column type
+     * @param size
+     *      number of rows
+     * @param nulls
+     *      rows where the value is null or missing
+     */
+    protected ColumnVector(String name, TableColumnTypes type, int size, BitSet nulls) {
+        this.name  = name;
+        this.type  = type;
+        this.size  = size;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Check whether the value of a row is null.
+     *
+     * @param row
+     *      row index
+     * @return
+     *      true if null or missing
+     */
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+
+    /**
+     * Number of null values.
+     *
+     * @return
+     *      null count
+     */
+    public int getNullCount() {
+        return nulls.cardinality();
+    }
+
+    /**
+     * Value of a row as an object, boxing primitive values.
+     *
+     * @param row
+     *      row index
+     * @return
+     *      value or null
+     */
+    public abstract Object getObject(int row);
+
+    /** Column of {@code int}, {@code smallint} and {@code tinyint}. */
+    @Getter
+    public static class IntColumn extends ColumnVector {
+
+        /** Values, 0 for nulls. */
+        private final int[] values;
+
+        IntColumn(String name, TableColumnTypes type, int[] values, BitSet nulls) {
+            super(name, type, values.length, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /** Column of {@code bigint} and {@code counter}. */
+    @Getter
+    public static class LongColumn extends ColumnVector {
+
+        /** Values, 0 for nulls. */
+        private final long[] values;
+
+        LongColumn(String name, TableColumnTypes type, long[] values, BitSet nulls) {
+            super(name, type, values.length, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /** Column of {@code float} and {@code double}. */
+    @Getter
+    public static class DoubleColumn extends ColumnVector {
+
+        /** Values, 0 for nulls. */
+        private final double[] values;
+
+        DoubleColumn(String name, TableColumnTypes type, double[] values, BitSet nulls) {
+            super(name, type, values.length, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values[row];
+        }
+    }
+
+    /** Column of {@code boolean}. */
+    @Getter
+    public static class BooleanColumn extends ColumnVector {
+
+        /** Rows where the value is true. */
+        private final BitSet values;
+
+        BooleanColumn(String name, TableColumnTypes type, int size, BitSet values, BitSet nulls) {
+            super(name, type, size, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : values.get(row);
+        }
+    }
+
+    /** Dictionary-encoded column of {@code text} and {@code ascii}. */
+    @Getter
+    public static class StringColumn extends ColumnVector {
+
+        /** Distinct values, in order of appearance. */
+        private final String[] dictionary;
+
+        /** Index in the dictionary for each row, -1 for nulls. */
+        private final int[] codes;
+
+        StringColumn(String name, TableColumnTypes type, String[] dictionary, int[] codes, BitSet nulls) {
+            super(name, type, codes.length, nulls);
+            this.dictionary = dictionary;
+            this.codes      = codes;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : dictionary[codes[row]];
+        }
+    }
+
+    /** Column of {@code vector}. */
+    @Getter
+    public static class VectorColumn extends ColumnVector {
+
+        /** Vectors, null for nulls. */
+        private final float[][] values;
+
+        VectorColumn(String name, TableColumnTypes type, float[][] values, BitSet nulls) {
+            super(name, type, values.length, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : new DataAPIVector(values[row]);
+        }
+    }
+
+    /** Column of any other type, keeping the decoded objects. */
+    @Getter
+    public static class ObjectColumn extends ColumnVector {
+
+        /** Values. */
+        private final Object[] values;
+
+        ObjectColumn(String name, TableColumnTypes type, Object[] values, BitSet nulls) {
+            super(name, type, values.length, nulls);
+            this.values = values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Object getObject(int row) {
+            return values[row];
+        }
+    }
+}
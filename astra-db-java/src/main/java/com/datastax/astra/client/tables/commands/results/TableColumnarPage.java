@@ -0,0 +1,483 @@
+package com.datastax.astra.client.tables.commands.results;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.exceptions.UnexpectedDataAPIResponseException;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.internal.serdes.shared.DataAPIResponseDeserializer;
+import com.datastax.astra.internal.serdes.shared.DocumentListDeserializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Page of table rows decoded into one {@link ColumnVector} per column.
+ * <p>
+ * The rows are decoded straight from the response into the column arrays by a {@link Decoder}, without
+ * materializing row maps or boxing primitive values. Column types come from the projection schema returned with
+ * the page. When it is not available every column is decoded as {@link ColumnVector.ObjectColumn}.
+ * </p>
+ */
+@Getter
+public class TableColumnarPage {
+
+    /** State to fetch the next page, null for the last page. */
+    private final String pageState;
+
+    /** Number of rows in the page. */
+    private final int rowCount;
+
+    /** Columns, in schema order. */
+    private final Map<String, ColumnVector> columns;
+
+    /** Sort vector if requested. */
+    private final DataAPIVector sortVector;
+
+    private TableColumnarPage(String pageState, int rowCount, Map<String, ColumnVector> columns, DataAPIVector sortVector) {
+        this.pageState  = pageState;
+        this.rowCount   = rowCount;
+        this.columns    = Collections.unmodifiableMap(columns);
+        this.sortVector = sortVector;
+    }
+
+    /**
+     * Names of the columns.
+     *
+     * @return
+     *      column names in schema order
+     */
+    public Set<String> getColumnNames() {
+        return columns.keySet();
+    }
+
+    /**
+     * Access a column.
+     *
+     * @param name
+     *      column name
+     * @return
+     *      the column if present
+     */
+    public Optional<ColumnVector> getColumn(String name) {
+        return Optional.ofNullable(columns.get(name));
+    }
+
+    /**
+     * Access a column with its expected implementation.
+     *
+     * @param name
+     *      column name
+     * @param columnClass
+     *      expected implementation, e.g. {@code ColumnVector.LongColumn.class}
+     * @param <C>
+     *      column implementation
+     * @return
+     *      the column
+     */
+    public <C extends ColumnVector> C getColumn(String name, Class<C> columnClass) {
+        ColumnVector column = columns.get(name);
+        if (column == null) {
+            throw new IllegalArgumentException("Column '" + name + "' is not part of the page, available columns are " + columns.keySet());
+        }
+        if (!columnClass.isInstance(column)) {
+            throw new IllegalArgumentException("Column '" + name + "' is a " + column.getClass().getSimpleName()
+                    + ", not a " + columnClass.getSimpleName());
+        }
+        return columnClass.cast(column);
+    }
+
+    /**
+     * Reads the rows of a response into column arrays as they are parsed.
+     */
+    public static class Decoder implements DocumentListDeserializer.DocumentReader,
+            DataAPIResponseDeserializer.ProjectionSchemaListener {
+
+        /** Columns being filled, schema columns first then the others in order of appearance. */
+        private final Map<String, ColumnBuilder> builders = new LinkedHashMap<>();
+
+        /** Rows read so far. */
+        private int rowCount;
+
+        /**
+         * Create a decoder for the given projection schema.
+         *
+         * @param schema
+         *      projection schema, can be null
+         */
+        public Decoder(Map<String, TableColumnDefinition> schema) {
+            onProjectionSchema(schema);
+        }
+
+        /**
+         * Declare the columns of the projection schema, received while the response is parsed and before the rows.
+         *
+         * @param schema
+         *      projection schema, can be null
+         */
+        @Override
+        public void onProjectionSchema(Map<String, TableColumnDefinition> schema) {
+            if (schema != null) {
+                schema.forEach((name, column) -> builders.putIfAbsent(name, ColumnBuilder.of(name, column == null ? null : column.getType())));
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void read(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            for (JsonToken t = parser.nextToken(); t == JsonToken.FIELD_NAME; t = parser.nextToken()) {
+                String name = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                ColumnBuilder builder = builders.get(name);
+                if (builder == null) {
+                    // Column returned without being part of the schema
+                    builder = ColumnBuilder.of(name, TableColumnTypes.UNDEFINED);
+                    builders.put(name, builder);
+                }
+                builder.read(parser, valueToken, rowCount);
+            }
+            rowCount++;
+        }
+
+        /**
+         * Build the page from the rows read.
+         *
+         * @param pageState
+         *      state to fetch the next page
+         * @param sortVector
+         *      sort vector, can be null
+         * @return
+         *      the columnar page
+         */
+        public TableColumnarPage build(String pageState, DataAPIVector sortVector) {
+            Map<String, ColumnVector> columns = new LinkedHashMap<>();
+            builders.forEach((name, builder) -> columns.put(name, builder.toColumn(rowCount)));
+            return new TableColumnarPage(pageState, rowCount, columns, sortVector);
+        }
+    }
+
+    /**
+     * Values of a column accumulated while parsing, rows without value are null.
+     */
+    private abstract static class ColumnBuilder {
+
+        /** Column name. */
+        final String name;
+
+        /** Column type. */
+        final TableColumnTypes type;
+
+        /** Rows where the value is null. */
+        final BitSet nulls = new BitSet();
+
+        /** Rows where the column is present, null or not. */
+        final BitSet present = new BitSet();
+
+        /** Capacity of the value arrays. */
+        int capacity = 16;
+
+        ColumnBuilder(String name, TableColumnTypes type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        static ColumnBuilder of(String name, TableColumnTypes type) {
+            TableColumnTypes columnType = type == null ? TableColumnTypes.UNDEFINED : type;
+            switch (columnType) {
+                case INT:
+                case SMALLINT:
+                case TINYINT:
+                    return new IntBuilder(name, columnType);
+                case BIGINT:
+                case COUNTER:
+                    return new LongBuilder(name, columnType);
+                case FLOAT:
+                case DOUBLE:
+                    return new DoubleBuilder(name, columnType);
+                case BOOLEAN:
+                    return new BooleanBuilder(name, columnType);
+                case TEXT:
+                case ASCII:
+                    return new TextBuilder(name, columnType);
+                case VECTOR:
+                    return new VectorBuilder(name, columnType);
+                default:
+                    return new ObjectBuilder(name, columnType);
+            }
+        }
+
+        void read(JsonParser parser, JsonToken token, int row) throws IOException {
+            if (row >= capacity) {
+                capacity = Math.max(capacity * 2, row + 1);
+                grow(capacity);
+            }
+            present.set(row);
+            if (token == JsonToken.VALUE_NULL) {
+                nulls.set(row);
+            } else {
+                readValue(parser, token, row);
+            }
+        }
+
+        /**
+         * Rows where the value is null or missing.
+         */
+        BitSet nullsUpTo(int rowCount) {
+            BitSet result = nulls.get(0, rowCount);
+            BitSet missing = new BitSet(rowCount);
+            missing.set(0, rowCount);
+            missing.andNot(present);
+            result.or(missing);
+            return result;
+        }
+
+        abstract void grow(int newCapacity);
+
+        abstract void readValue(JsonParser parser, JsonToken token, int row) throws IOException;
+
+        abstract ColumnVector toColumn(int rowCount);
+
+        /**
+         * Read a number, NaN and Infinity being returned as strings.
+         */
+        double number(JsonParser parser, JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return parser.getDoubleValue();
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return Double.parseDouble(parser.getText());
+            }
+            throw unexpected(token);
+        }
+
+        UnexpectedDataAPIResponseException unexpected(JsonToken token) {
+            return new UnexpectedDataAPIResponseException("Column '" + name + "' of type " + type
+                    + " contains an unexpected value " + token);
+        }
+    }
+
+    private static final class IntBuilder extends ColumnBuilder {
+
+        private int[] values = new int[capacity];
+
+        IntBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            values[row] = token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : (int) number(parser, token);
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.IntColumn(name, type, Arrays.copyOf(values, rowCount), nullsUpTo(rowCount));
+        }
+    }
+
+    private static final class LongBuilder extends ColumnBuilder {
+
+        private long[] values = new long[capacity];
+
+        LongBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            values[row] = token == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : (long) number(parser, token);
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.LongColumn(name, type, Arrays.copyOf(values, rowCount), nullsUpTo(rowCount));
+        }
+    }
+
+    private static final class DoubleBuilder extends ColumnBuilder {
+
+        private double[] values = new double[capacity];
+
+        DoubleBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            values[row] = number(parser, token);
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.DoubleColumn(name, type, Arrays.copyOf(values, rowCount), nullsUpTo(rowCount));
+        }
+    }
+
+    private static final class BooleanBuilder extends ColumnBuilder {
+
+        private final BitSet values = new BitSet();
+
+        BooleanBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            // BitSet grows by itself
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            if (token == JsonToken.VALUE_TRUE || (token == JsonToken.VALUE_STRING && "true".equals(parser.getText()))) {
+                values.set(row);
+            } else if (token != JsonToken.VALUE_FALSE && token != JsonToken.VALUE_STRING) {
+                throw unexpected(token);
+            }
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.BooleanColumn(name, type, rowCount, values.get(0, rowCount), nullsUpTo(rowCount));
+        }
+    }
+
+    private static final class TextBuilder extends ColumnBuilder {
+
+        private int[] codes = new int[capacity];
+
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        TextBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            codes = Arrays.copyOf(codes, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            String value = token.isScalarValue() ? parser.getText() : String.valueOf(parser.readValueAs(Object.class));
+            codes[row] = dictionary.computeIfAbsent(value, k -> dictionary.size());
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            BitSet nullRows = nullsUpTo(rowCount);
+            int[] rowCodes = Arrays.copyOf(codes, rowCount);
+            nullRows.stream().forEach(row -> rowCodes[row] = -1);
+            String[] values = new String[dictionary.size()];
+            dictionary.forEach((value, code) -> values[code] = value);
+            return new ColumnVector.StringColumn(name, type, values, rowCodes, nullRows);
+        }
+    }
+
+    private static final class VectorBuilder extends ColumnBuilder {
+
+        private float[][] values = new float[capacity][];
+
+        VectorBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            if (token == JsonToken.START_ARRAY) {
+                float[] vector = new float[16];
+                int dimension = 0;
+                for (JsonToken t = parser.nextToken(); t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+                    if (dimension == vector.length) {
+                        vector = Arrays.copyOf(vector, dimension * 2);
+                    }
+                    vector[dimension++] = (float) number(parser, t);
+                }
+                values[row] = dimension == vector.length ? vector : Arrays.copyOf(vector, dimension);
+            } else if (token == JsonToken.START_OBJECT) {
+                // Binary encoded vector
+                values[row] = parser.readValueAs(DataAPIVector.class).getEmbeddings();
+            } else {
+                throw unexpected(token);
+            }
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.VectorColumn(name, type, Arrays.copyOf(values, rowCount), nullsUpTo(rowCount));
+        }
+    }
+
+    private static final class ObjectBuilder extends ColumnBuilder {
+
+        private Object[] values = new Object[capacity];
+
+        ObjectBuilder(String name, TableColumnTypes type) {
+            super(name, type);
+        }
+
+        @Override
+        void grow(int newCapacity) {
+            values = Arrays.copyOf(values, newCapacity);
+        }
+
+        @Override
+        void readValue(JsonParser parser, JsonToken token, int row) throws IOException {
+            values[row] = parser.readValueAs(Object.class);
+        }
+
+        @Override
+        ColumnVector toColumn(int rowCount) {
+            return new ColumnVector.ObjectColumn(name, type, Arrays.copyOf(values, rowCount), nullsUpTo(rowCount));
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.datastax.astra.client.tables.definition.rows;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Column map storing values by position in a shared {@link RowSchema}.
+ * <p>
+ * Numbers and booleans are kept unboxed in a {@code long[]} with a tag recording their original type, so that
+ * {@link #get(Object)} returns the same boxed type that was put. Columns outside of the schema go to an
+ * overflow map. Iteration follows the schema order.
+ * </p>
+ */
+class PositionalColumnMap extends AbstractMap<String, Object> {
+
+    /** Slot is empty. */
+    private static final byte ABSENT = 0;
+
+    /** Slot holds a reference (or null) in {@link #references}. */
+    private static final byte REFERENCE = 1;
+
+    private static final byte INTEGER = 2;
+
+    private static final byte LONG = 3;
+
+    private static final byte SHORT = 4;
+
+    private static final byte BYTE = 5;
+
+    private static final byte FLOAT = 6;
+
+    private static final byte DOUBLE = 7;
+
+    private static final byte BOOLEAN = 8;
+
+    /** Shared layout. */
+    private final RowSchema schema;
+
+    /** What each slot holds. */
+    private final byte[] tags;
+
+    /** Unboxed values. */
+    private final long[] primitives;
+
+    /** Object values, allocated on first use. */
+    private Object[] references;
+
+    /** Columns outside of the schema, allocated on first use. */
+    private Map<String, Object> overflow;
+
+    /** Number of slots in use. */
+    private int count;
+
+    PositionalColumnMap(RowSchema schema) {
+        this.schema     = schema;
+        this.tags       = new byte[schema.size()];
+        this.primitives = new long[schema.size()];
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return read(index);
+        }
+        return overflow == null ? null : overflow.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            return tags[index] != ABSENT;
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = schema.indexOf(key);
+        if (index < 0) {
+            if (overflow == null) {
+                overflow = new LinkedHashMap<>();
+            }
+            return overflow.put(key, value);
+        }
+        Object previous = read(index);
+        if (tags[index] == ABSENT) {
+            count++;
+        }
+        write(index, value);
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return overflow == null ? null : overflow.remove(key);
+        }
+        Object previous = read(index);
+        clear(index);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return count + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PositionalColumnMap.this.size();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        return key instanceof String ? schema.indexOf((String) key) : -1;
+    }
+
+    private void clear(int index) {
+        if (tags[index] != ABSENT) {
+            count--;
+        }
+        tags[index] = ABSENT;
+        if (references != null) {
+            references[index] = null;
+        }
+    }
+
+    private void write(int index, Object value) {
+        if (value instanceof Integer) {
+            store(index, INTEGER, (Integer) value);
+        } else if (value instanceof Long) {
+            store(index, LONG, (Long) value);
+        } else if (value instanceof Double) {
+            store(index, DOUBLE, Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Float) {
+            store(index, FLOAT, Float.floatToRawIntBits((Float) value));
+        } else if (value instanceof Boolean) {
+            store(index, BOOLEAN, ((Boolean) value) ? 1L : 0L);
+        } else if (value instanceof Short) {
+            store(index, SHORT, (Short) value);
+        } else if (value instanceof Byte) {
+            store(index, BYTE, (Byte) value);
+        } else {
+            if (references == null) {
+                references = new Object[tags.length];
+            }
+            references[index] = value;
+            tags[index] = REFERENCE;
+        }
+    }
+
+    private void store(int index, byte tag, long bits) {
+        primitives[index] = bits;
+        tags[index] = tag;
+        if (references != null) {
+            references[index] = null;
+        }
+    }
+
+    private Object read(int index) {
+        long bits = primitives[index];
+        switch (tags[index]) {
+            case REFERENCE:
+                return references[index];
+            case INTEGER:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case SHORT:
+                return (short) bits;
+            case BYTE:
+                return (byte) bits;
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            case BOOLEAN:
+                return bits != 0L;
+            case ABSENT:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Iterate over the schema slots in use, then over the overflow map.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+
+        private int current = -1;
+
+        private Iterator<Entry<String, Object>> overflowIterator;
+
+        private boolean inOverflow;
+
+        private int advance(int from) {
+            int i = from;
+            while (i < tags.length && tags[i] == ABSENT) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < tags.length) {
+                return true;
+            }
+            if (overflowIterator == null) {
+                overflowIterator = overflow == null ? Collections.emptyIterator() : overflow.entrySet().iterator();
+            }
+            return overflowIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next < tags.length) {
+                current = next;
+                next = advance(next + 1);
+                final int index = current;
+                return new SimpleEntry<>(schema.getColumnName(index), read(index)) {
+                    @Override
+                    public Object setValue(Object value) {
+                        super.setValue(value);
+                        return PositionalColumnMap.this.put(schema.getColumnName(index), value);
+                    }
+                };
+            }
+            inOverflow = true;
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (inOverflow) {
+                overflowIterator.remove();
+            } else if (current >= 0 && tags[current] != ABSENT) {
+                clear(current);
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+}
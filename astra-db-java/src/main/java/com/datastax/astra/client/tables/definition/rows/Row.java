@@ -137,6 +137,27 @@ public class Row implements Serializable {
         columnMap = new LinkedHashMap<>(map);
     }
 
+    /**
+     * Creates a compact row storing its values by position in a shared schema, numbers and booleans unboxed.
+     * Columns outside of the schema are still accepted.
+     *
+     * @param schema
+     *      column layout shared by the rows of a page
+     * @param values
+     *      initial values, can be null
+     * @return
+     *      the row
+     */
+    public static Row of(final RowSchema schema, final Map<String, ?> values) {
+        Assert.notNull(schema, "schema");
+        Row row = new Row();
+        row.columnMap = new PositionalColumnMap(schema);
+        if (values != null) {
+            row.columnMap.putAll(values);
+        }
+        return row;
+    }
+
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code Document}
      *
@@ -939,7 +960,18 @@ public class Row implements Serializable {
      * @throws ClassCastException if the elements in the list value of the given key is not of type T or the value is not a list
      */
     public <T> List<T> getList(@NonNull final String key, @NonNull final Class<T> clazz) {
-        List<T> value = get(key, List.class);
+        Assert.hasLength(key, "key");
+        Object raw = columnMap.get(key);
+        if (raw instanceof DataAPIVector) {
+            // Vector columns are decoded as DataAPIVector, they are still readable as a list of numbers
+            float[] embeddings = ((DataAPIVector) raw).getEmbeddings();
+            List<Object> vector = new ArrayList<>(embeddings.length);
+            for (float embedding : embeddings) {
+                vector.add(clazz == Double.class ? Double.valueOf(embedding) : Float.valueOf(embedding));
+            }
+            raw = vector;
+        }
+        List<T> value = SERIALIZER.convertValue(raw, List.class);
         if (value == null) {
             return null;
         }
@@ -0,0 +1,138 @@
+package com.datastax.astra.client.tables.definition.rows;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.internal.utils.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column layout shared by the rows of a page, mapping each column name to a position.
+ * <p>
+ * Built once from the projection schema returned with a page (or from a table definition), it lets
+ * {@link Row#of(RowSchema, Map)} store values in positional arrays instead of one hash map per row.
+ * </p>
+ */
+public final class RowSchema {
+
+    /** Column names in schema order. */
+    private final String[] columnNames;
+
+    /** Column types in schema order. */
+    private final TableColumnTypes[] columnTypes;
+
+    /** Position of each column. */
+    private final Map<String, Integer> positions;
+
+    private RowSchema(String[] columnNames, TableColumnTypes[] columnTypes) {
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.positions   = new HashMap<>(columnNames.length * 2);
+        for (int i = 0; i < columnNames.length; i++) {
+            positions.put(columnNames[i], i);
+        }
+    }
+
+    /**
+     * Build a schema from column definitions, such as the projection schema of a response.
+     *
+     * @param columns
+     *      column definitions in order
+     * @return
+     *      the schema
+     */
+    public static RowSchema of(Map<String, TableColumnDefinition> columns) {
+        Assert.notNull(columns, "columns");
+        String[] names = new String[columns.size()];
+        TableColumnTypes[] types = new TableColumnTypes[columns.size()];
+        int i = 0;
+        for (Map.Entry<String, TableColumnDefinition> column : columns.entrySet()) {
+            names[i] = column.getKey();
+            types[i] = column.getValue() == null ? TableColumnTypes.UNDEFINED : column.getValue().getType();
+            i++;
+        }
+        return new RowSchema(names, types);
+    }
+
+    /**
+     * Position of a column.
+     *
+     * @param columnName
+     *      column name
+     * @return
+     *      position, or -1 if the column is not part of the schema
+     */
+    public int indexOf(String columnName) {
+        Integer position = positions.get(columnName);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Number of columns.
+     *
+     * @return
+     *      number of columns
+     */
+    public int size() {
+        return columnNames.length;
+    }
+
+    /**
+     * Name of a column.
+     *
+     * @param index
+     *      position of the column
+     * @return
+     *      column name
+     */
+    public String getColumnName(int index) {
+        return columnNames[index];
+    }
+
+    /**
+     * Type of a column.
+     *
+     * @param index
+     *      position of the column
+     * @return
+     *      column type
+     */
+    public TableColumnTypes getColumnType(int index) {
+        return columnTypes[index];
+    }
+
+    /**
+     * Column names in schema order.
+     *
+     * @return
+     *      column names
+     */
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(Arrays.asList(columnNames));
+    }
+}
@@ -41,6 +41,21 @@ public class ApiResponseHttp {
     
     /** Http Headers. **/
     private Map<String, String> headers = new HashMap<>();
+
+    /** Size in bytes of the request body before compression. */
+    private long requestBodySize;
+
+    /** Size in bytes of the request body sent on the wire. */
+    private long requestWireSize;
+
+    /** Size in bytes of the response body after decompression. */
+    private long responseBodySize;
+
+    /** Size in bytes of the response body received on the wire. */
+    private long responseWireSize;
+
+    /** Cpu time in nanoseconds spent compressing the request and decompressing the response, 0 if unavailable. */
+    private long compressionCpuNanos;
     
     /**
      * Defaut constructor.
@@ -21,6 +21,8 @@ package com.datastax.astra.internal.api;
  */
 
 import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.internal.serdes.shared.DocumentListDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -41,6 +43,7 @@ public class DataAPIData {
      * a query that fetches multiple documents at once. Each {@link Document} in the list should be considered a separate item
      * in the dataset returned.
      */
+    @JsonDeserialize(using = DocumentListDeserializer.class)
     List<Document> documents;
 
     /**
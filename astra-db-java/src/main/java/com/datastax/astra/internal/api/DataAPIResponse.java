@@ -25,9 +25,11 @@ import com.datastax.astra.client.core.commands.Command;
 import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
 import com.datastax.astra.client.exceptions.UnexpectedDataAPIResponseException;
 import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.shared.DataAPIResponseDeserializer;
 import com.datastax.astra.internal.utils.Assert;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -44,6 +46,7 @@ import java.util.stream.Stream;
  * various types of responses within a unified framework.
  */
 @Getter @Setter
+@JsonDeserialize(using = DataAPIResponseDeserializer.class)
 public class DataAPIResponse implements Serializable {
 
     /**
@@ -21,7 +21,9 @@ package com.datastax.astra.internal.command;
  */
 
 import com.datastax.astra.client.core.commands.Command;
+import com.datastax.astra.client.core.commands.PreparedCommand;
 import com.datastax.astra.client.core.commands.CommandRunner;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
 import com.datastax.astra.client.core.http.HttpClientOptions;
 import com.datastax.astra.client.core.options.BaseOptions;
 import com.datastax.astra.client.core.options.DataAPIClientOptions;
@@ -32,6 +34,7 @@ import com.datastax.astra.internal.api.ApiResponseHttp;
 import com.datastax.astra.internal.api.DataAPIResponse;
 import com.datastax.astra.internal.http.RetryHttpClient;
 import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
 import com.datastax.astra.internal.utils.Assert;
 import com.datastax.astra.internal.utils.CompletableFutures;
 import com.evanlennick.retry4j.Status;
@@ -40,13 +43,15 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -185,6 +190,24 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
     /** {@inheritDoc} */
     @Override
     public DataAPIResponse runCommand(Command command, BaseOptions<?> overridingOptions) {
+        return runCommandWithAttributes(command, overridingOptions, null);
+    }
+
+    /**
+     * Execute a command, decoding the response with the given Jackson context attributes, for instance to stream
+     * the returned documents to a reader instead of materializing them.
+     *
+     * @param command
+     *      command to execute
+     * @param overridingOptions
+     *      options overriding the defaults, can be null
+     * @param decodingAttributes
+     *      attributes for the response, the ones of {@link #getDecodingAttributes()} are used when null
+     * @return
+     *      the decoded response
+     */
+    protected DataAPIResponse runCommandWithAttributes(Command command, BaseOptions<?> overridingOptions,
+                                                       Map<String, Object> decodingAttributes) {
         DataAPIClientOptions options = this.options.getDataAPIClientOptions();
 
         // ==================
@@ -203,9 +226,15 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
             TimeoutOptions    overTimeoutOptions    = overClientOptions.getTimeoutOptions();
             // User provided specific parameters for the client
             if (overHttpClientOptions != null || overTimeoutOptions != null) {
+                HttpClientOptions requestHttpClientOptions =
+                        overHttpClientOptions != null ? overHttpClientOptions : options.getHttpClientOptions();
+                // A custom transport is shared with the commands not providing their own
+                if (requestHttpClientOptions.getTransport() == null && options.getHttpClientOptions().getTransport() != null) {
+                    requestHttpClientOptions = requestHttpClientOptions.clone()
+                            .transport(options.getHttpClientOptions().getTransport());
+                }
                 // overTimeoutOptions used only for connection timeout
-                requestHttpClient = new RetryHttpClient(
-                        overHttpClientOptions != null ? overHttpClientOptions : options.getHttpClientOptions(),
+                requestHttpClient = new RetryHttpClient(requestHttpClientOptions,
                         overTimeoutOptions != null ? overTimeoutOptions : options.getTimeoutOptions());
             }
 
@@ -217,6 +246,21 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
             }
         }
 
+        // =======================
+        // ===   Deadline      ===
+        // =======================
+        Instant deadline = this.options.getDeadline();
+        if (overridingOptions != null && overridingOptions.getDeadline() != null) {
+            deadline = overridingOptions.getDeadline();
+        }
+        if (deadline != null) {
+            long remaining = Duration.between(Instant.now(), deadline).toMillis();
+            if (remaining <= 0) {
+                throw new DataAPITimeoutException("Deadline exceeded before executing command '" + command.getName() + "'");
+            }
+            requestTimeout = (requestTimeout > 0) ? Math.min(requestTimeout, remaining) : remaining;
+        }
+
         // ==================
         // === OBSERVERS ===
         // ==================
@@ -267,8 +311,10 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
 
         try {
 
-            // (Custom) Serialization different for Tables and Documents
-            String jsonCommand = serializer.marshall(command);
+            // (Custom) Serialization different for Tables and Documents, prepared commands are already rendered
+            String jsonCommand = (command instanceof PreparedCommand.BoundCommand)
+                    ? ((PreparedCommand.BoundCommand) command).getJson()
+                    : serializer.marshall(command);
             // LOG REQUEST CONSOLE
             //System.out.println(jsonCommand);
 
@@ -279,56 +325,52 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
                 throw new IllegalArgumentException("Invalid Endpoints '" + getApiEndpoint() + "'", e);
             }
             // Build the request
-            HttpRequest.Builder builder = HttpRequest.newBuilder()
-                        .uri(targetUri)
-                        .header(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
-                        .header(HEADER_ACCEPT, CONTENT_TYPE_JSON)
-                        .header(HEADER_USER_AGENT, httpClient.getUserAgentHeader())
-                        .header(HEADER_REQUESTED_WITH, httpClient.getUserAgentHeader())
-                        .header(HEADER_TOKEN, token)
-                        .header(HEADER_AUTHORIZATION, "Bearer " + token)
-                        .method("POST", HttpRequest.BodyPublishers.ofString(jsonCommand));
-            if (requestTimeout > 0) {
-                builder.timeout(Duration.ofMillis(requestTimeout));
-            }
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            addHeader(headers, HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON);
+            addHeader(headers, HEADER_ACCEPT, CONTENT_TYPE_JSON);
+            addHeader(headers, HEADER_USER_AGENT, httpClient.getUserAgentHeader());
+            addHeader(headers, HEADER_REQUESTED_WITH, httpClient.getUserAgentHeader());
+            addHeader(headers, HEADER_TOKEN, token);
+            addHeader(headers, HEADER_AUTHORIZATION, "Bearer " + token);
 
             // =======================
             // ===   HEADERS       ===
             // =======================
 
             if (options.getEmbeddingHeadersProvider() != null) {
-                options.getEmbeddingHeadersProvider().getHeaders().forEach(builder::header);
+                addHeaders(headers, options.getEmbeddingHeadersProvider().getHeaders());
             }
             if (options.getDatabaseAdditionalHeaders() != null) {
-                options.getDatabaseAdditionalHeaders().forEach(builder::header);
+                addHeaders(headers, options.getDatabaseAdditionalHeaders());
             }
             if (options.getAdminAdditionalHeaders() != null) {
-                options.getAdminAdditionalHeaders().forEach(builder::header);
+                addHeaders(headers, options.getAdminAdditionalHeaders());
             }
 
             if (overridingOptions!= null && overridingOptions.getDataAPIClientOptions() != null) {
                 DataAPIClientOptions overClientOptions = overridingOptions.getDataAPIClientOptions();
                 if (overClientOptions.getEmbeddingHeadersProvider() != null) {
-                    overClientOptions.getEmbeddingHeadersProvider().getHeaders().forEach(builder::header);
+                    addHeaders(headers, overClientOptions.getEmbeddingHeadersProvider().getHeaders());
                 }
                 if (overClientOptions.getRerankingHeadersProvider() != null) {
-                    overClientOptions.getRerankingHeadersProvider().getHeaders().forEach(builder::header);
+                    addHeaders(headers, overClientOptions.getRerankingHeadersProvider().getHeaders());
                 }
                 if (overClientOptions.getDatabaseAdditionalHeaders() != null) {
-                    overClientOptions.getDatabaseAdditionalHeaders().forEach(builder::header);
+                    addHeaders(headers, overClientOptions.getDatabaseAdditionalHeaders());
                 }
                 if (overClientOptions.getAdminAdditionalHeaders() != null) {
-                    overClientOptions.getAdminAdditionalHeaders().forEach(builder::header);
+                    addHeaders(headers, overClientOptions.getAdminAdditionalHeaders());
                 }
             }
 
-            HttpRequest request = builder.build();
+            DataApiTransportRequest request = new DataApiTransportRequest(targetUri, "POST", headers, jsonCommand,
+                    requestTimeout > 0 ? Duration.ofMillis(requestTimeout) : null);
             executionInfo.withSerializer(serializer);
-            executionInfo.withRequestHeaders(request.headers().map());
+            executionInfo.withRequestHeaders(headers);
             executionInfo.withRequestUrl(getApiEndpoint());
-            Status<HttpResponse<String>> status = requestHttpClient.executeHttpRequest(request);
+            Status<ApiResponseHttp> status = requestHttpClient.executeHttpRequest(request, deadline);
             // LOG RESPONSES CONSOLE
-            ApiResponseHttp httpRes = requestHttpClient.parseHttpResponse(status.getResult());
+            ApiResponseHttp httpRes = requestHttpClient.parseHttpResponse(request, status.getResult());
             executionInfo.withHttpResponse(httpRes);
 
             if (httpRes == null) {
@@ -340,7 +382,13 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
             //String dataAPIRawBody = httpRes.getBody();
             //String escapedDataAPIRawBody = EscapeUtils.escapeRawJsonNames(dataAPIRawBody);
             //System.out.println("escaped:" + escapedDataAPIRawBody);
-            DataAPIResponse apiResponse = serializer.unMarshallBean(httpRes.getBody(), DataAPIResponse.class);
+            Map<String, Object> attributes = decodingAttributes != null ? decodingAttributes : getDecodingAttributes();
+            if (isLazyDocuments(overridingOptions)) {
+                // Lazy documents are sliced from the raw body
+                attributes = attributes == null ? new HashMap<>() : new HashMap<>(attributes);
+                attributes.put(DocumentDeserializer.ATTRIBUTE_LAZY_SOURCE, httpRes.getBody());
+            }
+            DataAPIResponse apiResponse = serializer.unMarshallBean(httpRes.getBody(), DataAPIResponse.class, attributes);
             apiResponse.setSerializer(serializer);
             if (apiResponse.getStatus() != null) {
                 apiResponse.getStatus().setSerializer(serializer);
@@ -415,6 +463,41 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
         return this.options.getSerializer();
     }
 
+    /**
+     * Fields of the returned documents to decode as vectors, in addition to {@code $vector}.
+     *
+     * @return
+     *      vector fields, null if none are known
+     */
+    protected Set<String> getVectorFields() {
+        return null;
+    }
+
+    /**
+     * Lazy documents are enabled for the client or for the command.
+     */
+    private boolean isLazyDocuments(BaseOptions<?> overridingOptions) {
+        if (options.getDataAPIClientOptions().isLazyDocuments()) {
+            return true;
+        }
+        return overridingOptions != null && overridingOptions.getDataAPIClientOptions() != null
+                && overridingOptions.getDataAPIClientOptions().isLazyDocuments();
+    }
+
+    /**
+     * Jackson context attributes used to decode the responses, by default the vector fields.
+     *
+     * @return
+     *      attributes read by the deserializers, null if none
+     */
+    protected Map<String, Object> getDecodingAttributes() {
+        Set<String> vectorFields = getVectorFields();
+        if (vectorFields == null || vectorFields.isEmpty()) {
+            return null;
+        }
+        return Map.of(DocumentDeserializer.ATTRIBUTE_VECTOR_FIELDS, vectorFields);
+    }
+
     /**
      * Document Mapping.
      *
@@ -443,6 +526,32 @@ public abstract class AbstractCommandRunner<OPTIONS extends BaseOptions<?>> impl
         return getSerializer().unMarshallBean(payload, documentClass);
     }
 
+    /**
+     * Add a request header, a header already present keeps its values and is sent once per value.
+     *
+     * @param headers
+     *      request headers
+     * @param name
+     *      header name
+     * @param value
+     *      header value
+     */
+    private static void addHeader(Map<String, List<String>> headers, String name, String value) {
+        headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+    }
+
+    /**
+     * Add request headers, see {@link #addHeader(Map, String, String)}.
+     *
+     * @param headers
+     *      request headers
+     * @param values
+     *      headers to add
+     */
+    private static void addHeaders(Map<String, List<String>> headers, Map<String, String> values) {
+        values.forEach((name, value) -> addHeader(headers, name, value));
+    }
+
     /**
      * Gets apiEndpoint
      *
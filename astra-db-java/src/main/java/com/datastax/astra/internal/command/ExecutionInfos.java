@@ -104,6 +104,32 @@ public class ExecutionInfos implements Serializable {
      */
     private final DataAPISerializer serializer;
 
+    /**
+     * Size in bytes of the request body before and after compression (identical when not compressed).
+     */
+    private final long requestBodySize;
+
+    /**
+     * Size in bytes of the request body sent on the wire.
+     */
+    private final long requestWireSize;
+
+    /**
+     * Size in bytes of the response body after decompression.
+     */
+    private final long responseBodySize;
+
+    /**
+     * Size in bytes of the response body received on the wire.
+     */
+    private final long responseWireSize;
+
+    /**
+     * Cpu time in nanoseconds spent compressing the request and decompressing the response, 0 when the JVM does not
+     * measure thread cpu time.
+     */
+    private final long compressionCpuNanos;
+
     /**
      * Constructor with the builder.
      *
@@ -120,10 +146,46 @@ public class ExecutionInfos implements Serializable {
         this.executionDate       = builder.executionDate;
         this.requestUrl          = builder.requestUrl;
         this.serializer          = builder.serializer;
+        this.requestBodySize     = builder.requestBodySize;
+        this.requestWireSize     = builder.requestWireSize;
+        this.responseBodySize    = builder.responseBodySize;
+        this.responseWireSize    = builder.responseWireSize;
+        this.compressionCpuNanos = builder.compressionCpuNanos;
         this.baseOptions = builder.baseOptions;
         this.overridingBaseOptions = builder.specialOptions;
     }
 
+    /**
+     * Ratio between the request body size and its size on the wire.
+     *
+     * @return
+     *      compression ratio, 1 if the request was not compressed or not measured
+     */
+    public double getRequestCompressionRatio() {
+        return requestWireSize > 0 ? (double) requestBodySize / requestWireSize : 1;
+    }
+
+    /**
+     * Ratio between the response body size and its size on the wire.
+     *
+     * @return
+     *      compression ratio, 1 if the response was not compressed or not measured
+     */
+    public double getResponseCompressionRatio() {
+        return responseWireSize > 0 ? (double) responseBodySize / responseWireSize : 1;
+    }
+
+    /**
+     * Whether the request or the response went compressed on the wire, the sizes being reported by the transport.
+     *
+     * @return
+     *      true if the request or the response was compressed
+     */
+    public boolean isCompressed() {
+        return (requestWireSize > 0 && requestWireSize != requestBodySize)
+                || (responseWireSize > 0 && responseWireSize != responseBodySize);
+    }
+
     /**
      * Initialize our custom builder.
      *
@@ -149,6 +211,11 @@ public class ExecutionInfos implements Serializable {
         private final Instant executionDate;
         private String requestUrl;
         private DataAPISerializer serializer;
+        private long requestBodySize;
+        private long requestWireSize;
+        private long responseBodySize;
+        private long responseWireSize;
+        private long compressionCpuNanos;
 
         /**
          * Default constructor.
@@ -254,6 +321,11 @@ public class ExecutionInfos implements Serializable {
             if (httpResponse != null) {
                 this.responseHttpCode = httpResponse.getCode();
                 this.responseHttpHeaders = httpResponse.getHeaders();
+                this.requestBodySize     = httpResponse.getRequestBodySize();
+                this.requestWireSize     = httpResponse.getRequestWireSize();
+                this.responseBodySize    = httpResponse.getResponseBodySize();
+                this.responseWireSize    = httpResponse.getResponseWireSize();
+                this.compressionCpuNanos = httpResponse.getCompressionCpuNanos();
             }
         }
 
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
@@ -99,6 +100,17 @@ public class LoggingCommandObserver implements CommandObserver {
                     executionInfo.getSerializer().marshall(executionInfo.getResponse()));
             log(AnsiUtils.magenta("[" + req + "][response-time  ]") + "=" + AnsiUtils.yellow("{}") + " millis.",
                     executionInfo.getExecutionTime());
+            if (executionInfo.isCompressed()) {
+                // Cpu time is 0 when the JVM does not measure thread cpu time
+                log(AnsiUtils.magenta("[" + req + "][compression    ]") + "=" +
+                        AnsiUtils.yellow("request {}/{} bytes (x{}), response {}/{} bytes (x{}), cpu {}"),
+                        executionInfo.getRequestWireSize(), executionInfo.getRequestBodySize(),
+                        String.format(Locale.ROOT, "%.2f", executionInfo.getRequestCompressionRatio()),
+                        executionInfo.getResponseWireSize(), executionInfo.getResponseBodySize(),
+                        String.format(Locale.ROOT, "%.2f", executionInfo.getResponseCompressionRatio()),
+                        executionInfo.getCompressionCpuNanos() > 0
+                                ? executionInfo.getCompressionCpuNanos() / 1000 + " micros" : "unavailable");
+            }
             // Log Data
             DataAPIData data = executionInfo.getResponse().getData();
             if (data != null && data.getDocument() != null) {
@@ -0,0 +1,164 @@
+package com.datastax.astra.internal.http;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Helpers for the compression of request and response bodies.
+ */
+public class HttpCompression {
+
+    /** Encoding gzip. */
+    public static final String ENCODING_GZIP = "gzip";
+
+    /** Encoding deflate. */
+    public static final String ENCODING_DEFLATE = "deflate";
+
+    /** Header for request payload encoding. */
+    public static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+
+    /** Header for accepted response encodings. */
+    public static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+
+    /** Used to measure the cpu time spent in compression. */
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * Hide constructor in utilities.
+     */
+    private HttpCompression() {}
+
+    /**
+     * Compress a payload with gzip.
+     *
+     * @param payload
+     *      raw payload
+     * @return
+     *      compressed payload
+     */
+    public static byte[] gzip(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, payload.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compress payload", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Wrap a response stream to decode it based on its content encoding, decompression happens while reading.
+     *
+     * @param in
+     *      raw response stream
+     * @param contentEncoding
+     *      value of the Content-Encoding header, can be null
+     * @return
+     *      decoded stream
+     * @throws IOException
+     *      if the gzip header is invalid
+     */
+    public static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return in;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case ENCODING_GZIP    -> new GZIPInputStream(in, 8192);
+            case ENCODING_DEFLATE -> new InflaterInputStream(in);
+            default -> in;
+        };
+    }
+
+    /**
+     * Cpu time of the current thread in nanoseconds, 0 when cpu time measurement is not supported or disabled
+     * so that the time spent in compression is reported as unavailable (0) rather than as wall clock time.
+     *
+     * @return
+     *      cpu time in nanoseconds, or 0 if unavailable
+     */
+    public static long currentThreadCpuTime() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            long cpuTime = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+            return cpuTime < 0 ? 0 : cpuTime;
+        }
+        return 0;
+    }
+
+    /**
+     * Stream counting the bytes read, used to get the size on the wire of a response.
+     */
+    public static class CountingInputStream extends FilterInputStream {
+
+        /** Number of bytes read. */
+        private long count;
+
+        /**
+         * Constructor.
+         *
+         * @param in
+         *      stream to count
+         */
+        public CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        /**
+         * Gets count
+         *
+         * @return value of count
+         */
+        public long getCount() {
+            return count;
+        }
+    }
+}
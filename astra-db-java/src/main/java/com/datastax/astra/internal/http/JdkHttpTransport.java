@@ -0,0 +1,139 @@
+package com.datastax.astra.internal.http;
+
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.http.DataApiTransport;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.TimeoutOptions;
+import com.datastax.astra.internal.api.ApiResponseHttp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Default transport based on the JDK11 {@link HttpClient}.
+ */
+public class JdkHttpTransport implements DataApiTransport {
+
+    /** JDK11 Http client. */
+    protected final HttpClient httpClient;
+
+    /** Minimum size of a request body to be compressed, negative to disable. */
+    protected final int compressionThreshold;
+
+    /** Accept compressed responses. */
+    protected final boolean acceptCompressedResponses;
+
+    /**
+     * Initialize the JDK client from the options.
+     *
+     * @param httpClientOptions
+     *      http client options
+     * @param timeoutOptions
+     *     timeout options
+     */
+    public JdkHttpTransport(HttpClientOptions httpClientOptions, TimeoutOptions timeoutOptions) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder();
+        httpClientBuilder.version(httpClientOptions.getHttpVersion());
+        httpClientBuilder.followRedirects(httpClientOptions.getHttpRedirect());
+        httpClientBuilder.connectTimeout(Duration.ofMillis(timeoutOptions.getConnectTimeoutMillis()));
+        if (httpClientOptions.getHttpProxy() != null) {
+            httpClientBuilder.proxy(ProxySelector.of(new InetSocketAddress(
+                    httpClientOptions.getHttpProxy().getHostname(),
+                    httpClientOptions.getHttpProxy().getPort())));
+        }
+        if (httpClientOptions.getExecutor() != null) {
+            httpClientBuilder.executor(httpClientOptions.getExecutor());
+        }
+        httpClient = httpClientBuilder.build();
+        compressionThreshold      = httpClientOptions.getCompressionThreshold();
+        acceptCompressedResponses = httpClientOptions.isAcceptCompressedResponses();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiResponseHttp execute(DataApiTransportRequest request) throws IOException, InterruptedException {
+        long cpuNanos  = 0;
+        byte[] payload = request.getBody().getBytes(StandardCharsets.UTF_8);
+        byte[] wire    = payload;
+        HttpRequest.Builder builder = HttpRequest.newBuilder().uri(request.getUri());
+        request.getHeaders().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+        if (compressionThreshold >= 0 && payload.length >= compressionThreshold) {
+            long start = HttpCompression.currentThreadCpuTime();
+            wire = HttpCompression.gzip(payload);
+            cpuNanos += HttpCompression.currentThreadCpuTime() - start;
+            builder.header(HttpCompression.HEADER_CONTENT_ENCODING, HttpCompression.ENCODING_GZIP);
+        }
+        if (acceptCompressedResponses) {
+            builder.header(HttpCompression.HEADER_ACCEPT_ENCODING,
+                    HttpCompression.ENCODING_GZIP + ", " + HttpCompression.ENCODING_DEFLATE);
+        }
+        builder.method(request.getMethod(), HttpRequest.BodyPublishers.ofByteArray(wire));
+        if (request.getTimeout() != null) {
+            builder.timeout(request.getTimeout());
+        }
+        HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        // Decompression happens while reading the stream
+        String contentEncoding = response.headers().firstValue(HttpCompression.HEADER_CONTENT_ENCODING).orElse(null);
+        HttpCompression.CountingInputStream counting = new HttpCompression.CountingInputStream(response.body());
+        long start = HttpCompression.currentThreadCpuTime();
+        byte[] body;
+        try (InputStream in = HttpCompression.decode(counting, contentEncoding)) {
+            body = in.readAllBytes();
+        }
+        if (contentEncoding != null) {
+            cpuNanos += HttpCompression.currentThreadCpuTime() - start;
+        }
+
+        ApiResponseHttp res = new ApiResponseHttp(new String(body, StandardCharsets.UTF_8), response.statusCode(),
+                response.headers().map().entrySet()
+                        .stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey,
+                                entry -> entry.getValue().toString())));
+        res.setRequestBodySize(payload.length);
+        res.setRequestWireSize(wire.length);
+        res.setResponseBodySize(body.length);
+        res.setResponseWireSize(counting.getCount());
+        res.setCompressionCpuNanos(cpuNanos);
+        return res;
+    }
+
+    /**
+     * Gets httpClient
+     *
+     * @return value of httpClient
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+}
@@ -21,35 +21,35 @@ package com.datastax.astra.internal.http;
  */
 
 import com.datastax.astra.client.core.http.Caller;
+import com.datastax.astra.client.core.http.DataApiTransport;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
 import com.datastax.astra.client.core.http.HttpClientOptions;
 import com.datastax.astra.client.core.options.TimeoutOptions;
 import com.datastax.astra.client.exceptions.DataAPIException;
 import com.datastax.astra.client.exceptions.DataAPIHttpException;
+import com.datastax.astra.client.exceptions.DataAPITimeoutException;
 import com.datastax.astra.internal.api.ApiResponseHttp;
 import com.evanlennick.retry4j.CallExecutorBuilder;
 import com.evanlennick.retry4j.Status;
+import com.evanlennick.retry4j.backoff.BackoffStrategy;
+import com.evanlennick.retry4j.backoff.ExponentialBackoffStrategy;
 import com.evanlennick.retry4j.config.RetryConfig;
 import com.evanlennick.retry4j.config.RetryConfigBuilder;
+import com.evanlennick.retry4j.exception.UnexpectedException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.HttpURLConnection;
-import java.net.InetSocketAddress;
-import java.net.ProxySelector;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static com.datastax.astra.client.exceptions.DataAPIException.ERROR_CODE_HTTP;
 
 /**
- * Http Client using JDK11 client with a retry mechanism.
+ * Http Client with a retry mechanism, requests are executed by a {@link DataApiTransport} (JDK11 client by default).
  */
 @Slf4j
 public class RetryHttpClient {
@@ -75,8 +75,8 @@ public class RetryHttpClient {
     /** Headers param to insert the user agent identifying the client. */
     public static final String HEADER_REQUESTED_WITH    = "X-Requested-With";
 
-    /** JDK11 Http client. */
-    protected final HttpClient httpClient;
+    /** Transport executing the requests. */
+    protected final DataApiTransport transport;
 
     /** Http Options. */
     protected final HttpClientOptions httpClientOptions;
@@ -87,6 +87,12 @@ public class RetryHttpClient {
     /** Default retry configuration. */
     protected final RetryConfig retryConfig;
 
+    /** Retry configuration of the requests bounded by an operation deadline. */
+    protected final RetryConfig deadlineRetryConfig;
+
+    /** Deadline of the request being retried by the current thread, read by the backoff strategy. */
+    private static final ThreadLocal<Instant> CURRENT_DEADLINE = new ThreadLocal<>();
+
     /**
      * Initialize the instance with all items
      *
@@ -99,16 +105,9 @@ public class RetryHttpClient {
     public RetryHttpClient(HttpClientOptions httpClientOptions, TimeoutOptions timeoutOptions) {
         this.httpClientOptions = httpClientOptions;
         this.timeoutOptions    = timeoutOptions;
-        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder();
-        httpClientBuilder.version(httpClientOptions.getHttpVersion());
-        httpClientBuilder.followRedirects(httpClientOptions.getHttpRedirect());
-        httpClientBuilder.connectTimeout(Duration.ofMillis(timeoutOptions.getConnectTimeoutMillis()));
-        if (httpClientOptions.getHttpProxy() != null) {
-            httpClientBuilder.proxy(ProxySelector.of(new InetSocketAddress(
-                    httpClientOptions.getHttpProxy().getHostname(),
-                    httpClientOptions.getHttpProxy().getPort())));
-        }
-        httpClient = httpClientBuilder.build();
+        this.transport = httpClientOptions.getTransport() != null
+                ? httpClientOptions.getTransport()
+                : new JdkHttpTransport(httpClientOptions, timeoutOptions);
 
         retryConfig = new RetryConfigBuilder()
                 .retryOnAnyException()
@@ -116,6 +115,22 @@ public class RetryHttpClient {
                 .withMaxNumberOfTries(httpClientOptions.getRetryCount())
                 .withExponentialBackoff()
                 .build();
+        // Retries run in the calling thread, the backoff reads the deadline of the request being executed
+        deadlineRetryConfig = new RetryConfigBuilder()
+                .retryOnCustomExceptionLogic(e -> !(e instanceof DataAPITimeoutException))
+                .withDelayBetweenTries(httpClientOptions.getRetryDelay())
+                .withMaxNumberOfTries(httpClientOptions.getRetryCount())
+                .withBackoffStrategy(new DeadlineBackoffStrategy(new ExponentialBackoffStrategy(), CURRENT_DEADLINE::get))
+                .build();
+    }
+
+    /**
+     * Gets transport
+     *
+     * @return value of transport
+     */
+    public DataApiTransport getTransport() {
+        return transport;
     }
 
     /**
@@ -135,28 +150,24 @@ public class RetryHttpClient {
     }
 
     /**
-     * Parse HTTP response as a ApiResponseHttp.
+     * Check the HTTP response and raise errors for status codes above 300.
      *
+     * @param request
+     *      http request sent
      * @param response
-     *      http response from the JDK11 client
+     *      http response from the transport
      * @return
      *      the response as an ApiResponseHttp
      */
-    public ApiResponseHttp parseHttpResponse(HttpResponse<String> response) {
+    public ApiResponseHttp parseHttpResponse(DataApiTransportRequest request, ApiResponseHttp response) {
         if (response == null) return null;
-        ApiResponseHttp res = new ApiResponseHttp(response.body(), response.statusCode(),
-                    response.headers().map().entrySet()
-                            .stream()
-                            .collect(Collectors.toMap(Map.Entry::getKey,
-                                    entry -> entry.getValue().toString()))
-        );
-        if (res.getCode() >= 300) {
+        if (response.getCode() >= 300) {
             log.error("Error for request url={}, method={}, code={}, body={}",
-                    response.request().uri().toString(), response.request().method(),
-                     res.getCode(), res.getBody());
-            processErrors(res);
+                    request.getUri().toString(), request.getMethod(),
+                    response.getCode(), response.getBody());
+            processErrors(response);
         }
-        return res;
+        return response;
     }
 
     /**
@@ -168,21 +179,120 @@ public class RetryHttpClient {
      *      the closeable response
      */
     @SuppressWarnings("unchecked")
-    public Status<HttpResponse<String>> executeHttpRequest(HttpRequest req) {
-        Callable<HttpResponse<String>> executeRequest = () ->
-                httpClient.send(req, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
-        return new CallExecutorBuilder<String>()
+    public Status<ApiResponseHttp> executeHttpRequest(DataApiTransportRequest req) {
+        Callable<ApiResponseHttp> executeRequest = () -> transport.execute(req);
+        return new CallExecutorBuilder<ApiResponseHttp>()
                 .config(retryConfig)
                 .onFailureListener(s -> log.error("Calls failed after {} retries", s.getTotalTries()))
                 .afterFailedTryListener(s -> {
                     log.error("Failure on attempt {}/{} ", s.getTotalTries(), retryConfig.getMaxNumberOfTries());
-                    log.error("Failed request {} on {}", req.method() , req.uri().toString() );
+                    log.error("Failed request {} on {}", req.getMethod() , req.getUri().toString() );
                     log.error("Exception was ", s.getLastExceptionThatCausedRetry());
                 })
                 .build()
                 .execute(executeRequest);
     }
 
+    /**
+     * Implementing retries bounded by an operation deadline. Each attempt uses the remaining time as its
+     * timeout (or the request timeout if smaller), backoff never sleeps past the deadline and no attempt
+     * is made once the deadline is reached.
+     *
+     * @param req
+     *      current request
+     * @param deadline
+     *      operation deadline, if null the regular retry policy applies
+     * @return
+     *      the closeable response
+     */
+    @SuppressWarnings("unchecked")
+    public Status<ApiResponseHttp> executeHttpRequest(DataApiTransportRequest req, Instant deadline) {
+        if (deadline == null) {
+            return executeHttpRequest(req);
+        }
+        Callable<ApiResponseHttp> executeRequest = () -> {
+            long remaining = Duration.between(Instant.now(), deadline).toMillis();
+            if (remaining <= 0) {
+                throw new DataAPITimeoutException("Deadline exceeded before sending request to " + req.getUri());
+            }
+            Duration timeout = (req.getTimeout() != null && req.getTimeout().toMillis() < remaining)
+                    ? req.getTimeout()
+                    : Duration.ofMillis(remaining);
+            return transport.execute(req.withTimeout(timeout));
+        };
+        Instant previousDeadline = CURRENT_DEADLINE.get();
+        CURRENT_DEADLINE.set(deadline);
+        try {
+            return new CallExecutorBuilder<ApiResponseHttp>()
+                    .config(deadlineRetryConfig)
+                    .onFailureListener(s -> log.error("Calls failed after {} retries", s.getTotalTries()))
+                    .afterFailedTryListener(s -> {
+                        log.error("Failure on attempt {}/{} ", s.getTotalTries(), deadlineRetryConfig.getMaxNumberOfTries());
+                        log.error("Failed request {} on {}", req.getMethod() , req.getUri().toString() );
+                        log.error("Exception was ", s.getLastExceptionThatCausedRetry());
+                    })
+                    .build()
+                    .execute(executeRequest);
+        } catch (UnexpectedException e) {
+            if (e.getCause() instanceof DataAPITimeoutException) {
+                throw (DataAPITimeoutException) e.getCause();
+            }
+            throw e;
+        } finally {
+            if (previousDeadline == null) {
+                CURRENT_DEADLINE.remove();
+            } else {
+                CURRENT_DEADLINE.set(previousDeadline);
+            }
+        }
+    }
+
+    /**
+     * Backoff strategy that never waits beyond the operation deadline.
+     */
+    static class DeadlineBackoffStrategy implements BackoffStrategy {
+
+        /** Strategy providing the nominal delays. */
+        private final BackoffStrategy delegate;
+
+        /** Deadline of the request being retried, null when there is none. */
+        private final Supplier<Instant> deadline;
+
+        /**
+         * Constructor.
+         *
+         * @param delegate
+         *      strategy providing the nominal delays
+         * @param deadline
+         *      deadline of the request being retried
+         */
+        DeadlineBackoffStrategy(BackoffStrategy delegate, Supplier<Instant> deadline) {
+            this.delegate = delegate;
+            this.deadline = deadline;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Duration getDurationToWait(int numberOfTriesFailed, Duration delayBetweenAttempts) {
+            Duration wait      = delegate.getDurationToWait(numberOfTriesFailed, delayBetweenAttempts);
+            Instant  until     = deadline.get();
+            if (until == null) {
+                return wait;
+            }
+            Duration remaining = Duration.between(Instant.now(), until);
+            if (remaining.isNegative()) {
+                return Duration.ZERO;
+            }
+            return wait.compareTo(remaining) > 0 ? remaining : wait;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void validateConfig(RetryConfig config) {
+            delegate.validateConfig(config);
+        }
+    }
+
     /**
      * Process ERRORS.Anything above code 300 can be marked as an error Still something
      * 404 is expected and should not result in throwing exception (=not find)
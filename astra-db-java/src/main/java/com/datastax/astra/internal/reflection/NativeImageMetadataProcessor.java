@@ -0,0 +1,235 @@
+package com.datastax.astra.internal.reflection;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Build-time annotation processor writing GraalVM reflection metadata for mapped entities.
+ * <p>
+ * Classes annotated with {@code @EntityTable}, {@code @TablePrimaryKeyClass}, {@code @TableUserDefinedType}
+ * or {@code @DataApiCollection} are introspected at runtime by {@link EntityTableBeanDefinition},
+ * {@link CollectionBeanDefinition} and Jackson. A native image only keeps that reflective access for the
+ * classes listed in a {@code reflect-config.json}, so this processor lists the annotated classes, together
+ * with the classes of the same compilation they reference through their fields, in
+ * {@code META-INF/native-image/<project>/reflect-config.json}.
+ * </p>
+ * <p>
+ * The processor is not discovered from the client jar, it runs only when enabled explicitly: add the
+ * {@code astra-db-java} artifact with the {@code processor} classifier to {@code annotationProcessorPaths},
+ * or pass {@code -processor} with this class name to javac. The folder name defaults to
+ * {@value #DEFAULT_PROJECT} and can be changed with {@code -A}{@value #OPTION_PROJECT}{@code =<name>}.
+ * </p>
+ */
+@SupportedAnnotationTypes({
+        NativeImageMetadataProcessor.ENTITY_TABLE,
+        NativeImageMetadataProcessor.PRIMARY_KEY_CLASS,
+        NativeImageMetadataProcessor.USER_DEFINED_TYPE,
+        NativeImageMetadataProcessor.DATA_API_COLLECTION
+})
+@SupportedOptions(NativeImageMetadataProcessor.OPTION_PROJECT)
+public class NativeImageMetadataProcessor extends AbstractProcessor {
+
+    /** Table entity annotation. */
+    static final String ENTITY_TABLE = "com.datastax.astra.client.tables.mapping.EntityTable";
+
+    /** Primary key class annotation. */
+    static final String PRIMARY_KEY_CLASS = "com.datastax.astra.client.tables.mapping.TablePrimaryKeyClass";
+
+    /** User defined type annotation. */
+    static final String USER_DEFINED_TYPE = "com.datastax.astra.client.tables.definition.types.TableUserDefinedType";
+
+    /** Collection entity annotation. */
+    static final String DATA_API_COLLECTION = "com.datastax.astra.client.collections.mapping.DataApiCollection";
+
+    /** Processor option overriding the folder under {@code META-INF/native-image}. */
+    public static final String OPTION_PROJECT = "astra.nativeImage.project";
+
+    /** Default folder under {@code META-INF/native-image}. */
+    public static final String DEFAULT_PROJECT = "astra-db-java-entities";
+
+    /** Annotated classes, in binary name. */
+    private final Set<String> entities = new TreeSet<>();
+
+    /** Every class of the compilation, to resolve the field types worth registering. */
+    private final Set<TypeElement> sourceTypes = new LinkedHashSet<>();
+
+    /** Annotated elements collected across rounds. */
+    private final Set<TypeElement> annotated = new LinkedHashSet<>();
+
+    /**
+     * Default constructor.
+     */
+    public NativeImageMetadataProcessor() {
+        super();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        collectTypes(roundEnv.getRootElements());
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    annotated.add((TypeElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !annotated.isEmpty()) {
+            resolveEntities();
+            writeReflectConfig();
+        }
+        // Annotations are left available to other processors
+        return false;
+    }
+
+    /**
+     * Register the classes of the compilation, nested ones included.
+     *
+     * @param elements
+     *      root elements of the round
+     */
+    private void collectTypes(Iterable<? extends Element> elements) {
+        for (TypeElement type : ElementFilter.typesIn(elements)) {
+            if (sourceTypes.add(type)) {
+                collectTypes(type.getEnclosedElements());
+            }
+        }
+    }
+
+    /**
+     * Walk the annotated classes and the classes of the compilation reachable through their fields.
+     */
+    private void resolveEntities() {
+        Deque<TypeElement> queue = new ArrayDeque<>(annotated);
+        Set<TypeElement> visited = new LinkedHashSet<>();
+        while (!queue.isEmpty()) {
+            TypeElement type = queue.poll();
+            if (!visited.add(type)) {
+                continue;
+            }
+            entities.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                enqueue(field.asType(), queue);
+            }
+            TypeMirror parent = type.getSuperclass();
+            if (parent.getKind() == TypeKind.DECLARED) {
+                enqueue(parent, queue);
+            }
+        }
+    }
+
+    /**
+     * Queue the classes of the compilation used by a type, including its type arguments.
+     *
+     * @param mirror
+     *      field or super type
+     * @param queue
+     *      classes to visit
+     */
+    private void enqueue(TypeMirror mirror, Deque<TypeElement> queue) {
+        if (mirror.getKind() == TypeKind.ARRAY) {
+            enqueue(((ArrayType) mirror).getComponentType(), queue);
+        } else if (mirror.getKind() == TypeKind.DECLARED) {
+            DeclaredType declared = (DeclaredType) mirror;
+            Element element = declared.asElement();
+            if (element instanceof TypeElement && sourceTypes.contains(element)
+                    && element.getKind() != ElementKind.ANNOTATION_TYPE) {
+                queue.add((TypeElement) element);
+            }
+            for (TypeMirror argument : declared.getTypeArguments()) {
+                enqueue(argument, queue);
+            }
+        }
+    }
+
+    /**
+     * Write the reflection configuration to the class output.
+     */
+    private void writeReflectConfig() {
+        String project = processingEnv.getOptions().getOrDefault(OPTION_PROJECT, DEFAULT_PROJECT);
+        String path = "META-INF/native-image/" + project + "/reflect-config.json";
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = file.openWriter()) {
+                writer.write(toJson(entities));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Cannot write native image metadata '" + path + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Render the reflection entries, giving full access to constructors, methods and fields.
+     *
+     * @param classNames
+     *      binary class names
+     * @return
+     *      content of reflect-config.json
+     */
+    static String toJson(Set<String> classNames) {
+        StringBuilder json = new StringBuilder("[");
+        String separator = "\n";
+        for (String className : classNames) {
+            json.append(separator)
+                .append("  {\n")
+                .append("    \"name\": \"").append(className).append("\",\n")
+                .append("    \"allDeclaredConstructors\": true,\n")
+                .append("    \"allDeclaredMethods\": true,\n")
+                .append("    \"allDeclaredFields\": true\n")
+                .append("  }");
+            separator = ",\n";
+        }
+        return json.append("\n]\n").toString();
+    }
+}
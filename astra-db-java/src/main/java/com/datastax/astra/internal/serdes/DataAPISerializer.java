@@ -21,10 +21,15 @@ package com.datastax.astra.internal.serdes;
  */
 
 import com.datastax.astra.client.exceptions.DataAPIException;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.ContextAttributes;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static com.datastax.astra.client.exceptions.DataAPIException.ERROR_CODE_SERIALIZATION;
 
@@ -102,5 +107,53 @@ public interface DataAPISerializer {
         }
     }
 
+    /**
+     * Load body as expected object, decoding the given fields of the documents as vectors.
+     *
+     * @param <T>
+     *      parameter
+     * @param body
+     *      response body as String
+     * @param ref
+     *      type Reference to map the result
+     * @param vectorFields
+     *      document fields to decode as vectors in addition to {@code $vector}, can be null
+     * @return
+     *       expected objects
+     */
+    default <T> T unMarshallBean(String body, Class<T> ref, Set<String> vectorFields) {
+        if (vectorFields == null || vectorFields.isEmpty()) {
+            return unMarshallBean(body, ref);
+        }
+        return unMarshallBean(body, ref, Map.<String, Object>of(DocumentDeserializer.ATTRIBUTE_VECTOR_FIELDS, vectorFields));
+    }
+
+    /**
+     * Load body as expected object with Jackson context attributes read by the deserializers.
+     *
+     * @param <T>
+     *      parameter
+     * @param body
+     *      response body as String
+     * @param ref
+     *      type Reference to map the result
+     * @param attributes
+     *      context attributes, can be null
+     * @return
+     *       expected objects
+     */
+    default <T> T unMarshallBean(String body, Class<T> ref, Map<String, Object> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            return unMarshallBean(body, ref);
+        }
+        try {
+            return getMapper().readerFor(ref)
+                    .with(ContextAttributes.getEmpty().withSharedAttributes(new HashMap<>(attributes)))
+                    .readValue(body);
+        } catch (JsonProcessingException e) {
+            throw new DataAPIException(ERROR_CODE_SERIALIZATION, "Cannot unmarshall object " + body, e);
+        }
+    }
+
 
 }
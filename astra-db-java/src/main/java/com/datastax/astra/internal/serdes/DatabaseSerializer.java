@@ -40,6 +40,7 @@ import com.datastax.astra.client.collections.definition.CollectionDefaultIdTypes
 import com.datastax.astra.client.core.lexical.Analyzer;
 import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.datastax.astra.client.core.vector.SimilarityMetric;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
 import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
 import com.datastax.astra.internal.serdes.collections.CollectionDefaultIdTypeDeserializer;
 import com.datastax.astra.internal.serdes.collections.CollectionDefaultIdTypeSerializer;
@@ -50,6 +51,7 @@ import com.datastax.astra.internal.serdes.shared.SimilarityMetricDeserializer;
 import com.datastax.astra.internal.serdes.shared.SimilarityMetricSerializer;
 import com.datastax.astra.internal.serdes.tables.ColumnTypeDeserializer;
 import com.datastax.astra.internal.serdes.tables.ColumnTypeSerializer;
+import com.datastax.astra.internal.serdes.tables.TableColumnDefinitionDeserializer;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.StreamReadFeature;
@@ -106,6 +108,7 @@ public class DatabaseSerializer implements DataAPISerializer {
             SimpleModule module = new SimpleModule();
             module.addSerializer(TableColumnTypes.class, new ColumnTypeSerializer());
             module.addDeserializer(TableColumnTypes.class, new ColumnTypeDeserializer());
+            module.addDeserializer(TableColumnDefinition.class, new TableColumnDefinitionDeserializer());
             // DefaultId
             module.addSerializer(CollectionDefaultIdTypes.class, new CollectionDefaultIdTypeSerializer());
             module.addDeserializer(CollectionDefaultIdTypes.class, new CollectionDefaultIdTypeDeserializer());
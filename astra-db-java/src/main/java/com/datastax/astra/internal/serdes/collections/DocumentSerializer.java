@@ -40,14 +40,18 @@ import com.datastax.astra.client.collections.definition.CollectionDefaultIdTypes
 import com.datastax.astra.client.collections.definition.documents.types.ObjectId;
 import com.datastax.astra.client.collections.definition.documents.types.UUIDv6;
 import com.datastax.astra.client.collections.definition.documents.types.UUIDv7;
+import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.core.hybrid.HybridLimits;
 import com.datastax.astra.client.core.lexical.Analyzer;
 import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.datastax.astra.client.core.vector.SimilarityMetric;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
 import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.shared.BlackbirdSupport;
 import com.datastax.astra.internal.serdes.core.AnalyzerSerializer;
 import com.datastax.astra.internal.serdes.shared.DataAPIVectorDeserializer;
 import com.datastax.astra.internal.serdes.shared.DataAPIVectorSerializer;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
 import com.datastax.astra.internal.serdes.shared.SimilarityMetricDeserializer;
 import com.datastax.astra.internal.serdes.shared.SimilarityMetricSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
@@ -140,11 +144,18 @@ public class DocumentSerializer implements DataAPISerializer {
             // DataAPIVector
             module.addSerializer(DataAPIVector.class, new DataAPIVectorSerializer());
             module.addDeserializer(DataAPIVector.class, new DataAPIVectorDeserializer());
+            // Document, vectors decoded without boxing
+            module.addDeserializer(Document.class, new DocumentDeserializer());
             // Analyzer
             module.addSerializer(Analyzer.class, new AnalyzerSerializer());
             // HybridLimits
             module.addSerializer(HybridLimits.class, new HybridLimitsSerializer());
             objectMapper.registerModule(module);
+
+            // Optional bytecode accessors
+            if (DataAPIClientOptions.getSerdesOptions().isBlackbird()) {
+                BlackbirdSupport.register(objectMapper);
+            }
         }
         return objectMapper;
     }
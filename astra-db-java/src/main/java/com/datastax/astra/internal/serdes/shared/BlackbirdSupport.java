@@ -0,0 +1,88 @@
+package com.datastax.astra.internal.serdes.shared;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Registers the Jackson Blackbird module on a mapper when enabled with {@code blackbird(true)} on
+ * {@link com.datastax.astra.client.core.options.DataAPIClientOptions#getSerdesOptions()}.
+ * <p>
+ * The flag is read once, when a serializer builds its mapper: the shared document and row mappers are
+ * built on first use and kept, so the flag must be set before the first command is executed. Changing it
+ * afterward has no effect on mappers already built.
+ * </p>
+ * <p>
+ * Blackbird replaces the reflective getters, setters and constructors of bean properties with
+ * generated lambdas. It only acts once the properties have been introspected, so the names and
+ * inclusion rules resolved by {@code DataAPIAnnotationIntrospector} are left unchanged.
+ * The module is an optional dependency and is loaded by name.
+ * </p>
+ */
+public final class BlackbirdSupport {
+
+    /** Fully qualified name of the module class. */
+    public static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    /**
+     * Hide constructor for utility class.
+     */
+    private BlackbirdSupport() {
+    }
+
+    /**
+     * Tells if the Blackbird module is present on the classpath.
+     *
+     * @return
+     *      true if the module can be loaded
+     */
+    public static boolean isAvailable() {
+        try {
+            Class.forName(BLACKBIRD_MODULE, false, BlackbirdSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Register the Blackbird module on the mapper.
+     *
+     * @param mapper
+     *      object mapper to accelerate
+     * @return
+     *      the same mapper
+     * @throws IllegalStateException
+     *      if the module is not on the classpath
+     */
+    public static ObjectMapper register(ObjectMapper mapper) {
+        try {
+            Class<?> moduleClass = Class.forName(BLACKBIRD_MODULE, true, BlackbirdSupport.class.getClassLoader());
+            return mapper.registerModule((Module) moduleClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw new IllegalStateException("Blackbird is enabled in SerdesOptions but "
+                    + "'com.fasterxml.jackson.module:jackson-module-blackbird' is not on the classpath", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + BLACKBIRD_MODULE, e);
+        }
+    }
+}
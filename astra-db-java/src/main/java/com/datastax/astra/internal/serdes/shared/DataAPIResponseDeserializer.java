@@ -0,0 +1,123 @@
+package com.datastax.astra.internal.serdes.shared;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.internal.api.DataAPIData;
+import com.datastax.astra.internal.api.DataAPIResponse;
+import com.datastax.astra.internal.api.DataAPIStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deserializer for the responses of the Data API, reading the status, the data and the errors in a single pass.
+ * <p>
+ * When the context attribute {@link #ATTRIBUTE_PROJECTION_SCHEMA_LISTENER} holds a {@link ProjectionSchemaListener},
+ * the projection schema of the status is handed to it before the documents are decoded, so that the rows are read
+ * with the column types of the table. The Data API writes {@code data} before {@code status}: the data is then kept
+ * as parsed tokens and decoded once the status has been read, the body is never tokenized twice.
+ * </p>
+ */
+public class DataAPIResponseDeserializer extends StdDeserializer<DataAPIResponse> {
+
+    /** Context attribute holding the {@link ProjectionSchemaListener} notified before the documents are decoded. */
+    public static final String ATTRIBUTE_PROJECTION_SCHEMA_LISTENER = "dataApiProjectionSchemaListener";
+
+    /**
+     * Listener of the projection schema returned with the rows of a table.
+     */
+    @FunctionalInterface
+    public interface ProjectionSchemaListener {
+
+        /**
+         * Called with the projection schema before the documents of the response are decoded.
+         *
+         * @param projectionSchema
+         *      projection schema of the response, columns in the order of the projection
+         */
+        void onProjectionSchema(Map<String, TableColumnDefinition> projectionSchema);
+    }
+
+    /**
+     * Default constructor.
+     */
+    public DataAPIResponseDeserializer() {
+        super(DataAPIResponse.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataAPIResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (DataAPIResponse) ctxt.handleUnexpectedToken(DataAPIResponse.class, p);
+        }
+        ProjectionSchemaListener listener = (ProjectionSchemaListener) ctxt.getAttribute(ATTRIBUTE_PROJECTION_SCHEMA_LISTENER);
+        DataAPIResponse response = new DataAPIResponse();
+        TokenBuffer pendingData = null;
+        boolean statusRead = false;
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String fieldName = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            switch (fieldName) {
+                case "status":
+                    DataAPIStatus status = valueToken == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, DataAPIStatus.class);
+                    response.setStatus(status);
+                    statusRead = true;
+                    if (listener != null && status != null && status.getProjectionSchema() != null) {
+                        listener.onProjectionSchema(status.getProjectionSchema());
+                    }
+                    break;
+                case "data":
+                    if (listener != null && !statusRead && valueToken != JsonToken.VALUE_NULL) {
+                        // Decoded when the schema is known
+                        pendingData = ctxt.bufferAsCopyOfValue(p);
+                    } else {
+                        response.setData(valueToken == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, DataAPIData.class));
+                    }
+                    break;
+                case "errors":
+                    JavaType errorsType = ctxt.getTypeFactory().constructCollectionType(List.class, DataAPIErrorDescriptor.class);
+                    response.setErrors(valueToken == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, errorsType));
+                    break;
+                default:
+                    ctxt.handleUnknownProperty(p, this, DataAPIResponse.class, fieldName);
+            }
+        }
+        if (pendingData != null) {
+            try (JsonParser dataParser = pendingData.asParserOnFirstToken()) {
+                response.setData(ctxt.readValue(dataParser, DataAPIData.class));
+            }
+        }
+        return response;
+    }
+}
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Deserializer for DataAPIVector.
@@ -51,8 +52,7 @@ public class DataAPIVectorDeserializer extends StdScalarDeserializer<DataAPIVect
                 if ("$binary".equals(fieldName)) {
                     p.nextToken(); // Move to the value of $binary
                     byte[] base64Value = p.getBinaryValue();
-                    p.nextToken(); // Move past the value
-                    p.nextToken(); // Move past END_OBJECT
+                    p.nextToken(); // Move to END_OBJECT, left as current token for the caller
                     return new DataAPIVector(unpack(ctxt, base64Value));
                 }
             // Understands [0.4, -0.6, 0.2]
@@ -88,15 +88,9 @@ public class DataAPIVectorDeserializer extends StdScalarDeserializer<DataAPIVect
             return (float[]) ctxt.reportInputMismatch(_valueClass,
                     "Vector length (%d) not a multiple of 4 bytes", bytesLen);
         }
-        final int vectorLen = bytesLen >> 2;
-        final float[] floats = new float[vectorLen];
-        for (int in = 0, out = 0; in < bytesLen; ) {
-            int packed = (bytes[in++] << 24)
-                    | ((bytes[in++] & 0xFF) << 16)
-                    | ((bytes[in++] & 0xFF) << 8)
-                    | (bytes[in++] & 0xFF);
-            floats[out++] = Float.intBitsToFloat(packed);
-        }
+        final float[] floats = new float[bytesLen >> 2];
+        // Big-endian is the default byte order of ByteBuffer
+        ByteBuffer.wrap(bytes).asFloatBuffer().get(floats);
         return floats;
     }
 }
@@ -25,8 +25,10 @@ import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Serializer for DataAPIVector
@@ -45,22 +47,18 @@ public class DataAPIVectorSerializer extends StdSerializer<DataAPIVector> {
     public void serialize(DataAPIVector dataApiVector, JsonGenerator gen, SerializerProvider provider) throws IOException {
         if (dataApiVector == null) {
             gen.writeNull();
-        } else if (DataAPIClientOptions.getSerdesOptions().isEncodeDataApiVectorsAsBase64()) {
-            // Binary ENCODING
-            final int vectorLen = dataApiVector.getEmbeddings().length;
-            final byte[] b = new byte[vectorLen << 2];
-            for (int i = 0, out = 0; i < vectorLen; i++) {
-                final int floatBits = Float.floatToIntBits(dataApiVector.getEmbeddings()[i]);
-                b[out++] = (byte) (floatBits >> 24);
-                b[out++] = (byte) (floatBits >> 16);
-                b[out++] = (byte) (floatBits >> 8);
-                b[out++] = (byte) (floatBits);
-            }
+        } else if (DataAPIClientOptions.getSerdesOptions().isEncodeDataApiVectorsAsBase64()
+                && !(gen instanceof TokenBuffer)) {
+            // In-memory conversions (TokenBuffer) keep the array form to map vectors to float[] or lists
+            // Binary ENCODING, packed big-endian floats written in bulk
+            final float[] embeddings = dataApiVector.getEmbeddings();
+            final ByteBuffer b = ByteBuffer.allocate(embeddings.length << 2);
+            b.asFloatBuffer().put(embeddings);
             // Second: write packed bytes (for JSON, Base64 encoded)
             gen.writeStartObject();
             // Writing the e-json Wrapper
             gen.writeFieldName("$binary");
-            gen.writeBinary(b);
+            gen.writeBinary(b.array());
             gen.writeEndObject();
         } else {
             // DEFAULT FLOAT ARRAY
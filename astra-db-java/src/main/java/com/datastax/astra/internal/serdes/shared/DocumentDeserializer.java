@@ -0,0 +1,186 @@
+package com.datastax.astra.internal.serdes.shared;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.definition.documents.LazyDocument;
+import com.datastax.astra.client.core.DataAPIKeywords;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deserializer for Document decoding vector fields straight into {@link com.datastax.astra.client.core.vector.DataAPIVector}.
+ * <p>
+ * The generic map deserialization would materialize vectors as lists of boxed doubles and copy them again when
+ * the vector is accessed. The keyword {@code $vector} is always decoded as a vector, other fields are decoded as
+ * vectors when listed in the context attribute {@link #ATTRIBUTE_VECTOR_FIELDS} (vector columns of a table).
+ * When the context attribute {@link #ATTRIBUTE_LAZY_SOURCE} holds the text being parsed, the raw object is kept in a
+ * {@link LazyDocument} instead: its bytes are sliced from the source using the token offsets of the parser, the values
+ * are skipped without being decoded or written again.
+ * </p>
+ */
+public class DocumentDeserializer extends StdDeserializer<Document> {
+
+    /** Context attribute holding the {@code Set<String>} of additional vector fields. */
+    public static final String ATTRIBUTE_VECTOR_FIELDS = "dataApiVectorFields";
+
+    /**
+     * Context attribute holding the {@code String} being parsed, documents are then decoded as {@link LazyDocument}.
+     */
+    public static final String ATTRIBUTE_LAZY_SOURCE = "dataApiLazySource";
+
+    /** Deserializer for vectors. */
+    private final DataAPIVectorDeserializer vectorDeserializer = new DataAPIVectorDeserializer();
+
+    /**
+     * Default constructor.
+     */
+    public DocumentDeserializer() {
+        super(Document.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Document deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        Set<String> vectorFields = (Set<String>) ctxt.getAttribute(ATTRIBUTE_VECTOR_FIELDS);
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            Object lazySource = ctxt.getAttribute(ATTRIBUTE_LAZY_SOURCE);
+            if (lazySource instanceof String && p.getCodec() != null) {
+                return readLazy(p, (String) lazySource, vectorFields);
+            }
+            t = p.nextToken();
+        } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {
+            return (Document) ctxt.handleUnexpectedToken(Document.class, p);
+        }
+        Document document = new Document();
+        for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            String fieldName = p.currentName();
+            JsonToken valueToken = p.nextToken();
+            if (isVector(fieldName, vectorFields) && isVectorToken(valueToken)) {
+                document.put(fieldName, vectorDeserializer.deserialize(p, ctxt));
+            } else {
+                document.put(fieldName, ctxt.readValue(p, Object.class));
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Slice the raw object from the source without decoding the values, recording where each field value starts
+     * so that a field is later decoded without scanning the others. The object is copied through a generator when
+     * the parser does not read the source directly (buffered tokens).
+     */
+    private Document readLazy(JsonParser p, String source, Set<String> vectorFields) throws IOException {
+        long start = p.currentTokenLocation().getCharOffset();
+        if (start < 0 || start >= source.length() || source.charAt((int) start) != '{') {
+            return copyLazy(p, vectorFields);
+        }
+        List<String> fieldNames = new ArrayList<>();
+        List<Integer> charOffsets = new ArrayList<>();
+        for (JsonToken t = p.nextToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+            fieldNames.add(p.currentName());
+            p.nextToken();
+            charOffsets.add((int) (p.currentTokenLocation().getCharOffset() - start));
+            p.skipChildren();
+        }
+        int end = (int) p.currentTokenLocation().getCharOffset() + 1;
+        String raw = source.substring((int) start, end);
+        byte[] json = raw.getBytes(StandardCharsets.UTF_8);
+        // Offsets are counted in chars by the parser, the lazy document reads UTF-8 bytes
+        Map<String, Integer> fieldOffsets = new HashMap<>();
+        int charPos = 0;
+        int bytePos = 0;
+        for (int i = 0; i < fieldNames.size(); i++) {
+            int charOffset = charOffsets.get(i);
+            bytePos += json.length == raw.length() ? charOffset - charPos : utf8Length(raw, charPos, charOffset);
+            charPos = charOffset;
+            fieldOffsets.put(fieldNames.get(i), bytePos);
+        }
+        return new LazyDocument(json, fieldOffsets, p.getCodec(), vectorFields);
+    }
+
+    /**
+     * Copy the raw object through a generator, recording where each field value starts in the copy.
+     */
+    private Document copyLazy(JsonParser p, Set<String> vectorFields) throws IOException {
+        ByteArrayBuilder bytes = new ByteArrayBuilder();
+        Map<String, Integer> fieldOffsets = new HashMap<>();
+        try (JsonGenerator gen = p.getCodec().getFactory().createGenerator(bytes, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            for (JsonToken t = p.nextToken(); t == JsonToken.FIELD_NAME; t = p.nextToken()) {
+                String fieldName = p.currentName();
+                gen.writeFieldName(fieldName);
+                gen.flush();
+                // The value is written after the separator following this position
+                fieldOffsets.put(fieldName, bytes.size());
+                p.nextToken();
+                gen.copyCurrentStructure(p);
+            }
+            gen.writeEndObject();
+        }
+        return new LazyDocument(bytes.toByteArray(), fieldOffsets, p.getCodec(), vectorFields);
+    }
+
+    /**
+     * Number of UTF-8 bytes of a range of chars.
+     */
+    private static int utf8Length(String text, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private boolean isVector(String fieldName, Set<String> vectorFields) {
+        return DataAPIKeywords.VECTOR.getKeyword().equals(fieldName)
+                || (vectorFields != null && vectorFields.contains(fieldName));
+    }
+
+    private boolean isVectorToken(JsonToken t) {
+        return t == JsonToken.START_ARRAY || t == JsonToken.START_OBJECT;
+    }
+}
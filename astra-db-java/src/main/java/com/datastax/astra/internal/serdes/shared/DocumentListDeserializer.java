@@ -0,0 +1,98 @@
+package com.datastax.astra.internal.serdes.shared;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Deserializer for the documents of a response.
+ * <p>
+ * Each document is decoded with the {@link Document} deserializer of the mapper. When the context attribute
+ * {@link #ATTRIBUTE_DOCUMENT_READER} holds a {@link DocumentReader}, the documents are streamed to it instead and
+ * never materialized, the resulting list is then empty.
+ * </p>
+ */
+public class DocumentListDeserializer extends StdDeserializer<List<Document>> {
+
+    /** Context attribute holding the {@link DocumentReader} consuming the documents. */
+    public static final String ATTRIBUTE_DOCUMENT_READER = "dataApiDocumentReader";
+
+    /**
+     * Reader consuming the returned documents directly from the parser.
+     */
+    @FunctionalInterface
+    public interface DocumentReader {
+
+        /**
+         * Read one document.
+         *
+         * @param parser
+         *      parser positioned on the {@code START_OBJECT} of the document, to leave on its {@code END_OBJECT}
+         * @param ctxt
+         *      context of the response being decoded, to decode the values with its deserializers
+         * @throws IOException
+         *      if the document cannot be read
+         */
+        void read(JsonParser parser, DeserializationContext ctxt) throws IOException;
+    }
+
+    /**
+     * Default constructor.
+     */
+    public DocumentListDeserializer() {
+        super(List.class);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Document> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.START_ARRAY) {
+            return (List<Document>) ctxt.handleUnexpectedToken(List.class, p);
+        }
+        DocumentReader reader = (DocumentReader) ctxt.getAttribute(ATTRIBUTE_DOCUMENT_READER);
+        if (reader != null) {
+            for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+                if (t != JsonToken.START_OBJECT) {
+                    return (List<Document>) ctxt.handleUnexpectedToken(Document.class, p);
+                }
+                reader.read(p, ctxt);
+            }
+            return Collections.emptyList();
+        }
+        JsonDeserializer<Object> documentDeserializer = ctxt.findRootValueDeserializer(ctxt.constructType(Document.class));
+        List<Document> documents = new ArrayList<>();
+        for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+            documents.add(t == JsonToken.VALUE_NULL ? null : (Document) documentDeserializer.deserialize(p, ctxt));
+        }
+        return documents;
+    }
+}
@@ -38,16 +38,21 @@ package com.datastax.astra.internal.serdes.tables;
 
 import com.datastax.astra.client.core.hybrid.HybridLimits;
 import com.datastax.astra.client.core.lexical.Analyzer;
+import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.core.vector.DataAPIVector;
 import com.datastax.astra.client.core.vector.SimilarityMetric;
 import com.datastax.astra.client.tables.definition.TableDuration;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
 import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
 import com.datastax.astra.client.tables.definition.indexes.TableIndexColumnDefinition;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
 import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.shared.BlackbirdSupport;
 import com.datastax.astra.internal.serdes.collections.HybridLimitsSerializer;
 import com.datastax.astra.internal.serdes.core.AnalyzerSerializer;
 import com.datastax.astra.internal.serdes.shared.DataAPIVectorDeserializer;
 import com.datastax.astra.internal.serdes.shared.DataAPIVectorSerializer;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
 import com.datastax.astra.internal.serdes.shared.SimilarityMetricDeserializer;
 import com.datastax.astra.internal.serdes.shared.SimilarityMetricSerializer;
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -138,6 +143,7 @@ public class RowSerializer implements DataAPISerializer {
 
             // De-Serialization
             module.addDeserializer(TableColumnTypes.class, new ColumnTypeDeserializer());
+            module.addDeserializer(TableColumnDefinition.class, new TableColumnDefinitionDeserializer());
             module.addDeserializer(Float.class, new FloatDeserializer());
             module.addDeserializer(float.class, new FloatDeserializer());
             module.addDeserializer(Double.class, new DoubleDeserializer());
@@ -146,6 +152,7 @@ public class RowSerializer implements DataAPISerializer {
             module.addDeserializer(Duration.class, new DurationDeserializer());
             module.addDeserializer(TableDuration.class, new TableDurationDeserializer());
             module.addDeserializer(DataAPIVector.class, new DataAPIVectorDeserializer());
+            module.addDeserializer(Document.class, new DocumentDeserializer());
             module.addDeserializer(SimilarityMetric.class, new SimilarityMetricDeserializer());
             objectMapper.registerModule(module);
 
@@ -156,6 +163,11 @@ public class RowSerializer implements DataAPISerializer {
             LocalTimeSerializer localTimeSerializer = new LocalTimeSerializer(timeFormatter);
             javaTimeModule.addSerializer(LocalTime.class, localTimeSerializer);
             objectMapper.registerModule(javaTimeModule);
+
+            // Optional bytecode accessors
+            if (DataAPIClientOptions.getSerdesOptions().isBlackbird()) {
+                BlackbirdSupport.register(objectMapper);
+            }
         }
         return objectMapper;
     }
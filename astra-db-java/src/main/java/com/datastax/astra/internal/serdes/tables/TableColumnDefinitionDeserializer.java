@@ -0,0 +1,148 @@
+package com.datastax.astra.internal.serdes.tables;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.vectorize.VectorServiceOptions;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionApiSupport;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionList;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionListUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMap;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMapUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSet;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSetUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionVector;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.client.tables.definition.types.TableUserDefinedTypeDefinition;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+/**
+ * Deserializes column definitions into the subclass matching their type, so the definitions returned by
+ * {@code listTables} keep the vector dimension and the key and value types of collections.
+ * <p>
+ * User defined type columns, and collections of them whose value type is an object, map to the
+ * {@code UserDefined} definitions keeping the name of the type.
+ * </p>
+ */
+public class TableColumnDefinitionDeserializer extends JsonDeserializer<TableColumnDefinition> {
+
+    /**
+     * Default constructor.
+     */
+    public TableColumnDefinitionDeserializer() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableColumnDefinition deserialize(JsonParser jp, DeserializationContext ctxt)
+    throws IOException {
+        ObjectCodec codec = jp.getCodec();
+        JsonNode node = codec.readTree(jp);
+        if (node.isTextual()) {
+            return new TableColumnDefinition(codec.treeToValue(node, TableColumnTypes.class));
+        }
+        TableColumnTypes type = node.hasNonNull("type") ? codec.treeToValue(node.get("type"), TableColumnTypes.class) : null;
+        TableColumnTypes keyType = scalarType(codec, node.get("keyType"));
+        TableColumnTypes valueType = scalarType(codec, node.get("valueType"));
+        String valueUdtName = udtName(node.get("valueType"));
+
+        TableColumnDefinition definition;
+        if (type == TableColumnTypes.VECTOR) {
+            TableColumnDefinitionVector vector = new TableColumnDefinitionVector();
+            if (node.hasNonNull("dimension")) {
+                vector.setDimension(node.get("dimension").asInt());
+            }
+            if (node.hasNonNull("service")) {
+                vector.setService(codec.treeToValue(node.get("service"), VectorServiceOptions.class));
+            }
+            definition = vector;
+        } else if (type == TableColumnTypes.USERDEFINED) {
+            definition = new TableColumnDefinitionUserDefined();
+        } else if (type == TableColumnTypes.LIST && valueUdtName != null) {
+            definition = new TableColumnDefinitionListUserDefined(valueUdtName);
+        } else if (type == TableColumnTypes.SET && valueUdtName != null) {
+            definition = new TableColumnDefinitionSetUserDefined(valueUdtName);
+        } else if (type == TableColumnTypes.MAP && keyType != null && valueUdtName != null) {
+            definition = new TableColumnDefinitionMapUserDefined(valueUdtName, keyType);
+        } else if (type == TableColumnTypes.LIST && valueType != null) {
+            definition = new TableColumnDefinitionList(valueType);
+        } else if (type == TableColumnTypes.SET && valueType != null) {
+            definition = new TableColumnDefinitionSet(valueType);
+        } else if (type == TableColumnTypes.MAP && keyType != null && valueType != null) {
+            definition = new TableColumnDefinitionMap(keyType, valueType);
+        } else {
+            definition = new TableColumnDefinition(type);
+        }
+        if (node.hasNonNull("udtName")) {
+            definition.setUdtName(node.get("udtName").asText());
+        }
+        if (node.hasNonNull("apiSupport")) {
+            definition.setApiSupport(codec.treeToValue(node.get("apiSupport"), TableColumnDefinitionApiSupport.class));
+        }
+        if (node.hasNonNull("definition")) {
+            definition.setDefinition(codec.treeToValue(node.get("definition"), TableUserDefinedTypeDefinition.class));
+        }
+        return definition;
+    }
+
+    /**
+     * Read a key or value type when it is a plain type name.
+     *
+     * @param codec
+     *      codec of the parser
+     * @param node
+     *      type node, may be null
+     * @return
+     *      the type or null when absent or not a scalar
+     * @throws IOException
+     *      cannot convert the node
+     */
+    private static TableColumnTypes scalarType(ObjectCodec codec, JsonNode node)
+    throws IOException {
+        if (node == null || !node.isTextual()) {
+            return null;
+        }
+        return codec.treeToValue(node, TableColumnTypes.class);
+    }
+
+    /**
+     * Read the name of a user defined value type.
+     *
+     * @param node
+     *      type node, may be null
+     * @return
+     *      the name of the type or null when absent or not a user defined type
+     */
+    private static String udtName(JsonNode node) {
+        if (node == null || !node.isObject() || !node.hasNonNull("udtName")
+                || !TableColumnTypes.USERDEFINED.getValue().equals(node.path("type").asText())) {
+            return null;
+        }
+        return node.get("udtName").asText();
+    }
+}
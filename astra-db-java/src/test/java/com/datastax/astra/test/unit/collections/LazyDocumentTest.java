@@ -0,0 +1,141 @@
+package com.datastax.astra.test.unit.collections;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.definition.documents.LazyDocument;
+import com.datastax.astra.client.core.commands.Command;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.internal.api.DataAPIResponse;
+import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
+import com.datastax.astra.internal.serdes.shared.DocumentDeserializer;
+import com.datastax.astra.test.unit.utils.MockDataApiTransport;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Documents decoded on demand from the raw JSON.
+ */
+class LazyDocumentTest {
+
+    private static final String RESPONSE = "{\"data\":{\"documents\":[" +
+            "{\"_id\":\"1\",\"name\":\"lazy\",\"address\":{\"city\":\"Paris\",\"zip\":\"75000\"}," +
+            "\"tags\":[\"a\",\"b\"],\"$vector\":[0.5,1.0],\"empty\":null}]}}";
+
+    @Data
+    public static class Person {
+        String name;
+        List<String> tags;
+    }
+
+    private LazyDocument firstDocument() {
+        return firstDocument(RESPONSE);
+    }
+
+    private LazyDocument firstDocument(String response) {
+        DataAPIResponse res = new DocumentSerializer().unMarshallBean(response, DataAPIResponse.class,
+                Map.<String, Object>of(DocumentDeserializer.ATTRIBUTE_LAZY_SOURCE, response));
+        Document doc = res.getData().getDocuments().get(0);
+        assertThat(doc).isInstanceOf(LazyDocument.class);
+        return (LazyDocument) doc;
+    }
+
+    @Test
+    void shouldDecodeAccessedFieldsOnly() {
+        LazyDocument doc = firstDocument();
+        assertThat(doc.getString("name")).isEqualTo("lazy");
+        assertThat(doc.read("address.city")).isEqualTo("Paris");
+        assertThat(doc.getVector()).map(DataAPIVector::getEmbeddings).hasValueSatisfying(v -> assertThat(v).containsExactly(0.5f, 1f));
+        assertThat(doc.get("missing")).isNull();
+        assertThat(doc.getDocumentMap().containsKey("empty")).isTrue();
+        assertThat(doc.isInflated()).isFalse();
+        assertThat(doc.toJson()).contains("\"address\"");
+    }
+
+    @Test
+    void shouldInflateOnUpdate() {
+        LazyDocument doc = firstDocument();
+        List<String> tags = doc.getList("tags", String.class);
+        doc.put("extra", 1);
+        assertThat(doc.isInflated()).isTrue();
+        assertThat(doc.getDocumentMap()).containsKeys("_id", "name", "address", "tags", "$vector", "empty", "extra");
+        assertThat(doc.getDocumentMap().get("tags")).isSameAs(doc.get("tags"));
+        assertThat(tags).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldMapBeansFromRawJson() {
+        Person person = firstDocument().map(Person.class);
+        assertThat(person.getName()).isEqualTo("lazy");
+        assertThat(person.getTags()).containsExactly("a", "b");
+        assertThat(firstDocument().map(Document.class)).isInstanceOf(LazyDocument.class);
+    }
+
+    @Test
+    void shouldDecodeFieldsFromTheirOffsets() {
+        String json = "{ \"nested\" : {\"name\":\"inner\"},\n \"name\" :  \"outer\", \"count\":3 }";
+        LazyDocument doc = new LazyDocument(json.getBytes(StandardCharsets.UTF_8),
+                new DocumentSerializer().getMapper(), null);
+        assertThat(doc.getString("name")).isEqualTo("outer");
+        assertThat(doc.getInteger("count")).isEqualTo(3);
+        assertThat(doc.read("nested.name")).isEqualTo("inner");
+        assertThat(doc.isInflated()).isFalse();
+
+        LazyDocument copied = firstDocument();
+        assertThat(copied.get("empty")).isNull();
+        assertThat(copied.get("_id")).isEqualTo("1");
+        assertThat(copied.isInflated()).isFalse();
+    }
+
+    @Test
+    void shouldSliceNonAsciiDocuments() {
+        String response = "{\"data\":{\"documents\":[{\"_id\":\"é\",\"city\":\"Zürich 🏔\",\"n\":2},{\"_id\":\"2\"}]}}";
+        LazyDocument doc = firstDocument(response);
+        assertThat(doc.getString("city")).isEqualTo("Zürich 🏔");
+        assertThat(doc.getInteger("n")).isEqualTo(2);
+        assertThat(new String(doc.getRawJson(), StandardCharsets.UTF_8)).isEqualTo("{\"_id\":\"é\",\"city\":\"Zürich 🏔\",\"n\":2}");
+    }
+
+    @Test
+    void shouldDecodeConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 50; round++) {
+                LazyDocument doc = firstDocument();
+                List<Future<String>> reads = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    reads.add(executor.submit(() -> doc.getString("name") + doc.read("address.city") + doc.getList("tags", String.class)));
+                }
+                for (Future<String> read : reads) {
+                    assertThat(read.get()).isEqualTo("lazyParis[a, b]");
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBeEnabledPerClient() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> RESPONSE);
+        HttpClientOptions http = new HttpClientOptions().transport(transport);
+        Collection<Document> lazy = new DataAPIClient("token", new DataAPIClientOptions().httpClientOptions(http).lazyDocuments(true))
+                .getDatabase("http://localhost:8181").getCollection("lazy");
+        Collection<Document> eager = new DataAPIClient("token", new DataAPIClientOptions().httpClientOptions(http))
+                .getDatabase("http://localhost:8181").getCollection("eager");
+        assertThat(lazy.runCommand(Command.create("find")).getData().getDocuments().get(0)).isInstanceOf(LazyDocument.class);
+        assertThat(eager.runCommand(Command.create("find")).getData().getDocuments().get(0)).isNotInstanceOf(LazyDocument.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.collections.mapping.DocumentId;
+import com.datastax.astra.client.collections.mapping.Vectorize;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.internal.serdes.DataAPISerializer;
+import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
+import com.datastax.astra.internal.serdes.shared.BlackbirdSupport;
+import com.datastax.astra.internal.serdes.tables.RowSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Blackbird accessors must not change the JSON produced for mapped beans.
+ */
+class BlackbirdSerializationTest {
+
+    public static class Product {
+        @DocumentId
+        private String id;
+        @Vectorize
+        private String description;
+        private int stock;
+        private LocalDate released;
+
+        public Product() {
+        }
+
+        public Product(String id, String description, int stock, LocalDate released) {
+            this.id = id;
+            this.description = description;
+            this.stock = stock;
+            this.released = released;
+        }
+
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public int getStock() { return stock; }
+        public void setStock(int stock) { this.stock = stock; }
+        public LocalDate getReleased() { return released; }
+        public void setReleased(LocalDate released) { this.released = released; }
+    }
+
+    @AfterEach
+    void resetSerdes() {
+        DataAPIClientOptions.getSerdesOptions().blackbird(false);
+    }
+
+    private static String marshall(DataAPISerializer serializer) {
+        return serializer.marshall(new Product("p1", "a red bike", 3, LocalDate.of(2024, 5, 1)));
+    }
+
+    @Test
+    void shouldBeDisabledByDefault() {
+        assertThat(BlackbirdSupport.isAvailable()).isTrue();
+        assertThat(new DocumentSerializer().getMapper().getRegisteredModuleIds())
+                .doesNotContain(BlackbirdSupport.BLACKBIRD_MODULE);
+    }
+
+    @Test
+    void shouldProduceSameJsonWithBlackbird() {
+        String reflective = marshall(new DocumentSerializer());
+        String reflectiveRow = marshall(new RowSerializer());
+        String input = reflective.replace("$vectorize", "description");
+        Product expected = new DocumentSerializer().unMarshallBean(input, Product.class);
+
+        DataAPIClientOptions.getSerdesOptions().blackbird(true);
+        DocumentSerializer accelerated = new DocumentSerializer();
+        assertThat(accelerated.getMapper().getRegisteredModuleIds()).contains(BlackbirdSupport.BLACKBIRD_MODULE);
+        assertThat(marshall(accelerated)).isEqualTo(reflective).contains("\"_id\"", "\"$vectorize\"");
+        assertThat(marshall(new RowSerializer())).isEqualTo(reflectiveRow);
+
+        Product product = accelerated.unMarshallBean(input, Product.class);
+        assertThat(product.getId()).isEqualTo(expected.getId());
+        assertThat(product.getDescription()).isEqualTo("a red bike");
+        assertThat(product.getStock()).isEqualTo(3);
+        assertThat(product.getReleased()).isEqualTo(LocalDate.of(2024, 5, 1));
+    }
+}
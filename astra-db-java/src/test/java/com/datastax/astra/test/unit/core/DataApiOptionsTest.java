@@ -5,7 +5,10 @@ import com.datastax.astra.client.DataAPIDestination;
 import com.datastax.astra.client.collections.commands.ReturnDocument;
 import com.datastax.astra.client.core.http.HttpClientOptions;
 import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionDeleteManyOptions;
 import com.datastax.astra.client.collections.commands.options.CollectionDeleteOneOptions;
+import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.collections.commands.results.CollectionDeleteResult;
 import com.datastax.astra.client.collections.commands.options.CollectionFindOneAndDeleteOptions;
 import com.datastax.astra.client.collections.commands.options.CollectionFindOneAndReplaceOptions;
@@ -30,12 +33,14 @@ import com.datastax.astra.client.core.query.Filter;
 import com.datastax.astra.client.core.query.FilterOperator;
 import com.datastax.astra.client.core.query.Projection;
 import com.datastax.astra.client.databases.DatabaseOptions;
+import com.datastax.astra.client.exceptions.DataAPITimeoutException;
 import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
 import org.junit.Ignore;
 import org.junit.jupiter.api.Test;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -341,4 +346,25 @@ class DataApiOptionsTest {
                 .isInstanceOf(InvalidEnvironmentException.class)
                 .hasMessageContaining("DEV");
     }
+
+    @Test
+    void shouldComputeDeadlineRemainingTime() {
+        assertThat(new CollectionDeleteManyOptions().getDeadlineRemainingMillis()).isEqualTo(-1);
+        CollectionDeleteManyOptions options = new CollectionDeleteManyOptions().deadline(Duration.ofSeconds(30));
+        assertThat(options.getDeadline()).isAfter(Instant.now());
+        assertThat(options.getDeadlineRemainingMillis()).isBetween(1L, 30000L);
+        options.deadline(Instant.now().minusSeconds(1));
+        assertThat(options.getDeadlineRemainingMillis()).isZero();
+    }
+
+    @Test
+    void shouldNotSendRequestAfterDeadline() {
+        Collection<Document> collection = new DataAPIClient("token")
+                .getDatabase("http://localhost:1")
+                .getCollection("deadline");
+        assertThatThrownBy(() -> collection.deleteMany(new Filter(),
+                new CollectionDeleteManyOptions().deadline(Instant.now().minusMillis(1))))
+                .isInstanceOf(DataAPITimeoutException.class)
+                .hasMessageContaining("deleteMany");
+    }
 }
@@ -0,0 +1,85 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionDeleteManyOptions;
+import com.datastax.astra.client.collections.commands.results.CollectionDeleteResult;
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.query.Filters;
+import com.datastax.astra.test.unit.utils.MockDataApiTransport;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Commands executed through a custom transport.
+ */
+class DataApiTransportTest {
+
+    private Collection<Document> collection(MockDataApiTransport transport) {
+        DataAPIClientOptions options = new DataAPIClientOptions()
+                .httpClientOptions(new HttpClientOptions().transport(transport));
+        return new DataAPIClient("token", options)
+                .getDatabase("http://localhost:8181")
+                .getCollection("transport");
+    }
+
+    @Test
+    void shouldSendCommandsThroughTransport() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"status\":{\"deletedCount\":3}}");
+        CollectionDeleteResult res = collection(transport).deleteMany(Filters.eq("a", 1));
+        assertThat(res.getDeletedCount()).isEqualTo(3);
+        assertThat(transport.getRequests()).hasSize(1);
+        assertThat(transport.getRequests().get(0).getMethod()).isEqualTo("POST");
+        assertThat(transport.getRequests().get(0).getHeaders()).containsEntry("token", List.of("token"));
+        assertThat(transport.getRequests().get(0).getBody()).contains("deleteMany").contains("\"a\":1");
+        assertThat(transport.getRequests().get(0).getTimeout()).isNotNull();
+    }
+
+    @Test
+    void shouldAggregatePartitionedDeleteMany() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"status\":{\"deletedCount\":10}}");
+        List<CollectionDeleteResult> progress = new CopyOnWriteArrayList<>();
+        Instant now = Instant.now();
+        CollectionDeleteResult res = collection(transport).deleteMany(Filters.eq("expired", true),
+                new CollectionDeleteManyOptions()
+                        .partitions(Filters.objectIdTimeRanges(now.minusSeconds(3600), now, 4))
+                        .concurrency(2)
+                        .progressListener(progress::add));
+        assertThat(res.getDeletedCount()).isEqualTo(40);
+        assertThat(transport.getRequests()).hasSize(4);
+        assertThat(transport.getRequests()).allMatch(r -> r.getBody().contains("$and"));
+        assertThat(progress).hasSize(4);
+    }
+
+    @Test
+    void shouldReleaseAsyncDeleteManyThreadOnCancel() throws InterruptedException {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"status\":{\"deletedCount\":1,\"moreData\":true}}");
+        CompletableFuture<CollectionDeleteResult> future = collection(transport)
+                .deleteManyAsync(Filters.eq("expired", true), new CollectionDeleteManyOptions());
+        while (transport.getRequests().size() < 3) {
+            Thread.sleep(10);
+        }
+        future.cancel(true);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (bulkThreadAlive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(bulkThreadAlive()).isFalse();
+        int sent = transport.getRequests().size();
+        Thread.sleep(100);
+        assertThat(transport.getRequests()).hasSize(sent);
+    }
+
+    private static boolean bulkThreadAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("data-api-bulk-transport"));
+    }
+}
@@ -1,13 +1,19 @@
 package com.datastax.astra.test.unit.core;
 
+import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.query.Sort;
 import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.internal.api.DataAPIResponse;
+import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
 import com.datastax.astra.internal.serdes.tables.RowSerializer;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class DataApiVectorSerializationTest {
 
@@ -37,6 +43,62 @@ public class DataApiVectorSerializationTest {
         String json2 = "[0.4, -0.6, 0.2]";
     }
 
+    @Test
+    public void shouldDecodeDocumentVectorsAsFloatArrays() {
+        DocumentSerializer serializer = new DocumentSerializer();
+        Document doc = serializer.unMarshallBean(
+                "{\"_id\":1,\"$vector\":[0.5,-1.0],\"tags\":[1.0,2.0],\"n\":null}", Document.class);
+        assertThat(doc.get("$vector")).isInstanceOf(DataAPIVector.class);
+        assertThat(doc.getVector().get().getEmbeddings()).containsExactly(0.5f, -1.0f);
+        assertThat(doc.getList("$vector", Double.class)).containsExactly(0.5d, -1.0d);
+        assertThat(doc.getList("$vector", Float.class)).containsExactly(0.5f, -1.0f);
+        assertThat(doc.get("tags")).isInstanceOf(List.class);
+        assertThat(doc.getDocumentMap()).containsKey("n");
+
+        Document binary = serializer.unMarshallBean(
+                "{\"$vector\":{\"$binary\":\"PszMzb8ZmZo+TMzN\"},\"after\":true}", Document.class);
+        assertThat(binary.getVector().get().getEmbeddings()).containsExactly(0.4f, -0.6f, 0.2f);
+        assertThat(binary.getBoolean("after")).isTrue();
+    }
+
+    @Test
+    public void shouldDecodeKnownVectorColumns() {
+        RowSerializer serializer = new RowSerializer();
+        String json = "{\"data\":{\"documents\":[{\"id\":1,\"embedding\":[1.0,2.0],\"scores\":[3.0]}]}}";
+        DataAPIResponse res = serializer.unMarshallBean(json, DataAPIResponse.class, Set.of("embedding"));
+        Document row = res.getData().getDocuments().get(0);
+        assertThat(row.get("embedding")).isInstanceOf(DataAPIVector.class);
+        assertThat(row.get("scores")).isInstanceOf(List.class);
+    }
+
+    @Test
+    public void shouldRoundTripBinaryVectorsInBulk() {
+        boolean previous = DataAPIClientOptions.getSerdesOptions().isEncodeDataApiVectorsAsBase64();
+        DocumentSerializer serializer = new DocumentSerializer();
+        try {
+            for (int dimension : new int[] {768, 1536, 3072}) {
+                float[] embeddings = new float[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    embeddings[i] = (float) Math.sin(i) / 3f;
+                }
+                Document doc = new Document().id(1).vector(embeddings);
+                DataAPIClientOptions.getSerdesOptions().encodeDataApiVectorsAsBase64(false);
+                String decimal = serializer.marshall(doc);
+                DataAPIClientOptions.getSerdesOptions().encodeDataApiVectorsAsBase64(true);
+                String binary = serializer.marshall(doc);
+                assertThat(binary).contains("$binary");
+                // base64 of 4 bytes per float, about three times smaller than decimal floats
+                assertThat(binary.length() * 2).isLessThan(decimal.length());
+
+                Document decoded = serializer.unMarshallBean(binary, Document.class);
+                assertThat(decoded.getVector().get().getEmbeddings()).containsExactly(embeddings);
+                assertThat(serializer.marshall(Sort.vector(embeddings).getVector())).startsWith("{\"$binary\"");
+            }
+        } finally {
+            DataAPIClientOptions.getSerdesOptions().encodeDataApiVectorsAsBase64(previous);
+        }
+    }
+
     @Test
     public void serializationInstant() {
         String sample = "2024-12-04T15:04:07.203Z";
@@ -6,10 +6,13 @@ import com.datastax.astra.client.core.query.Filters;
 import com.datastax.astra.client.core.query.Projection;
 import com.datastax.astra.client.core.DataAPIKeywords;
 import com.datastax.astra.client.collections.definition.documents.types.ObjectId;
+import com.datastax.astra.client.collections.definition.documents.types.UUIDv7;
 import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,5 +50,56 @@ class FiltersTest {
         System.out.println(new Filter(Map.of("$lexical", Map.of("$match", "tree hill"))));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSplitObjectIdTimeRanges() {
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to   = Instant.parse("2024-01-05T00:00:00Z");
+        List<Filter> ranges = Filters.objectIdTimeRanges(from, to, 4);
+        assertThat(ranges).hasSize(4);
+        Map<String, Object> first = (Map<String, Object>) ranges.get(0).get("_id");
+        Map<String, Object> last  = (Map<String, Object>) ranges.get(3).get("_id");
+        assertThat(((ObjectId) first.get("$gte")).getDate().toInstant()).isEqualTo(from);
+        assertThat(((ObjectId) last.get("$lt")).getDate().toInstant()).isEqualTo(to);
+        // Ranges are contiguous
+        for (int i = 1; i < ranges.size(); i++) {
+            Map<String, Object> previous = (Map<String, Object>) ranges.get(i - 1).get("_id");
+            Map<String, Object> current  = (Map<String, Object>) ranges.get(i).get("_id");
+            assertThat(current.get("$gte")).isEqualTo(previous.get("$lt"));
+        }
+        assertThat(new DocumentSerializer().marshall(ranges.get(0)))
+                .startsWith("{\"_id\":{\"$gte\":{\"$objectId\":\"65920080");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldAlignObjectIdTimeRangesOnSeconds() {
+        Instant from = Instant.parse("2024-01-01T00:00:00.400Z");
+        Instant to   = Instant.parse("2024-01-01T00:00:02.500Z");
+        // 3 seconds touched by the window, no empty or duplicated range
+        List<Filter> ranges = Filters.objectIdTimeRanges(from, to, 8);
+        assertThat(ranges).hasSize(3);
+        Map<String, Object> first = (Map<String, Object>) ranges.get(0).get("_id");
+        Map<String, Object> last  = (Map<String, Object>) ranges.get(2).get("_id");
+        assertThat(((ObjectId) first.get("$gte")).getDate().toInstant()).isEqualTo(Instant.parse("2024-01-01T00:00:00Z"));
+        // Last partial second included
+        assertThat(((ObjectId) last.get("$lt")).getDate().toInstant()).isEqualTo(Instant.parse("2024-01-01T00:00:03Z"));
+        for (Filter range : ranges) {
+            Map<String, Object> bounds = (Map<String, Object>) range.get("_id");
+            assertThat(bounds.get("$gte")).isNotEqualTo(bounds.get("$lt"));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSplitUUIDv7TimeRanges() {
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant to   = Instant.parse("2024-01-02T00:00:00Z");
+        List<Filter> ranges = Filters.uuidv7TimeRanges(from, to, 2);
+        Map<String, Object> first = (Map<String, Object>) ranges.get(0).get("_id");
+        UUIDv7 lower = (UUIDv7) first.get("$gte");
+        assertThat(lower.toUUID().version()).isEqualTo(7);
+        assertThat(lower.toUUID().getMostSignificantBits() >>> 16).isEqualTo(from.toEpochMilli());
+    }
 
 }
@@ -0,0 +1,76 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.TimeoutOptions;
+import com.datastax.astra.internal.api.ApiResponseHttp;
+import com.datastax.astra.internal.http.HttpCompression;
+import com.datastax.astra.internal.http.JdkHttpTransport;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compression of request and response bodies.
+ */
+class HttpCompressionTest {
+
+    private static final String PAYLOAD = "{\"insertMany\":{\"documents\":[" +
+            "{\"$vector\":[0.1,0.2,0.3,0.4]},".repeat(500) + "{}]}}";
+
+    @Test
+    void shouldGzipAndDecode() throws Exception {
+        byte[] raw = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = HttpCompression.gzip(raw);
+        assertThat(compressed.length).isLessThan(raw.length / 10);
+        try (InputStream in = HttpCompression.decode(new ByteArrayInputStream(compressed), "gzip")) {
+            assertThat(in.readAllBytes()).isEqualTo(raw);
+        }
+    }
+
+    @Test
+    void shouldCompressRequestAndResponse() throws Exception {
+        AtomicReference<String> receivedEncoding = new AtomicReference<>();
+        AtomicReference<String> receivedBody = new AtomicReference<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            try (InputStream in = HttpCompression.decode(exchange.getRequestBody(), receivedEncoding.get())) {
+                receivedBody.set(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            byte[] response = HttpCompression.gzip(PAYLOAD.getBytes(StandardCharsets.UTF_8));
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        try {
+            JdkHttpTransport transport = new JdkHttpTransport(
+                    new HttpClientOptions().httpVersion(java.net.http.HttpClient.Version.HTTP_1_1).compression(1024),
+                    new TimeoutOptions());
+            URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+            ApiResponseHttp res = transport.execute(new DataApiTransportRequest(uri, "POST",
+                    Map.of("Content-Type", List.of("application/json")), PAYLOAD, null));
+            assertThat(receivedEncoding.get()).isEqualTo("gzip");
+            assertThat(receivedBody.get()).isEqualTo(PAYLOAD);
+            assertThat(res.getBody()).isEqualTo(PAYLOAD);
+            assertThat(res.getRequestWireSize()).isLessThan(res.getRequestBodySize());
+            assertThat(res.getResponseWireSize()).isLessThan(res.getResponseBodySize());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.internal.reflection.NativeImageMetadataProcessor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GraalVM metadata shipped with the client and generated for mapped entities.
+ */
+class NativeImageMetadataTest {
+
+    private static final String CLIENT_CONFIG =
+            "META-INF/native-image/com.datastax.astra/astra-db-java/reflect-config.json";
+
+    private static Set<String> classNames(JsonNode config) {
+        Set<String> names = new HashSet<>();
+        config.forEach(entry -> names.add(entry.get("name").asText()));
+        return names;
+    }
+
+    @Test
+    void shouldShipReflectConfigForSerializedTypes() throws Exception {
+        Set<String> names;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CLIENT_CONFIG)) {
+            assertThat(in).isNotNull();
+            names = classNames(new ObjectMapper().readTree(in));
+        }
+        for (String name : names) {
+            Class.forName(name, false, getClass().getClassLoader());
+        }
+
+        // Every class of the serialized packages must be listed
+        for (String pkg : List.of("com/datastax/astra/client", "com/datastax/astra/internal/api",
+                "com/datastax/astra/internal/serdes")) {
+            URL url = getClass().getClassLoader().getResource(pkg);
+            if (url == null || !"file".equals(url.getProtocol())) {
+                continue;
+            }
+            Path root = Paths.get(url.toURI());
+            Path classes = root.getParent();
+            for (int i = 1; i < pkg.split("/").length; i++) {
+                classes = classes.getParent();
+            }
+            Path base = classes;
+            try (Stream<Path> files = Files.walk(root)) {
+                Set<String> expected = files
+                        .map(p -> base.relativize(p).toString().replace('\\', '/'))
+                        .filter(p -> p.endsWith(".class") && !p.endsWith("package-info.class"))
+                        .filter(p -> !p.matches(".*\\$\\d.*"))
+                        .map(p -> p.substring(0, p.length() - ".class".length()).replace('/', '.'))
+                        .collect(Collectors.toSet());
+                assertThat(names).as("reflect-config.json is missing classes from %s", pkg).containsAll(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldGenerateReflectConfigForEntities(@TempDir Path tmp) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(tmp.toFile()));
+        List<JavaFileObject> sources = List.of(
+                source("demo.Game", "package demo;\n"
+                        + "@com.datastax.astra.client.tables.mapping.EntityTable(\"games\")\n"
+                        + "public class Game {\n"
+                        + "  @com.datastax.astra.client.tables.mapping.Column(name = \"title\") String title;\n"
+                        + "  java.util.List<Player> players;\n"
+                        + "  public static class Player { String name; }\n"
+                        + "}\n"),
+                source("demo.Unrelated", "package demo;\npublic class Unrelated { }\n"));
+        Boolean success = compiler.getTask(null, fileManager, null,
+                List.of("-proc:only", "-classpath", System.getProperty("java.class.path"),
+                        "-processor", NativeImageMetadataProcessor.class.getName(),
+                        "-A" + NativeImageMetadataProcessor.OPTION_PROJECT + "=demo"),
+                null, sources).call();
+        assertThat(success).isTrue();
+
+        Path config = tmp.resolve("META-INF/native-image/demo/reflect-config.json");
+        assertThat(config).exists();
+        assertThat(classNames(new ObjectMapper().readTree(config.toFile())))
+                .containsExactlyInAnyOrder("demo.Game", "demo.Game$Player");
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionFindOptions;
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.commands.PreparedCommand;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.paging.Page;
+import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.core.query.Filters;
+import com.datastax.astra.client.core.query.Projection;
+import com.datastax.astra.client.core.query.Sort;
+import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
+import com.datastax.astra.test.unit.utils.MockDataApiTransport;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Prepared find commands rendered from a template.
+ */
+class PreparedCommandTest {
+
+    private Collection<Document> collection(MockDataApiTransport transport) {
+        DataAPIClientOptions options = new DataAPIClientOptions()
+                .httpClientOptions(new HttpClientOptions().transport(transport));
+        return new DataAPIClient("token", options)
+                .getDatabase("http://localhost:8181")
+                .getCollection("prepared");
+    }
+
+    @Test
+    void shouldRenderSameJsonAsRegularFind() {
+        MockDataApiTransport transport = new MockDataApiTransport(req ->
+                "{\"data\":{\"documents\":[{\"_id\":\"1\"}],\"nextPageState\":\"next\"}}");
+        Collection<Document> collection = collection(transport);
+        CollectionFindOptions options = new CollectionFindOptions()
+                .projection(Projection.include("a"))
+                .limit(10);
+
+        collection.findPage(Filters.in("_id", "1", "2"), options.pageState("state"));
+        PreparedCommand prepared = collection
+                .prepareFind(Filters.in("_id", "x"), options.pageState(null))
+                .withParameter("ids", "filter", "_id", "$in");
+        Page<Document> page = collection.findPage(prepared,
+                Map.of("ids", List.of("1", "2"), PreparedCommand.PARAM_PAGE_STATE, "state"));
+
+        assertThat(page.getPageState()).contains("next");
+        assertThat(page.getResults()).hasSize(1);
+        assertThat(transport.getRequests()).hasSize(2);
+        assertThat(transport.getRequests().get(1).getBody()).isEqualTo(transport.getRequests().get(0).getBody());
+    }
+
+    @Test
+    void shouldBindVectorAndKeepStaticParts() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"data\":{\"documents\":[]}}");
+        Collection<Document> collection = collection(transport);
+        PreparedCommand prepared = collection
+                .prepareFind(Filters.eq("type", "book"), new CollectionFindOptions()
+                        .sort(Sort.vector(new float[] {0f}))
+                        .limit(5))
+                .withParameter("vector", "sort", "$vector");
+        assertThat(prepared.getParameterNames()).containsExactly(PreparedCommand.PARAM_PAGE_STATE, "vector");
+
+        collection.findPage(prepared, Map.of("vector", new float[] {0.5f, 1f}));
+        String body = transport.getRequests().get(0).getBody();
+        assertThat(body).contains("\"type\":\"book\"").contains("\"limit\":5").doesNotContain("pageState");
+        assertThat(body).doesNotContain("__data_api_param");
+        assertThat(prepared.render(Map.of("vector", new float[] {2f}))).contains("\"$vector\":[2.0]");
+        assertThat(prepared.render(Map.of(PreparedCommand.PARAM_PAGE_STATE, "next")))
+                .contains("\"limit\":5,\"pageState\":\"next\"");
+
+        assertThatThrownBy(() -> prepared.bind(Map.of("unknown", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> prepared.withParameter("late", "filter", "other"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotModifySampleFilter() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"data\":{\"documents\":[]}}");
+        Collection<Document> collection = collection(transport);
+        Filter filter = Filters.and(Filters.eq("type", "book"), Filters.in("_id", "x"));
+        String before = new DocumentSerializer().marshall(filter);
+        PreparedCommand prepared = collection
+                .prepareFind(filter, new CollectionFindOptions().pageState("sample"))
+                .withParameter("type", "filter", "$and");
+        collection.findPage(prepared, Map.of("type", List.of(Map.of("type", "movie"))));
+
+        assertThat(new DocumentSerializer().marshall(filter)).isEqualTo(before).doesNotContain("__data_api_param");
+        assertThat(transport.getRequests().get(0).getBody())
+                .contains("\"movie\"")
+                .doesNotContain("pageState");
+    }
+}
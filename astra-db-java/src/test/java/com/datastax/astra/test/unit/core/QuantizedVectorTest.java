@@ -0,0 +1,94 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.core.vector.QuantizedVector;
+import com.datastax.astra.client.core.vector.QuantizedVector.Encoding;
+import com.datastax.astra.client.core.vector.ScoredResult;
+import com.datastax.astra.client.core.vector.SimilarityMetric;
+import com.datastax.astra.client.core.vector.VectorSimilarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Client-side vector quantization.
+ */
+class QuantizedVectorTest {
+
+    private static DataAPIVector random(Random random, int dimension) {
+        float[] v = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            v[i] = (float) random.nextGaussian();
+        }
+        return new DataAPIVector(v);
+    }
+
+    @Test
+    void shouldQuantizeWithExpectedSizes() {
+        DataAPIVector vector = random(new Random(1), 1536);
+        assertThat(vector.quantize(Encoding.FLOAT16).sizeInBytes()).isEqualTo(1536 * 2);
+        assertThat(vector.quantize(Encoding.INT8).sizeInBytes()).isEqualTo(1536);
+        assertThat(vector.quantize(Encoding.BINARY).sizeInBytes()).isEqualTo(1536 / 8);
+    }
+
+    @Test
+    void shouldRestoreApproximateVectors() {
+        DataAPIVector vector = new DataAPIVector(new float[] {0.5f, -2f, 1f / 3f, 0f, 65504f, 1e-6f});
+        float[] half = vector.quantize(Encoding.FLOAT16).toVector().getEmbeddings();
+        assertThat(half[0]).isEqualTo(0.5f);
+        assertThat(half[1]).isEqualTo(-2f);
+        assertThat(half[2]).isCloseTo(1f / 3f, within(1e-3f));
+        assertThat(half[3]).isEqualTo(0f);
+        assertThat(half[4]).isEqualTo(65504f);
+        assertThat(half[5]).isCloseTo(1e-6f, within(1e-7f));
+
+        float[] int8 = new DataAPIVector(new float[] {1f, -0.5f, 0.25f}).quantize(Encoding.INT8).toVector().getEmbeddings();
+        assertThat(int8).containsExactly(new float[] {1f, -0.5f, 0.25f}, within(0.01f));
+
+        float[] binary = new DataAPIVector(new float[] {3f, -4f}).quantize(Encoding.BINARY).toVector().getEmbeddings();
+        assertThat(binary[0]).isPositive();
+        assertThat(binary[1]).isNegative();
+    }
+
+    @Test
+    void shouldApproximateScores() {
+        Random random = new Random(7);
+        DataAPIVector query = random(random, 256);
+        for (int i = 0; i < 20; i++) {
+            DataAPIVector candidate = random(random, 256);
+            float exact = query.similarity(candidate, SimilarityMetric.COSINE);
+            assertThat(candidate.quantize(Encoding.FLOAT16).approximateScore(query, SimilarityMetric.COSINE))
+                    .isCloseTo(exact, within(1e-3f));
+            assertThat(candidate.quantize(Encoding.INT8).approximateScore(query, SimilarityMetric.COSINE))
+                    .isCloseTo(exact, within(0.01f));
+            assertThat(candidate.quantize(Encoding.INT8).approximateScore(query.quantize(Encoding.INT8), SimilarityMetric.EUCLIDEAN))
+                    .isCloseTo(query.similarity(candidate, SimilarityMetric.EUCLIDEAN), within(0.01f));
+            assertThat(candidate.quantize(Encoding.BINARY).approximateScore(query, SimilarityMetric.COSINE))
+                    .isCloseTo(exact, within(0.15f));
+        }
+    }
+
+    @Test
+    void shouldPreFilterBeforeExactScoring() {
+        Random random = new Random(3);
+        DataAPIVector query = random(random, 64);
+        List<DataAPIVector> candidates = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            candidates.add(random(random, 64));
+        }
+        List<QuantizedVector> quantized = candidates.stream().map(v -> v.quantize(Encoding.INT8)).toList();
+        List<ScoredResult<Integer>> preFiltered = VectorSimilarity.approximateTopK(
+                () -> IntStream.range(0, 500).iterator(), quantized::get, query, SimilarityMetric.COSINE, 40);
+        List<ScoredResult<Integer>> reScored = VectorSimilarity.topK(preFiltered.stream().map(ScoredResult::getDocument).toList(),
+                candidates::get, query, SimilarityMetric.COSINE, 10);
+        List<ScoredResult<DataAPIVector>> exact = VectorSimilarity.topK(candidates, v -> v, query, SimilarityMetric.COSINE, 10);
+        assertThat(reScored).extracting(ScoredResult::getScore)
+                .containsExactlyElementsOf(exact.stream().map(ScoredResult::getScore).toList());
+    }
+}
@@ -0,0 +1,172 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.definition.documents.types.ObjectId;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.core.vector.SimilarityMetric;
+import com.datastax.astra.client.core.vector.VectorCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Off-heap and memory-mapped vector cache.
+ */
+class VectorCacheTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        try (VectorCache cache = VectorCache.offHeap(3, 2)) {
+            cache.put("a", new DataAPIVector(new float[] {1f, 0f, 0f}));
+            cache.put(new Document().id("b").vector(new float[] {0f, 1f, 0f}));
+            DataAPIVector a = cache.get("a").orElseThrow();
+            DataAPIVector b = cache.get("b").orElseThrow();
+            cache.get("a");
+            cache.put("c", new DataAPIVector(new float[] {0f, 0f, 1f}));
+
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.getEvictions()).isEqualTo(1);
+            assertThat(cache.get("b")).isEmpty();
+            assertThat(a.getEmbeddings()).containsExactly(1f, 0f, 0f);
+            assertThat(a.similarity(new DataAPIVector(new float[] {1f, 0f, 0f}), SimilarityMetric.COSINE))
+                    .isCloseTo(1f, within(1e-6f));
+            assertThatThrownBy(b::getEmbeddings).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldLoadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        try (VectorCache cache = VectorCache.offHeap(2, 10)) {
+            for (int i = 0; i < 3; i++) {
+                cache.getOrLoad(42, key -> {
+                    loads.incrementAndGet();
+                    return new DataAPIVector(new float[] {0.5f, 0.5f});
+                });
+            }
+        }
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSurviveRestartWhenMapped(@TempDir Path dir) {
+        Path file = dir.resolve("vectors.bin");
+        try (VectorCache cache = VectorCache.mapped(file, 2, 4)) {
+            cache.put("x", new DataAPIVector(new float[] {3f, 4f}));
+            cache.put("y", new DataAPIVector(new float[] {5f, 6f}));
+            cache.invalidate("y");
+        }
+        try (VectorCache cache = VectorCache.mapped(file, 2, 4)) {
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get("x").orElseThrow().getEmbeddings()).containsExactly(3f, 4f);
+            cache.put("z", new DataAPIVector(new float[] {7f, 8f}));
+            assertThat(cache.get("x").orElseThrow().getEmbeddings()).containsExactly(3f, 4f);
+        }
+        assertThatThrownBy(() -> VectorCache.mapped(file, 3, 4)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldDropEntriesChangedSinceLastFlushWhenNotClosed(@TempDir Path dir) {
+        Path file = dir.resolve("crash.bin");
+        VectorCache crashed = VectorCache.mapped(file, 2, 3);
+        crashed.put("a", new DataAPIVector(new float[] {1f, 1f}));
+        crashed.put("b", new DataAPIVector(new float[] {2f, 2f}));
+        crashed.put("c", new DataAPIVector(new float[] {3f, 3f}));
+        crashed.flush();
+        // Changes after the flush, the process then stops without close()
+        crashed.put("b", new DataAPIVector(new float[] {20f, 20f}));
+        crashed.invalidate("c");
+        crashed.put("d", new DataAPIVector(new float[] {4f, 4f}));
+
+        try (VectorCache cache = VectorCache.mapped(file, 2, 3)) {
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.get("a").orElseThrow().getEmbeddings()).containsExactly(1f, 1f);
+            assertThat(cache.get("b")).isEmpty();
+            assertThat(cache.get("c")).isEmpty();
+            assertThat(cache.get("d")).isEmpty();
+            cache.put("e", new DataAPIVector(new float[] {5f, 5f}));
+            cache.put("f", new DataAPIVector(new float[] {6f, 6f}));
+            assertThat(cache.get("a").orElseThrow().getEmbeddings()).containsExactly(1f, 1f);
+            assertThat(cache.getEvictions()).isZero();
+        }
+    }
+
+    @Test
+    void shouldReadComponentRange() {
+        try (VectorCache cache = VectorCache.offHeap(4, 1)) {
+            cache.put("a", new DataAPIVector(new float[] {1f, 2f, 3f, 4f}));
+            VectorCache.CachedVector view = (VectorCache.CachedVector) cache.get("a").orElseThrow();
+            float[] target = new float[3];
+            view.get(1, target, 1, 2);
+            assertThat(target).containsExactly(0f, 2f, 3f);
+            assertThat(view.get(3)).isEqualTo(4f);
+            assertThatThrownBy(() -> view.get(3, target, 0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void shouldStoreQuantizedVectors(@TempDir Path dir) {
+        Path file = dir.resolve("int8.bin");
+        float[] embeddings = {0.5f, -1.0f, 0.25f, 0.75f};
+        try (VectorCache cache = VectorCache.mapped(file, 4, 2, VectorCache.Storage.INT8)) {
+            cache.put("a", new DataAPIVector(embeddings));
+            DataAPIVector view = cache.get("a").orElseThrow();
+            assertThat(view.getEmbeddings()).containsExactly(embeddings, within(1f / 254));
+            assertThat(view.similarity(new DataAPIVector(embeddings), SimilarityMetric.COSINE)).isCloseTo(1f, within(1e-3f));
+        }
+        assertThat(file).hasSize(2 * (Long.BYTES + Float.BYTES + 4));
+        try (VectorCache cache = VectorCache.mapped(file, 4, 2, VectorCache.Storage.INT8)) {
+            assertThat(cache.get("a").orElseThrow().getEmbeddings()).containsExactly(embeddings, within(1f / 254));
+        }
+        assertThatThrownBy(() -> VectorCache.mapped(file, 4, 2)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldPersistTypedKeys(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("typed.bin");
+        ObjectId objectId = new ObjectId();
+        UUID uuid = UUID.randomUUID();
+        try (VectorCache cache = VectorCache.mapped(file, 1, 8)) {
+            cache.put(objectId, new DataAPIVector(new float[] {1f}));
+            cache.put(uuid, new DataAPIVector(new float[] {2f}));
+            cache.put(7L, new DataAPIVector(new float[] {3f}));
+            cache.put(List.of("user", 12), new DataAPIVector(new float[] {4f}));
+        }
+        try (VectorCache cache = VectorCache.mapped(file, 1, 8)) {
+            assertThat(cache.get(objectId).orElseThrow().getEmbeddings()).containsExactly(1f);
+            assertThat(cache.get(uuid).orElseThrow().getEmbeddings()).containsExactly(2f);
+            assertThat(cache.get(7L).orElseThrow().getEmbeddings()).containsExactly(3f);
+            assertThat(cache.get(List.of("user", 12)).orElseThrow().getEmbeddings()).containsExactly(4f);
+        }
+        VectorCache other = VectorCache.mapped(dir.resolve("other.bin"), 1, 2);
+        other.put(new Object(), new DataAPIVector(new float[] {5f}));
+        assertThatThrownBy(other::close).isInstanceOf(IllegalArgumentException.class);
+        assertThat(other.isClosed()).isTrue();
+        // A serialized Java object is not accepted as index
+        Files.write(dir.resolve("typed.bin" + VectorCache.INDEX_FILE_SUFFIX), new byte[] {(byte) 0xAC, (byte) 0xED, 0, 5});
+        assertThatThrownBy(() -> VectorCache.mapped(file, 1, 8)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotBeUsableOnceClosed() {
+        VectorCache cache = VectorCache.offHeap(2, 2);
+        cache.put("a", new DataAPIVector(new float[] {1f, 2f}));
+        DataAPIVector view = cache.get("a").orElseThrow();
+        cache.close();
+        cache.close();
+        assertThat(cache.isClosed()).isTrue();
+        assertThatThrownBy(() -> cache.get("a")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.put("b", new DataAPIVector(new float[] {1f, 2f})))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(view::getEmbeddings).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,76 @@
+package com.datastax.astra.test.unit.core;
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.core.vector.ScoredResult;
+import com.datastax.astra.client.core.vector.SimilarityMetric;
+import com.datastax.astra.client.core.vector.VectorSimilarity;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Client-side similarity scoring.
+ */
+class VectorSimilarityTest {
+
+    private static final DataAPIVector QUERY = new DataAPIVector(new float[] {1f, 0f, 0f, 0f, 0f});
+
+    @Test
+    void shouldScoreLikeTheDataApi() {
+        DataAPIVector same       = new DataAPIVector(new float[] {2f, 0f, 0f, 0f, 0f});
+        DataAPIVector orthogonal = new DataAPIVector(new float[] {0f, 1f, 0f, 0f, 0f});
+        assertThat(QUERY.similarity(same, SimilarityMetric.COSINE)).isCloseTo(1f, within(1e-6f));
+        assertThat(QUERY.similarity(orthogonal, SimilarityMetric.COSINE)).isCloseTo(0.5f, within(1e-6f));
+        assertThat(QUERY.similarity(orthogonal, SimilarityMetric.DOT_PRODUCT)).isCloseTo(0.5f, within(1e-6f));
+        assertThat(QUERY.similarity(same, SimilarityMetric.EUCLIDEAN)).isCloseTo(0.5f, within(1e-6f));
+        assertThat(QUERY.similarity(QUERY, SimilarityMetric.EUCLIDEAN)).isEqualTo(1f);
+    }
+
+    @Test
+    void shouldKeepBestResults() {
+        Random random = new Random(42);
+        List<Document> docs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float[] v = new float[5];
+            for (int j = 0; j < v.length; j++) {
+                v[j] = random.nextFloat() * 2 - 1;
+            }
+            docs.add(new Document().id(i).vector(v));
+        }
+        docs.add(new Document().id("no-vector"));
+
+        List<ScoredResult<Document>> top = VectorSimilarity.topK(docs,
+                d -> d.getVector().orElse(null), QUERY, SimilarityMetric.COSINE, 10);
+        List<Float> expected = docs.stream()
+                .filter(d -> d.getVector().isPresent())
+                .map(d -> QUERY.similarity(d.getVector().get(), SimilarityMetric.COSINE))
+                .sorted((a, b) -> Float.compare(b, a))
+                .limit(10)
+                .toList();
+        assertThat(top).extracting(ScoredResult::getScore).containsExactlyElementsOf(expected);
+
+        List<ScoredResult<Document>> above = VectorSimilarity.topK(docs,
+                d -> d.getVector().orElse(null), QUERY, SimilarityMetric.COSINE, 500, 0.9f);
+        assertThat(above).allMatch(r -> r.getScore() >= 0.9f);
+    }
+
+    @Test
+    void shouldDiversifyWithMmr() {
+        List<Document> docs = List.of(
+                new Document().id("a").vector(new float[] {1f, 0.1f, 0f, 0f, 0f}),
+                new Document().id("a-copy").vector(new float[] {1f, 0.1f, 0f, 0f, 0f}),
+                new Document().id("b").vector(new float[] {0.7f, 0f, 0.7f, 0f, 0f}));
+        List<ScoredResult<Document>> relevance = VectorSimilarity.mmr(docs,
+                d -> d.getVector().orElse(null), QUERY, SimilarityMetric.COSINE, 2, 1f);
+        assertThat(relevance).extracting(r -> r.getDocument().getId(String.class)).containsExactly("a", "a-copy");
+        List<ScoredResult<Document>> diverse = VectorSimilarity.mmr(docs,
+                d -> d.getVector().orElse(null), QUERY, SimilarityMetric.COSINE, 2, 0.5f);
+        assertThat(diverse).extracting(r -> r.getDocument().getId(String.class)).containsExactly("a", "b");
+    }
+}
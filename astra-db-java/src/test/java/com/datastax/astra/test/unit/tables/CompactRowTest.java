@@ -0,0 +1,64 @@
+package com.datastax.astra.test.unit.tables;
+
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.client.tables.definition.rows.RowSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows stored by position in a shared schema.
+ */
+class CompactRowTest {
+
+    private static RowSchema schema() {
+        LinkedHashMap<String, TableColumnDefinition> columns = new LinkedHashMap<>();
+        columns.put("id", new TableColumnDefinition(TableColumnTypes.TEXT));
+        columns.put("age", new TableColumnDefinition(TableColumnTypes.INT));
+        columns.put("score", new TableColumnDefinition(TableColumnTypes.DOUBLE));
+        columns.put("active", new TableColumnDefinition(TableColumnTypes.BOOLEAN));
+        columns.put("tags", new TableColumnDefinition(TableColumnTypes.LIST));
+        return RowSchema.of(columns);
+    }
+
+    @Test
+    void shouldKeepGettersCompatible() {
+        RowSchema schema = schema();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("tags", List.of("a"));
+        values.put("id", "row1");
+        values.put("age", 42);
+        values.put("score", 1.5d);
+        values.put("active", true);
+        Row row = Row.of(schema, values);
+
+        assertThat(row.getText("id")).isEqualTo("row1");
+        assertThat(row.getInteger("age")).isEqualTo(42);
+        assertThat(row.getDouble("score")).isEqualTo(1.5d);
+        assertThat(row.getBoolean("active")).isTrue();
+        assertThat(row.getList("tags", String.class)).containsExactly("a");
+        // Schema order, same content as a regular row
+        assertThat(row.getColumnMap().keySet()).containsExactly("id", "age", "score", "active", "tags");
+        assertThat(row.getColumnMap()).isEqualTo(new Row(values).getColumnMap());
+    }
+
+    @Test
+    void shouldHandleNullsUpdatesAndExtraColumns() {
+        Row row = Row.of(schema(), null);
+        row.add("age", null);
+        row.add("extra", "value");
+        assertThat(row.getColumnMap()).containsEntry("age", null).containsEntry("extra", "value").hasSize(2);
+        row.add("age", 7L);
+        assertThat(row.get("age")).isEqualTo(7L);
+        row.getColumnMap().remove("age");
+        assertThat(row.getColumnMap()).doesNotContainKey("age").hasSize(1);
+        row.getColumnMap().entrySet().removeIf(e -> e.getKey().equals("extra"));
+        assertThat(row.getColumnMap()).isEmpty();
+    }
+}
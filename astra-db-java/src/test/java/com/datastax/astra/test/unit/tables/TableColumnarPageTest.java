@@ -0,0 +1,116 @@
+package com.datastax.astra.test.unit.tables;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.paging.Page;
+import com.datastax.astra.client.core.query.Filters;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.tables.Table;
+import com.datastax.astra.client.tables.commands.options.TableFindOptions;
+import com.datastax.astra.client.tables.commands.results.ColumnVector;
+import com.datastax.astra.client.tables.commands.results.TableColumnarPage;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.test.unit.utils.MockDataApiTransport;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Table pages decoded into columns.
+ */
+class TableColumnarPageTest {
+
+    private static final String SCHEMA = "\"projectionSchema\":{" +
+            "\"id\":{\"type\":\"text\"},\"age\":{\"type\":\"int\"},\"balance\":{\"type\":\"bigint\"}," +
+            "\"score\":{\"type\":\"double\"},\"active\":{\"type\":\"boolean\"}," +
+            "\"embedding\":{\"type\":\"vector\",\"dimension\":2}}";
+
+    private Table<Row> table(MockDataApiTransport transport) {
+        DataAPIClientOptions options = new DataAPIClientOptions()
+                .httpClientOptions(new HttpClientOptions().transport(transport));
+        return new DataAPIClient("token", options)
+                .getDatabase("http://localhost:8181")
+                .getTable("columnar");
+    }
+
+    @Test
+    void shouldDecodePageIntoColumns() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"status\":{" + SCHEMA + "}," +
+                "\"data\":{\"documents\":[" +
+                "{\"id\":\"a\",\"age\":30,\"balance\":10000000000,\"score\":\"NaN\",\"active\":true,\"embedding\":[1.0,2.0]}," +
+                "{\"id\":\"b\",\"age\":null,\"balance\":5,\"score\":1.5,\"active\":false,\"embedding\":null}," +
+                "{\"id\":\"a\",\"age\":40,\"score\":2.5,\"active\":null,\"embedding\":[3.0,4.0]}]}}");
+        TableColumnarPage page = table(transport).findPageColumnar(Filters.eq("k", 1), new TableFindOptions());
+
+        assertThat(page.getRowCount()).isEqualTo(3);
+        assertThat(page.getPageState()).isNull();
+        assertThat(page.getColumnNames()).containsExactly("id", "age", "balance", "score", "active", "embedding");
+
+        ColumnVector.StringColumn ids = page.getColumn("id", ColumnVector.StringColumn.class);
+        assertThat(ids.getDictionary()).containsExactly("a", "b");
+        assertThat(ids.getCodes()).containsExactly(0, 1, 0);
+
+        ColumnVector.IntColumn ages = page.getColumn("age", ColumnVector.IntColumn.class);
+        assertThat(ages.getValues()).containsExactly(30, 0, 40);
+        assertThat(ages.isNull(1)).isTrue();
+        assertThat(ages.getNullCount()).isEqualTo(1);
+
+        assertThat(page.getColumn("balance", ColumnVector.LongColumn.class).getValues()).containsExactly(10000000000L, 5L, 0L);
+        assertThat(page.getColumn("balance").get().isNull(2)).isTrue();
+        assertThat(page.getColumn("score", ColumnVector.DoubleColumn.class).getValues()[0]).isNaN();
+        assertThat(page.getColumn("active").get().getObject(0)).isEqualTo(true);
+        assertThat(page.getColumn("active").get().getObject(2)).isNull();
+
+        float[][] embeddings = page.getColumn("embedding", ColumnVector.VectorColumn.class).getValues();
+        assertThat(embeddings[0]).containsExactly(1f, 2f);
+        assertThat(embeddings[1]).isNull();
+        assertThat(embeddings[2]).containsExactly(3f, 4f);
+    }
+
+    @Test
+    void shouldDecodeColumnsOutsideOfSchema() {
+        MockDataApiTransport transport = new MockDataApiTransport(req -> "{\"data\":{\"documents\":[" +
+                "{\"id\":\"a\"},{\"id\":\"b\",\"extra\":{\"k\":1}},{\"id\":\"c\"}]},\"status\":{" + SCHEMA + "}}");
+        TableColumnarPage page = table(transport).findPageColumnar(Filters.eq("k", 1), new TableFindOptions());
+
+        assertThat(page.getRowCount()).isEqualTo(3);
+        assertThat(page.getColumnNames()).endsWith("embedding", "extra");
+        ColumnVector.ObjectColumn extra = page.getColumn("extra", ColumnVector.ObjectColumn.class);
+        assertThat(extra.isNull(0)).isTrue();
+        assertThat(extra.getObject(1)).isEqualTo(Map.of("k", 1));
+        assertThat(extra.isNull(2)).isTrue();
+        assertThat(page.getColumn("age", ColumnVector.IntColumn.class).getNullCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldIterateOverColumnarPages() {
+        List<String> states = new ArrayList<>();
+        MockDataApiTransport transport = new MockDataApiTransport(req -> {
+            boolean first = !req.getBody().contains("\"pageState\":\"p2\"");
+            states.add(first ? "first" : "second");
+            return "{\"status\":{" + SCHEMA + "},\"data\":{\"documents\":[{\"id\":\"x\",\"age\":1}]" +
+                    (first ? ",\"nextPageState\":\"p2\"" : "") + "}}";
+        });
+        int pages = 0;
+        for (TableColumnarPage page : table(transport).findColumnar(null, new TableFindOptions())) {
+            assertThat(page.getRowCount()).isEqualTo(1);
+            pages++;
+        }
+        assertThat(pages).isEqualTo(2);
+        assertThat(states).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldDecodeVectorColumnsOfFirstRowPage() {
+        MockDataApiTransport transport = new MockDataApiTransport(req ->
+                "{\"data\":{\"documents\":[{\"id\":\"a\",\"embedding\":[1.0,2.0]}]},\"status\":{" + SCHEMA + "}}");
+        Page<Row> page = table(transport).findPage(Filters.eq("k", 1), new TableFindOptions());
+        assertThat(page.getResults().get(0).get("embedding")).isInstanceOf(DataAPIVector.class);
+        assertThat(page.getResults().get(0).getList("embedding", Double.class)).containsExactly(1.0d, 2.0d);
+    }
+}
@@ -1,7 +1,18 @@
 package com.datastax.astra.test.unit.tables;
 
+import com.datastax.astra.client.tables.definition.TableDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionList;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionListUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMap;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMapUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSet;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSetUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionVector;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
 import com.datastax.astra.client.tables.definition.indexes.TableRegularIndexDefinition;
 import com.datastax.astra.client.tables.definition.indexes.TableIndexMapTypes;
+import com.datastax.astra.internal.serdes.DatabaseSerializer;
 import com.datastax.astra.internal.serdes.tables.RowSerializer;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +57,44 @@ class TableDefinitionSerializationTest {
         String json = serializer.marshall(idx);
         assertThat(json).contains("map_col");
     }
+
+    @Test
+    void shouldDeserializeTypedColumnDefinitions() {
+        TableDefinition definition = new TableDefinition()
+                .addColumnText("name")
+                .addColumnList("scores", TableColumnTypes.INT)
+                .addColumnSet("tags", TableColumnTypes.TEXT)
+                .addColumnMap("attributes", TableColumnTypes.TEXT, TableColumnTypes.DOUBLE)
+                .addColumnVector("embedding", new TableColumnDefinitionVector().dimension(3))
+                .addColumnUserDefinedType("home", "address")
+                .addColumnListUserDefinedType("addresses", "address")
+                .addColumnSetUserDefinedType("offices", "address")
+                .addColumnMapUserDefinedType("contacts", "address", TableColumnTypes.TEXT);
+        String json = serializer.marshall(definition);
+
+        for (TableDefinition parsed : new TableDefinition[] {
+                serializer.unMarshallBean(json, TableDefinition.class),
+                new DatabaseSerializer().unMarshallBean(json, TableDefinition.class)}) {
+            assertThat(parsed.getColumns().get("name").getType()).isEqualTo(TableColumnTypes.TEXT);
+            assertThat(parsed.getColumns().get("scores")).isInstanceOf(TableColumnDefinitionList.class);
+            assertThat(((TableColumnDefinitionList) parsed.getColumns().get("scores")).getValueType())
+                    .isEqualTo(TableColumnTypes.INT);
+            assertThat(((TableColumnDefinitionSet) parsed.getColumns().get("tags")).getValueType())
+                    .isEqualTo(TableColumnTypes.TEXT);
+            TableColumnDefinitionMap map = (TableColumnDefinitionMap) parsed.getColumns().get("attributes");
+            assertThat(map.getKeyType()).isEqualTo(TableColumnTypes.TEXT);
+            assertThat(map.getValueType()).isEqualTo(TableColumnTypes.DOUBLE);
+            assertThat(((TableColumnDefinitionVector) parsed.getColumns().get("embedding")).getDimension()).isEqualTo(3);
+            assertThat(parsed.getColumns().get("home")).isInstanceOf(TableColumnDefinitionUserDefined.class);
+            assertThat(parsed.getColumns().get("home").getUdtName()).isEqualTo("address");
+            assertThat(((TableColumnDefinitionListUserDefined) parsed.getColumns().get("addresses")).getValueType())
+                    .containsEntry("type", "userDefined")
+                    .containsEntry("udtName", "address");
+            assertThat(((TableColumnDefinitionSetUserDefined) parsed.getColumns().get("offices")).getValueType())
+                    .containsEntry("udtName", "address");
+            TableColumnDefinitionMapUserDefined udtMap = (TableColumnDefinitionMapUserDefined) parsed.getColumns().get("contacts");
+            assertThat(udtMap.getKeyType()).isEqualTo(TableColumnTypes.TEXT);
+            assertThat(udtMap.getValueType()).containsEntry("udtName", "address");
+        }
+    }
 }
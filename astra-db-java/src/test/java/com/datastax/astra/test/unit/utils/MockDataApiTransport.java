@@ -0,0 +1,33 @@
+package com.datastax.astra.test.unit.utils;
+
+import com.datastax.astra.client.core.http.DataApiTransport;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
+import com.datastax.astra.internal.api.ApiResponseHttp;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Transport replying with scripted JSON bodies and recording the requests.
+ */
+public class MockDataApiTransport implements DataApiTransport {
+
+    private final List<DataApiTransportRequest> requests = new CopyOnWriteArrayList<>();
+
+    private final Function<DataApiTransportRequest, String> responder;
+
+    public MockDataApiTransport(Function<DataApiTransportRequest, String> responder) {
+        this.responder = responder;
+    }
+
+    @Override
+    public ApiResponseHttp execute(DataApiTransportRequest request) {
+        requests.add(request);
+        return new ApiResponseHttp(responder.apply(request), 200);
+    }
+
+    public List<DataApiTransportRequest> getRequests() {
+        return requests;
+    }
+}
@@ -51,6 +51,11 @@ public class DataAPIClientProperties {
      */
     private SchemaAction schemaAction = SchemaAction.CREATE_IF_NOT_EXISTS;
 
+    /**
+     * Batching of the bulk repository operations (saveAll, findAllById, deleteAll)
+     */
+    private Repository repository = new Repository();
+
     /**
      * Advanced options for DataAPI client
      */
@@ -104,6 +109,29 @@ public class DataAPIClientProperties {
         private Serdes serdes;
     }
 
+    @Data
+    public static class Repository {
+        /**
+         * Rows per insertMany request in saveAll (at most 100)
+         */
+        private int batchSize = 50;
+
+        /**
+         * Requests in flight for saveAll, findAllById and the deletes
+         */
+        private int concurrency = 4;
+
+        /**
+         * Keys per $in lookup in findAllById (at most 100)
+         */
+        private int maxInValues = 100;
+
+        /**
+         * Seconds the estimated document count used for page totals is cached, 0 to disable the cache
+         */
+        private int estimatedCountTtlSeconds = 60;
+    }
+
     @Data
     public static class Http {
         /**
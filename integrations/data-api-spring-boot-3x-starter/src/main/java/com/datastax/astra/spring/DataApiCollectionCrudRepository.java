@@ -20,9 +20,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.NonNull;
 
 import java.lang.reflect.ParameterizedType;
@@ -56,6 +59,13 @@ import java.util.Optional;
  * }
  * </pre>
  *
+ * <p><strong>Pagination:</strong></p>
+ * <p>Pages built from a {@link Pageable} use skip and limit, each page costs as much as reading all the previous
+ * ones. For deep pagination scroll with a {@link ScrollPosition}: the returned {@link Window} carries the Data API
+ * page state as an opaque continuation token and every window costs the same. The total of a page is exact up to
+ * 1000 matching documents; beyond, it is the estimated size of the collection without a filter and a lower bound
+ * with one.</p>
+ *
  * @param <RECORD> the document type, should be annotated with {@link DataApiCollection}
  * @param <ID> the document ID type (must match the type of the field annotated with @DocumentId)
  */
@@ -101,6 +111,21 @@ public abstract class DataApiCollectionCrudRepository<RECORD, ID>
     @Getter
     protected CollectionBeanDefinition<RECORD> beanDefinition;
 
+    /**
+     * Upper bound of an exact count, the Data API refuses to count further.
+     */
+    private static final int MAX_EXACT_COUNT = 1000;
+
+    /**
+     * Cached estimated document count.
+     */
+    private volatile long estimatedCount = -1;
+
+    /**
+     * Time the estimated document count was cached at.
+     */
+    private volatile long estimatedCountTimestamp;
+
     /**
      * Initializes the repository after dependency injection.
      * <p>
@@ -297,6 +322,105 @@ public abstract class DataApiCollectionCrudRepository<RECORD, ID>
         return collection.find(filter, DataApiSpringQueryMapper.mapPageable(pageable)).toList();
     }
 
+    /**
+     * Reads one window of the entities matching the provided Data API filter.
+     * <p>
+     * The window holds one page of the Data API. When it has a next window, pass the position of its last element
+     * to read it, whatever the depth the cost of each window is the same.
+     * </p>
+     *
+     * @param filter
+     *      filter to apply
+     * @param sort
+     *      spring sort to map
+     * @param position
+     *      {@link ScrollPosition#keyset()} for the first window, then the position of the last element of the
+     *      previous window
+     * @return
+     *      matching entities of the window
+     */
+    @NonNull
+    public Window<RECORD> findAll(com.datastax.astra.client.core.query.Filter filter, @NonNull Sort sort, @NonNull ScrollPosition position) {
+        com.datastax.astra.client.collections.commands.options.CollectionFindOptions options =
+                new com.datastax.astra.client.collections.commands.options.CollectionFindOptions()
+                        .pageState(DataApiSpringQueryMapper.mapScrollPosition(position));
+        com.datastax.astra.client.core.query.Sort[] mappedSort = DataApiSpringQueryMapper.mapSort(sort);
+        if (mappedSort.length > 0) {
+            options.sort(mappedSort);
+        }
+        return DataApiSpringQueryMapper.mapPage(collection.findPage(filter, options));
+    }
+
+    /**
+     * Reads one window of the entities matching the provided example.
+     *
+     * @param example
+     *      example to map
+     * @param sort
+     *      spring sort to map
+     * @param position
+     *      {@link ScrollPosition#keyset()} for the first window, then the position of the last element of the
+     *      previous window
+     * @param <S>
+     *      entity type
+     * @return
+     *      matching entities of the window
+     * @see #findAll(com.datastax.astra.client.core.query.Filter, Sort, ScrollPosition)
+     */
+    @NonNull
+    public <S extends RECORD> Window<S> findAll(@NonNull Example<S> example, @NonNull Sort sort, @NonNull ScrollPosition position) {
+        com.datastax.astra.client.core.query.Filter filter = DataApiSpringQueryMapper.mapExample(example, new CollectionBeanDefinition<>(example.getProbeType()));
+        com.datastax.astra.client.collections.commands.options.CollectionFindOptions options =
+                new com.datastax.astra.client.collections.commands.options.CollectionFindOptions()
+                        .pageState(DataApiSpringQueryMapper.mapScrollPosition(position));
+        com.datastax.astra.client.core.query.Sort[] mappedSort = DataApiSpringQueryMapper.mapSort(sort);
+        if (mappedSort.length > 0) {
+            options.sort(mappedSort);
+        }
+        return DataApiSpringQueryMapper.mapPage(collection.findPage(filter, options, example.getProbeType()));
+    }
+
+    /**
+     * Estimated number of documents in the collection, cached for
+     * {@code astra.data-api.repository.estimated-count-ttl-seconds}.
+     *
+     * @return
+     *      estimated document count
+     */
+    public long estimatedCount() {
+        long ttlMillis = (yamlConfig == null || yamlConfig.getRepository() == null)
+                ? 0 : yamlConfig.getRepository().getEstimatedCountTtlSeconds() * 1000L;
+        long now = System.currentTimeMillis();
+        if (estimatedCount < 0 || now - estimatedCountTimestamp >= ttlMillis) {
+            estimatedCount = collection.estimatedDocumentCount();
+            estimatedCountTimestamp = now;
+        }
+        return estimatedCount;
+    }
+
+    /**
+     * Total of a page: exact up to {@value #MAX_EXACT_COUNT} documents. Beyond, the estimated size of the
+     * collection when there is no filter, else a lower bound as the estimate does not apply to a filter.
+     *
+     * @param filter
+     *      filter of the page
+     * @param known
+     *      matching documents known to exist, up to the end of the page
+     * @return
+     *      total number of matching documents, or a lower bound of it
+     */
+    protected long countTotal(com.datastax.astra.client.core.query.Filter filter, long known) {
+        try {
+            return collection.countDocuments(filter, MAX_EXACT_COUNT);
+        } catch (TooManyDocumentsToCountException e) {
+            long lowerBound = Math.max(MAX_EXACT_COUNT + 1L, known);
+            if (filter == null || filter.getDocumentMap().isEmpty()) {
+                return Math.max(lowerBound, estimatedCount());
+            }
+            return lowerBound;
+        }
+    }
+
     @Override
     @NonNull
     public Iterable<RECORD> findAllById(@NonNull Iterable<ID> ids) {
@@ -379,7 +503,9 @@ public abstract class DataApiCollectionCrudRepository<RECORD, ID>
         com.datastax.astra.client.core.query.Filter filter = DataApiSpringQueryMapper.mapExample(example, new CollectionBeanDefinition<>(example.getProbeType()));
         com.datastax.astra.client.collections.commands.options.CollectionFindOptions options = DataApiSpringQueryMapper.mapPageable(pageable);
         java.util.List<S> content = collection.find(filter, options, example.getProbeType()).toList();
-        return new org.springframework.data.domain.PageImpl<>(content, pageable, content.size());
+        // Counted only when the total cannot be derived from the page itself
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countTotal(filter, pageable.getOffset() + content.size()));
     }
 
     @Override
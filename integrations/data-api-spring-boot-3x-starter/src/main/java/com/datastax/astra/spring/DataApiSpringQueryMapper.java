@@ -8,11 +8,15 @@ import com.datastax.astra.internal.reflection.CollectionBeanDefinition;
 import com.datastax.astra.internal.reflection.EntityFieldDefinition;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,11 @@ import java.util.Optional;
  */
 public final class DataApiSpringQueryMapper {
 
+    /**
+     * Key of the Data API page state in a {@link KeysetScrollPosition}.
+     */
+    public static final String PAGE_STATE = "pageState";
+
     private DataApiSpringQueryMapper() {
     }
 
@@ -142,6 +151,61 @@ public final class DataApiSpringQueryMapper {
         return options;
     }
 
+    /**
+     * Maps a Spring {@link ScrollPosition} to a Data API page state.
+     * <p>
+     * The page state is an opaque token carried as the {@value #PAGE_STATE} key of a forward
+     * {@link KeysetScrollPosition}, offsets and backward scrolling are not supported by the Data API.
+     * </p>
+     *
+     * @param position
+     *      scroll position, initial or returned by a previous window
+     * @return
+     *      page state to resume from, or {@code null} for the first page
+     */
+    public static String mapScrollPosition(ScrollPosition position) {
+        if (position == null || position.isInitial()) {
+            return null;
+        }
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset scroll positions returned by a previous window are supported, got " + position);
+        }
+        if (keyset.scrollsBackward()) {
+            throw new IllegalArgumentException("The Data API page state can only scroll forward");
+        }
+        Object pageState = keyset.getKeys().get(PAGE_STATE);
+        if (!(pageState instanceof String)) {
+            throw new IllegalArgumentException("Scroll position does not carry a '" + PAGE_STATE + "' key");
+        }
+        return (String) pageState;
+    }
+
+    /**
+     * Maps a Data API page to a Spring {@link Window}.
+     * <p>
+     * Only the position of the last element can be resumed, as the page state points after the page.
+     * </p>
+     *
+     * @param page
+     *      page returned by findPage
+     * @param <T>
+     *      entity type
+     * @return
+     *      window with the next position when there are more results
+     */
+    public static <T> Window<T> mapPage(com.datastax.astra.client.core.paging.Page<T> page) {
+        List<T> content = page.getResults();
+        Optional<String> nextPageState = page.getPageState();
+        return Window.from(content, index -> {
+            if (index != content.size() - 1) {
+                throw new UnsupportedOperationException("Only the position of the last element of a window can be resumed");
+            }
+            return nextPageState
+                    .<ScrollPosition>map(pageState -> ScrollPosition.forward(Map.of(PAGE_STATE, pageState)))
+                    .orElseThrow(() -> new IllegalStateException("No results after this window"));
+        }, nextPageState.isPresent());
+    }
+
     /**
      * Creates an id-in filter from an iterable of ids.
      *
@@ -6,6 +6,8 @@ import com.datastax.astra.client.core.query.Filter;
 import com.datastax.astra.client.core.query.Filters;
 import com.datastax.astra.client.databases.Database;
 import com.datastax.astra.client.tables.Table;
+import com.datastax.astra.client.tables.commands.options.TableFindOptions;
+import com.datastax.astra.client.tables.commands.options.TableInsertManyOptions;
 import com.datastax.astra.client.tables.definition.TableDefinition;
 import com.datastax.astra.client.tables.exceptions.TooManyRowsToCountException;
 import com.datastax.astra.client.tables.mapping.Column;
@@ -16,8 +18,12 @@ import com.datastax.astra.client.tables.mapping.TablePrimaryKey;
 import com.datastax.astra.client.tables.mapping.TablePrimaryKeyClass;
 import com.datastax.astra.internal.reflection.EntityTableBeanDefinition;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.lang.NonNull;
 
@@ -26,9 +32,16 @@ import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -125,6 +138,16 @@ import java.util.stream.Collectors;
  * }
  * </pre>
  *
+ * <p><strong>Bulk Operations:</strong></p>
+ * <p>{@code saveAll} sends unordered {@code insertMany} requests, {@code findAllById} groups the keys
+ * into {@code $in} lookups and the bulk deletes run {@code deleteOne} requests in parallel. Batch size and
+ * concurrency are set under {@code astra.data-api.repository}. As the chunks of {@code saveAll} are sent in
+ * any order, entities sharing a primary key are reduced to the last one before the insert.</p>
+ *
+ * <p><strong>Pagination:</strong></p>
+ * <p>Scroll through large result sets with a {@link ScrollPosition}, the returned {@link Window} carries the
+ * Data API page state as an opaque continuation token.</p>
+ *
  * @param <ROW> the entity type, must be annotated with {@link EntityTable}
  * @param <PK> the primary key type (single field, Map&lt;String, Object&gt;, or @TablePrimaryKeyClass annotated class)
  */
@@ -175,6 +198,11 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
     @Autowired
     protected DataAPIClientProperties yamlConfig;
 
+    /**
+     * Threads running the bulk lookups and deletes, created on first use and shut down with the repository.
+     */
+    private ExecutorService executor;
+
     /**
      * Initializes the repository after dependency injection.
      * <p>
@@ -513,6 +541,148 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
         return null;
     }
 
+    /**
+     * Gets the batching settings of the bulk operations.
+     *
+     * @return the repository settings, defaults if not configured
+     */
+    protected DataAPIClientProperties.Repository getRepositoryProperties() {
+        if (yamlConfig == null || yamlConfig.getRepository() == null) {
+            return new DataAPIClientProperties.Repository();
+        }
+        return yamlConfig.getRepository();
+    }
+
+    /**
+     * Builds the {@code $in} lookups for a set of primary keys.
+     * <p>
+     * Keys are grouped by the values of all their key columns but the last one, each group becomes an
+     * equality on those columns and a {@code $in} on the last column, split to stay under the configured
+     * number of values. With a single key column all the keys land in the same group.
+     * </p>
+     *
+     * @param pks the primary keys
+     * @return one filter per lookup
+     */
+    protected List<Filter> createPrimaryKeyInFilters(Iterable<? extends PK> pks) {
+        List<String> allKeyColumns = new ArrayList<>(partitionKeyColumns);
+        allKeyColumns.addAll(clusteringColumns);
+        List<String> prefixColumns = allKeyColumns.subList(0, allKeyColumns.size() - 1);
+        String lastColumn = allKeyColumns.get(allKeyColumns.size() - 1);
+
+        Map<List<Object>, List<Object>> groups = new LinkedHashMap<>();
+        for (PK pk : pks) {
+            Map<String, Object> pkMap = primaryKeyToMap(pk);
+            List<Object> prefix = new ArrayList<>();
+            for (String keyColumn : allKeyColumns) {
+                if (pkMap.get(keyColumn) == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Primary key must contain value for column '%s'", keyColumn));
+                }
+                if (!keyColumn.equals(lastColumn)) {
+                    prefix.add(pkMap.get(keyColumn));
+                }
+            }
+            groups.computeIfAbsent(prefix, k -> new ArrayList<>()).add(pkMap.get(lastColumn));
+        }
+
+        int maxInValues = Math.max(1, getRepositoryProperties().getMaxInValues());
+        List<Filter> filters = new ArrayList<>();
+        for (Map.Entry<List<Object>, List<Object>> group : groups.entrySet()) {
+            List<Object> values = group.getValue().stream().distinct().collect(Collectors.toList());
+            for (int i = 0; i < values.size(); i += maxInValues) {
+                List<Filter> conditions = new ArrayList<>();
+                for (int c = 0; c < prefixColumns.size(); c++) {
+                    conditions.add(Filters.eq(prefixColumns.get(c), group.getKey().get(c)));
+                }
+                conditions.add(Filters.in(lastColumn,
+                        values.subList(i, Math.min(i + maxInValues, values.size())).toArray()));
+                filters.add(conditions.size() == 1 ? conditions.get(0) : Filters.and(conditions));
+            }
+        }
+        return filters;
+    }
+
+    /**
+     * Gives the threads running the bulk lookups and deletes.
+     * <p>
+     * The repository owns a pool sized with the configured concurrency, shared by all the calls so the requests in
+     * flight stay bounded whatever the number of callers. Override to run them on an executor of the application,
+     * the repository then leaves its lifecycle to the application.
+     * </p>
+     *
+     * @return the executor of the bulk requests
+     */
+    protected synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threads = new AtomicInteger();
+            String prefix = "data-api-" + entityClass.getSimpleName().toLowerCase() + "-";
+            executor = Executors.newFixedThreadPool(Math.max(1, getRepositoryProperties().getConcurrency()), task -> {
+                Thread thread = new Thread(task, prefix + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    /**
+     * Shuts down the threads of the bulk requests when the repository is destroyed.
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Runs tasks with at most the configured number of requests in flight.
+     *
+     * @param tasks the tasks to run
+     * @param <T> the result type of the tasks
+     * @return the results, in the order of the tasks
+     */
+    protected <T> List<T> runBounded(List<Callable<T>> tasks) {
+        int concurrency = Math.max(1, Math.min(getRepositoryProperties().getConcurrency(), tasks.size()));
+        List<T> results = new ArrayList<>();
+        if (concurrency <= 1) {
+            for (Callable<T> task : tasks) {
+                try {
+                    results.add(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return results;
+        }
+        ExecutorService executor = getExecutor();
+        List<Future<T>> futures = new ArrayList<>();
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the Data API requests", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // Tasks left after a failure are not needed anymore
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
     // ==================== CrudRepository Implementation ====================
 
     @Override
@@ -533,7 +703,22 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
         }
         List<S> result = new ArrayList<>();
         for (S entity : entities) {
-            result.add(save(entity));
+            if (entity == null) {
+                throw new IllegalArgumentException("Entity must not be null");
+            }
+            result.add(entity);
+        }
+        if (!result.isEmpty()) {
+            // Inserts are upserts on tables and the chunks can go in any order, only the last entity of a key is sent
+            Map<Map<String, Object>, S> lastByKey = new LinkedHashMap<>();
+            for (S entity : result) {
+                lastByKey.put(primaryKeyToMap(extractPrimaryKey(entity)), entity);
+            }
+            DataAPIClientProperties.Repository settings = getRepositoryProperties();
+            dataAPITable.insertMany(new ArrayList<>(lastByKey.values()), new TableInsertManyOptions()
+                    .ordered(false)
+                    .chunkSize(Math.max(1, settings.getBatchSize()))
+                    .concurrency(Math.max(1, settings.getConcurrency())));
         }
         return result;
     }
@@ -565,13 +750,44 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
         if (pks == null) {
             throw new IllegalArgumentException("Primary keys must not be null");
         }
-        List<ROW> result = new ArrayList<>();
-        for (PK pk : pks) {
-            findById(pk).ifPresent(result::add);
+        List<PK> keys = new ArrayList<>();
+        pks.forEach(keys::add);
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
         }
+        List<Callable<List<ROW>>> lookups = new ArrayList<>();
+        for (Filter filter : createPrimaryKeyInFilters(keys)) {
+            lookups.add(() -> dataAPITable.find(filter).toList());
+        }
+        List<ROW> result = new ArrayList<>();
+        runBounded(lookups).forEach(result::addAll);
         return result;
     }
 
+    /**
+     * Reads one window of the rows matching the provided Data API filter.
+     * <p>
+     * The window holds one page of the Data API. When it has a next window, pass the position of its last element
+     * to read it, whatever the depth the cost of each window is the same.
+     * </p>
+     *
+     * @param filter the filter to apply
+     * @param sort the spring sort to map
+     * @param position {@link ScrollPosition#keyset()} for the first window, then the position of the last element
+     *                 of the previous window
+     * @return the matching rows of the window
+     */
+    @NonNull
+    public Window<ROW> findAll(Filter filter, @NonNull Sort sort, @NonNull ScrollPosition position) {
+        TableFindOptions options = new TableFindOptions()
+                .pageState(DataApiSpringQueryMapper.mapScrollPosition(position));
+        com.datastax.astra.client.core.query.Sort[] mappedSort = DataApiSpringQueryMapper.mapSort(sort);
+        if (mappedSort.length > 0) {
+            options.sort(mappedSort);
+        }
+        return DataApiSpringQueryMapper.mapPage(dataAPITable.findPage(filter, options));
+    }
+
     @Override
     public long count() {
         try {
@@ -604,9 +820,15 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
         if (pks == null) {
             throw new IllegalArgumentException("Primary keys must not be null");
         }
+        List<Callable<Void>> deletes = new ArrayList<>();
         for (PK pk : pks) {
-            deleteById(pk);
+            Filter filter = createPrimaryKeyFilter(pk);
+            deletes.add(() -> {
+                dataAPITable.deleteOne(filter);
+                return null;
+            });
         }
+        runBounded(deletes);
     }
 
     @Override
@@ -614,9 +836,11 @@ public abstract class DataApiTableCrudRepository<ROW, PK> implements CrudReposit
         if (entities == null) {
             throw new IllegalArgumentException("Entities must not be null");
         }
+        List<PK> pks = new ArrayList<>();
         for (ROW entity : entities) {
-            delete(entity);
+            pks.add(extractPrimaryKey(entity));
         }
+        deleteAllById(pks);
     }
 
     @Override
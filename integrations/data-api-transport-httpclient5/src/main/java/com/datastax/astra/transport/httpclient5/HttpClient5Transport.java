@@ -0,0 +1,241 @@
+package com.datastax.astra.transport.httpclient5;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.core.http.DataApiTransport;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
+import com.datastax.astra.internal.api.ApiResponseHttp;
+import com.datastax.astra.internal.http.HttpCompression;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * {@link DataApiTransport} based on the Apache HttpClient 5 async client: a non-blocking I/O reactor with a
+ * configurable number of event loops, a bounded connection pool and HTTP/2 multiplexing negotiated over TLS.
+ * <p>
+ * Plug it with the {@code transport} option of the {@code HttpClientOptions}, the client keeps handling retries,
+ * timeouts and deadlines above it. The compression settings of the {@code HttpClientOptions} apply to the default
+ * JDK transport only, this one compresses with its own {@link HttpClient5TransportOptions}.
+ * </p>
+ * <pre>
+ * {@code
+ * HttpClient5Transport transport = new HttpClient5Transport(new HttpClient5TransportOptions()
+ *   .maxConnectionsPerRoute(8)
+ *   .maxConcurrentStreams(200)
+ *   .ioThreads(2));
+ * DataAPIClient client = new DataAPIClient(token, new DataAPIClientOptions()
+ *   .httpClientOptions(new HttpClientOptions().transport(transport)));
+ * }
+ * </pre>
+ * The transport owns its client and its threads, close it when the Data API client is not used anymore.
+ */
+public class HttpClient5Transport implements DataApiTransport, Closeable {
+
+    /** Async client sending the requests. */
+    private final CloseableHttpAsyncClient httpClient;
+
+    /** Minimum size of a request body to be compressed, negative to disable. */
+    private final int compressionThreshold;
+
+    /** Accept compressed responses. */
+    private final boolean acceptCompressedResponses;
+
+    /**
+     * Transport with the default settings.
+     */
+    public HttpClient5Transport() {
+        this(new HttpClient5TransportOptions());
+    }
+
+    /**
+     * Build and start the async client from the settings.
+     *
+     * @param options
+     *      settings of the transport
+     */
+    public HttpClient5Transport(HttpClient5TransportOptions options) {
+        this(HttpAsyncClients.custom()
+                        .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                                .setMaxConnTotal(options.getMaxConnections())
+                                .setMaxConnPerRoute(options.getMaxConnectionsPerRoute())
+                                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                        .setConnectTimeout(Timeout.of(options.getConnectTimeout()))
+                                        .build())
+                                .setDefaultTlsConfig(TlsConfig.custom()
+                                        .setVersionPolicy(options.getVersionPolicy())
+                                        .build())
+                                .build())
+                        .setIOReactorConfig(IOReactorConfig.custom()
+                                .setIoThreadCount(Math.max(1, options.getIoThreads()))
+                                .setSndBufSize(Math.max(0, options.getSocketSendBufferSize()))
+                                .setRcvBufSize(Math.max(0, options.getSocketReceiveBufferSize()))
+                                .build())
+                        .setH2Config(H2Config.custom()
+                                .setMaxConcurrentStreams(Math.max(1, options.getMaxConcurrentStreams()))
+                                .build())
+                        .build(),
+                options.getCompressionThreshold(), options.isAcceptCompressedResponses());
+    }
+
+    /**
+     * Use an async client of the application, for instance to share its I/O reactor. It is started if needed.
+     *
+     * @param httpClient
+     *      async client
+     * @param compressionThreshold
+     *      minimum size of a request body to be compressed, negative to disable
+     * @param acceptCompressedResponses
+     *      accept gzip or deflate encoded responses
+     */
+    public HttpClient5Transport(CloseableHttpAsyncClient httpClient, int compressionThreshold, boolean acceptCompressedResponses) {
+        this.httpClient                = httpClient;
+        this.compressionThreshold      = compressionThreshold;
+        this.acceptCompressedResponses = acceptCompressedResponses;
+        this.httpClient.start();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ApiResponseHttp execute(DataApiTransportRequest request) throws IOException, InterruptedException {
+        long cpuNanos  = 0;
+        byte[] payload = request.getBody().getBytes(StandardCharsets.UTF_8);
+        byte[] wire    = payload;
+        SimpleHttpRequest httpRequest = SimpleHttpRequest.create(request.getMethod(), request.getUri());
+        String contentType = null;
+        for (Map.Entry<String, List<String>> header : request.getHeaders().entrySet()) {
+            for (String value : header.getValue()) {
+                if (header.getKey().equalsIgnoreCase("Content-Type")) {
+                    contentType = value;
+                } else {
+                    httpRequest.addHeader(header.getKey(), value);
+                }
+            }
+        }
+        if (compressionThreshold >= 0 && payload.length >= compressionThreshold) {
+            long start = HttpCompression.currentThreadCpuTime();
+            wire = HttpCompression.gzip(payload);
+            cpuNanos += HttpCompression.currentThreadCpuTime() - start;
+            httpRequest.addHeader(HttpCompression.HEADER_CONTENT_ENCODING, HttpCompression.ENCODING_GZIP);
+        }
+        if (acceptCompressedResponses) {
+            httpRequest.addHeader(HttpCompression.HEADER_ACCEPT_ENCODING,
+                    HttpCompression.ENCODING_GZIP + ", " + HttpCompression.ENCODING_DEFLATE);
+        }
+        httpRequest.setBody(wire, contentType != null ? ContentType.parse(contentType) : ContentType.APPLICATION_JSON);
+        if (request.getTimeout() != null) {
+            httpRequest.setConfig(RequestConfig.custom()
+                    .setResponseTimeout(Timeout.of(request.getTimeout()))
+                    .build());
+        }
+
+        SimpleHttpResponse response = await(httpClient.execute(httpRequest, null), request);
+        byte[] received = response.getBodyBytes() != null ? response.getBodyBytes() : new byte[0];
+        Header encodingHeader = response.getFirstHeader(HttpCompression.HEADER_CONTENT_ENCODING);
+        String contentEncoding = encodingHeader != null ? encodingHeader.getValue() : null;
+        byte[] body = received;
+        if (contentEncoding != null) {
+            long start = HttpCompression.currentThreadCpuTime();
+            try (InputStream in = HttpCompression.decode(new ByteArrayInputStream(received), contentEncoding)) {
+                body = in.readAllBytes();
+            }
+            cpuNanos += HttpCompression.currentThreadCpuTime() - start;
+        }
+
+        // Repeated headers are combined as a comma separated list
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.merge(header.getName(), header.getValue(), (first, next) -> first + ", " + next);
+        }
+        ApiResponseHttp res = new ApiResponseHttp(new String(body, StandardCharsets.UTF_8), response.getCode(), headers);
+        res.setRequestBodySize(payload.length);
+        res.setRequestWireSize(wire.length);
+        res.setResponseBodySize(body.length);
+        res.setResponseWireSize(received.length);
+        res.setCompressionCpuNanos(cpuNanos);
+        return res;
+    }
+
+    /**
+     * Wait for a response, cancelling the exchange when interrupted or past the timeout of the request.
+     */
+    private SimpleHttpResponse await(Future<SimpleHttpResponse> future, DataApiTransportRequest request)
+    throws IOException, InterruptedException {
+        try {
+            return request.getTimeout() != null
+                    ? future.get(request.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                    : future.get();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new HttpTimeoutException("Request to " + request.getUri() + " timed out after " + request.getTimeout());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Request to " + request.getUri() + " failed", e.getCause());
+        }
+    }
+
+    /**
+     * Gets httpClient
+     *
+     * @return value of httpClient
+     */
+    public CloseableHttpAsyncClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Close the client, letting the requests in flight complete, and stop its I/O reactor.
+     */
+    @Override
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+}
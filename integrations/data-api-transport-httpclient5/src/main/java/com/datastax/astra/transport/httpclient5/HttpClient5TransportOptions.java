@@ -0,0 +1,183 @@
+package com.datastax.astra.transport.httpclient5;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link HttpClient5Transport}: connection pool, HTTP/2 multiplexing, I/O reactor and compression.
+ */
+@Setter
+@Accessors(fluent = true, chain = true)
+public class HttpClient5TransportOptions {
+
+    /**
+     * Maximum number of connections, all routes included.
+     */
+    int maxConnections = 100;
+
+    /**
+     * Maximum number of connections to one route (database endpoint). With HTTP/2 a single connection carries
+     * many concurrent streams.
+     */
+    int maxConnectionsPerRoute = 50;
+
+    /**
+     * Protocol selection, HTTP/2 is negotiated with ALPN over TLS by default.
+     */
+    HttpVersionPolicy versionPolicy = HttpVersionPolicy.NEGOTIATE;
+
+    /**
+     * Maximum number of concurrent HTTP/2 streams per connection.
+     */
+    int maxConcurrentStreams = 100;
+
+    /**
+     * Number of I/O reactor threads (event loops).
+     */
+    int ioThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Socket send buffer size in bytes, 0 for the system default.
+     */
+    int socketSendBufferSize = 0;
+
+    /**
+     * Socket receive buffer size in bytes, 0 for the system default.
+     */
+    int socketReceiveBufferSize = 0;
+
+    /**
+     * Timeout to establish a connection.
+     */
+    Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Minimum size of a request body to be compressed with gzip, negative to disable.
+     */
+    int compressionThreshold = -1;
+
+    /**
+     * Accept gzip or deflate encoded responses.
+     */
+    boolean acceptCompressedResponses = false;
+
+    /**
+     * Default constructor.
+     */
+    public HttpClient5TransportOptions() {
+        // left blank, fluent setters
+    }
+
+    /**
+     * Gets maxConnections
+     *
+     * @return value of maxConnections
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Gets maxConnectionsPerRoute
+     *
+     * @return value of maxConnectionsPerRoute
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Gets versionPolicy
+     *
+     * @return value of versionPolicy
+     */
+    public HttpVersionPolicy getVersionPolicy() {
+        return versionPolicy;
+    }
+
+    /**
+     * Gets maxConcurrentStreams
+     *
+     * @return value of maxConcurrentStreams
+     */
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * Gets ioThreads
+     *
+     * @return value of ioThreads
+     */
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * Gets socketSendBufferSize
+     *
+     * @return value of socketSendBufferSize
+     */
+    public int getSocketSendBufferSize() {
+        return socketSendBufferSize;
+    }
+
+    /**
+     * Gets socketReceiveBufferSize
+     *
+     * @return value of socketReceiveBufferSize
+     */
+    public int getSocketReceiveBufferSize() {
+        return socketReceiveBufferSize;
+    }
+
+    /**
+     * Gets connectTimeout
+     *
+     * @return value of connectTimeout
+     */
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Gets compressionThreshold
+     *
+     * @return value of compressionThreshold
+     */
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    /**
+     * Gets acceptCompressedResponses
+     *
+     * @return value of acceptCompressedResponses
+     */
+    public boolean isAcceptCompressedResponses() {
+        return acceptCompressedResponses;
+    }
+}
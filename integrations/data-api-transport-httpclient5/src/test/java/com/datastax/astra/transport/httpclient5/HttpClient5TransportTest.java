@@ -0,0 +1,136 @@
+package com.datastax.astra.transport.httpclient5;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.collections.commands.results.CollectionDeleteResult;
+import com.datastax.astra.client.core.http.DataApiTransportRequest;
+import com.datastax.astra.client.core.http.HttpClientOptions;
+import com.datastax.astra.client.core.options.DataAPIClientOptions;
+import com.datastax.astra.client.core.query.Filters;
+import com.datastax.astra.internal.api.ApiResponseHttp;
+import com.datastax.astra.internal.http.HttpCompression;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpClient5TransportTest {
+
+    private static final String PAYLOAD = "{\"insertMany\":{\"documents\":[" +
+            "{\"$vector\":[0.1,0.2,0.3,0.4]},".repeat(500) + "{}]}}";
+
+    private final Map<String, Object> received = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    private URI uri;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            received.put("encoding", encoding == null ? "identity" : encoding);
+            received.put("feature", exchange.getRequestHeaders().getOrDefault("Feature", List.of()));
+            String body;
+            try (InputStream in = HttpCompression.decode(exchange.getRequestBody(), encoding)) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            received.put("body", body);
+            if (exchange.getRequestURI().getPath().endsWith("slow")) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] response = (body.contains("deleteMany")
+                    ? "{\"status\":{\"deletedCount\":3}}" : PAYLOAD).getBytes(StandardCharsets.UTF_8);
+            if (accept != null && accept.contains("gzip")) {
+                response = HttpCompression.gzip(response);
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Set-Cookie", "a=1");
+            exchange.getResponseHeaders().add("Set-Cookie", "b=2");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldSendHeadersAndReadResponse() throws Exception {
+        try (HttpClient5Transport transport = new HttpClient5Transport()) {
+            ApiResponseHttp res = transport.execute(new DataApiTransportRequest(uri, "POST",
+                    Map.of("Content-Type", List.of("application/json"), "Feature", List.of("a", "b")),
+                    "{\"find\":{}}", Duration.ofSeconds(5)));
+
+            assertThat(res.getCode()).isEqualTo(200);
+            assertThat(res.getBody()).isEqualTo(PAYLOAD);
+            assertThat(res.getHeaders()).containsEntry("Set-cookie", "a=1, b=2");
+            assertThat(received).containsEntry("encoding", "identity").containsEntry("body", "{\"find\":{}}");
+            assertThat(received.get("feature")).isEqualTo(List.of("a", "b"));
+        }
+    }
+
+    @Test
+    void shouldCompressRequestAndResponse() throws Exception {
+        try (HttpClient5Transport transport = new HttpClient5Transport(new HttpClient5TransportOptions()
+                .compressionThreshold(1024)
+                .acceptCompressedResponses(true))) {
+            ApiResponseHttp res = transport.execute(new DataApiTransportRequest(uri, "POST",
+                    Map.of("Content-Type", List.of("application/json")), PAYLOAD, null));
+
+            assertThat(received).containsEntry("encoding", "gzip").containsEntry("body", PAYLOAD);
+            assertThat(res.getBody()).isEqualTo(PAYLOAD);
+            assertThat(res.getRequestWireSize()).isLessThan(res.getRequestBodySize());
+            assertThat(res.getResponseWireSize()).isLessThan(res.getResponseBodySize());
+        }
+    }
+
+    @Test
+    void shouldTimeOut() {
+        try (HttpClient5Transport transport = new HttpClient5Transport()) {
+            assertThatThrownBy(() -> transport.execute(new DataApiTransportRequest(uri.resolve("/slow"), "POST",
+                    Map.of(), "{}", Duration.ofMillis(200))))
+                    .isInstanceOf(HttpTimeoutException.class);
+        }
+    }
+
+    @Test
+    void shouldRunCommandsOfTheClient() {
+        try (HttpClient5Transport transport = new HttpClient5Transport(new HttpClient5TransportOptions().ioThreads(1))) {
+            DataAPIClientOptions options = new DataAPIClientOptions()
+                    .httpClientOptions(new HttpClientOptions().transport(transport));
+            CollectionDeleteResult res = new DataAPIClient("token", options)
+                    .getDatabase("http://localhost:" + server.getAddress().getPort())
+                    .getCollection("transport")
+                    .deleteMany(Filters.eq("a", 1));
+
+            assertThat(res.getDeletedCount()).isEqualTo(3);
+            assertThat((String) received.get("body")).contains("deleteMany");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.datastax.astra.langchain4j.rag;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Outcome of an ingestion with {@link AstraVectorizeIngestor}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AstraVectorizeIngestionReport {
+
+    /** Documents read from the input. */
+    private final long documentsRead;
+
+    /** Documents that could not be transformed or split, or with segments refused by the store. */
+    private final long documentsFailed;
+
+    /** Positions in the input of the failed documents, in ascending order. */
+    private final List<Long> failedDocuments;
+
+    /** Text segments inserted in the store. */
+    private final long segmentsInserted;
+
+    /** Text segments refused by the store, or in batches failing after all retries. */
+    private final long segmentsFailed;
+
+    /** insertMany requests sent, retries included. */
+    private final long requests;
+
+    /** Duration of the ingestion. */
+    private final long elapsedMillis;
+
+    /**
+     * Text segments inserted per second.
+     *
+     * @return
+     *      throughput of the ingestion
+     */
+    public double getSegmentsPerSecond() {
+        return elapsedMillis == 0 ? 0 : segmentsInserted * 1000d / elapsedMillis;
+    }
+}
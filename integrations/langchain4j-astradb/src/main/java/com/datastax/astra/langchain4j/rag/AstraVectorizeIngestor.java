@@ -24,7 +24,7 @@ import com.datastax.astra.langchain4j.store.embedding.AstraDbEmbeddingStore;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.document.DocumentTransformer;
-import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.internal.ValidationUtils;
@@ -33,15 +33,22 @@ import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Adaptation of the EmbeddingStoreIngestor to work with AstraDB and Vectorize.
+ * <p>
+ * Ingestion is streamed: documents are transformed and split in parallel on a bounded pool, and their segments go
+ * through a bounded queue to concurrent insertMany writers. Large inputs can be given as an {@link Iterator},
+ * they are read as the pipeline progresses and never held in memory.
+ * </p>
  */
 public class AstraVectorizeIngestor {
 
@@ -60,6 +67,24 @@ public class AstraVectorizeIngestor {
     /** Embedding Store. */
     private final AstraDbEmbeddingStore  embeddingStore;
 
+    /** Threads transforming and splitting documents. */
+    private int splitThreads = Runtime.getRuntime().availableProcessors();
+
+    /** Threads sending insertMany requests, the concurrency of the store by default. */
+    private int writerThreads;
+
+    /** Segments per insertMany request, the chunk size of the store by default. */
+    private int batchSize;
+
+    /** Segments waiting to be inserted before splitting blocks. */
+    private int queueCapacity = 1000;
+
+    /** Retries of a batch failing for another reason than refused segments. */
+    private int maxRetries = 3;
+
+    /** Interval between progress logs in seconds, 0 to disable them. */
+    private int reportIntervalSeconds = 10;
+
     /**
      * Ingestor.
      *
@@ -77,6 +102,8 @@ public class AstraVectorizeIngestor {
         this.documentSplitter = (DocumentSplitter) Utils.getOrDefault(documentSplitter, AstraVectorizeIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
         this.embeddingStore = ValidationUtils.ensureNotNull(embeddingStore, "embeddingStore");
+        this.writerThreads = embeddingStore.concurrentThreads();
+        this.batchSize = embeddingStore.itemsPerChunk();
     }
 
     /**
@@ -152,30 +179,70 @@ public class AstraVectorizeIngestor {
      *
      * @param documents
      *      list of documents
+     * @throws IllegalStateException
+     *      if some documents could not be ingested, the others are stored
      */
     public void ingest(List<Document> documents) {
         log.debug("Starting to ingest {} documents", documents.size());
-        if (this.documentTransformer != null) {
-            documents = this.documentTransformer.transformAll(documents);
-            log.debug("Documents were transformed into {} documents", documents.size());
+        AstraVectorizeIngestionReport report = ingest(documents.iterator());
+        if (report.getDocumentsFailed() > 0) {
+            throw new IllegalStateException(report.getDocumentsFailed() + " documents out of " + report.getDocumentsRead()
+                    + " could not be ingested, positions " + report.getFailedDocuments());
+        }
+    }
+
+    /**
+     * Ingest documents as they are read.
+     * <p>
+     * A document failing to be transformed or split, or with segments refused by the store, does not stop the
+     * ingestion: it is listed in the report.
+     * </p>
+     *
+     * @param documents
+     *      documents to ingest, read once
+     * @return
+     *      report of the ingestion
+     */
+    public AstraVectorizeIngestionReport ingest(Iterator<Document> documents) {
+        VectorizeIngestionPipeline pipeline = new VectorizeIngestionPipeline(this::segments, embeddingStore,
+                splitThreads, writerThreads, batchSize, queueCapacity, maxRetries, reportIntervalSeconds * 1000L);
+        try {
+            return pipeline.run(documents);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while ingesting documents", e);
         }
+    }
 
-        List segments;
+    /**
+     * Transform and split one document.
+     *
+     * @param document
+     *      document to split
+     * @return
+     *      its segments, empty when the transformer drops the document
+     */
+    private List<TextSegment> segments(Document document) {
+        if (this.documentTransformer != null) {
+            document = this.documentTransformer.transform(document);
+            if (document == null) {
+                return Collections.emptyList();
+            }
+        }
+        List<TextSegment> segments;
         if (this.documentSplitter != null) {
-            segments = this.documentSplitter.splitAll(documents);
-            log.debug("Documents were split into {} text segments", segments.size());
+            segments = this.documentSplitter.split(document);
         } else {
-            segments = (List)documents.stream().map(Document::toTextSegment).collect(Collectors.toList());
+            segments = Collections.singletonList(document.toTextSegment());
         }
-
         if (this.textSegmentTransformer != null) {
-            segments = this.textSegmentTransformer.transformAll(segments);
-            log.debug("Text segments were transformed into {} text segments", documents.size());
+            List<TextSegment> transformed = new ArrayList<>(segments.size());
+            for (TextSegment segment : segments) {
+                transformed.add(this.textSegmentTransformer.transform(segment));
+            }
+            segments = transformed.stream().filter(Objects::nonNull).collect(Collectors.toList());
         }
-        List<Embedding> embeddings = null;
-        log.debug("Starting to store {} text segments into the embedding store", segments.size());
-        this.embeddingStore.addAllVectorize(segments);
-        log.debug("Finished storing {} text segments into the embedding store", segments.size());
+        return segments;
     }
 
     /**
@@ -205,6 +272,24 @@ public class AstraVectorizeIngestor {
         /* store. */
         private AstraDbEmbeddingStore embeddingStore;
 
+        /* split threads. */
+        private Integer splitThreads;
+
+        /* writer threads. */
+        private Integer writerThreads;
+
+        /* batch size. */
+        private Integer batchSize;
+
+        /* queue capacity. */
+        private Integer queueCapacity;
+
+        /* max retries. */
+        private Integer maxRetries;
+
+        /* report interval. */
+        private Integer reportIntervalSeconds;
+
         /**
          * Internal Constructor
          */
@@ -259,6 +344,78 @@ public class AstraVectorizeIngestor {
             return this;
         }
 
+        /**
+         * Accessor for splitThreads, number of documents transformed and split in parallel.
+         * @param splitThreads
+         *      splitThreads
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder splitThreads(int splitThreads) {
+            this.splitThreads = splitThreads;
+            return this;
+        }
+
+        /**
+         * Accessor for writerThreads, number of concurrent insertMany requests.
+         * @param writerThreads
+         *      writerThreads
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder writerThreads(int writerThreads) {
+            this.writerThreads = writerThreads;
+            return this;
+        }
+
+        /**
+         * Accessor for batchSize, number of segments per insertMany request.
+         * @param batchSize
+         *      batchSize
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Accessor for queueCapacity, number of segments waiting to be inserted before splitting blocks.
+         * @param queueCapacity
+         *      queueCapacity
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Accessor for maxRetries, retries of a batch failing for another reason than refused segments.
+         * @param maxRetries
+         *      maxRetries
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Accessor for reportIntervalSeconds, interval between progress logs, 0 to disable them.
+         * @param reportIntervalSeconds
+         *      reportIntervalSeconds
+         * @return
+         *      current ref
+         */
+        public AstraVectorizeIngestor.Builder reportIntervalSeconds(int reportIntervalSeconds) {
+            this.reportIntervalSeconds = reportIntervalSeconds;
+            return this;
+        }
+
         /**
          * Operation to build.
          *
@@ -266,11 +423,30 @@ public class AstraVectorizeIngestor {
          *      instance of the request.
          */
         public AstraVectorizeIngestor build() {
-            return new AstraVectorizeIngestor(
+            AstraVectorizeIngestor ingestor = new AstraVectorizeIngestor(
                     this.documentTransformer,
                     this.documentSplitter,
                     this.textSegmentTransformer,
                     this.embeddingStore);
+            if (splitThreads != null) {
+                ingestor.splitThreads = splitThreads;
+            }
+            if (writerThreads != null) {
+                ingestor.writerThreads = writerThreads;
+            }
+            if (batchSize != null) {
+                ingestor.batchSize = batchSize;
+            }
+            if (queueCapacity != null) {
+                ingestor.queueCapacity = queueCapacity;
+            }
+            if (maxRetries != null) {
+                ingestor.maxRetries = maxRetries;
+            }
+            if (reportIntervalSeconds != null) {
+                ingestor.reportIntervalSeconds = reportIntervalSeconds;
+            }
+            return ingestor;
         }
     }
 }
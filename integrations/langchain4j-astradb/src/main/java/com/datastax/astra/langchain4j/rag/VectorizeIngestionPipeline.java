@@ -0,0 +1,371 @@
+package com.datastax.astra.langchain4j.rag;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
+import com.datastax.astra.langchain4j.store.embedding.AstraDbEmbeddingStore;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.segment.TextSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming ingestion behind {@link AstraVectorizeIngestor}.
+ * <p>
+ * The calling thread reads the documents, a bounded pool transforms and splits them, and the segments go through
+ * a bounded queue to concurrent writers sending insertMany requests. Reading blocks while too many documents are
+ * being split or the queue is full, so memory stays bounded whatever the size of the input. A document failing
+ * to split, or with segments refused by the store, is reported and does not stop the ingestion. A failing writer
+ * stops it: reading and splitting end, and the error of the writer is thrown.
+ * </p>
+ */
+class VectorizeIngestionPipeline {
+
+    /** Logger for the class. */
+    private static final Logger log = LoggerFactory.getLogger(VectorizeIngestionPipeline.class);
+
+    /** Error code of a segment already in the store, inserted by a request that failed before returning. */
+    private static final String DOCUMENT_ALREADY_EXISTS = "DOCUMENT_ALREADY_EXISTS";
+
+    /**
+     * A segment waiting to be inserted, with the position of its document in the input.
+     */
+    private static class PendingSegment {
+
+        /** Position of the document in the input. */
+        private final long document;
+
+        /** Identifier given to the segment, so a failed insert can tell inserted segments from refused ones. */
+        private final String id;
+
+        /** Segment to insert. */
+        private final TextSegment segment;
+
+        PendingSegment(long document, TextSegment segment) {
+            this.document = document;
+            this.id       = UUID.randomUUID().toString();
+            this.segment  = segment;
+        }
+    }
+
+    /** Transforms and splits one document. */
+    private final Function<Document, List<TextSegment>> segmenter;
+
+    /** Store receiving the segments. */
+    private final AstraDbEmbeddingStore embeddingStore;
+
+    /** Threads transforming and splitting documents. */
+    private final int splitThreads;
+
+    /** Threads sending insertMany requests. */
+    private final int writerThreads;
+
+    /** Segments per insertMany request. */
+    private final int batchSize;
+
+    /** Segments waiting to be inserted before splitting blocks. */
+    private final int queueCapacity;
+
+    /** Retries of a batch failing for another reason than refused segments. */
+    private final int maxRetries;
+
+    /** Interval between progress logs. */
+    private final long reportIntervalMillis;
+
+    /** Segments waiting to be inserted. */
+    private BlockingQueue<PendingSegment> queue;
+
+    /** Documents are still being split. */
+    private volatile boolean splitting;
+
+    /** A writer failed, reading and splitting stop. */
+    private volatile boolean aborted;
+
+    /** Time of the last progress log. */
+    private volatile long lastReport;
+
+    private final AtomicLong documentsRead    = new AtomicLong();
+    private final AtomicLong segmentsInserted = new AtomicLong();
+    private final AtomicLong segmentsFailed   = new AtomicLong();
+    private final AtomicLong requests         = new AtomicLong();
+    private final Set<Long> failedDocuments   = ConcurrentHashMap.newKeySet();
+
+    VectorizeIngestionPipeline(Function<Document, List<TextSegment>> segmenter, AstraDbEmbeddingStore embeddingStore,
+                               int splitThreads, int writerThreads, int batchSize, int queueCapacity,
+                               int maxRetries, long reportIntervalMillis) {
+        this.segmenter            = segmenter;
+        this.embeddingStore       = embeddingStore;
+        this.splitThreads         = Math.max(1, splitThreads);
+        this.writerThreads        = Math.max(1, writerThreads);
+        this.batchSize            = Math.max(1, batchSize);
+        this.queueCapacity        = Math.max(this.batchSize, queueCapacity);
+        this.maxRetries           = Math.max(0, maxRetries);
+        this.reportIntervalMillis = reportIntervalMillis;
+    }
+
+    /**
+     * Ingest the documents, blocking until the last segment is inserted.
+     *
+     * @param documents
+     *      documents to ingest, read once
+     * @return
+     *      report of the ingestion
+     * @throws InterruptedException
+     *      if interrupted while waiting for the splitters or the writers
+     */
+    AstraVectorizeIngestionReport run(Iterator<Document> documents) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        lastReport = start;
+        queue      = new ArrayBlockingQueue<>(queueCapacity);
+        splitting  = true;
+        log.info("Starting ingestion: splitThreads={}, writerThreads={}, batchSize={}, queueCapacity={}",
+                splitThreads, writerThreads, batchSize, queueCapacity);
+
+        ExecutorService writers = Executors.newFixedThreadPool(writerThreads);
+        List<Future<Void>> writerFutures = new ArrayList<>();
+        for (int i = 0; i < writerThreads; i++) {
+            writerFutures.add(writers.submit(() -> {
+                try {
+                    return writeLoop();
+                } catch (Exception | Error e) {
+                    // Splitters waiting on a full queue would never be released
+                    aborted = true;
+                    throw e;
+                }
+            }));
+        }
+        ExecutorService splitters = Executors.newFixedThreadPool(splitThreads);
+        // Documents read ahead of the splitters
+        Semaphore inFlight = new Semaphore(splitThreads * 2);
+        try {
+            long position = 0;
+            while (!aborted && documents.hasNext()) {
+                Document document = documents.next();
+                long documentPosition = position++;
+                documentsRead.incrementAndGet();
+                inFlight.acquire();
+                splitters.execute(() -> {
+                    try {
+                        split(documentPosition, document);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            // Writers drain the queue then stop, also when reading the input failed
+            try {
+                splitters.shutdown();
+                if (!splitters.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                    splitters.shutdownNow();
+                }
+            } finally {
+                splitting = false;
+                try {
+                    awaitWriters(writerFutures);
+                } finally {
+                    splitters.shutdownNow();
+                    writers.shutdownNow();
+                }
+            }
+        }
+
+        AstraVectorizeIngestionReport report = new AstraVectorizeIngestionReport(
+                documentsRead.get(), failedDocuments.size(), new ArrayList<>(new TreeSet<>(failedDocuments)),
+                segmentsInserted.get(), segmentsFailed.get(), requests.get(),
+                System.currentTimeMillis() - start);
+        log.info("{} documents ingested as {} segments in {} ms (Throughput: {} segments/sec), {} documents failed",
+                report.getDocumentsRead(), report.getSegmentsInserted(), report.getElapsedMillis(),
+                Math.round(report.getSegmentsPerSecond()), report.getDocumentsFailed());
+        return report;
+    }
+
+    /**
+     * Transform and split a document, then queue its segments.
+     */
+    private void split(long position, Document document) {
+        List<TextSegment> segments;
+        try {
+            segments = segmenter.apply(document);
+        } catch (RuntimeException e) {
+            failedDocuments.add(position);
+            log.warn("Document {} could not be transformed or split: {}", position, e.getMessage());
+            return;
+        }
+        int queued = 0;
+        try {
+            while (queued < segments.size() && enqueue(new PendingSegment(position, segments.get(queued)))) {
+                queued++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (queued < segments.size()) {
+            segmentsFailed.addAndGet(segments.size() - queued);
+            failedDocuments.add(position);
+            log.warn("Document {} failed, {} segments not queued before the ingestion stopped", position,
+                    segments.size() - queued);
+        }
+    }
+
+    /**
+     * Put a segment on the queue, blocking while it is full.
+     *
+     * @return
+     *      false when the ingestion was aborted, the segment is not queued
+     */
+    private boolean enqueue(PendingSegment pending) throws InterruptedException {
+        while (!queue.offer(pending, 100, TimeUnit.MILLISECONDS)) {
+            if (aborted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insert batches of segments until the splitters are done and the queue is empty.
+     */
+    private Void writeLoop() throws InterruptedException {
+        List<PendingSegment> batch = new ArrayList<>(batchSize);
+        while (true) {
+            PendingSegment first = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                if (!splitting && queue.isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            insert(batch);
+            batch.clear();
+            logProgress();
+        }
+    }
+
+    /**
+     * Insert a batch: refused segments fail their document, other failures are retried with a backoff.
+     */
+    private void insert(List<PendingSegment> batch) throws InterruptedException {
+        int attempts = 0;
+        while (true) {
+            requests.incrementAndGet();
+            try {
+                embeddingStore.addAllVectorize(
+                        batch.stream().map(pending -> pending.id).collect(Collectors.toList()),
+                        batch.stream().map(pending -> pending.segment).collect(Collectors.toList()));
+                segmentsInserted.addAndGet(batch.size());
+                return;
+            } catch (CollectionInsertManyException e) {
+                refused(batch, e);
+                return;
+            } catch (RuntimeException e) {
+                if (++attempts > maxRetries) {
+                    log.warn("Batch of {} segments failed after {} attempts: {}", batch.size(), attempts, e.getMessage());
+                    segmentsFailed.addAndGet(batch.size());
+                    batch.forEach(pending -> failedDocuments.add(pending.document));
+                    return;
+                }
+                // The same identifiers are sent again, segments stored by the failed request come back as existing
+                Thread.sleep(100L << attempts);
+            }
+        }
+    }
+
+    /**
+     * Sort the segments of a batch refused by the store.
+     * <p>
+     * Identifiers are generated for each segment, so a segment reported as already existing was stored by a
+     * previous attempt of the same batch and counts as inserted. When the batch mixes existing segments with
+     * refused ones, the errors do not tell them apart and the segments not inserted are sent again one by one.
+     * </p>
+     */
+    private void refused(List<PendingSegment> batch, CollectionInsertManyException e) throws InterruptedException {
+        Set<String> insertedIds = e.getInsertedIds().stream().map(String::valueOf).collect(Collectors.toSet());
+        List<PendingSegment> notInserted = batch.stream()
+                .filter(pending -> !insertedIds.contains(pending.id))
+                .collect(Collectors.toList());
+        segmentsInserted.addAndGet(batch.size() - notInserted.size());
+        long existing = e.getErrors().stream()
+                .filter(error -> DOCUMENT_ALREADY_EXISTS.equals(error.getErrorCode()))
+                .count();
+        if (existing >= notInserted.size()) {
+            segmentsInserted.addAndGet(notInserted.size());
+        } else if (existing > 0) {
+            for (PendingSegment pending : notInserted) {
+                insert(Collections.singletonList(pending));
+            }
+        } else {
+            segmentsFailed.addAndGet(notInserted.size());
+            notInserted.forEach(pending -> failedDocuments.add(pending.document));
+            log.warn("{} segments refused by the store: {}", notInserted.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Wait for the writers, failing with the first error of a writer.
+     */
+    private void awaitWriters(List<Future<Void>> writerFutures) throws InterruptedException {
+        for (Future<Void> future : writerFutures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Writer failed", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Log the progress when the report interval has elapsed.
+     */
+    private void logProgress() {
+        long now = System.currentTimeMillis();
+        if (reportIntervalMillis > 0 && now - lastReport >= reportIntervalMillis) {
+            lastReport = now;
+            log.info("Ingestion progress: {} documents read, {} segments inserted, {} segments queued, {} documents failed",
+                    documentsRead.get(), segmentsInserted.get(), queue.size(), failedDocuments.size());
+        }
+    }
+}
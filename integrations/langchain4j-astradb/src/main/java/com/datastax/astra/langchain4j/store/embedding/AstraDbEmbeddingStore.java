@@ -27,6 +27,8 @@ import com.datastax.astra.client.collections.commands.options.CollectionInsertMa
 import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.core.DataAPIKeywords;
 import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.core.query.Projection;
+import com.datastax.astra.client.core.query.Sort;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -34,20 +36,30 @@ import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static com.datastax.astra.client.core.DataAPIKeywords.VECTORIZE;
 import static com.datastax.astra.client.core.query.Filters.eq;
 import static com.datastax.astra.client.core.query.Filters.in;
+import static com.datastax.astra.client.core.query.Projection.exclude;
 import static com.datastax.astra.client.core.query.Projection.include;
 import static com.datastax.astra.client.core.query.Sort.vector;
 import static com.datastax.astra.client.core.query.Sort.vectorize;
@@ -55,13 +67,17 @@ import static com.datastax.astra.client.core.query.Sort.vectorize;
 
 /**
  * Implementation of {@link EmbeddingStore} using AstraDB.
+ * <p>
+ * The batched searches run on an executor created on first use, released by {@link #close()}, or on the one
+ * provided with {@link #searchExecutor(ExecutorService)}.
+ * </p>
  *
  * @see EmbeddingStore
  */
 @Slf4j
 @Getter @Setter
 @Accessors(fluent = true)
-public class AstraDbEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class AstraDbEmbeddingStore implements EmbeddingStore<TextSegment>, AutoCloseable {
 
    /**
     * Saving the text chunk as an attribute.
@@ -88,6 +104,35 @@ public class AstraDbEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     private final int concurrentThreads;
 
+    /**
+     * Constant k of the reciprocal rank fusion, dampens the weight of the first ranks.
+     */
+    public static final int DEFAULT_RRF_K = 60;
+
+    /**
+     * Return the vectors in the results of the batched searches.
+     */
+    private boolean searchIncludeVectors = false;
+
+    /**
+     * Constant k of the reciprocal rank fusion used by the fused searches.
+     */
+    private int rrfK = DEFAULT_RRF_K;
+
+    /**
+     * Executor shared by the batched searches, {@link #concurrentThreads} daemon threads when not provided.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ExecutorService searchExecutor;
+
+    /**
+     * The search executor was created by the store, and is shut down by {@link #close()}.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean ownsSearchExecutor;
+
     /**
      * Initialization of the store with an EXISTING collection.
      *
@@ -183,6 +228,37 @@ public class AstraDbEmbeddingStore implements EmbeddingStore<TextSegment> {
         return addAll(null, textSegmentList);
     }
 
+    /**
+     * Add multiple text segments with their identifiers, the text is encoded on site in the DB.
+     * <p>
+     * With known identifiers, the segments inserted before a failure can be told apart from the
+     * refused ones using {@link com.datastax.astra.client.collections.exceptions.CollectionInsertManyException#getInsertedIds()}.
+     * </p>
+     *
+     * @param ids
+     *      identifiers of the segments
+     * @param textSegmentList
+     *      list of text segment
+     *
+     * @return list of new row if (same order as the input)
+     */
+    public List<String> addAllVectorize(List<String> ids, List<TextSegment> textSegmentList) {
+        if (ids == null || textSegmentList == null || ids.size() != textSegmentList.size()) {
+            throw new IllegalArgumentException("ids and textSegmentList must not be null and have the same size");
+        }
+        List<Document> recordList = IntStream.range(0, textSegmentList.size())
+                .mapToObj(i -> fromEmbeddingToDocument(null, textSegmentList.get(i)).id(ids.get(i)))
+                .collect(Collectors.toList());
+        CollectionInsertManyOptions options = new CollectionInsertManyOptions()
+                .chunkSize(itemsPerChunk)
+                .concurrency(concurrentThreads)
+                .ordered(false);
+        return astraDBCollection.insertMany(recordList, options)
+                .getInsertedIds().stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Add multiple embeddings as a single action.
      *
@@ -306,6 +382,214 @@ public class AstraDbEmbeddingStore implements EmbeddingStore<TextSegment> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Run several semantic searches concurrently, for multi-query retrieval (query expansion, HyDE...).
+     * <p>
+     * Queries share the bounded {@link #searchExecutor()}, results do not include the vectors
+     * unless {@link #searchIncludeVectors} is set, and each query stops reading once similarity drops
+     * below the minimum score.
+     * </p>
+     *
+     * @param queryEmbeddings
+     *      vectors of the queries
+     * @param metaDatafilter
+     *      filter for metadata, shared by the queries
+     * @param maxResults
+     *      limit per query
+     * @param minScore
+     *      threshold
+     * @return
+     *      records of each query, in the order of the queries
+     */
+    public List<List<EmbeddingMatch<TextSegment>>> searchAll(List<Embedding> queryEmbeddings, Filter metaDatafilter, int maxResults, double minScore) {
+        return searchAllSorted(queryEmbeddings.stream()
+                .map(embedding -> vector(embedding.vector()))
+                .collect(Collectors.toList()), metaDatafilter, maxResults, minScore);
+    }
+
+    /**
+     * Run several semantic searches concurrently, the queries are encoded on site in the DB.
+     *
+     * @param queries
+     *      texts of the queries
+     * @param metaDatafilter
+     *      filter for metadata, shared by the queries
+     * @param maxResults
+     *      limit per query
+     * @param minScore
+     *      threshold
+     * @return
+     *      records of each query, in the order of the queries
+     * @see #searchAll(List, Filter, int, double)
+     */
+    public List<List<EmbeddingMatch<TextSegment>>> searchAllVectorize(List<String> queries, Filter metaDatafilter, int maxResults, double minScore) {
+        return searchAllSorted(queries.stream()
+                .map(query -> vectorize(query))
+                .collect(Collectors.toList()), metaDatafilter, maxResults, minScore);
+    }
+
+    /**
+     * Run several semantic searches concurrently and fuse their results.
+     * <p>
+     * Records found by several queries appear once, ranked by reciprocal rank fusion: the sum over the queries of
+     * {@code 1 / (k + rank)}. The score of a match stays its best similarity.
+     * </p>
+     *
+     * @param queryEmbeddings
+     *      vectors of the queries
+     * @param metaDatafilter
+     *      filter for metadata, shared by the queries
+     * @param maxResults
+     *      limit per query and of the fused results
+     * @param minScore
+     *      threshold
+     * @return
+     *      fused records, best first
+     */
+    public List<EmbeddingMatch<TextSegment>> searchFused(List<Embedding> queryEmbeddings, Filter metaDatafilter, int maxResults, double minScore) {
+        return fuse(searchAll(queryEmbeddings, metaDatafilter, maxResults, minScore), maxResults);
+    }
+
+    /**
+     * Run several semantic searches concurrently, the queries are encoded on site in the DB, and fuse their results.
+     *
+     * @param queries
+     *      texts of the queries
+     * @param metaDatafilter
+     *      filter for metadata, shared by the queries
+     * @param maxResults
+     *      limit per query and of the fused results
+     * @param minScore
+     *      threshold
+     * @return
+     *      fused records, best first
+     * @see #searchFused(List, Filter, int, double)
+     */
+    public List<EmbeddingMatch<TextSegment>> searchFusedVectorize(List<String> queries, Filter metaDatafilter, int maxResults, double minScore) {
+        return fuse(searchAllVectorize(queries, metaDatafilter, maxResults, minScore), maxResults);
+    }
+
+    /**
+     * Executor of the batched searches, created on first use.
+     *
+     * @return
+     *      executor shared by the batched searches
+     */
+    public synchronized ExecutorService searchExecutor() {
+        if (searchExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            searchExecutor = Executors.newFixedThreadPool(concurrentThreads, runnable -> {
+                Thread thread = new Thread(runnable, "astra-search-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            ownsSearchExecutor = true;
+        }
+        return searchExecutor;
+    }
+
+    /**
+     * Run the batched searches on the provided executor, it stays owned by the caller and is not shut down by
+     * {@link #close()}. An executor created by the store before is shut down.
+     *
+     * @param executor
+     *      executor of the batched searches
+     * @return
+     *      current instance
+     */
+    public synchronized AstraDbEmbeddingStore searchExecutor(@NonNull ExecutorService executor) {
+        if (ownsSearchExecutor) {
+            searchExecutor.shutdown();
+        }
+        this.searchExecutor     = executor;
+        this.ownsSearchExecutor = false;
+        return this;
+    }
+
+    /**
+     * Shut down the executor of the batched searches when it was created by the store. The store can still be
+     * used, a new executor is created by the next batched search.
+     */
+    @Override
+    public synchronized void close() {
+        if (ownsSearchExecutor) {
+            searchExecutor.shutdown();
+            searchExecutor     = null;
+            ownsSearchExecutor = false;
+        }
+    }
+
+    /**
+     * Run one query per sort on the search executor. When a query fails, the other ones are cancelled and their
+     * threads interrupted.
+     */
+    private List<List<EmbeddingMatch<TextSegment>>> searchAllSorted(List<Sort> sorts, Filter metaDatafilter, int maxResults, double minScore) {
+        ExecutorService executor = searchExecutor();
+        List<Future<List<EmbeddingMatch<TextSegment>>>> futures = sorts.stream()
+                .map(sort -> executor.submit(() -> findRelevant(sort, metaDatafilter, maxResults, minScore)))
+                .collect(Collectors.toList());
+        try {
+            List<List<EmbeddingMatch<TextSegment>>> results = new ArrayList<>(futures.size());
+            for (Future<List<EmbeddingMatch<TextSegment>>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Search failed", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        }
+    }
+
+    /**
+     * One query of a batch: only the needed fields, and results are read until similarity drops below the
+     * minimum score, as they come sorted by similarity.
+     */
+    private List<EmbeddingMatch<TextSegment>> findRelevant(Sort sort, Filter metaDatafilter, int maxResults, double minScore) {
+        Projection[] projection = searchIncludeVectors
+                ? include("*")
+                : exclude(DataAPIKeywords.VECTOR.getKeyword());
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        for (Document doc : astraDBCollection.find(metaDatafilter, new CollectionFindOptions()
+                .sort(sort)
+                .limit(maxResults)
+                .projection(projection)
+                .includeSimilarity(true))) {
+            if (doc.getSimilarity().isEmpty() || doc.getSimilarity().get() < minScore) {
+                break;
+            }
+            matches.add(fromDocumentToEmbeddingMatch(doc));
+        }
+        return matches;
+    }
+
+    /**
+     * Reciprocal rank fusion of the results of several queries, de-duplicated on the embedding id.
+     */
+    private List<EmbeddingMatch<TextSegment>> fuse(List<List<EmbeddingMatch<TextSegment>>> results, int maxResults) {
+        Map<String, Double> fusedScores = new LinkedHashMap<>();
+        Map<String, EmbeddingMatch<TextSegment>> bestMatches = new LinkedHashMap<>();
+        for (List<EmbeddingMatch<TextSegment>> matches : results) {
+            for (int rank = 0; rank < matches.size(); rank++) {
+                EmbeddingMatch<TextSegment> match = matches.get(rank);
+                fusedScores.merge(match.embeddingId(), 1d / (rrfK + rank + 1), Double::sum);
+                bestMatches.merge(match.embeddingId(), match,
+                        (previous, current) -> current.score() > previous.score() ? current : previous);
+            }
+        }
+        return fusedScores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(maxResults)
+                .map(entry -> bestMatches.get(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Removes a single embedding from the store by ID.
      *
@@ -28,10 +28,13 @@ import com.datastax.astra.client.databases.Database;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.memory.ChatMemory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.datastax.astra.client.core.query.Filters.eq;
 import static com.datastax.astra.client.core.query.Sort.ascending;
+import static com.datastax.astra.client.core.query.Sort.descending;
 import static com.datastax.astra.langchain4j.store.memory.AstraDbChatMessage.PROP_MESSAGE;
 import static com.datastax.astra.langchain4j.store.memory.AstraDbChatMessage.PROP_MESSAGE_TIME;
 
@@ -55,6 +58,11 @@ public class AstraDbChatMemory implements ChatMemory {
      */
     private final Filter filter;
 
+    /**
+     * Maximum number of messages returned, the most recent ones, 0 for all of them.
+     */
+    private final int maxMessages;
+
     /**
      * Create a chat memory with an identifier and a collection.
      *
@@ -66,7 +74,24 @@ public class AstraDbChatMemory implements ChatMemory {
      *      collection to store chat messages
      */
     public AstraDbChatMemory(Database db, String collectionName, String id) {
+        this(db, collectionName, id, 0);
+    }
+
+    /**
+     * Create a chat memory returning only the most recent messages.
+     *
+     * @param db
+     *      database to store chat messages
+     * @param collectionName
+     *      identifier of the chat memory
+     * @param id
+     *      collection to store chat messages
+     * @param maxMessages
+     *      maximum number of messages returned, 0 for all of them
+     */
+    public AstraDbChatMemory(Database db, String collectionName, String id, int maxMessages) {
         this.id                   = id;
+        this.maxMessages          = maxMessages;
         this.filter = eq(AstraDbChatMessage.PROP_CHAT_ID, id);
         if (!db.collectionExists(collectionName)) {
             this.chatMemoryCollection = db.createCollection(collectionName,
@@ -77,13 +102,21 @@ public class AstraDbChatMemory implements ChatMemory {
     }
 
     /**
-     * Retrieve all chat messages from AstraDB.
+     * Retrieve chat messages from AstraDB, the most recent ones when a maximum is set.
      *
-     * @return all chat messages
+     * @return chat messages, oldest first
      */
     public List<AstraDbChatMessage> messagesAstra() {
-        CollectionFindOptions options = new CollectionFindOptions().sort(ascending(PROP_MESSAGE_TIME));
-        return chatMemoryCollection.find(filter, options).toList();
+        if (maxMessages <= 0) {
+            CollectionFindOptions options = new CollectionFindOptions().sort(ascending(PROP_MESSAGE_TIME));
+            return chatMemoryCollection.find(filter, options).toList();
+        }
+        CollectionFindOptions options = new CollectionFindOptions()
+                .sort(descending(PROP_MESSAGE_TIME))
+                .limit(maxMessages);
+        List<AstraDbChatMessage> lastMessages = new ArrayList<>(chatMemoryCollection.find(filter, options).toList());
+        Collections.reverse(lastMessages);
+        return lastMessages;
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,265 @@
+package com.datastax.astra.langchain4j.store.memory;
+
+/*-
+ * #%L
+ * Data API Java Client
+ * --
+ * Copyright (C) 2024 DataStax
+ * --
+ * Licensed under the Apache License, Version 2.0
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionFindOneOptions;
+import com.datastax.astra.client.collections.commands.options.CollectionFindOptions;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageType;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.datastax.astra.client.core.query.Filters.and;
+import static com.datastax.astra.client.core.query.Filters.eq;
+import static com.datastax.astra.client.core.query.Sort.descending;
+import static com.datastax.astra.langchain4j.store.memory.AstraDbChatMessage.PROP_CHAT_ID;
+import static com.datastax.astra.langchain4j.store.memory.AstraDbChatMessage.PROP_MESSAGE_TIME;
+import static com.datastax.astra.langchain4j.store.memory.AstraDbChatMessage.PROP_MESSAGE_TYPE;
+
+/**
+ * Implementation of ChatMemoryStore for Astra writing only the new messages of a conversation.
+ * <p>
+ * {@link AstraDbChatMemoryStore} deletes and inserts again the whole conversation on every update. This store
+ * keeps a write-through cache of the messages it knows for each conversation: an update is compared with it, and
+ * only the messages appended after the known ones are inserted. A chat turn costs one insert and no read, the
+ * conversation is read only when it is not in the cache, and then only its last {@link #windowSize()} messages.
+ * </p>
+ * <p>
+ * Messages evicted from the window of a chat memory stay in the collection as history, the system message is
+ * read back with the window. When an update does not extend the known messages, the conversation is replaced.
+ * The cache assumes a single writer per conversation.
+ * </p>
+ */
+@Slf4j
+@Getter
+@Setter
+@Accessors(fluent = true)
+public class AstraDbIncrementalChatMemoryStore implements ChatMemoryStore {
+
+    /**
+     * Default number of messages read for a conversation missing in the cache.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    /**
+     * Default number of conversations kept in the cache.
+     */
+    public static final int DEFAULT_MAX_CACHED_CONVERSATIONS = 1000;
+
+    /**
+     * Client to work with an Astra Collection
+     */
+    private final Collection<AstraDbChatMessage> chatMemoryCollection;
+
+    /**
+     * Number of messages read for a conversation missing in the cache.
+     */
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+
+    /**
+     * Number of conversations kept in the cache, least recently used ones are evicted.
+     */
+    private int maxCachedConversations = DEFAULT_MAX_CACHED_CONVERSATIONS;
+
+    /**
+     * Known messages per conversation, in access order, keyed by the chat id as stored.
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    @Setter(lombok.AccessLevel.NONE)
+    private final Map<String, Conversation> conversations = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Conversation> eldest) {
+                    return size() > maxCachedConversations;
+                }
+            });
+
+    /**
+     * Messages of a conversation as stored in the collection.
+     */
+    private static class Conversation {
+
+        /** Messages known to be stored, in order. */
+        private List<ChatMessage> messages = new ArrayList<>();
+
+        /** Time of the last message written, the next one is stored strictly after it. */
+        private Instant lastMessageTime = Instant.EPOCH;
+    }
+
+    /**
+     * Reuse a collection to store chat messages.
+     *
+     * @param collection
+     *      current collection to store chat messages
+     */
+    public AstraDbIncrementalChatMemoryStore(Collection<AstraDbChatMessage> collection) {
+        this.chatMemoryCollection = collection;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ChatMessage> getMessages(@NonNull Object chatId) {
+        Conversation conversation = conversation(String.valueOf(chatId));
+        synchronized (conversation) {
+            return new ArrayList<>(conversation.messages);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateMessages(@NonNull Object chatId, List<ChatMessage> list) {
+        if (list == null) {
+            return;
+        }
+        String id = String.valueOf(chatId);
+        Conversation conversation = conversation(id);
+        synchronized (conversation) {
+            int appendFrom = appendedFrom(conversation.messages, list);
+            if (appendFrom < 0) {
+                log.debug("Messages of conversation '{}' do not extend the known ones, replacing the conversation", id);
+                chatMemoryCollection.deleteMany(eq(PROP_CHAT_ID, id));
+                appendFrom = 0;
+            }
+            List<AstraDbChatMessage> newMessages = new ArrayList<>();
+            for (ChatMessage message : list.subList(appendFrom, list.size())) {
+                newMessages.add(toAstraDbChatMessage(id, message, conversation));
+            }
+            if (newMessages.size() == 1) {
+                chatMemoryCollection.insertOne(newMessages.get(0));
+            } else if (!newMessages.isEmpty()) {
+                chatMemoryCollection.insertMany(newMessages);
+            }
+            conversation.messages = new ArrayList<>(list);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void deleteMessages(@NonNull Object chatId) {
+        String id = String.valueOf(chatId);
+        chatMemoryCollection.deleteMany(eq(PROP_CHAT_ID, id));
+        conversations.remove(id);
+    }
+
+    /**
+     * Drop the cached messages of a conversation, they will be read again from the collection.
+     *
+     * @param chatId
+     *      conversation id
+     */
+    public void evict(@NonNull Object chatId) {
+        conversations.remove(String.valueOf(chatId));
+    }
+
+    /**
+     * Get the cached conversation, reading its last messages when missing.
+     */
+    private Conversation conversation(String chatId) {
+        Conversation conversation = conversations.get(chatId);
+        if (conversation == null) {
+            // Read outside the lock, the first conversation cached wins
+            Conversation loaded = load(chatId);
+            conversation = conversations.computeIfAbsent(chatId, k -> loaded);
+        }
+        return conversation;
+    }
+
+    /**
+     * Read the last {@link #windowSize()} messages of a conversation, preceded by its system message
+     * when it is older.
+     */
+    private Conversation load(String chatId) {
+        List<AstraDbChatMessage> lastMessages = new ArrayList<>(chatMemoryCollection.find(eq(PROP_CHAT_ID, chatId),
+                new CollectionFindOptions()
+                        .sort(descending(PROP_MESSAGE_TIME))
+                        .limit(windowSize)).toList());
+        Collections.reverse(lastMessages);
+        if (lastMessages.size() == windowSize
+                && lastMessages.stream().noneMatch(message -> message.messageType() == ChatMessageType.SYSTEM)) {
+            chatMemoryCollection.findOne(and(eq(PROP_CHAT_ID, chatId), eq(PROP_MESSAGE_TYPE, ChatMessageType.SYSTEM.name())),
+                            new CollectionFindOneOptions().sort(descending(PROP_MESSAGE_TIME)))
+                    .ifPresent(systemMessage -> lastMessages.add(0, systemMessage));
+        }
+        Conversation conversation = new Conversation();
+        for (AstraDbChatMessage message : lastMessages) {
+            conversation.messages.add(message.toChatMessage());
+            if (message.messageTime() != null && message.messageTime().isAfter(conversation.lastMessageTime)) {
+                conversation.lastMessageTime = message.messageTime();
+            }
+        }
+        return conversation;
+    }
+
+    /**
+     * Position in the updated list of the first message to insert, or -1 when the updated list does not
+     * extend the known messages. A chat memory evicts messages anywhere in its window (the system message
+     * stays first), so the updated list is the known messages in the same order, some of them removed,
+     * followed by the new ones.
+     */
+    private static int appendedFrom(List<ChatMessage> known, List<ChatMessage> updated) {
+        int nextKnown = 0;
+        int appendFrom = 0;
+        while (appendFrom < updated.size()) {
+            int match = known.subList(nextKnown, known.size()).indexOf(updated.get(appendFrom));
+            if (match < 0) {
+                break;
+            }
+            nextKnown += match + 1;
+            appendFrom++;
+        }
+        // A known message after the first new one means the conversation was reordered or rewritten
+        for (ChatMessage message : updated.subList(appendFrom, updated.size())) {
+            if (known.subList(nextKnown, known.size()).contains(message)) {
+                return -1;
+            }
+        }
+        return appendFrom;
+    }
+
+    /**
+     * Map a new message, its time is strictly after the previous one so sorting on time keeps the order.
+     */
+    private static AstraDbChatMessage toAstraDbChatMessage(String chatId, ChatMessage message, Conversation conversation) {
+        AstraDbChatMessage astraDbChatMessage = new AstraDbChatMessage(message);
+        astraDbChatMessage.chatId(chatId);
+        astraDbChatMessage.messageId(UUID.randomUUID());
+        Instant messageTime = Instant.now();
+        if (!messageTime.isAfter(conversation.lastMessageTime)) {
+            messageTime = conversation.lastMessageTime.plusMillis(1);
+        }
+        astraDbChatMessage.messageTime(messageTime);
+        conversation.lastMessageTime = messageTime;
+        return astraDbChatMessage;
+    }
+}
@@ -0,0 +1,221 @@
+package com.datastax.astra.langchain4j.rag;
+
+import com.datastax.astra.client.DataAPIClient;
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
+import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
+import com.datastax.astra.langchain4j.store.embedding.AstraDbEmbeddingStore;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class VectorizeIngestionPipelineTest {
+
+    /** Each document is split on '|'. */
+    private static final Function<Document, List<TextSegment>> SEGMENTER = document ->
+            Arrays.stream(document.text().split("\\|")).map(TextSegment::from).collect(Collectors.toList());
+
+    @Test
+    void shouldReportRefusedSegments() throws Exception {
+        StubStore store = new StubStore();
+
+        AstraVectorizeIngestionReport report = pipeline(store, 1, 3, 0)
+                .run(documents("a|b", "c|refused", "d", "refused"));
+
+        assertThat(report.getDocumentsRead()).isEqualTo(4);
+        assertThat(report.getSegmentsInserted()).isEqualTo(4);
+        assertThat(report.getSegmentsFailed()).isEqualTo(2);
+        assertThat(report.getFailedDocuments()).containsExactly(1L, 3L);
+        assertThat(store.stored.values()).containsExactlyInAnyOrder("a", "b", "c", "d");
+    }
+
+    @Test
+    void shouldCountSegmentsStoredByFailedAttemptAsInserted() throws Exception {
+        StubStore store = new StubStore();
+        store.failures.set(2);
+
+        AstraVectorizeIngestionReport report = pipeline(store, 1, 10, 3)
+                .run(documents("a|b|c", "d|e", "f|g|h|i"));
+
+        assertThat(report.getSegmentsInserted()).isEqualTo(9);
+        assertThat(report.getSegmentsFailed()).isZero();
+        assertThat(report.getFailedDocuments()).isEmpty();
+        assertThat(report.getRequests()).isGreaterThanOrEqualTo(3);
+        assertThat(store.stored).hasSize(9);
+    }
+
+    @Test
+    void shouldTellStoredSegmentsFromRefusedOnesAfterRetry() throws Exception {
+        StubStore store = new StubStore();
+        store.failures.set(1);
+
+        AstraVectorizeIngestionReport report = pipeline(store, 1, 10, 1)
+                .run(documents("a|b", "c|refused"));
+
+        // First half stored by the failed attempt, then one request per segment not inserted by the retry
+        assertThat(report.getSegmentsInserted()).isEqualTo(3);
+        assertThat(report.getSegmentsFailed()).isEqualTo(1);
+        assertThat(report.getFailedDocuments()).containsExactly(1L);
+        assertThat(store.stored.values()).containsExactlyInAnyOrder("a", "b", "c");
+    }
+
+    @Test
+    void shouldFailBatchAfterRetries() throws Exception {
+        StubStore store = new StubStore();
+        store.failures.set(Integer.MAX_VALUE);
+
+        AstraVectorizeIngestionReport report = pipeline(store, 1, 10, 2)
+                .run(documents("a|b", "c"));
+
+        assertThat(report.getSegmentsFailed()).isEqualTo(3);
+        assertThat(report.getFailedDocuments()).containsExactly(0L, 1L);
+        // Three attempts per batch
+        assertThat(report.getRequests() % 3).isZero();
+    }
+
+    @Test
+    void shouldBoundDocumentsReadAheadOfSlowStore() throws Exception {
+        StubStore store = new StubStore();
+        store.blocked = new CountDownLatch(1);
+        store.release = new CountDownLatch(1);
+        AtomicInteger read = new AtomicInteger();
+        Iterator<Document> documents = IntStream.range(0, 1000)
+                .peek(i -> read.incrementAndGet())
+                .mapToObj(i -> Document.from("segment-" + i))
+                .iterator();
+        // 2 split threads, 1 writer, batches of 5, 10 queued segments
+        VectorizeIngestionPipeline pipeline = new VectorizeIngestionPipeline(SEGMENTER, store, 2, 1, 5, 10, 0, 0);
+
+        CompletableFuture<AstraVectorizeIngestionReport> run = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pipeline.run(documents);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(store.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(500);
+
+        // Batch of the writer, queue, documents being split and the one waiting to be split
+        assertThat(read.get()).isLessThanOrEqualTo(5 + 10 + 2 * 2 + 1);
+        store.release.countDown();
+        AstraVectorizeIngestionReport report = run.get(30, TimeUnit.SECONDS);
+        assertThat(report.getSegmentsInserted()).isEqualTo(1000);
+        assertThat(store.stored).hasSize(1000);
+    }
+
+    @Test
+    void shouldStopSplittersWhenWritersFail() {
+        StubStore store = new StubStore();
+        store.crash = true;
+        Iterator<Document> documents = IntStream.range(0, 1000)
+                .mapToObj(i -> Document.from("segment-" + i))
+                .iterator();
+        VectorizeIngestionPipeline pipeline = new VectorizeIngestionPipeline(SEGMENTER, store, 2, 2, 5, 10, 0, 0);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> assertThatThrownBy(() -> pipeline.run(documents))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Writer failed"));
+    }
+
+    private static VectorizeIngestionPipeline pipeline(StubStore store, int writerThreads, int batchSize, int maxRetries) {
+        return new VectorizeIngestionPipeline(SEGMENTER, store, 1, writerThreads, batchSize, 100, maxRetries, 0);
+    }
+
+    private static Iterator<Document> documents(String... texts) {
+        List<Document> documents = new ArrayList<>();
+        for (String text : texts) {
+            documents.add(Document.from(text));
+        }
+        return documents.iterator();
+    }
+
+    /**
+     * Store keeping the segments in memory: segments with the text 'refused' are refused, identifiers already
+     * stored are reported as existing, and failing requests store the first half of their segments.
+     */
+    private static class StubStore extends AstraDbEmbeddingStore {
+
+        /** Text of the stored segments by identifier. */
+        final Map<String, String> stored = new ConcurrentHashMap<>();
+
+        /** Requests left to fail after storing half of their segments. */
+        final AtomicInteger failures = new AtomicInteger();
+
+        /** Every request fails with an error, as with a writer dying. */
+        volatile boolean crash;
+
+        /** Counted down when a request blocks on {@link #release}. */
+        volatile CountDownLatch blocked;
+
+        /** Requests wait for it when set. */
+        volatile CountDownLatch release;
+
+        StubStore() {
+            super(new DataAPIClient("token")
+                    .getDatabase("https://00000000-0000-0000-0000-000000000000-us-east1.apps.astra.datastax.com")
+                    .getCollection("stub"));
+        }
+
+        @Override
+        public List<String> addAllVectorize(List<String> ids, List<TextSegment> segments) {
+            if (crash) {
+                throw new Error("Store unavailable");
+            }
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failures.getAndDecrement() > 0) {
+                for (int i = 0; i < ids.size() / 2; i++) {
+                    stored.put(ids.get(i), segments.get(i).text());
+                }
+                throw new IllegalStateException("Request timed out");
+            }
+            List<Object> inserted = new ArrayList<>();
+            List<DataAPIErrorDescriptor> errors = new ArrayList<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (stored.containsKey(ids.get(i))) {
+                    errors.add(error("DOCUMENT_ALREADY_EXISTS"));
+                } else if ("refused".equals(segments.get(i).text())) {
+                    errors.add(error("SHRED_BAD_DOCUMENT"));
+                } else {
+                    stored.put(ids.get(i), segments.get(i).text());
+                    inserted.add(ids.get(i));
+                }
+            }
+            if (!errors.isEmpty()) {
+                throw new CollectionInsertManyException(inserted, errors.size() + " documents not inserted", errors);
+            }
+            return ids;
+        }
+
+        private static DataAPIErrorDescriptor error(String code) {
+            DataAPIErrorDescriptor error = new DataAPIErrorDescriptor();
+            error.setErrorCode(code);
+            return error;
+        }
+    }
+}
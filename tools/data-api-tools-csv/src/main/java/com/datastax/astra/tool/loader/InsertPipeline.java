@@ -0,0 +1,453 @@
+package com.datastax.astra.tool.loader;
+
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
+import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
+import com.datastax.astra.client.exceptions.DataAPIResponseException;
+import com.datastax.astra.internal.api.DataAPIResponse;
+import com.datastax.astra.internal.command.ExecutionInfos;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Bounded producer/consumer pipeline sending batches of records as ordered insertMany requests.
+ * <p>
+ * Producer tasks (file parsers, source cursors) put batches on a bounded queue, so they never run ahead of the
+ * inserts by more than the queue capacity. Insert threads send each batch as one ordered insertMany: when a
+ * record is refused, the ones before it are known to be inserted, the refused one is handed to
+ * {@link #refused(Batch, int, String)} and the insert resumes after it. A refused record already in the target,
+ * because a failed request was applied before being retried or because a resumed run sends it again, counts as
+ * skipped. Other failures are retried with a backoff, then handed to {@link #failed(Batch, int, String)}.
+ * </p>
+ * <p>
+ * A failing producer or insert thread aborts the run: the other tasks stop, including producers waiting on a full
+ * queue, and its error is reported.
+ * </p>
+ *
+ * @param <T>
+ *      type of the inserted records
+ * @param <B>
+ *      type of the batches
+ */
+@Slf4j
+public abstract class InsertPipeline<T, B extends InsertPipeline.Batch<T>> {
+
+    /**
+     * Inserts a batch, in order.
+     *
+     * @param <T>
+     *      type of the inserted records
+     */
+    @FunctionalInterface
+    public interface BatchInserter<T> {
+
+        /**
+         * Insert the records in order.
+         *
+         * @param records
+         *      records to insert
+         * @throws PartialInsertException
+         *      a record was refused, the ones before it are inserted
+         */
+        void insert(List<T> records);
+    }
+
+    /**
+     * A record of an ordered insert was refused.
+     */
+    public static class PartialInsertException extends RuntimeException {
+
+        /** Error code of a document inserted twice, expected when a batch is sent again after a retry or a resume. */
+        public static final String DOCUMENT_ALREADY_EXISTS = "DOCUMENT_ALREADY_EXISTS";
+
+        /** Records inserted before the refused one. */
+        private final int inserted;
+
+        /** The refused record is already in the target. */
+        private final boolean duplicate;
+
+        /**
+         * Constructor.
+         *
+         * @param inserted
+         *      records inserted before the refused one
+         * @param message
+         *      reason of the refusal
+         */
+        public PartialInsertException(int inserted, String message) {
+            this(inserted, false, message);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param inserted
+         *      records inserted before the refused one
+         * @param duplicate
+         *      the refused record is already in the target, sent again after a retry or a resume
+         * @param message
+         *      reason of the refusal
+         */
+        public PartialInsertException(int inserted, boolean duplicate, String message) {
+            super(message);
+            this.inserted  = inserted;
+            this.duplicate = duplicate;
+        }
+
+        /**
+         * Records inserted before the refused one.
+         *
+         * @return
+         *      number of records inserted
+         */
+        public int getInserted() {
+            return inserted;
+        }
+
+        /**
+         * Tells if the refused record is already in the target.
+         *
+         * @return
+         *      true for a duplicate
+         */
+        public boolean isDuplicate() {
+            return duplicate;
+        }
+
+        /**
+         * Refusal of an ordered insertMany on a collection, the error code of the refused document tells if it
+         * is already in the collection.
+         *
+         * @param e
+         *      error of the insertMany
+         * @return
+         *      the refusal
+         */
+        public static PartialInsertException of(CollectionInsertManyException e) {
+            List<DataAPIErrorDescriptor> errors = e.getErrors();
+            boolean duplicate = !errors.isEmpty() && DOCUMENT_ALREADY_EXISTS.equals(errors.get(0).getErrorCode());
+            return new PartialInsertException(e.getInsertedIds().size(), duplicate, e.getMessage());
+        }
+
+        /**
+         * Refusal of an ordered insertMany on a table, the rows inserted before the refused one are read from the
+         * {@code insertedIds} of the failed request.
+         *
+         * @param e
+         *      error of the insertMany
+         * @return
+         *      the refusal
+         */
+        public static PartialInsertException of(DataAPIResponseException e) {
+            List<DataAPIErrorDescriptor> errors = e.getApiErrors();
+            boolean duplicate = !errors.isEmpty() && DOCUMENT_ALREADY_EXISTS.equals(errors.get(0).getErrorCode());
+            return new PartialInsertException(insertedCount(e), duplicate, e.getMessage());
+        }
+
+        /**
+         * Records inserted by the failed request, from the {@code insertedIds} of its status.
+         *
+         * @param e
+         *      error of the insertMany
+         * @return
+         *      number of records inserted before the refused one
+         */
+        public static int insertedCount(DataAPIResponseException e) {
+            List<ExecutionInfos> commands = e.getCommandsList();
+            if (commands == null || commands.isEmpty()) {
+                return 0;
+            }
+            DataAPIResponse response = commands.get(0).getResponse();
+            if (response == null || response.getStatus() == null || response.getStatus().getInsertedIds() == null) {
+                return 0;
+            }
+            return response.getStatus().getInsertedIds().size();
+        }
+    }
+
+    /**
+     * Records sent together, subclasses add what they need to track the progress of the run.
+     *
+     * @param <T>
+     *      type of the inserted records
+     */
+    public static class Batch<T> {
+
+        /** Records to insert, in order. */
+        private final List<T> records = new ArrayList<>();
+
+        /**
+         * Records to insert, producers add to them until the batch is queued.
+         *
+         * @return
+         *      records of the batch
+         */
+        public List<T> getRecords() {
+            return records;
+        }
+    }
+
+    private final BatchInserter<T> inserter;
+
+    private final int maxRetries;
+
+    private BlockingQueue<B> queue;
+
+    private volatile boolean producing;
+
+    private volatile boolean aborted;
+
+    /** Records inserted during this run. */
+    protected final AtomicLong inserted = new AtomicLong();
+
+    /** Records refused because they were already in the target. */
+    protected final AtomicLong skipped = new AtomicLong();
+
+    /** Records refused by the target, or in batches failing after all retries. */
+    protected final AtomicLong rejected = new AtomicLong();
+
+    /** insertMany requests sent, retries included. */
+    protected final AtomicLong requests = new AtomicLong();
+
+    /** Sum of the insertMany latencies. */
+    protected final AtomicLong totalLatency = new AtomicLong();
+
+    /** Slowest insertMany. */
+    protected final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Prepare a pipeline.
+     *
+     * @param inserter
+     *      inserts a batch
+     * @param maxRetries
+     *      attempts for a batch failing without a per-record error
+     */
+    protected InsertPipeline(BatchInserter<T> inserter, int maxRetries) {
+        this.inserter   = inserter;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Run the producers and the insert threads until the producers are done and every batch is handled.
+     *
+     * @param producers
+     *      tasks putting batches on the queue with {@link #enqueue(Batch)}
+     * @param producerThreads
+     *      threads running the producers
+     * @param insertThreads
+     *      threads sending the batches
+     * @param queueCapacity
+     *      batches waiting for an insert, producers block when it is full
+     * @param deadline
+     *      time in milliseconds when the run fails with a {@link java.util.concurrent.TimeoutException}
+     * @throws Exception
+     *      error of the first failing task, or timeout
+     */
+    protected void execute(List<Callable<Void>> producers, int producerThreads, int insertThreads,
+                           int queueCapacity, long deadline) throws Exception {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        producing = true;
+        ExecutorService producerPool = Executors.newFixedThreadPool(Math.max(1, producerThreads));
+        ExecutorService insertPool = Executors.newFixedThreadPool(insertThreads);
+        try {
+            List<Future<Void>> producerTasks = new ArrayList<>();
+            for (Callable<Void> producer : producers) {
+                producerTasks.add(producerPool.submit(abortOnFailure(producer)));
+            }
+            List<Future<Void>> insertTasks = new ArrayList<>();
+            for (int i = 0; i < insertThreads; i++) {
+                insertTasks.add(insertPool.submit(abortOnFailure(this::insertLoop)));
+            }
+            await(producerTasks, deadline);
+            producing = false;
+            await(insertTasks, deadline);
+        } finally {
+            aborted = true;
+            producerPool.shutdownNow();
+            insertPool.shutdownNow();
+            insertPool.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * A failing task stops the others, so producers waiting on a full queue do not run into the timeout.
+     */
+    private Callable<Void> abortOnFailure(Callable<Void> task) {
+        return () -> {
+            try {
+                return task.call();
+            } catch (Exception | Error e) {
+                aborted = true;
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * Wait for tasks, failing on the first error.
+     */
+    private void await(List<Future<Void>> tasks, long deadline) throws Exception {
+        for (Future<Void> task : tasks) {
+            try {
+                task.get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                aborted = true;
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Tells if the run stopped, producers should return.
+     *
+     * @return
+     *      true once the run is aborted or over
+     */
+    protected boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Batches waiting for an insert.
+     *
+     * @return
+     *      size of the queue
+     */
+    protected int getQueueSize() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Put a batch on the queue, blocking while it is full. The batch is dropped when the run is aborted.
+     *
+     * @param batch
+     *      batch to insert
+     * @throws InterruptedException
+     *      the producer was interrupted
+     */
+    protected void enqueue(B batch) throws InterruptedException {
+        while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+            if (aborted) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Insert batches until the producers are done and the queue is empty.
+     */
+    private Void insertLoop() throws Exception {
+        while (!aborted) {
+            B batch = queue.poll(100, TimeUnit.MILLISECONDS);
+            if (batch == null) {
+                if (!producing && queue.isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            insert(batch);
+            completed(batch);
+        }
+        return null;
+    }
+
+    /**
+     * Insert a batch, handing over refused records and retrying failed requests.
+     */
+    private void insert(B batch) throws Exception {
+        List<T> records = batch.getRecords();
+        int offset = 0;
+        int attempts = 0;
+        int size = records.size();
+        while (offset < size) {
+            long begin = System.nanoTime();
+            try {
+                inserter.insert(records.subList(offset, size));
+                inserted.addAndGet(size - offset);
+                offset = size;
+            } catch (PartialInsertException e) {
+                inserted.addAndGet(e.getInserted());
+                offset += e.getInserted();
+                if (e.isDuplicate()) {
+                    skipped.incrementAndGet();
+                } else {
+                    rejected.incrementAndGet();
+                    refused(batch, offset, e.getMessage());
+                }
+                offset++;
+                attempts = 0;
+            } catch (RuntimeException e) {
+                if (++attempts > maxRetries) {
+                    log.warn("Batch of {} records failed after {} attempts: {}", size - offset, attempts, e.getMessage());
+                    rejected.addAndGet(size - offset);
+                    failed(batch, offset, e.getMessage());
+                    offset = size;
+                } else {
+                    Thread.sleep(100L << attempts);
+                }
+            } finally {
+                long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+                requests.incrementAndGet();
+                totalLatency.addAndGet(latency);
+                maxLatency.accumulate(latency);
+            }
+        }
+    }
+
+    /**
+     * A record was refused by the target, it is counted as rejected.
+     *
+     * @param batch
+     *      batch of the record
+     * @param index
+     *      index of the record in the batch
+     * @param error
+     *      reason of the refusal
+     * @throws IOException
+     *      cannot keep the record
+     */
+    protected void refused(B batch, int index, String error) throws IOException {
+        log.warn("Record refused by the target: {}", error);
+    }
+
+    /**
+     * The end of a batch failed after all retries, its records are counted as rejected.
+     *
+     * @param batch
+     *      the batch
+     * @param from
+     *      index of the first record not inserted
+     * @param error
+     *      last error
+     * @throws IOException
+     *      cannot keep the records
+     */
+    protected void failed(B batch, int from, String error) throws IOException {
+    }
+
+    /**
+     * A batch was handled: its records are inserted, skipped or rejected.
+     *
+     * @param batch
+     *      the batch
+     * @throws IOException
+     *      cannot save the progress
+     */
+    protected abstract void completed(B batch) throws IOException;
+}
@@ -0,0 +1,51 @@
+package com.datastax.astra.tool.loader;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of a load, whatever the format of the file.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LoadReport {
+
+    /** Records read from the file during this run. */
+    private final long rowsRead;
+
+    /** Records inserted during this run. */
+    private final long rowsInserted;
+
+    /** Records sent to the dead-letter file (or dropped when none is set). */
+    private final long rowsRejected;
+
+    /** Records refused because they were already in the collection, sent again after a retry or a resume. */
+    private final long rowsSkipped;
+
+    /** Records skipped because a previous run had loaded them. */
+    private final long rowsResumed;
+
+    /** insertMany requests sent, retries included. */
+    private final long requests;
+
+    /** Average insertMany latency. */
+    private final double averageLatencyMillis;
+
+    /** Slowest insertMany. */
+    private final long maxLatencyMillis;
+
+    /** Duration of the run. */
+    private final long elapsedMillis;
+
+    /**
+     * Records inserted per second.
+     *
+     * @return
+     *      throughput of the run
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? 0 : rowsInserted * 1000d / elapsedMillis;
+    }
+}
@@ -0,0 +1,78 @@
+package com.datastax.astra.tool.loader;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * Settings of the load pipeline shared by the file formats.
+ */
+@Getter
+@SuperBuilder
+public class LoaderSettings {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final int THREAD_POOL_SIZE = 5;
+
+    private static final int TIMEOUT = 1800;
+
+    private static final long SPLIT_SIZE = 64L * 1024 * 1024;
+
+    private static final int MAX_RETRIES = 3;
+
+    private static final int REPORT_INTERVAL = 10;
+
+    /** Records per insertMany request, at most 100. */
+    @Builder.Default
+    private int batchSize = BATCH_SIZE;
+
+    /** Number of insertMany requests in flight. */
+    @Builder.Default
+    private int threadPoolSize = THREAD_POOL_SIZE;
+
+    /** Maximum duration of the load, a checkpoint is written before failing. */
+    @Builder.Default
+    private int timeoutSeconds = TIMEOUT;
+
+    /** Batches parsed ahead of the inserts, parsers block when it is full. Defaults to twice the pool size. */
+    @Builder.Default
+    private int queueCapacity = 0;
+
+    /**
+     * Threads parsing splits of the file, cut at line feeds (outside double quotes for CSV). Gzip files and
+     * JSON arrays are always parsed by a single thread.
+     */
+    @Builder.Default
+    private int parserThreads = 1;
+
+    /** Size of a split when several parser threads are used. */
+    @Builder.Default
+    private long splitSizeBytes = SPLIT_SIZE;
+
+    /** Attempts for a batch failing without a per-record error (network, timeout). */
+    @Builder.Default
+    private int maxRetries = MAX_RETRIES;
+
+    /** Records rejected by the mapper or the Data API are appended to this file, when set. */
+    private Path deadLetterFile;
+
+    /** Progress is saved to this file, when set, and a load resumes from it. */
+    private Path checkpointFile;
+
+    /** Interval between checkpoints and progress reports. */
+    @Builder.Default
+    private int reportIntervalSeconds = REPORT_INTERVAL;
+
+    /**
+     * Number of batches waiting for an insert.
+     *
+     * @return
+     *      queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity > 0 ? queueCapacity : 2 * threadPoolSize;
+    }
+}
@@ -0,0 +1,79 @@
+package com.datastax.astra.tool.loader.csv;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Progress of a load saved on disk: every record before {@code offset} has been inserted or dead-lettered.
+ */
+@Getter
+@AllArgsConstructor
+class CsvCheckpoint {
+
+    /** Absolute path of the loaded file. */
+    private final String file;
+
+    /** Offset of the first record still to load. */
+    private final long offset;
+
+    /** Number of records before the offset. */
+    private final long rows;
+
+    /**
+     * Read a checkpoint.
+     *
+     * @param path
+     *      checkpoint file
+     * @return
+     *      the checkpoint or null if the file does not exist
+     * @throws IOException
+     *      cannot read the file
+     */
+    static CsvCheckpoint read(Path path) throws IOException {
+        if (path == null || !Files.exists(path)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return new CsvCheckpoint(
+                properties.getProperty("file"),
+                Long.parseLong(properties.getProperty("offset", "0")),
+                Long.parseLong(properties.getProperty("rows", "0")));
+    }
+
+    /**
+     * Write the checkpoint, replacing the previous one atomically when the file system allows it.
+     *
+     * @param path
+     *      checkpoint file
+     * @throws IOException
+     *      cannot write the file
+     */
+    void write(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("file", file);
+        properties.setProperty("offset", String.valueOf(offset));
+        properties.setProperty("rows", String.valueOf(rows));
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            properties.store(writer, "CSV load checkpoint");
+        }
+        try {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends rejected records to a file. CSV records are kept with the error added as a last column, records of
+ * files without header (NDJSON) are written as {@code {"error": ..., "record": ...}} lines.
+ */
+class CsvDeadLetterWriter implements Closeable {
+
+    /** Name of the column holding the error. */
+    static final String ERROR_COLUMN = "__error";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final BufferedWriter writer;
+
+    private final char separator;
+
+    private final boolean json;
+
+    /**
+     * Open the dead-letter file, writing the header when the file is new.
+     *
+     * @param path
+     *      dead-letter file, appended to when it exists (resumed loads)
+     * @param header
+     *      raw header of the loaded file, null for NDJSON
+     * @param separator
+     *      column separator
+     * @throws IOException
+     *      cannot open the file
+     */
+    CsvDeadLetterWriter(Path path, String header, char separator) throws IOException {
+        boolean exists = Files.exists(path) && Files.size(path) > 0;
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists && header != null) {
+            writer.write(header + separator + ERROR_COLUMN);
+            writer.newLine();
+        }
+        this.separator = separator;
+        this.json = header == null;
+    }
+
+    /**
+     * Append a rejected record.
+     *
+     * @param record
+     *      raw record
+     * @param error
+     *      reason of the rejection
+     * @throws IOException
+     *      cannot write the file
+     */
+    synchronized void write(String record, String error) throws IOException {
+        if (json) {
+            writer.write("{\"error\":" + JSON.writeValueAsString(error) + ",\"record\":" + JSON.writeValueAsString(record) + "}");
+        } else {
+            String message = error == null ? "" : error.replace("\"", "\"\"");
+            writer.write(record + separator + '"' + message + '"');
+        }
+        writer.newLine();
+    }
+
+    /**
+     * Push the records written so far to the file, called before a checkpoint.
+     *
+     * @throws IOException
+     *      cannot write the file
+     */
+    synchronized void flush() throws IOException {
+        writer.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,487 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.datastax.astra.tool.loader.InsertPipeline;
+import com.datastax.astra.tool.loader.LoadReport;
+import com.datastax.astra.tool.loader.LoaderSettings;
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pipeline loading a CSV or NDJSON file, plain or gzip compressed.
+ * <p>
+ * Parser threads read splits of the file through {@link CsvRecordReader} and map records into batches, inserted
+ * by an {@link InsertPipeline}: parsing never runs ahead of the inserts by more than
+ * {@link LoaderSettings#getQueueCapacity()} batches. Refused records, and records that cannot be mapped, are
+ * dead-lettered.
+ * </p>
+ * <p>
+ * Every batch covers a byte range of the file. Completed ranges are merged into a watermark that is saved
+ * as the checkpoint, so a load restarted with the same checkpoint file skips what was done. Records between
+ * the last checkpoint and a crash are sent again (at least once). Gzip files are not split and their
+ * offsets count uncompressed bytes. Formats the pipeline cannot cut into records itself are read through a
+ * {@link RecordSource} on a single parser thread. Splitting a CSV file scans it once before parsing starts, see
+ * {@link CsvRecordReader#splits(Path, long, long, boolean)}.
+ * </p>
+ *
+ * @param <T>
+ *      type of the inserted records
+ */
+@Slf4j
+public class CsvLoadPipeline<T> extends InsertPipeline<T, CsvLoadPipeline.Batch<T>> {
+
+    /**
+     * Maps a raw record into the inserted type.
+     *
+     * @param <T>
+     *      type of the inserted records
+     */
+    @FunctionalInterface
+    public interface RecordMapper<T> {
+
+        /**
+         * Map a record.
+         *
+         * @param record
+         *      raw record, without its line terminator
+         * @return
+         *      the record to insert, or null to skip it
+         * @throws Exception
+         *      the record is rejected
+         */
+        T map(String record) throws Exception;
+    }
+
+    /**
+     * Creates the mapper of a parser thread, parsers are not shared between threads.
+     *
+     * @param <T>
+     *      type of the inserted records
+     */
+    @FunctionalInterface
+    public interface RecordMapperFactory<T> {
+
+        /**
+         * Create a mapper.
+         *
+         * @param header
+         *      raw header of the file, null for formats without header
+         * @return
+         *      the mapper
+         * @throws IOException
+         *      the header cannot be parsed
+         */
+        RecordMapper<T> create(String header) throws IOException;
+    }
+
+    /**
+     * Reads the raw records of a file from an offset, for formats the pipeline does not split itself.
+     */
+    public interface RecordSource extends Closeable {
+
+        /**
+         * Read the next record.
+         *
+         * @return
+         *      the raw record, or null at the end of the file
+         * @throws IOException
+         *      cannot read the file
+         */
+        String next() throws IOException;
+
+        /**
+         * Offset following the last record returned, stored in the checkpoints.
+         *
+         * @return
+         *      current offset
+         */
+        long getPosition();
+    }
+
+    /**
+     * Opens the record source of a file.
+     */
+    @FunctionalInterface
+    public interface RecordSourceFactory {
+
+        /**
+         * Open the file, skipping the records loaded by a previous run.
+         *
+         * @param file
+         *      file to load
+         * @param start
+         *      offset of the first record to read, as returned by {@link RecordSource#getPosition()}
+         * @return
+         *      the source
+         * @throws IOException
+         *      cannot open the file
+         */
+        RecordSource open(Path file, long start) throws IOException;
+    }
+
+    /**
+     * Maps the columns of a CSV record.
+     *
+     * @param <T>
+     *      type of the inserted records
+     */
+    @FunctionalInterface
+    public interface CsvRecordMapper<T> {
+
+        /**
+         * Map a record.
+         *
+         * @param headers
+         *      column names
+         * @param values
+         *      values of the record
+         * @return
+         *      the record to insert, or null to skip it
+         * @throws Exception
+         *      the record is rejected
+         */
+        T map(String[] headers, String[] values) throws Exception;
+    }
+
+    /**
+     * Records of a byte range of the file.
+     */
+    static class Batch<T> extends InsertPipeline.Batch<T> {
+        final long start;
+        long end;
+        long rows;
+        final List<String> raw = new ArrayList<>();
+        final List<String[]> rejected = new ArrayList<>();
+
+        Batch(long start) {
+            this.start = start;
+        }
+    }
+
+    private final Path file;
+
+    private final LoaderSettings settings;
+
+    /** The file starts with a header and quoted values may span lines (CSV), or has one record per line. */
+    private final boolean csv;
+
+    /** Reads the records, when the file is not read by {@link CsvRecordReader}. */
+    private final RecordSourceFactory source;
+
+    private final RecordMapperFactory<T> mappers;
+
+    private CsvDeadLetterWriter deadLetters;
+
+    private String header;
+
+    /** Completed batches not yet merged into the watermark. */
+    private final TreeMap<Long, Batch<T>> completed = new TreeMap<>();
+
+    private long watermark;
+
+    private long committedRows;
+
+    /** Rows loaded by previous runs. */
+    private long resumedRows;
+
+    /** Serializes checkpoint writes. */
+    private final Object checkpointLock = new Object();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+
+    /**
+     * Prepare a load.
+     *
+     * @param file
+     *      file to load
+     * @param settings
+     *      settings
+     * @param csv
+     *      true for a CSV file with a header row, false for one record per line (NDJSON)
+     * @param mappers
+     *      creates the mappers of the parser threads
+     * @param inserter
+     *      inserts a batch
+     */
+    public CsvLoadPipeline(Path file, LoaderSettings settings, boolean csv, RecordMapperFactory<T> mappers, BatchInserter<T> inserter) {
+        this(file, settings, csv, null, mappers, inserter);
+    }
+
+    /**
+     * Prepare a load of a file read by a custom source, on a single parser thread.
+     *
+     * @param file
+     *      file to load
+     * @param settings
+     *      settings
+     * @param source
+     *      opens the file and reads its records
+     * @param mappers
+     *      creates the mapper of the parser thread, called with a null header
+     * @param inserter
+     *      inserts a batch
+     */
+    public CsvLoadPipeline(Path file, LoaderSettings settings, RecordSourceFactory source, RecordMapperFactory<T> mappers, BatchInserter<T> inserter) {
+        this(file, settings, false, source, mappers, inserter);
+    }
+
+    private CsvLoadPipeline(Path file, LoaderSettings settings, boolean csv, RecordSourceFactory source,
+                            RecordMapperFactory<T> mappers, BatchInserter<T> inserter) {
+        super(inserter, settings.getMaxRetries());
+        if (settings.getBatchSize() < 1 || settings.getBatchSize() > 100) {
+            throw new IllegalArgumentException("batchSize must be between 1 and 100");
+        }
+        this.file     = file.toAbsolutePath().normalize();
+        this.settings = settings;
+        this.csv      = csv;
+        this.source   = source;
+        this.mappers  = mappers;
+    }
+
+    /**
+     * Run the load until the end of the file.
+     *
+     * @return
+     *      report of the run
+     * @throws Exception
+     *      the file cannot be read, or the load did not complete within the timeout
+     */
+    public LoadReport run() throws Exception {
+        long top = System.currentTimeMillis();
+        long deadline = top + TimeUnit.SECONDS.toMillis(settings.getTimeoutSeconds());
+        // Gzip files are read as one stream, their offsets count uncompressed bytes
+        boolean gzip = CsvRecordReader.isGzip(file);
+        long size = gzip || source != null ? Long.MAX_VALUE : Files.size(file);
+
+        // Header
+        long dataStart = 0;
+        if (csv) {
+            try (CsvRecordReader reader = new CsvRecordReader(file, 0, size, true)) {
+                do {
+                    header = reader.next();
+                } while (header != null && header.isBlank());
+                if (header == null) {
+                    throw new IllegalArgumentException("CSV file is empty or does not contain a header row.");
+                }
+                dataStart = reader.getPosition();
+            }
+        }
+
+        // Resume
+        long start = dataStart;
+        CsvCheckpoint checkpoint = CsvCheckpoint.read(settings.getCheckpointFile());
+        if (checkpoint != null) {
+            if (checkpoint.getFile() != null && !checkpoint.getFile().equals(file.toString())) {
+                throw new IllegalArgumentException("Checkpoint " + settings.getCheckpointFile()
+                        + " belongs to " + checkpoint.getFile());
+            }
+            start = Math.max(dataStart, checkpoint.getOffset());
+            resumedRows = checkpoint.getRows();
+            log.info("Resuming {} at offset {} after {} rows", file, start, resumedRows);
+        }
+        watermark = start;
+        committedRows = resumedRows;
+
+        // Splits
+        List<long[]> splits = new ArrayList<>();
+        if (settings.getParserThreads() > 1 && source != null) {
+            log.warn("{} cannot be split, parsing it with a single thread", file);
+            splits.add(new long[] {start, size});
+        } else if (settings.getParserThreads() > 1 && gzip) {
+            log.warn("{} is compressed and cannot be split, parsing it with a single thread", file);
+            splits.add(new long[] {start, size});
+        } else if (settings.getParserThreads() > 1) {
+            splits.addAll(CsvRecordReader.splits(file, start, settings.getSplitSizeBytes(), csv));
+        } else if (start < size) {
+            splits.add(new long[] {start, size});
+        }
+
+        if (settings.getDeadLetterFile() != null) {
+            char separator = settings instanceof CsvLoaderSettings ? ((CsvLoaderSettings) settings).getSeparator() : ',';
+            deadLetters = new CsvDeadLetterWriter(settings.getDeadLetterFile(), header, separator);
+        }
+        List<Callable<Void>> parsers = new ArrayList<>();
+        for (long[] split : splits) {
+            parsers.add(() -> parse(split[0], split[1]));
+        }
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        try {
+            reporter.scheduleAtFixedRate(() -> progress(top), settings.getReportIntervalSeconds(),
+                    settings.getReportIntervalSeconds(), TimeUnit.SECONDS);
+            execute(parsers, settings.getParserThreads(), settings.getThreadPoolSize(), settings.getQueueCapacity(), deadline);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Load of " + file + " did not complete within " + settings.getTimeoutSeconds()
+                    + "s, " + inserted.get() + " rows inserted, restart with the checkpoint file to resume");
+        } finally {
+            reporter.shutdownNow();
+            checkpoint();
+            if (deadLetters != null) {
+                deadLetters.close();
+            }
+        }
+        LoadReport report = report(top);
+        log.info("{} rows inserted from {} in {} ms ({} rows/s), {} rejected, {} already loaded", report.getRowsInserted(),
+                file, report.getElapsedMillis(), (long) report.getRowsPerSecond(), report.getRowsRejected(),
+                report.getRowsSkipped());
+        return report;
+    }
+
+    /**
+     * Parse a split into batches.
+     */
+    private Void parse(long start, long end) throws Exception {
+        RecordMapper<T> mapper = mappers.create(header);
+        try (RecordSource reader = source != null ? source.open(file, start) : new CsvRecordReader(file, start, end, csv)) {
+            Batch<T> batch = new Batch<>(start);
+            String record;
+            while (!isAborted() && (record = reader.next()) != null) {
+                if (!record.isBlank()) {
+                    batch.rows++;
+                    rowsRead.incrementAndGet();
+                    try {
+                        T mapped = mapper.map(record);
+                        if (mapped != null) {
+                            batch.getRecords().add(mapped);
+                            batch.raw.add(record);
+                        }
+                    } catch (Exception e) {
+                        batch.rejected.add(new String[] {record, String.valueOf(e.getMessage())});
+                    }
+                }
+                if (batch.getRecords().size() == settings.getBatchSize()) {
+                    batch.end = reader.getPosition();
+                    enqueue(batch);
+                    batch = new Batch<>(batch.end);
+                }
+            }
+            batch.end = reader.getPosition();
+            if (batch.end > batch.start) {
+                enqueue(batch);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mappers splitting CSV records into columns.
+     *
+     * @param separator
+     *      column separator
+     * @param mapper
+     *      maps the columns
+     * @param <T>
+     *      type of the inserted records
+     * @return
+     *      factory creating a parser per thread, opencsv parsers keep state between lines
+     */
+    public static <T> RecordMapperFactory<T> csv(char separator, CsvRecordMapper<T> mapper) {
+        return header -> {
+            CSVParser parser = new CSVParserBuilder().withSeparator(separator).build();
+            String[] headers = parser.parseLine(header);
+            return record -> mapper.map(headers, parser.parseLine(record));
+        };
+    }
+
+    @Override
+    protected void refused(Batch<T> batch, int index, String error) throws IOException {
+        deadLetter(batch.raw.get(index), error);
+    }
+
+    @Override
+    protected void failed(Batch<T> batch, int from, String error) throws IOException {
+        for (int i = from; i < batch.raw.size(); i++) {
+            deadLetter(batch.raw.get(i), error);
+        }
+    }
+
+    /**
+     * Dead-letter the records that could not be mapped, then merge the batch into the watermark.
+     */
+    @Override
+    protected void completed(Batch<T> batch) throws IOException {
+        for (String[] rejectedRecord : batch.rejected) {
+            rejected.incrementAndGet();
+            deadLetter(rejectedRecord[0], rejectedRecord[1]);
+        }
+        complete(batch);
+    }
+
+    private void deadLetter(String record, String error) throws IOException {
+        if (deadLetters != null) {
+            deadLetters.write(record, error);
+        } else {
+            log.warn("Rejected row: {}", error);
+        }
+    }
+
+    /**
+     * Merge a completed batch into the watermark.
+     */
+    private synchronized void complete(Batch<T> batch) {
+        completed.put(batch.start, batch);
+        Batch<T> next;
+        while ((next = completed.remove(watermark)) != null) {
+            watermark = next.end;
+            committedRows += next.rows;
+        }
+    }
+
+    /**
+     * Save the watermark.
+     */
+    private void checkpoint() {
+        if (settings.getCheckpointFile() == null) {
+            return;
+        }
+        synchronized (checkpointLock) {
+            try {
+                if (deadLetters != null) {
+                    deadLetters.flush();
+                }
+                CsvCheckpoint checkpoint;
+                synchronized (this) {
+                    checkpoint = new CsvCheckpoint(file.toString(), watermark, committedRows);
+                }
+                checkpoint.write(settings.getCheckpointFile());
+            } catch (IOException e) {
+                log.warn("Cannot write checkpoint {}: {}", settings.getCheckpointFile(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Save a checkpoint and log the progress.
+     */
+    private void progress(long top) {
+        checkpoint();
+        LoadReport report = report(top);
+        log.info("{} rows read, {} inserted ({} rows/s), {} rejected, {} batches queued, insertMany avg {} ms max {} ms",
+                report.getRowsRead(), report.getRowsInserted(), (long) report.getRowsPerSecond(),
+                report.getRowsRejected(), getQueueSize(), (long) report.getAverageLatencyMillis(),
+                report.getMaxLatencyMillis());
+    }
+
+    /**
+     * Counters of the run.
+     */
+    private LoadReport report(long top) {
+        long count = requests.get();
+        return new LoadReport(rowsRead.get(), inserted.get(), rejected.get(), skipped.get(),
+                resumedRows, count, count == 0 ? 0 : (double) totalLatency.get() / count,
+                maxLatency.get(), System.currentTimeMillis() - top);
+    }
+}
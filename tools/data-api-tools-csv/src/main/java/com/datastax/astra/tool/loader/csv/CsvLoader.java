@@ -1,21 +1,23 @@
 package com.datastax.astra.tool.loader.csv;
 
 import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionInsertManyOptions;
 import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
 import com.datastax.astra.internal.serdes.collections.DocumentMapper;
-import com.opencsv.CSVReader;
+import com.datastax.astra.tool.loader.InsertPipeline;
+import com.datastax.astra.tool.loader.LoadReport;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.FileReader;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.nio.file.Paths;
 
 /**
  * CSV Loader
+ * <p>
+ * The file is streamed through a bounded pipeline (see {@link CsvLoaderSettings}): parsing waits for the
+ * inserts, rejected rows go to a dead-letter file and progress is checkpointed so an interrupted load can
+ * be restarted where it stopped.
+ * </p>
  */
 @Slf4j
 public class CsvLoader {
@@ -23,21 +25,25 @@ public class CsvLoader {
     /**
      * Distributed import of CSV file into Astra.
      *
+     * @return
+     *      report of the load
      * @throws Exception
      *      exception in processing CSV
      */
-    public static void load(String fileName, Collection<Document> collection, DocumentMapper processor) throws Exception {
-        load(fileName, CsvLoaderSettings.builder().build(), collection, processor);
+    public static LoadReport load(String fileName, Collection<Document> collection, DocumentMapper processor) throws Exception {
+        return load(fileName, CsvLoaderSettings.builder().build(), collection, processor);
     }
 
     /**
      * Distributed import of CSV file into Astra.
      *
+     * @return
+     *      report of the load
      * @throws Exception
      *      exception in processing CSV
      */
-    public static void load(String fileName, CsvLoaderSettings settings, Collection<Document> collection) throws Exception {
-        load(fileName, settings, collection, doc -> doc);
+    public static LoadReport load(String fileName, CsvLoaderSettings settings, Collection<Document> collection) throws Exception {
+        return load(fileName, settings, collection, doc -> doc);
     }
 
     /**
@@ -49,50 +55,30 @@ public class CsvLoader {
      *     collection
      * @param processor
      *     processor
+     * @return
+     *      report of the load
      * @throws Exception
-     *      exception in processing CSV
+     *      exception in processing CSV, or load not completed within {@code timeoutSeconds}
      */
-    public static void load(String fileName, CsvLoaderSettings settings, Collection<Document> collection, DocumentMapper processor) throws Exception {
-        AtomicInteger counter = new AtomicInteger();
-        long top = System.currentTimeMillis();
-        ExecutorService executor = Executors.newFixedThreadPool(settings.threadPoolSize);
-        try (CSVReader reader = new CSVReader(new FileReader(fileName))) {
-            String[] headers = reader.readNext(); // Read the header row
-            if (headers == null) {
-                throw new RuntimeException("CSV file is empty or does not contain a header row.");
-            }
-            List<Document> batch = new ArrayList<>(settings.batchSize);
-            String[] nextLine;
-            while ((nextLine = reader.readNext()) != null) {
-                Document rowMap = new Document();
-                for (int i = 0; i < headers.length; i++) {
-                    rowMap.put(headers[i], nextLine.length > i ? nextLine[i] : null);
-                }
-                counter.incrementAndGet();
-                batch.add(processor.map(rowMap));
-                if (batch.size() == settings.batchSize) {
-                    final List<Document> batchToInsert = new ArrayList<>(batch);
-                    log.info("Enqueuing {} rows from {}... ", collection, batch.size());
-                    executor.submit(() -> collection.insertMany(batchToInsert));
-                    batch.clear(); // Clear the batch for the next set of rows
-                }
-            }
-            // Process any remaining rows which didn't fill the last batch
-            if (!batch.isEmpty()) {
-                executor.submit(() -> collection.insertMany(batch));
-            }
-        } finally {
-            executor.shutdown();
-            log.info("{} rows enqueues from " + collection + " in {} ms", counter.get(), System.currentTimeMillis()-top);
-            try {
-                if (!executor.awaitTermination(settings.timeoutSeconds, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                    log.info("{} rows process in {} ms", counter.get(), System.currentTimeMillis()-top);
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                executor.shutdownNow();
-            }
-        }
+    public static LoadReport load(String fileName, CsvLoaderSettings settings, Collection<Document> collection, DocumentMapper processor) throws Exception {
+        // Ordered, so a refused document tells which ones before it were inserted
+        CollectionInsertManyOptions insertOptions = new CollectionInsertManyOptions()
+                .ordered(true)
+                .chunkSize(settings.getBatchSize());
+        return new CsvLoadPipeline<Document>(Paths.get(fileName), settings, true,
+                CsvLoadPipeline.csv(settings.getSeparator(), (headers, values) -> {
+                    Document rowMap = new Document();
+                    for (int i = 0; i < headers.length; i++) {
+                        rowMap.put(headers[i], values.length > i ? values[i] : null);
+                    }
+                    return processor.map(rowMap);
+                }),
+                documents -> {
+                    try {
+                        collection.insertMany(documents, insertOptions);
+                    } catch (CollectionInsertManyException e) {
+                        throw InsertPipeline.PartialInsertException.of(e);
+                    }
+                }).run();
     }
 }
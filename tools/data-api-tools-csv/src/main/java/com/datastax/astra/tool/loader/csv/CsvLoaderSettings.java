@@ -1,22 +1,18 @@
 package com.datastax.astra.tool.loader.csv;
 
+import com.datastax.astra.tool.loader.LoaderSettings;
 import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.SuperBuilder;
 
-@Builder
-public class CsvLoaderSettings {
-
-    private static final int BATCH_SIZE = 20;
-
-    private static final int THREAD_POOL_SIZE = 5;
-
-    private static final int TIMEOUT = 1800;
-
-    @Builder.Default
-    int batchSize = BATCH_SIZE;;
-
-    @Builder.Default
-    int threadPoolSize = THREAD_POOL_SIZE;;
+/**
+ * Settings of a CSV load.
+ */
+@Getter
+@SuperBuilder
+public class CsvLoaderSettings extends LoaderSettings {
 
+    /** Column separator. */
     @Builder.Default
-    int timeoutSeconds = TIMEOUT;
+    private char separator = ',';
 }
@@ -0,0 +1,261 @@
+package com.datastax.astra.tool.loader.csv;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the raw records of a byte range of a file through memory-mapped windows.
+ * <p>
+ * A record ends on a line feed. For CSV, line feeds inside quoted values do not end the record.
+ * Each record is returned with the offset of the byte following it, which is what the checkpoints store.
+ * <p>
+ * Gzip files cannot be mapped nor split: they are decompressed as a stream and offsets count uncompressed
+ * bytes, so resuming a gzip file decompresses and skips what was already loaded.
+ */
+class CsvRecordReader implements CsvLoadPipeline.RecordSource {
+
+    /** Size of a mapped window, records can cross windows. */
+    static final int WINDOW_SIZE = 32 * 1024 * 1024;
+
+    private static final byte LF = '\n';
+
+    private static final byte CR = '\r';
+
+    private static final byte QUOTE = '"';
+
+    /** First bytes of a gzip file. */
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1F, (byte) 0x8B};
+
+    /** UTF-8 byte order mark. */
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+
+    /** Exclusive end of the range. */
+    private final long end;
+
+    /** Line feeds inside double quotes are part of the record (CSV). */
+    private final boolean quoted;
+
+    /** Offset of the next byte of the window. */
+    private long position;
+
+    private MappedByteBuffer window;
+
+    /** Decompressed content, for gzip files. */
+    private final InputStream gzip;
+
+    /** Bytes of the record being read. */
+    private byte[] record = new byte[4096];
+
+    /**
+     * Open a reader on a range of the file.
+     *
+     * @param file
+     *      csv file
+     * @param start
+     *      offset of the first record
+     * @param end
+     *      exclusive end of the range, records starting before it are read
+     * @param quoted
+     *      true when line feeds inside double quotes do not end a record
+     * @throws IOException
+     *      cannot open the file
+     */
+    CsvRecordReader(Path file, long start, long end, boolean quoted) throws IOException {
+        this.channel  = FileChannel.open(file, StandardOpenOption.READ);
+        this.quoted   = quoted;
+        if (isGzip(file)) {
+            this.gzip     = new BufferedInputStream(new GZIPInputStream(Channels.newInputStream(channel), 64 * 1024), 256 * 1024);
+            this.end      = end;
+            this.position = start;
+            gzip.skipNBytes(start);
+        } else {
+            this.gzip     = null;
+            this.end      = Math.min(end, channel.size());
+            this.position = start;
+        }
+    }
+
+    /**
+     * Tell if a file is gzip compressed, from its first bytes.
+     *
+     * @param file
+     *      file to test
+     * @return
+     *      true for a gzip file
+     * @throws IOException
+     *      cannot read the file
+     */
+    static boolean isGzip(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] magic = in.readNBytes(GZIP_MAGIC.length);
+            return Arrays.equals(magic, GZIP_MAGIC);
+        }
+    }
+
+    /**
+     * Offset of the byte following the last record returned.
+     *
+     * @return
+     *      current offset
+     */
+    @Override
+    public long getPosition() {
+        if (gzip != null) {
+            return position;
+        }
+        return position - (window == null ? 0 : window.remaining());
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return
+     *      the record without its line terminator, or null at the end of the range
+     * @throws IOException
+     *      cannot read the file
+     */
+    @Override
+    public String next() throws IOException {
+        if (getPosition() >= end) {
+            return null;
+        }
+        int length = 0;
+        boolean inQuotes = false;
+        int b;
+        while ((b = read()) >= 0) {
+            if (b == LF && !inQuotes) {
+                break;
+            }
+            if (b == QUOTE && quoted) {
+                inQuotes = !inQuotes;
+            }
+            if (length == record.length) {
+                record = Arrays.copyOf(record, length * 2);
+            }
+            record[length++] = (byte) b;
+        }
+        if (b < 0 && length == 0) {
+            return null;
+        }
+        if (length > 0 && record[length - 1] == CR) {
+            length--;
+        }
+        int offset = 0;
+        if (length >= BOM.length && record[0] == BOM[0] && record[1] == BOM[1] && record[2] == BOM[2]) {
+            offset = BOM.length;
+        }
+        return new String(record, offset, length - offset, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the next byte of the file.
+     *
+     * @return
+     *      the byte, or -1 at the end of the file
+     */
+    private int read() throws IOException {
+        if (gzip != null) {
+            int b = gzip.read();
+            if (b >= 0) {
+                position++;
+            }
+            return b;
+        }
+        if (window == null || !window.hasRemaining()) {
+            // A record started in range is read to its end, even past the range
+            long size = Math.min(WINDOW_SIZE, channel.size() - position);
+            if (size <= 0) {
+                return -1;
+            }
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            position += size;
+        }
+        return window.get() & 0xFF;
+    }
+
+    /**
+     * Cut a range of the file into splits of about {@code splitSize} bytes, each one starting on a record.
+     * <p>
+     * For CSV, the file is scanned from {@code start} counting double quotes, so a line feed inside a quoted
+     * value is never taken for the end of a record. Otherwise, a split ends on the first line feed after its
+     * nominal size.
+     * <p>
+     * The quote parity at a cut depends on every byte before it, so a quoted scan reads the whole range once,
+     * serially and on the calling thread, before any split is parsed. The scan only compares bytes of mapped
+     * windows and runs at about the disk read speed, but for a large file it delays the start of the load by a full
+     * read of the file; use a single parser thread, or a format without quoted line feeds, when that matters.
+     * </p>
+     *
+     * @param file
+     *      csv file
+     * @param start
+     *      offset of the first record of the range
+     * @param splitSize
+     *      nominal size of a split
+     * @param quoted
+     *      true when line feeds inside double quotes do not end a record
+     * @return
+     *      start and exclusive end of each split, covering the range up to the end of the file
+     * @throws IOException
+     *      cannot read the file
+     */
+    static List<long[]> splits(Path file, long start, long splitSize, boolean quoted) throws IOException {
+        List<long[]> splits = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long splitStart = start;
+            long cut = start + Math.max(1, splitSize);
+            boolean inQuotes = false;
+            // Without quotes, only the bytes following a nominal cut are read
+            long offset = quoted ? start : cut - 1;
+            while (offset < size) {
+                long length = Math.min(WINDOW_SIZE, size - offset);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                long next = offset + length;
+                for (int i = 0; i < length; i++) {
+                    byte b = buffer.get(i);
+                    if (b == QUOTE && quoted) {
+                        inQuotes = !inQuotes;
+                    } else if (b == LF && !inQuotes && offset + i + 1 >= cut) {
+                        splits.add(new long[] {splitStart, offset + i + 1});
+                        splitStart = offset + i + 1;
+                        cut = splitStart + Math.max(1, splitSize);
+                        if (!quoted) {
+                            next = cut - 1;
+                            break;
+                        }
+                    }
+                }
+                offset = next;
+            }
+            if (splitStart < size) {
+                splits.add(new long[] {splitStart, size});
+            }
+        }
+        return splits;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        if (gzip != null) {
+            gzip.close();
+        }
+        channel.close();
+    }
+}
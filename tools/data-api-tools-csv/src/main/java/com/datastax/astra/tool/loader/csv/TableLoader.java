@@ -0,0 +1,133 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.datastax.astra.client.exceptions.DataAPIResponseException;
+import com.datastax.astra.client.tables.Table;
+import com.datastax.astra.client.tables.commands.options.TableInsertManyOptions;
+import com.datastax.astra.client.tables.definition.TableDefinition;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.tool.loader.InsertPipeline;
+import com.datastax.astra.tool.loader.LoadReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Paths;
+import java.util.function.UnaryOperator;
+
+/**
+ * Loads CSV or NDJSON files into a table.
+ * <p>
+ * The table definition is read once and compiled into a {@link TableRowPlan}, values are converted to the
+ * column types as the file is parsed. Rows go through the same bounded pipeline as {@link CsvLoader}:
+ * parsing waits for the inserts, rejected rows go to the dead-letter file and progress is checkpointed.
+ * </p>
+ */
+@Slf4j
+public class TableLoader {
+
+    /**
+     * Distributed import of a CSV file into a table.
+     *
+     * @param fileName
+     *      csv file, with a header naming the columns
+     * @param table
+     *      table
+     * @return
+     *      report of the load
+     * @throws Exception
+     *      exception in processing CSV
+     */
+    public static LoadReport load(String fileName, Table<Row> table) throws Exception {
+        return load(fileName, CsvLoaderSettings.builder().build(), table);
+    }
+
+    /**
+     * Distributed import of a CSV file into a table.
+     *
+     * @param fileName
+     *      csv file, with a header naming the columns
+     * @param settings
+     *      settings
+     * @param table
+     *      table
+     * @return
+     *      report of the load
+     * @throws Exception
+     *      exception in processing CSV
+     */
+    public static LoadReport load(String fileName, CsvLoaderSettings settings, Table<Row> table) throws Exception {
+        return load(fileName, settings, table, row -> row);
+    }
+
+    /**
+     * Distributed import of a CSV file into a table.
+     *
+     * @param fileName
+     *      csv file, with a header naming the columns
+     * @param settings
+     *      settings
+     * @param table
+     *      table
+     * @param processor
+     *      applied to each converted row, returning null skips the row
+     * @return
+     *      report of the load
+     * @throws Exception
+     *      exception in processing CSV, or load not completed within {@code timeoutSeconds}
+     */
+    public static LoadReport load(String fileName, CsvLoaderSettings settings, Table<Row> table, UnaryOperator<Row> processor) throws Exception {
+        TableDefinition definition = table.getDefinition();
+        return new CsvLoadPipeline<Row>(Paths.get(fileName), settings, true,
+                header -> {
+                    // One plan per parser thread, compiled against the header of the file
+                    return CsvLoadPipeline.csv(settings.getSeparator(), new CsvLoadPipeline.CsvRecordMapper<Row>() {
+                        private TableRowPlan plan;
+                        @Override
+                        public Row map(String[] headers, String[] values) {
+                            if (plan == null) {
+                                plan = TableRowPlan.compile(definition, headers);
+                            }
+                            return processor.apply(plan.toRow(headers, values));
+                        }
+                    }).create(header);
+                },
+                inserter(table, settings)).run();
+    }
+
+    /**
+     * Distributed import of a NDJSON file (one JSON object per line) into a table.
+     *
+     * @param fileName
+     *      ndjson file
+     * @param settings
+     *      settings, {@code separator} is not used
+     * @param table
+     *      table
+     * @return
+     *      report of the load
+     * @throws Exception
+     *      exception in processing the file, or load not completed within {@code timeoutSeconds}
+     */
+    public static LoadReport loadNdjson(String fileName, CsvLoaderSettings settings, Table<Row> table) throws Exception {
+        TableRowPlan plan = TableRowPlan.compile(table.getDefinition());
+        ObjectMapper mapper = new ObjectMapper();
+        return new CsvLoadPipeline<Row>(Paths.get(fileName), settings, false,
+                header -> record -> record.isBlank() ? null : plan.toRow(mapper.readTree(record)),
+                inserter(table, settings)).run();
+    }
+
+    /**
+     * Ordered inserts, so a refused row tells which ones before it were inserted.
+     */
+    private static InsertPipeline.BatchInserter<Row> inserter(Table<Row> table, CsvLoaderSettings settings) {
+        TableInsertManyOptions insertOptions = new TableInsertManyOptions()
+                .ordered(true)
+                .chunkSize(settings.getBatchSize());
+        return rows -> {
+            try {
+                table.insertMany(rows, insertOptions);
+            } catch (DataAPIResponseException e) {
+                throw InsertPipeline.PartialInsertException.of(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,629 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.tables.definition.TableDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionList;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionListUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMap;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionMapUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSet;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionSetUserDefined;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionVector;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.client.tables.definition.rows.RowSchema;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Conversion plan from text or JSON values to the column types of a table, compiled once from
+ * {@link TableDefinition} and reused for every row.
+ * <p>
+ * Each column gets a parser resolved from its type when the plan is compiled, so building a row is a loop
+ * over the values without reflection nor {@code ObjectMapper.convertValue}. Rows are compact
+ * ({@link Row#of(RowSchema, Map)}) and share the schema of the plan.
+ * </p>
+ * <p>Text formats:</p>
+ * <ul>
+ *   <li>Empty values are null, except for {@code text} and {@code ascii}.</li>
+ *   <li>{@code timestamp}: ISO-8601 instant, offset or local date time (UTC), or epoch milliseconds.</li>
+ *   <li>{@code blob}: base64.</li>
+ *   <li>{@code vector}, {@code list}, {@code set}: a JSON array, or values separated by {@code ;}.</li>
+ *   <li>{@code map}: a JSON object, or {@code key:value} pairs separated by {@code ;}.</li>
+ *   <li>{@code userDefined}: a JSON object.</li>
+ * </ul>
+ */
+@Slf4j
+public class TableRowPlan {
+
+    /** Separator of collection items in text values. */
+    public static final String ITEM_SEPARATOR = ";";
+
+    /** Separator of a map key and its value in text values. */
+    public static final String KEY_SEPARATOR = ":";
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Conversion of a value to a column type.
+     */
+    private interface Coercer {
+
+        /**
+         * Convert a text value.
+         *
+         * @param text
+         *      text value, not null
+         * @return
+         *      converted value
+         */
+        Object fromText(String text);
+
+        /**
+         * Convert a JSON value, text values go through {@link #fromText(String)}.
+         *
+         * @param node
+         *      JSON value, not null
+         * @return
+         *      converted value
+         */
+        Object fromJson(JsonNode node);
+    }
+
+    /** Schema of the produced rows. */
+    private final RowSchema schema;
+
+    /** Column names, by position in the schema. */
+    private final String[] columns;
+
+    /** Converters, by position in the schema. */
+    private final Coercer[] coercers;
+
+    /** Empty values are kept (text columns). */
+    private final boolean[] keepEmpty;
+
+    /**
+     * Compile a plan for all the columns of a table.
+     *
+     * @param definition
+     *      table definition, read once with {@code table.getDefinition()}
+     * @return
+     *      the plan
+     */
+    public static TableRowPlan compile(TableDefinition definition) {
+        return new TableRowPlan(definition.getColumns());
+    }
+
+    /**
+     * Compile a plan for the columns of a CSV header, other headers are ignored with a warning.
+     *
+     * @param definition
+     *      table definition, read once with {@code table.getDefinition()}
+     * @param headers
+     *      column names, in file order
+     * @return
+     *      the plan, with columns in the order of the headers
+     */
+    public static TableRowPlan compile(TableDefinition definition, String... headers) {
+        Map<String, TableColumnDefinition> columns = new LinkedHashMap<>();
+        for (String header : headers) {
+            String name = header.trim();
+            TableColumnDefinition column = definition.getColumns().get(name);
+            if (column == null) {
+                log.warn("Column '{}' is not in the table definition and will be ignored", name);
+            } else {
+                columns.put(name, column);
+            }
+        }
+        return new TableRowPlan(columns);
+    }
+
+    private TableRowPlan(Map<String, TableColumnDefinition> columns) {
+        this.schema    = RowSchema.of(columns);
+        this.columns   = new String[schema.size()];
+        this.coercers  = new Coercer[schema.size()];
+        this.keepEmpty = new boolean[schema.size()];
+        for (int i = 0; i < schema.size(); i++) {
+            TableColumnDefinition column = columns.get(schema.getColumnName(i));
+            this.columns[i]   = schema.getColumnName(i);
+            this.coercers[i]  = column(column);
+            this.keepEmpty[i] = column.getType() == TableColumnTypes.TEXT || column.getType() == TableColumnTypes.ASCII;
+        }
+    }
+
+    /**
+     * Schema of the produced rows.
+     *
+     * @return
+     *      row schema
+     */
+    public RowSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Build a row from CSV values.
+     *
+     * @param headers
+     *      column names, in file order
+     * @param values
+     *      values of the record, missing trailing values are null
+     * @return
+     *      the row
+     * @throws IllegalArgumentException
+     *      a value does not match its column type
+     */
+    public Row toRow(String[] headers, String[] values) {
+        Row row = Row.of(schema, null);
+        for (int i = 0; i < headers.length && i < values.length; i++) {
+            int index = schema.indexOf(headers[i].trim());
+            if (index >= 0) {
+                put(row, index, values[i]);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Build a row from a JSON object, fields outside of the plan are ignored.
+     *
+     * @param node
+     *      JSON object
+     * @return
+     *      the row
+     * @throws IllegalArgumentException
+     *      a value does not match its column type
+     */
+    public Row toRow(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expecting a JSON object but got " + node.getNodeType());
+        }
+        Row row = Row.of(schema, null);
+        for (int i = 0; i < columns.length; i++) {
+            JsonNode value = node.get(columns[i]);
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            try {
+                row.put(columns[i], value.isTextual()
+                        ? coerceText(i, value.asText())
+                        : coercers[i].fromJson(value));
+            } catch (RuntimeException e) {
+                throw invalid(columns[i], value.toString(), e);
+            }
+        }
+        return row;
+    }
+
+    private void put(Row row, int index, String text) {
+        if (text == null) {
+            return;
+        }
+        try {
+            Object value = coerceText(index, text);
+            if (value != null) {
+                row.put(columns[index], value);
+            }
+        } catch (RuntimeException e) {
+            throw invalid(columns[index], text, e);
+        }
+    }
+
+    private Object coerceText(int index, String text) {
+        if (text.isEmpty()) {
+            return keepEmpty[index] ? text : null;
+        }
+        return coercers[index].fromText(text);
+    }
+
+    private static IllegalArgumentException invalid(String column, String value, RuntimeException e) {
+        String reason = e instanceof IllegalArgumentException && e.getMessage() != null ? e.getMessage() : e.toString();
+        return new IllegalArgumentException("Invalid value for column '" + column + "': '" + value + "' (" + reason + ")", e);
+    }
+
+    // --------------------------------
+    // --- Compilation             ----
+    // --------------------------------
+
+    /**
+     * Resolve the converter of a column.
+     */
+    private static Coercer column(TableColumnDefinition column) {
+        TableColumnTypes type = column.getType();
+        if (type == null) {
+            return scalar(TableColumnTypes.UNSUPPORTED);
+        }
+        switch (type) {
+            case VECTOR:
+                Integer dimension = column instanceof TableColumnDefinitionVector
+                        ? ((TableColumnDefinitionVector) column).getDimension() : null;
+                return vector(dimension);
+            case LIST:
+                if (column instanceof TableColumnDefinitionListUserDefined) {
+                    return collection(TableColumnTypes.USERDEFINED, ArrayList::new);
+                }
+                return collection(column instanceof TableColumnDefinitionList
+                        ? ((TableColumnDefinitionList) column).getValueType() : null, ArrayList::new);
+            case SET:
+                if (column instanceof TableColumnDefinitionSetUserDefined) {
+                    return collection(TableColumnTypes.USERDEFINED, LinkedHashSet::new);
+                }
+                return collection(column instanceof TableColumnDefinitionSet
+                        ? ((TableColumnDefinitionSet) column).getValueType() : null, LinkedHashSet::new);
+            case MAP:
+                if (column instanceof TableColumnDefinitionMapUserDefined) {
+                    return map(((TableColumnDefinitionMapUserDefined) column).getKeyType(), TableColumnTypes.USERDEFINED);
+                }
+                if (column instanceof TableColumnDefinitionMap) {
+                    TableColumnDefinitionMap map = (TableColumnDefinitionMap) column;
+                    return map(map.getKeyType(), map.getValueType());
+                }
+                return map(null, null);
+            default:
+                return scalar(type);
+        }
+    }
+
+    /**
+     * Converter of a scalar type, values of unknown types are kept as they are.
+     */
+    private static Coercer scalar(TableColumnTypes type) {
+        Function<String, Object> text = text(type);
+        Function<JsonNode, Object> json = json(type, text);
+        return new Coercer() {
+            @Override
+            public Object fromText(String value) {
+                return text.apply(value);
+            }
+            @Override
+            public Object fromJson(JsonNode node) {
+                return node.isTextual() ? text.apply(node.asText()) : json.apply(node);
+            }
+        };
+    }
+
+    private static Function<String, Object> text(TableColumnTypes type) {
+        switch (type) {
+            case TEXT:
+            case ASCII:
+            case DURATION:
+                return s -> s;
+            case INT:
+                return s -> Integer.parseInt(s.trim());
+            case BIGINT:
+            case COUNTER:
+                return s -> Long.parseLong(s.trim());
+            case SMALLINT:
+                return s -> Short.parseShort(s.trim());
+            case TINYINT:
+                return s -> Byte.parseByte(s.trim());
+            case VARINT:
+                return s -> new BigInteger(s.trim());
+            case DECIMAL:
+                return s -> new BigDecimal(s.trim());
+            case DOUBLE:
+                return s -> Double.parseDouble(s.trim());
+            case FLOAT:
+                return s -> Float.parseFloat(s.trim());
+            case BOOLEAN:
+                return TableRowPlan::parseBoolean;
+            case TIMESTAMP:
+                return TableRowPlan::parseTimestamp;
+            case DATE:
+                return s -> LocalDate.parse(s.trim());
+            case TIME:
+                return s -> LocalTime.parse(s.trim());
+            case UUID:
+            case TIMEUUID:
+                return s -> UUID.fromString(s.trim());
+            case INET:
+                return TableRowPlan::parseInet;
+            case BLOB:
+                return s -> Base64.getDecoder().decode(s.trim());
+            case USERDEFINED:
+                return s -> userDefined(readJson(s));
+            default:
+                return s -> s;
+        }
+    }
+
+    private static Function<JsonNode, Object> json(TableColumnTypes type, Function<String, Object> text) {
+        switch (type) {
+            case INT:
+                return n -> exact(n, n.canConvertToInt(), n.intValue());
+            case BIGINT:
+            case COUNTER:
+                return n -> exact(n, n.canConvertToLong(), n.longValue());
+            case SMALLINT:
+                return n -> exact(n, n.canConvertToInt() && n.intValue() == (short) n.intValue(), (short) n.intValue());
+            case TINYINT:
+                return n -> exact(n, n.canConvertToInt() && n.intValue() == (byte) n.intValue(), (byte) n.intValue());
+            case VARINT:
+                return n -> n.bigIntegerValue();
+            case DECIMAL:
+                return n -> n.decimalValue();
+            case DOUBLE:
+                return n -> n.doubleValue();
+            case FLOAT:
+                return n -> n.floatValue();
+            case BOOLEAN:
+                return n -> {
+                    if (!n.isBoolean()) {
+                        throw new IllegalArgumentException("not a boolean");
+                    }
+                    return n.booleanValue();
+                };
+            case TIMESTAMP:
+                return n -> {
+                    if (!n.canConvertToLong()) {
+                        throw new IllegalArgumentException("not an epoch millis");
+                    }
+                    return Instant.ofEpochMilli(n.longValue());
+                };
+            case USERDEFINED:
+                return TableRowPlan::userDefined;
+            default:
+                // Other JSON values are rendered as text then parsed
+                return n -> text.apply(n.isValueNode() ? n.asText() : n.toString());
+        }
+    }
+
+    private static Object exact(JsonNode node, boolean fits, Object value) {
+        if (!node.isIntegralNumber() || !fits) {
+            throw new IllegalArgumentException("not an integer in range");
+        }
+        return value;
+    }
+
+    /**
+     * Converter of vectors, checking the dimension when known.
+     */
+    private static Coercer vector(Integer dimension) {
+        return new Coercer() {
+            @Override
+            public Object fromText(String value) {
+                String text = value.trim();
+                if (text.startsWith("[")) {
+                    return fromJson(readJson(text));
+                }
+                String[] items = text.split("\\s*[" + ITEM_SEPARATOR + ",]\\s*|\\s+");
+                float[] floats = new float[items.length];
+                for (int i = 0; i < items.length; i++) {
+                    floats[i] = Float.parseFloat(items[i]);
+                }
+                return check(floats);
+            }
+            @Override
+            public Object fromJson(JsonNode node) {
+                if (node.isTextual()) {
+                    return fromText(node.asText());
+                }
+                if (!node.isArray()) {
+                    throw new IllegalArgumentException("not an array");
+                }
+                float[] floats = new float[node.size()];
+                for (int i = 0; i < floats.length; i++) {
+                    JsonNode item = node.get(i);
+                    if (!item.isNumber()) {
+                        throw new IllegalArgumentException("not a number at index " + i + ": " + item);
+                    }
+                    floats[i] = item.floatValue();
+                }
+                return check(floats);
+            }
+            private DataAPIVector check(float[] floats) {
+                if (dimension != null && floats.length != dimension) {
+                    throw new IllegalArgumentException("expecting " + dimension + " dimensions, got " + floats.length);
+                }
+                return new DataAPIVector(floats);
+            }
+        };
+    }
+
+    /**
+     * Converter of lists and sets.
+     */
+    private static Coercer collection(TableColumnTypes valueType, Supplier<Collection<Object>> factory) {
+        Coercer item = scalar(valueType == null ? TableColumnTypes.UNSUPPORTED : valueType);
+        return new Coercer() {
+            @Override
+            public Object fromText(String value) {
+                String text = value.trim();
+                if (text.startsWith("[")) {
+                    return fromJson(readJson(text));
+                }
+                Collection<Object> items = factory.get();
+                for (String token : text.split(ITEM_SEPARATOR)) {
+                    items.add(item.fromText(token));
+                }
+                return items;
+            }
+            @Override
+            public Object fromJson(JsonNode node) {
+                if (node.isTextual()) {
+                    return fromText(node.asText());
+                }
+                if (!node.isArray()) {
+                    throw new IllegalArgumentException("not an array");
+                }
+                Collection<Object> items = factory.get();
+                for (JsonNode child : node) {
+                    items.add(valueType == null ? plain(child) : item.fromJson(child));
+                }
+                return items;
+            }
+        };
+    }
+
+    /**
+     * Converter of maps.
+     */
+    private static Coercer map(TableColumnTypes keyType, TableColumnTypes valueType) {
+        Coercer key = scalar(keyType == null ? TableColumnTypes.UNSUPPORTED : keyType);
+        Coercer value = scalar(valueType == null ? TableColumnTypes.UNSUPPORTED : valueType);
+        return new Coercer() {
+            @Override
+            public Object fromText(String text) {
+                String trimmed = text.trim();
+                if (trimmed.startsWith("{")) {
+                    return fromJson(readJson(trimmed));
+                }
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (String entry : trimmed.split(ITEM_SEPARATOR)) {
+                    int colon = entry.indexOf(KEY_SEPARATOR);
+                    if (colon < 0) {
+                        throw new IllegalArgumentException("expecting key" + KEY_SEPARATOR + "value");
+                    }
+                    map.put(key.fromText(entry.substring(0, colon)), value.fromText(entry.substring(colon + 1)));
+                }
+                return map;
+            }
+            @Override
+            public Object fromJson(JsonNode node) {
+                if (node.isTextual()) {
+                    return fromText(node.asText());
+                }
+                if (!node.isObject()) {
+                    throw new IllegalArgumentException("not an object");
+                }
+                Map<Object, Object> map = new LinkedHashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    Object converted = valueType == null ? plain(field.getValue()) : value.fromJson(field.getValue());
+                    map.put(key.fromText(field.getKey()), converted);
+                }
+                return map;
+            }
+        };
+    }
+
+    // --------------------------------
+    // --- Parsers                 ----
+    // --------------------------------
+
+    private static Boolean parseBoolean(String value) {
+        switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "y":
+            case "1":
+                return Boolean.TRUE;
+            case "false":
+            case "no":
+            case "n":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("not a boolean");
+        }
+    }
+
+    private static Instant parseTimestamp(String value) {
+        String text = value.trim();
+        if (!text.isEmpty() && text.chars().allMatch(c -> Character.isDigit(c) || c == '-')
+                && text.lastIndexOf('-') <= 0) {
+            return Instant.ofEpochMilli(Long.parseLong(text));
+        }
+        if (text.endsWith("Z") || text.endsWith("z")) {
+            return Instant.parse(text.toUpperCase(Locale.ROOT));
+        }
+        if (text.length() > 10 && (text.indexOf('+', 10) > 0 || text.indexOf('-', 10) > 0)) {
+            return OffsetDateTime.parse(text).toInstant();
+        }
+        if (text.length() == 10) {
+            return LocalDate.parse(text).atStartOfDay().toInstant(ZoneOffset.UTC);
+        }
+        return LocalDateTime.parse(text.replace(' ', 'T')).toInstant(ZoneOffset.UTC);
+    }
+
+    private static InetAddress parseInet(String value) {
+        String text = value.trim();
+        // Literal addresses only, host names would trigger a DNS lookup per row
+        if (!text.matches("[0-9.]+|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*")) {
+            throw new IllegalArgumentException("not an IP address");
+        }
+        try {
+            return InetAddress.getByName(text);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("not an IP address", e);
+        }
+    }
+
+    private static Map<String, Object> userDefined(JsonNode node) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("not an object");
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> fields = (Map<String, Object>) plain(node);
+        return fields;
+    }
+
+    /**
+     * Plain Java value of a JSON node: maps, lists, strings, numbers and booleans.
+     */
+    private static Object plain(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    map.put(field.getKey(), plain(field.getValue()));
+                }
+                return map;
+            case ARRAY:
+                List<Object> list = new ArrayList<>(node.size());
+                for (JsonNode child : node) {
+                    list.add(plain(child));
+                }
+                return list;
+            case STRING:
+                return node.textValue();
+            case NUMBER:
+                return node.numberValue();
+            case BOOLEAN:
+                return node.booleanValue();
+            case NULL:
+            case MISSING:
+                return null;
+            default:
+                return node.toString();
+        }
+    }
+
+    private static JsonNode readJson(String text) {
+        try {
+            return JSON.readTree(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -5,9 +5,13 @@ import com.datastax.astra.client.collections.Collection;
 import com.datastax.astra.client.collections.definition.documents.Document;
 import com.datastax.astra.client.databases.Database;
 import com.datastax.astra.internal.serdes.collections.DocumentMapper;
+import com.datastax.astra.tool.loader.LoadReport;
 import com.datastax.astra.tool.loader.csv.CsvLoader;
+import com.datastax.astra.tool.loader.csv.CsvLoaderSettings;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Paths;
+
 /**
  * Load a CSV to Astra
  */
@@ -27,7 +31,12 @@ public class CsvPhilosophers {
 
         // Zou !
         String csvFilename = "/Users/cedricklunven/dev/datastax/JAVA/astra-db-java/tools/src/test/resources/philosopher-quotes.csv";
-        CsvLoader.load(csvFilename, collection, new DocumentMapper() {
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .threadPoolSize(8)
+                .deadLetterFile(Paths.get("philosopher-quotes.rejected.csv"))
+                .checkpointFile(Paths.get("philosopher-quotes.checkpoint"))
+                .build();
+        LoadReport report = CsvLoader.load(csvFilename, settings, collection, new DocumentMapper() {
             @Override
             public Document map(Document csvRow) {
 
@@ -37,7 +46,7 @@ public class CsvPhilosophers {
                 return csvRow;
             }
         });
-        Thread.sleep(10000);
+        log.info("Load completed: {}", report);
 
     }
 
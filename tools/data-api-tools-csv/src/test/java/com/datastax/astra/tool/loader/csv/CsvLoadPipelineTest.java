@@ -0,0 +1,216 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
+import com.datastax.astra.client.exceptions.DataAPIErrorDescriptor;
+import com.datastax.astra.tool.loader.LoadReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvLoadPipelineTest {
+
+    private static final String HEADER = "id,text";
+
+    /** Inserted records, with the number of times each one was inserted. */
+    private final Map<String, AtomicInteger> inserted = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldLoadQuotedLinesWithSeveralParsers(@TempDir Path tmp) throws Exception {
+        Path file = csv(tmp, 1000);
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .batchSize(7)
+                .threadPoolSize(4)
+                .parserThreads(4)
+                .splitSizeBytes(512)
+                .checkpointFile(tmp.resolve("checkpoint"))
+                .build();
+
+        LoadReport report = pipeline(file, settings, this::insertOrdered).run();
+
+        assertThat(report.getRowsRead()).isEqualTo(1000);
+        assertThat(report.getRowsInserted()).isEqualTo(1000);
+        assertThat(report.getRowsRejected()).isZero();
+        assertThat(inserted).hasSize(1000).allSatisfy((id, count) -> assertThat(count).hasValue(1));
+        CsvCheckpoint checkpoint = CsvCheckpoint.read(settings.getCheckpointFile());
+        assertThat(checkpoint.getOffset()).isEqualTo(Files.size(file));
+        assertThat(checkpoint.getRows()).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldNotCheckpointPastAnIncompleteBatch(@TempDir Path tmp) throws Exception {
+        Path file = csv(tmp, 100);
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .batchSize(10)
+                .threadPoolSize(4)
+                .checkpointFile(tmp.resolve("checkpoint"))
+                .deadLetterFile(tmp.resolve("dead-letters.csv"))
+                .build();
+
+        // The load crashes on the first batch, once the following ones are inserted
+        assertThatThrownBy(() -> pipeline(file, settings, records -> {
+            if (records.contains("0")) {
+                long deadline = System.currentTimeMillis() + 10_000;
+                while (inserted.size() < 90 && System.currentTimeMillis() < deadline) {
+                    Thread.onSpinWait();
+                }
+                throw new OutOfMemoryError("crash");
+            }
+            insertOrdered(records);
+        }).run()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+
+        assertThat(inserted).hasSize(90);
+        CsvCheckpoint checkpoint = CsvCheckpoint.read(settings.getCheckpointFile());
+        assertThat(checkpoint.getOffset()).isEqualTo(HEADER.length() + 1);
+        assertThat(checkpoint.getRows()).isZero();
+
+        // The rerun sends every row again, the ones already inserted are not rejected
+        LoadReport report = pipeline(file, settings, this::insertOrdered).run();
+
+        assertThat(report.getRowsInserted()).isEqualTo(10);
+        assertThat(report.getRowsSkipped()).isEqualTo(90);
+        assertThat(report.getRowsRejected()).isZero();
+        assertThat(inserted).hasSize(100).allSatisfy((id, count) -> assertThat(count).hasValue(1));
+        assertThat(Files.readAllLines(settings.getDeadLetterFile())).hasSize(1);
+        assertThat(CsvCheckpoint.read(settings.getCheckpointFile()).getOffset()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void shouldRetryWithoutRejectingAppliedRecords(@TempDir Path tmp) throws Exception {
+        Path file = csv(tmp, 50);
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .batchSize(10)
+                .threadPoolSize(5)
+                .deadLetterFile(tmp.resolve("dead-letters.csv"))
+                .build();
+        // The first request of a batch inserts half of it then fails, as a timeout after the write was applied
+        Set<String> failed = ConcurrentHashMap.newKeySet();
+
+        LoadReport report = pipeline(file, settings, records -> {
+            if (records.size() == 10 && failed.add(records.get(0))) {
+                insertOrdered(records.subList(0, records.size() / 2));
+                throw new IllegalStateException("Read timed out");
+            }
+            insertOrdered(records);
+        }).run();
+
+        assertThat(report.getRowsInserted()).isEqualTo(25);
+        assertThat(report.getRowsSkipped()).isEqualTo(25);
+        assertThat(report.getRowsRejected()).isZero();
+        assertThat(inserted).hasSize(50).allSatisfy((id, count) -> assertThat(count).hasValue(1));
+        assertThat(Files.readAllLines(settings.getDeadLetterFile())).hasSize(1);
+    }
+
+    @Test
+    void shouldRejectBatchFailingAfterRetries(@TempDir Path tmp) throws Exception {
+        Path file = csv(tmp, 20);
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .batchSize(10)
+                .maxRetries(1)
+                .deadLetterFile(tmp.resolve("dead-letters.csv"))
+                .checkpointFile(tmp.resolve("checkpoint"))
+                .build();
+
+        LoadReport report = pipeline(file, settings, records -> {
+            throw new IllegalStateException("Service unavailable");
+        }).run();
+
+        assertThat(report.getRowsRejected()).isEqualTo(20);
+        assertThat(report.getRequests()).isEqualTo(4);
+        String deadLetters = Files.readString(settings.getDeadLetterFile());
+        assertThat(deadLetters).startsWith(HEADER + ",__error\n");
+        assertThat(deadLetters.split("Service unavailable", -1)).hasSize(21);
+        assertThat(CsvCheckpoint.read(settings.getCheckpointFile()).getRows()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldReportInsertFailureWhileParsersWait(@TempDir Path tmp) throws Exception {
+        Path file = csv(tmp, 1000);
+        CsvLoaderSettings settings = CsvLoaderSettings.builder()
+                .batchSize(1)
+                .threadPoolSize(2)
+                .timeoutSeconds(60)
+                .build();
+        long begin = System.currentTimeMillis();
+
+        // The parser fills the queue once every insert thread is dead
+        assertThatThrownBy(() -> pipeline(file, settings, records -> {
+            throw new OutOfMemoryError("insert thread died");
+        }).run()).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(OutOfMemoryError.class);
+
+        assertThat(System.currentTimeMillis() - begin).isLessThan(30_000);
+    }
+
+    @Test
+    void shouldDetectDuplicatesFromErrorCodes() {
+        DataAPIErrorDescriptor duplicate = new DataAPIErrorDescriptor();
+        duplicate.setErrorCode("DOCUMENT_ALREADY_EXISTS");
+        DataAPIErrorDescriptor invalid = new DataAPIErrorDescriptor();
+        invalid.setErrorCode("SHRED_BAD_DOCUMENT_TYPE");
+        invalid.setMessage("Document already exists in another form");
+
+        CsvLoadPipeline.PartialInsertException refused = CsvLoadPipeline.PartialInsertException.of(
+                new CollectionInsertManyException(List.of("a", "b"), "Partial insertion", List.of(duplicate)));
+        assertThat(refused.getInserted()).isEqualTo(2);
+        assertThat(refused.isDuplicate()).isTrue();
+
+        refused = CsvLoadPipeline.PartialInsertException.of(
+                new CollectionInsertManyException(List.of(), "DOCUMENT_ALREADY_EXISTS in message", List.of(invalid)));
+        assertThat(refused.isDuplicate()).isFalse();
+    }
+
+    private CsvLoadPipeline<String> pipeline(Path file, CsvLoaderSettings settings,
+                                             CsvLoadPipeline.BatchInserter<String> inserter) {
+        return new CsvLoadPipeline<>(file, settings, true,
+                CsvLoadPipeline.csv(',', (headers, values) -> {
+                    if (values.length != headers.length) {
+                        throw new IllegalArgumentException("Expected " + headers.length + " values");
+                    }
+                    return values[0];
+                }), inserter);
+    }
+
+    /**
+     * Ordered insert refusing the records already inserted, as the Data API does with existing ids.
+     */
+    private void insertOrdered(List<String> records) {
+        for (int i = 0; i < records.size(); i++) {
+            AtomicInteger count = inserted.computeIfAbsent(records.get(i), id -> new AtomicInteger());
+            if (count.getAndIncrement() > 0) {
+                count.decrementAndGet();
+                throw new CsvLoadPipeline.PartialInsertException(i, true, "DOCUMENT_ALREADY_EXISTS");
+            }
+        }
+    }
+
+    /**
+     * A CSV file where one row in three has a quoted value spanning lines.
+     */
+    private static Path csv(Path tmp, int rows) throws IOException {
+        StringBuilder content = new StringBuilder(HEADER).append('\n');
+        for (int i = 0; i < rows; i++) {
+            content.append(i).append(',');
+            if (i % 3 == 0) {
+                content.append("\"first line\nsecond \"\"quoted\"\" line\"");
+            } else {
+                content.append("single line ").append(i);
+            }
+            content.append('\n');
+        }
+        Path file = tmp.resolve("rows.csv");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
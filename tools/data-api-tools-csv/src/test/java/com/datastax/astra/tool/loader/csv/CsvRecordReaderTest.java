@@ -0,0 +1,86 @@
+package com.datastax.astra.tool.loader.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void shouldNotCutQuotedLineFeeds(@TempDir Path tmp) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(i % 3 == 0
+                    ? i + ",\"first line\nsecond \"\"quoted\"\" line\n" + i + "\""
+                    : i + ",\"single line " + i + "\"");
+        }
+        Path file = write(tmp.resolve("quoted.csv"), records);
+
+        List<long[]> splits = CsvRecordReader.splits(file, 0, 64, true);
+
+        assertThat(splits).hasSizeGreaterThan(10);
+        assertContiguous(splits, 0, Files.size(file));
+        assertThat(read(file, splits, true)).containsExactlyElementsOf(records);
+    }
+
+    @Test
+    void shouldCutRecordsOnLineFeeds(@TempDir Path tmp) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add("{\"_id\":" + i + ",\"text\":\"line " + i + "\"}");
+        }
+        Path file = write(tmp.resolve("documents.ndjson"), records);
+        long start = records.get(0).length() + 1;
+
+        List<long[]> splits = CsvRecordReader.splits(file, start, 100, false);
+
+        assertThat(splits).hasSizeGreaterThan(10);
+        assertContiguous(splits, start, Files.size(file));
+        assertThat(read(file, splits, false)).containsExactlyElementsOf(records.subList(1, records.size()));
+    }
+
+    @Test
+    void shouldKeepSmallFileInOneSplit(@TempDir Path tmp) throws IOException {
+        Path file = write(tmp.resolve("small.csv"), List.of("1,\"a\nb\"", "2,c"));
+
+        assertThat(CsvRecordReader.splits(file, 0, 1024, true)).hasSize(1);
+        assertThat(CsvRecordReader.splits(file, Files.size(file), 1024, true)).isEmpty();
+    }
+
+    private static Path write(Path file, List<String> records) throws IOException {
+        Files.write(file, (String.join("\n", records) + "\n").getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static void assertContiguous(List<long[]> splits, long start, long end) {
+        long expected = start;
+        for (long[] split : splits) {
+            assertThat(split[0]).isEqualTo(expected);
+            assertThat(split[1]).isGreaterThan(split[0]);
+            expected = split[1];
+        }
+        assertThat(expected).isEqualTo(end);
+    }
+
+    private static List<String> read(Path file, List<long[]> splits, boolean quoted) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (long[] split : splits) {
+            try (CsvRecordReader reader = new CsvRecordReader(file, split[0], split[1], quoted)) {
+                String record;
+                while ((record = reader.next()) != null) {
+                    records.add(record);
+                }
+                assertThat(reader.getPosition()).isEqualTo(split[1]);
+            }
+        }
+        return records;
+    }
+}
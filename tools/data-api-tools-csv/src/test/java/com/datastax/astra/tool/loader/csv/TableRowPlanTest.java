@@ -0,0 +1,255 @@
+package com.datastax.astra.tool.loader.csv;
+
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.tables.definition.TableDefinition;
+import com.datastax.astra.client.tables.definition.columns.TableColumnDefinitionVector;
+import com.datastax.astra.client.tables.definition.columns.TableColumnTypes;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TableRowPlanTest {
+
+    private static final TableDefinition DEFINITION = new TableDefinition()
+            .addColumnText("text")
+            .addColumnAscii("ascii")
+            .addColumn("duration", TableColumnTypes.DURATION)
+            .addColumnInt("int")
+            .addColumnBigInt("bigint")
+            .addColumn("counter", TableColumnTypes.COUNTER)
+            .addColumn("smallint", TableColumnTypes.SMALLINT)
+            .addColumn("tinyint", TableColumnTypes.TINYINT)
+            .addColumn("varint", TableColumnTypes.VARINT)
+            .addColumn("decimal", TableColumnTypes.DECIMAL)
+            .addColumn("double", TableColumnTypes.DOUBLE)
+            .addColumn("float", TableColumnTypes.FLOAT)
+            .addColumnBoolean("boolean")
+            .addColumnTimestamp("timestamp")
+            .addColumn("date", TableColumnTypes.DATE)
+            .addColumn("time", TableColumnTypes.TIME)
+            .addColumnUuid("uuid")
+            .addColumn("timeuuid", TableColumnTypes.TIMEUUID)
+            .addColumn("inet", TableColumnTypes.INET)
+            .addColumnBlob("blob")
+            .addColumnUserDefinedType("address", "address")
+            .addColumnVector("vector", new TableColumnDefinitionVector().dimension(3))
+            .addColumnList("list", TableColumnTypes.INT)
+            .addColumnSet("set", TableColumnTypes.TEXT)
+            .addColumnMap("map", TableColumnTypes.TEXT, TableColumnTypes.DOUBLE)
+            .addColumnListUserDefinedType("addresses", "address")
+            .addColumnMapUserDefinedType("contacts", "address", TableColumnTypes.TEXT);
+
+    private final TableRowPlan plan = TableRowPlan.compile(DEFINITION);
+
+    private final ObjectMapper json = new ObjectMapper();
+
+    @Test
+    void shouldConvertTextOfEveryScalarType() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        Row row = csv(
+                "text", "hello",
+                "ascii", "abc",
+                "duration", "1h30m",
+                "int", " 42 ",
+                "bigint", "9000000000",
+                "counter", "7",
+                "smallint", "-12",
+                "tinyint", "8",
+                "varint", "123456789012345678901234567890",
+                "decimal", "1.50",
+                "double", "2.5",
+                "float", "0.25",
+                "boolean", "Yes",
+                "timestamp", "2024-05-01T10:15:30Z",
+                "date", "2024-05-01",
+                "time", "10:15:30",
+                "uuid", uuid.toString(),
+                "timeuuid", uuid.toString(),
+                "inet", "10.0.0.1",
+                "blob", "AQID",
+                "address", "{\"city\":\"Paris\",\"zip\":75001}");
+
+        assertThat(row.get("text")).isEqualTo("hello");
+        assertThat(row.get("ascii")).isEqualTo("abc");
+        assertThat(row.get("duration")).isEqualTo("1h30m");
+        assertThat(row.get("int")).isEqualTo(42);
+        assertThat(row.get("bigint")).isEqualTo(9000000000L);
+        assertThat(row.get("counter")).isEqualTo(7L);
+        assertThat(row.get("smallint")).isEqualTo((short) -12);
+        assertThat(row.get("tinyint")).isEqualTo((byte) 8);
+        assertThat(row.get("varint")).isEqualTo(new BigInteger("123456789012345678901234567890"));
+        assertThat(row.get("decimal")).isEqualTo(new BigDecimal("1.50"));
+        assertThat(row.get("double")).isEqualTo(2.5d);
+        assertThat(row.get("float")).isEqualTo(0.25f);
+        assertThat(row.get("boolean")).isEqualTo(true);
+        assertThat(row.get("timestamp")).isEqualTo(Instant.parse("2024-05-01T10:15:30Z"));
+        assertThat(row.get("date")).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(row.get("time")).isEqualTo(LocalTime.of(10, 15, 30));
+        assertThat(row.get("uuid")).isEqualTo(uuid);
+        assertThat(row.get("timeuuid")).isEqualTo(uuid);
+        assertThat(row.get("inet")).isEqualTo(InetAddress.getByName("10.0.0.1"));
+        assertThat((byte[]) row.get("blob")).containsExactly(1, 2, 3);
+        assertThat(row.get("address")).isEqualTo(Map.of("city", "Paris", "zip", 75001));
+    }
+
+    @Test
+    void shouldConvertEmptyValues() {
+        Row row = csv("text", "", "ascii", "", "int", "", "boolean", "");
+
+        assertThat(row.get("text")).isEqualTo("");
+        assertThat(row.get("ascii")).isEqualTo("");
+        assertThat(row.get("int")).isNull();
+        assertThat(row.get("boolean")).isNull();
+    }
+
+    @Test
+    void shouldParseTimestampForms() {
+        Instant expected = Instant.parse("2024-05-01T10:15:30Z");
+
+        assertThat(csv("timestamp", String.valueOf(expected.toEpochMilli())).get("timestamp")).isEqualTo(expected);
+        assertThat(csv("timestamp", "2024-05-01t10:15:30z").get("timestamp")).isEqualTo(expected);
+        assertThat(csv("timestamp", "2024-05-01T12:15:30+02:00").get("timestamp")).isEqualTo(expected);
+        assertThat(csv("timestamp", "2024-05-01 10:15:30").get("timestamp")).isEqualTo(expected);
+        assertThat(csv("timestamp", "2024-05-01").get("timestamp")).isEqualTo(Instant.parse("2024-05-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldParseBooleansWhateverTheDefaultLocale() {
+        Locale locale = Locale.getDefault();
+        try {
+            // Lower case of 'I' is a dotless i in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            TableRowPlan turkish = TableRowPlan.compile(DEFINITION);
+            assertThat(turkish.toRow(new String[] {"boolean"}, new String[] {"YES"}).get("boolean")).isEqualTo(true);
+            assertThat(turkish.toRow(new String[] {"boolean"}, new String[] {"FALSE"}).get("boolean")).isEqualTo(false);
+        } finally {
+            Locale.setDefault(locale);
+        }
+        assertThat(csv("boolean", "0").get("boolean")).isEqualTo(false);
+        assertThatThrownBy(() -> csv("boolean", "maybe"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("boolean");
+    }
+
+    @Test
+    void shouldCheckVectorDimension() {
+        DataAPIVector separated = (DataAPIVector) csv("vector", "0.1;0.2;0.3").get("vector");
+        DataAPIVector array = (DataAPIVector) csv("vector", "[0.1, 0.2, 0.3]").get("vector");
+
+        assertThat(separated.getEmbeddings()).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(array.getEmbeddings()).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThatThrownBy(() -> csv("vector", "0.1;0.2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("column 'vector'")
+                .hasMessageContaining("expecting 3 dimensions, got 2");
+    }
+
+    @Test
+    void shouldSplitVectorTextOnSeparatorsAndSpaces() {
+        assertThat(((DataAPIVector) csv("vector", "0.1, 0.2, 0.3").get("vector")).getEmbeddings())
+                .containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(((DataAPIVector) csv("vector", "0.1 ; 0.2;0.3").get("vector")).getEmbeddings())
+                .containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(((DataAPIVector) csv("vector", "0.1  0.2 0.3").get("vector")).getEmbeddings())
+                .containsExactly(0.1f, 0.2f, 0.3f);
+    }
+
+    @Test
+    void shouldRejectNonNumericVectorItems() {
+        assertThatThrownBy(() -> csv("vector", "[0.1, \"x\", 0.3]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("column 'vector'")
+                .hasMessageContaining("not a number at index 1");
+        assertThatThrownBy(() -> csv("vector", "[0.1, null, 0.3]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a number at index 1");
+    }
+
+    @Test
+    void shouldConvertCollectionTextForms() {
+        assertThat(csv("list", "1;2;3").get("list")).isEqualTo(List.of(1, 2, 3));
+        assertThat(csv("list", "[1, 2, 3]").get("list")).isEqualTo(List.of(1, 2, 3));
+        assertThat((Set<Object>) csv("set", "a;b;a").get("set")).containsExactly("a", "b");
+        assertThat((Set<Object>) csv("set", "[\"a\", \"b\"]").get("set")).containsExactly("a", "b");
+        assertThat(csv("map", "a:1.5;b:2").get("map")).isEqualTo(Map.of("a", 1.5d, "b", 2d));
+        assertThat(csv("map", "{\"a\": 1.5, \"b\": 2}").get("map")).isEqualTo(Map.of("a", 1.5d, "b", 2d));
+        assertThatThrownBy(() -> csv("map", "a=1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expecting key:value");
+        assertThatThrownBy(() -> csv("list", "1;two"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("column 'list'");
+    }
+
+    @Test
+    void shouldConvertUserDefinedCollections() {
+        assertThat(csv("addresses", "[{\"city\":\"Paris\"},{\"city\":\"Lyon\"}]").get("addresses"))
+                .isEqualTo(List.of(Map.of("city", "Paris"), Map.of("city", "Lyon")));
+        assertThat(csv("contacts", "{\"home\":{\"city\":\"Paris\",\"tags\":[\"main\"]}}").get("contacts"))
+                .isEqualTo(Map.of("home", Map.of("city", "Paris", "tags", List.of("main"))));
+        assertThatThrownBy(() -> csv("addresses", "[1]"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not an object");
+    }
+
+    @Test
+    void shouldConvertJsonValues() throws Exception {
+        Row row = plan.toRow(json.readTree("{"
+                + "\"int\": 42, \"smallint\": \"12\", \"boolean\": true, \"timestamp\": 1714558530000,"
+                + "\"decimal\": 1.5, \"vector\": [0.1, 0.2, 0.3], \"list\": [1, \"2\"],"
+                + "\"address\": {\"city\": \"Paris\"}, \"unknown\": 1}"));
+
+        assertThat(row.get("int")).isEqualTo(42);
+        assertThat(row.get("smallint")).isEqualTo((short) 12);
+        assertThat(row.get("boolean")).isEqualTo(true);
+        assertThat(row.get("timestamp")).isEqualTo(Instant.ofEpochMilli(1714558530000L));
+        assertThat(row.get("decimal")).isEqualTo(new BigDecimal("1.5"));
+        assertThat(((DataAPIVector) row.get("vector")).getEmbeddings()).containsExactly(0.1f, 0.2f, 0.3f);
+        assertThat(row.get("list")).isEqualTo(List.of(1, 2));
+        assertThat(row.get("address")).isEqualTo(Map.of("city", "Paris"));
+        assertThatThrownBy(() -> plan.toRow(json.readTree("{\"int\": 1.5}")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not an integer in range");
+        assertThatThrownBy(() -> plan.toRow(json.readTree("{\"tinyint\": 300}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldIgnoreHeadersOutsideOfTheTable() {
+        TableRowPlan headerPlan = TableRowPlan.compile(DEFINITION, "int", " text ", "unknown");
+
+        Row row = headerPlan.toRow(new String[] {"int", " text ", "unknown"}, new String[] {"1", "a", "b"});
+
+        assertThat(headerPlan.getSchema().size()).isEqualTo(2);
+        assertThat(row.get("int")).isEqualTo(1);
+        assertThat(row.get("text")).isEqualTo("a");
+    }
+
+    /**
+     * Build a row from header and value pairs.
+     */
+    private Row csv(String... pairs) {
+        String[] headers = new String[pairs.length / 2];
+        String[] values = new String[pairs.length / 2];
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = pairs[2 * i];
+            values[i]  = pairs[2 * i + 1];
+        }
+        return plan.toRow(headers, values);
+    }
+}
@@ -0,0 +1,333 @@
+package com.datastax.astra.tool.copy;
+
+import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.core.query.Filters;
+import com.datastax.astra.tool.loader.InsertPipeline;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Reader/writer pipeline copying a collection or a table.
+ * <p>
+ * Reader threads each run a find cursor on one partition of the source and cut it into batches, optionally
+ * throttled to a number of documents per second. Batches are inserted by an {@link InsertPipeline}: reading never
+ * runs ahead of the inserts by more than {@link CollectionCloneSettings#getQueueCapacity()} batches, a refused
+ * document is skipped and the insert resumes after it, other failures are retried with a backoff.
+ * </p>
+ * <p>
+ * A partition is complete when it has been read and all its batches inserted. Completed partitions are saved
+ * to the checkpoint file, a clone restarted with it reads only the other ones. A partition with a batch failing
+ * after all retries is never complete, the restart reads it again and skips the documents already copied.
+ * </p>
+ *
+ * @param <T>
+ *      type of the copied records
+ */
+@Slf4j
+class ClonePipeline<T> extends InsertPipeline<T, ClonePipeline.Batch<T>> {
+
+    /**
+     * Opens a cursor on the source.
+     *
+     * @param <T>
+     *      type of the copied records
+     */
+    @FunctionalInterface
+    interface SourceReader<T> {
+
+        /**
+         * Read the records matching a filter.
+         *
+         * @param filter
+         *      filter, null for all the records
+         * @return
+         *      a cursor
+         */
+        Iterable<T> read(Filter filter);
+    }
+
+    /**
+     * Records of one partition.
+     */
+    static class Batch<T> extends InsertPipeline.Batch<T> {
+        final int partition;
+
+        Batch(int partition) {
+            this.partition = partition;
+        }
+    }
+
+    private final String name;
+
+    private final CollectionCloneSettings settings;
+
+    private final SourceReader<T> reader;
+
+    private final UnaryOperator<T> mapper;
+
+    /** Batches of each partition not inserted yet. */
+    private int[] pending;
+
+    /** Partitions fully read. */
+    private final BitSet read = new BitSet();
+
+    /** Partitions read and inserted, including the ones of previous runs. */
+    private final BitSet completed = new BitSet();
+
+    /** Partitions with a batch failing after all retries, left out of the checkpoint. */
+    private final BitSet failed = new BitSet();
+
+    /** Earliest time the next document can be read, when throttled. */
+    private final AtomicLong nextReadNanos = new AtomicLong();
+
+    private final AtomicLong documentsRead = new AtomicLong();
+
+    /**
+     * Prepare a copy.
+     *
+     * @param name
+     *      description of the copy for the logs
+     * @param settings
+     *      settings
+     * @param reader
+     *      opens the source cursors
+     * @param mapper
+     *      applied to each record, returning null skips it
+     * @param writer
+     *      inserts a batch into the target
+     */
+    ClonePipeline(String name, CollectionCloneSettings settings, SourceReader<T> reader, UnaryOperator<T> mapper, BatchInserter<T> writer) {
+        super(writer, settings.getMaxRetries());
+        this.name     = name;
+        this.settings = settings;
+        this.reader   = reader;
+        this.mapper   = mapper;
+    }
+
+    /**
+     * Run the copy until every partition is complete.
+     *
+     * @return
+     *      report of the run
+     * @throws Exception
+     *      a source cursor failed, or the copy did not complete within the timeout
+     */
+    CloneReport run() throws Exception {
+        long top = System.currentTimeMillis();
+        long deadline = top + TimeUnit.SECONDS.toMillis(settings.getTimeoutSeconds());
+
+        // Partitions, combined with the filter
+        Filter filter = settings.getFilter();
+        List<Filter> partitions = new ArrayList<>();
+        if (settings.getPartitions() == null || settings.getPartitions().isEmpty()) {
+            partitions.add(filter);
+        } else {
+            for (Filter partition : settings.getPartitions()) {
+                partitions.add(filter == null || filter.getDocumentMap().isEmpty() ? partition : Filters.and(filter, partition));
+            }
+        }
+        pending = new int[partitions.size()];
+        int resumed = readCheckpoint(partitions.size());
+        if (settings.isLogProgress()) {
+            log.info("Cloning {}: {} partitions ({} already completed), batchSize={}, readers={}, inserters={}",
+                    name, partitions.size(), resumed, settings.getBatchSize(),
+                    settings.getReaderThreadPoolSize(), settings.getInsertThreadPoolSize());
+        }
+
+        List<Callable<Void>> readers = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            if (!isCompleted(i)) {
+                int partition = i;
+                readers.add(() -> read(partition, partitions.get(partition)));
+            }
+        }
+        try {
+            execute(readers, Math.min(settings.getReaderThreadPoolSize(), partitions.size()),
+                    settings.getInsertThreadPoolSize(), settings.getQueueCapacity(), deadline);
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Clone of " + name + " did not complete within " + settings.getTimeoutSeconds()
+                    + "s, " + inserted.get() + " documents inserted, restart with the checkpoint file to resume");
+        } finally {
+            writeCheckpoint(partitions.size());
+        }
+        synchronized (this) {
+            if (!failed.isEmpty()) {
+                log.warn("Partitions {} of {} had batches failing after all retries and are not checkpointed, "
+                        + "restart the clone to copy them", failed, name);
+            }
+        }
+        CloneReport report = new CloneReport(documentsRead.get(), inserted.get(), skipped.get(),
+                rejected.get(), resumed, requests.get(), System.currentTimeMillis() - top);
+        if (settings.isLogProgress()) {
+            log.info("{} documents cloned for {} in {} ms (Throughput: {} docs/sec), {} skipped, {} rejected",
+                    report.getDocumentsInserted(), name, report.getElapsedMillis(),
+                    (long) report.getDocumentsPerSecond(), report.getDocumentsSkipped(), report.getDocumentsRejected());
+        }
+        return report;
+    }
+
+    /**
+     * Read a partition into batches.
+     */
+    private Void read(int partition, Filter filter) throws InterruptedException {
+        Batch<T> batch = new Batch<>(partition);
+        for (T record : reader.read(filter)) {
+            if (isAborted()) {
+                return null;
+            }
+            throttle();
+            long count = documentsRead.incrementAndGet();
+            if (settings.isLogProgress() && count % 10000 == 0) {
+                log.info("Processed {} documents so far...", count);
+            }
+            T mapped = mapper.apply(record);
+            if (mapped != null) {
+                batch.getRecords().add(mapped);
+            }
+            if (batch.getRecords().size() == settings.getBatchSize()) {
+                enqueue(batch);
+                batch = new Batch<>(partition);
+            }
+        }
+        if (!batch.getRecords().isEmpty()) {
+            enqueue(batch);
+        }
+        synchronized (this) {
+            read.set(partition);
+            if (pending[partition] == 0 && !failed.get(partition)) {
+                complete(partition);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wait for the next read slot when reads are throttled.
+     */
+    private void throttle() throws InterruptedException {
+        if (settings.getMaxReadsPerSecond() <= 0) {
+            return;
+        }
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.getMaxReadsPerSecond();
+        long now = System.nanoTime();
+        long slot = nextReadNanos.getAndAccumulate(now, (next, current) -> Math.max(next, current) + interval);
+        long wait = Math.max(slot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Count the batch as pending for its partition, then put it on the queue.
+     */
+    @Override
+    protected void enqueue(Batch<T> batch) throws InterruptedException {
+        synchronized (this) {
+            pending[batch.partition]++;
+        }
+        super.enqueue(batch);
+    }
+
+    /**
+     * A partition with a failed batch is left out of the checkpoint, so a restart reads it again.
+     */
+    @Override
+    protected synchronized void failed(Batch<T> batch, int from, String error) {
+        failed.set(batch.partition);
+    }
+
+    @Override
+    protected synchronized void completed(Batch<T> batch) {
+        if (--pending[batch.partition] == 0 && read.get(batch.partition) && !failed.get(batch.partition)) {
+            complete(batch.partition);
+        }
+    }
+
+    // --------------------------------
+    // --- Checkpoint              ----
+    // --------------------------------
+
+    private boolean isCompleted(int partition) {
+        synchronized (this) {
+            return completed.get(partition);
+        }
+    }
+
+    /**
+     * Mark a partition as complete and save the progress, called with the lock held.
+     */
+    private void complete(int partition) {
+        completed.set(partition);
+        writeCheckpoint(pending.length);
+    }
+
+    /**
+     * Load the partitions completed by previous runs.
+     */
+    private int readCheckpoint(int partitions) throws IOException {
+        Path path = settings.getCheckpointFile();
+        if (path == null || !Files.exists(path)) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(in);
+        }
+        int saved = Integer.parseInt(properties.getProperty("partitions", "0"));
+        if (saved != partitions) {
+            throw new IllegalArgumentException("Checkpoint " + path + " was written for " + saved
+                    + " partitions, not " + partitions);
+        }
+        String done = properties.getProperty("completed", "").trim();
+        if (!done.isEmpty()) {
+            Arrays.stream(done.split(",")).mapToInt(Integer::parseInt).forEach(completed::set);
+        }
+        return completed.cardinality();
+    }
+
+    /**
+     * Save the completed partitions.
+     */
+    private synchronized void writeCheckpoint(int partitions) {
+        Path path = settings.getCheckpointFile();
+        if (path == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("partitions", String.valueOf(partitions));
+        properties.setProperty("completed", completed.stream().mapToObj(String::valueOf)
+                .collect(Collectors.joining(",")));
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(out, "Clone checkpoint of " + name);
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot write checkpoint {}: {}", path, e.getMessage());
+        }
+    }
+}
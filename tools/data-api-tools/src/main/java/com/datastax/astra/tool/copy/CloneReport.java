@@ -0,0 +1,45 @@
+package com.datastax.astra.tool.copy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Outcome of a clone.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CloneReport {
+
+    /** Documents read from the source during this run. */
+    private final long documentsRead;
+
+    /** Documents inserted into the target during this run. */
+    private final long documentsInserted;
+
+    /** Documents already in the target collection, copied by an interrupted run. */
+    private final long documentsSkipped;
+
+    /** Documents refused by the target, or in batches failing after all retries. */
+    private final long documentsRejected;
+
+    /** Partitions not read because a previous run completed them. */
+    private final int partitionsResumed;
+
+    /** insertMany requests sent, retries included. */
+    private final long requests;
+
+    /** Duration of the run. */
+    private final long elapsedMillis;
+
+    /**
+     * Documents inserted per second.
+     *
+     * @return
+     *      throughput of the run
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedMillis == 0 ? 0 : documentsInserted * 1000d / elapsedMillis;
+    }
+}
@@ -1,10 +1,16 @@
 package com.datastax.astra.tool.copy;
 
+import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.tables.definition.rows.Row;
 import com.datastax.astra.internal.serdes.collections.DocumentMapper;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NonNull;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
 /**
  * Settings for collection cloning operations.
  * Optimized for streaming cursor consumption and parallel batch insertion.
@@ -12,7 +18,7 @@ import lombok.NonNull;
 @Getter
 @Builder
 public class CollectionCloneSettings {
-    
+
     /**
      * Number of documents to fetch per batch from source collection.
      * Larger batches reduce API calls but increase memory usage.
@@ -20,7 +26,7 @@ public class CollectionCloneSettings {
      */
     @Builder.Default
     private final int batchSize = 100;
-    
+
     /**
      * Number of parallel threads for inserting batches into target collection.
      * More threads = faster insertion but more resource usage.
@@ -28,21 +34,21 @@ public class CollectionCloneSettings {
      */
     @Builder.Default
     private final int insertThreadPoolSize = 10;
-    
+
     /**
      * Maximum time in seconds to wait for all insertions to complete.
      * Default: 300 seconds (5 minutes)
      */
     @Builder.Default
     private final int timeoutSeconds = 300;
-    
+
     /**
      * Whether to log progress during cloning.
      * Default: true
      */
     @Builder.Default
     private final boolean logProgress = true;
-    
+
     /**
      * Optional document mapper to transform documents during cloning.
      * If not provided, documents are copied as-is without transformation.
@@ -51,4 +57,71 @@ public class CollectionCloneSettings {
     @NonNull
     @Builder.Default
     private final DocumentMapper documentMapper = DocumentMapper.identity();
+
+    /**
+     * Optional row mapper to transform rows when cloning tables, returning null skips the row.
+     * Default: identity mapper (no transformation)
+     */
+    @NonNull
+    @Builder.Default
+    private final UnaryOperator<Row> rowMapper = UnaryOperator.identity();
+
+    /**
+     * Optional filter on the source, only matching documents are copied.
+     * Default: null (everything)
+     */
+    private final Filter filter;
+
+    /**
+     * Optional split predicates of the source (for instance {@code Filters.objectIdTimeRanges}), each one is
+     * combined with the filter and read by its own cursor. They must not overlap.
+     * Default: null (one cursor)
+     */
+    private final List<Filter> partitions;
+
+    /**
+     * Number of partitions read at the same time.
+     * Default: 4
+     */
+    @Builder.Default
+    private final int readerThreadPoolSize = 4;
+
+    /**
+     * Batches read ahead of the inserts, readers block when it is full.
+     * Default: 0 (twice the insert thread pool size)
+     */
+    @Builder.Default
+    private final int queueCapacity = 0;
+
+    /**
+     * Maximum number of documents read per second from the source, shared by all readers, to protect
+     * the source database.
+     * Default: 0 (unlimited)
+     */
+    @Builder.Default
+    private final int maxReadsPerSecond = 0;
+
+    /**
+     * Attempts for a batch failing without a per-document error (network, timeout).
+     * Default: 3
+     */
+    @Builder.Default
+    private final int maxRetries = 3;
+
+    /**
+     * Completed partitions are saved to this file, when set, and a clone restarted with it skips them.
+     * A partition with a batch failing after all retries is not saved, the restart copies it again.
+     * Default: null (no checkpoint)
+     */
+    private final Path checkpointFile;
+
+    /**
+     * Number of batches waiting for an insert.
+     *
+     * @return
+     *      queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity > 0 ? queueCapacity : 2 * insertThreadPoolSize;
+    }
 }
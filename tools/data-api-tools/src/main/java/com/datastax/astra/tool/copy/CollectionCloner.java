@@ -2,20 +2,26 @@ package com.datastax.astra.tool.copy;
 
 import com.datastax.astra.client.collections.Collection;
 import com.datastax.astra.client.collections.commands.options.CollectionFindOptions;
+import com.datastax.astra.client.collections.commands.options.CollectionInsertManyOptions;
 import com.datastax.astra.client.collections.definition.documents.Document;
-import com.datastax.astra.internal.serdes.collections.DocumentMapper;
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
+import com.datastax.astra.client.core.query.Projection;
+import com.datastax.astra.client.exceptions.DataAPIResponseException;
+import com.datastax.astra.client.tables.Table;
+import com.datastax.astra.client.tables.commands.options.TableFindOptions;
+import com.datastax.astra.client.tables.commands.options.TableInsertManyOptions;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.tool.loader.InsertPipeline;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
- * Utility class for cloning collections with parallel batch insertion.
- * Uses cursor-based streaming for memory efficiency and ExecutorService for concurrent batch insertion.
+ * Utility class for cloning collections and tables, within a database or across databases: source and target
+ * each carry the token and endpoint of their own database.
+ * <p>
+ * The source is read by one cursor per partition ({@code partitions} of the {@link CollectionCloneSettings}), in parallel
+ * and optionally throttled. Batches go through a bounded queue to concurrent ordered insertMany requests, and
+ * completed partitions are checkpointed so an interrupted clone can be restarted.
+ * </p>
  */
 @Slf4j
 public class CollectionCloner {
@@ -25,117 +31,84 @@ public class CollectionCloner {
      *
      * @param source source collection to clone from
      * @param target target collection to clone to
+     * @return report of the clone
      * @throws Exception if cloning fails
      */
-    public static void clone(Collection<Document> source, Collection<Document> target) throws Exception {
-        clone(source, target, CollectionCloneSettings.builder().build());
+    public static CloneReport clone(Collection<Document> source, Collection<Document> target) throws Exception {
+        return clone(source, target, CollectionCloneSettings.builder().build());
     }
 
     /**
-     * Clone a collection with custom settings for batch size, concurrency, cursor page size, and timeout.
+     * Clone a collection with custom settings for batch size, concurrency, partitions, throttling and timeout.
+     * Vectors are copied, documents already in the target are skipped.
      *
      * @param source source collection to clone from
      * @param target target collection to clone to
-     * @param settings settings for batch size, thread pool, cursor page size, and timeout
-     * @throws Exception if cloning fails
+     * @param settings settings for batch size, thread pools, partitions, throttling and timeout
+     * @return report of the clone
+     * @throws Exception if a source cursor fails or the clone does not complete within the timeout
      */
-    public static void clone(Collection<Document> source, 
-                            Collection<Document> target,
-                            CollectionCloneSettings settings) throws Exception {
-        AtomicInteger counter = new AtomicInteger();
-        AtomicInteger batchCounter = new AtomicInteger();
-        long startTime = System.currentTimeMillis();
-        
-        List<Document> batch = new ArrayList<>(settings.getBatchSize());
-        ExecutorService executor = Executors.newFixedThreadPool(settings.getInsertThreadPoolSize());
-
-        try {
-            if (settings.isLogProgress()) {
-                log.info("Starting collection cloning from '{}' to '{}'", 
-                        source.getCollectionName(), target.getCollectionName());
-                log.info("Settings: batchSize={}, insertThreads={}, timeout={}s",
-                        settings.getBatchSize(), settings.getInsertThreadPoolSize(), 
-                        settings.getTimeoutSeconds());
-            }
-            
-            // Use cursor iterator for memory-efficient streaming
-            var cursor = source.find(null, new CollectionFindOptions());
-            
-            while (cursor.hasNext()) {
-                Document doc = cursor.next();
-                // Apply document mapper transformation
-                Document transformedDoc = settings.getDocumentMapper().map(doc);
-                int currentCount = counter.incrementAndGet();
-                batch.add(transformedDoc);
-                
-                // Log progress every 10,000 documents
-                if (settings.isLogProgress() && currentCount % 10000 == 0) {
-                    log.info("Processed {} documents so far...", currentCount);
-                }
-                
-                // When batch is full, submit for async insertion
-                if (batch.size() >= settings.getBatchSize()) {
-                    final List<Document> batchToInsert = new ArrayList<>(batch);
-                    final int currentBatch = batchCounter.incrementAndGet();
-                    final int docsProcessed = currentCount;
-                    if (settings.isLogProgress()) {
-                        log.info("Enqueuing batch #{} ({} documents) - Total processed: {}", 
-                                currentBatch, batchToInsert.size(), docsProcessed);
+    public static CloneReport clone(Collection<Document> source,
+                                    Collection<Document> target,
+                                    CollectionCloneSettings settings) throws Exception {
+        // '*' projection, so $vector and $vectorize are read as well
+        CollectionFindOptions findOptions = new CollectionFindOptions().projection(Projection.include("*"));
+        CollectionInsertManyOptions insertOptions = new CollectionInsertManyOptions()
+                .ordered(true)
+                .chunkSize(settings.getBatchSize());
+        return new ClonePipeline<Document>(
+                "'" + source.getCollectionName() + "' to '" + target.getCollectionName() + "'", settings,
+                filter -> source.find(filter, findOptions),
+                doc -> settings.getDocumentMapper().map(doc),
+                documents -> {
+                    try {
+                        target.insertMany(documents, insertOptions);
+                    } catch (CollectionInsertManyException e) {
+                        throw InsertPipeline.PartialInsertException.of(e);
                     }
-                    executor.submit(() -> {
-                        target.insertMany(batchToInsert);
-                        if (settings.isLogProgress()) {
-                            log.info("Batch #{} inserted successfully", currentBatch);
-                        }
-                    });
-                    batch.clear();
-                }
-            }
+                }).run();
+    }
 
-            // Process remaining batch
-            if (!batch.isEmpty()) {
-                final List<Document> finalBatch = new ArrayList<>(batch);
-                final int finalBatchNum = batchCounter.incrementAndGet();
-                if (settings.isLogProgress()) {
-                    log.info("Enqueuing final batch #{} with {} documents for insertion...", 
-                            finalBatchNum, finalBatch.size());
-                }
-                executor.submit(() -> {
-                    target.insertMany(finalBatch);
-                    if (settings.isLogProgress()) {
-                        log.info("Final batch #{} inserted successfully", finalBatchNum);
-                    }
-                });
-            }
-            
-        } finally {
-            executor.shutdown();
-            long enqueuedTime = System.currentTimeMillis() - startTime;
-            if (settings.isLogProgress()) {
-                log.info("{} documents enqueued for cloning in {} ms", 
-                        counter.get(), enqueuedTime);
-            }
-            
-            try {
-                if (!executor.awaitTermination(settings.getTimeoutSeconds(), TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                    if (settings.isLogProgress()) {
-                        log.warn("Cloning timed out after {} seconds", settings.getTimeoutSeconds());
-                    }
-                } else {
-                    long totalTime = System.currentTimeMillis() - startTime;
-                    int totalDocs = counter.get();
-                    long throughput = totalDocs * 1000L / totalTime;
-                    if (settings.isLogProgress()) {
-                        log.info("{} documents successfully cloned in {} ms (Throughput: {} docs/sec)", 
-                                totalDocs, totalTime, throughput);
+    /**
+     * Clone a table with default settings, the target table must exist with the same primary key.
+     *
+     * @param source source table to clone from
+     * @param target target table to clone to
+     * @return report of the clone
+     * @throws Exception if cloning fails
+     */
+    public static CloneReport clone(Table<Row> source, Table<Row> target) throws Exception {
+        return clone(source, target, CollectionCloneSettings.builder().build());
+    }
+
+    /**
+     * Clone a table, the target table must exist with the same primary key. Rows are written as upserts,
+     * so copying a partition again after a restart is harmless.
+     *
+     * @param source source table to clone from
+     * @param target target table to clone to
+     * @param settings settings for batch size, thread pools, partitions, throttling and timeout,
+     *                 rows are transformed by its {@code rowMapper}
+     * @return report of the clone
+     * @throws Exception if a source cursor fails or the clone does not complete within the timeout
+     */
+    public static CloneReport clone(Table<Row> source,
+                                    Table<Row> target,
+                                    CollectionCloneSettings settings) throws Exception {
+        TableFindOptions findOptions = new TableFindOptions();
+        TableInsertManyOptions insertOptions = new TableInsertManyOptions()
+                .ordered(true)
+                .chunkSize(settings.getBatchSize());
+        return new ClonePipeline<Row>(
+                "'" + source.getTableName() + "' to '" + target.getTableName() + "'", settings,
+                filter -> source.find(filter, findOptions),
+                settings.getRowMapper(),
+                rows -> {
+                    try {
+                        target.insertMany(rows, insertOptions);
+                    } catch (DataAPIResponseException e) {
+                        throw InsertPipeline.PartialInsertException.of(e);
                     }
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                executor.shutdownNow();
-                throw new RuntimeException("Collection cloning was interrupted", e);
-            }
-        }
+                }).run();
     }
 }
@@ -0,0 +1,115 @@
+package com.datastax.astra.tool.export;
+
+import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionFindOneOptions;
+import com.datastax.astra.client.collections.commands.options.CollectionFindOptions;
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.core.query.Projection;
+import com.datastax.astra.client.core.vector.DataAPIVector;
+import com.datastax.astra.client.tables.Table;
+import com.datastax.astra.client.tables.commands.options.TableFindOptions;
+import com.datastax.astra.client.tables.definition.rows.Row;
+import com.datastax.astra.internal.serdes.collections.DocumentSerializer;
+import com.datastax.astra.internal.serdes.tables.RowSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exports a collection or a table to NDJSON or CSV files, optionally gzip compressed.
+ * <p>
+ * The source is read with {@code findPage}, one paging loop per segment (the {@code segments} of the
+ * {@link ExportSettings}) and in parallel. Files are rotated by size and the page state where each file starts
+ * is checkpointed, so an interrupted export can be restarted. Values keep the Data API extended JSON
+ * ({@code $date}, {@code $uuid}...) so the files can be loaded back, vectors are written as arrays of floats.
+ * </p>
+ */
+@Slf4j
+public class DataExporter {
+
+    /**
+     * Writes vectors as arrays of floats, whatever the serialization options of the client.
+     */
+    private static class FloatArrayVectorSerializer extends StdSerializer<DataAPIVector> {
+
+        FloatArrayVectorSerializer() {
+            super(DataAPIVector.class);
+        }
+
+        @Override
+        public void serialize(DataAPIVector vector, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            for (float f : vector.getEmbeddings()) {
+                gen.writeNumber(f);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Export a collection.
+     *
+     * @param source collection to export
+     * @param settings settings for format, segments, rotation and checkpoint
+     * @return report of the export
+     * @throws Exception if a page cannot be read or written, or the export does not complete within the timeout
+     */
+    public static ExportReport export(Collection<Document> source, ExportSettings settings) throws Exception {
+        // All the fields by default, so $vector and $vectorize are exported
+        Projection[] projection = settings.getProjection() != null ? settings.getProjection() : Projection.include("*");
+        List<String> columns = settings.getColumns();
+        if (settings.getFormat() == ExportFormat.CSV && columns == null) {
+            columns = source.findOne(settings.getFilter(), new CollectionFindOneOptions().projection(projection))
+                    .map(doc -> new ArrayList<>(doc.getDocumentMap().keySet()))
+                    .orElseGet(ArrayList::new);
+            log.info("CSV columns of {} taken from its first document: {}", source.getCollectionName(), columns);
+        }
+        return new ExportPipeline<Document>("'" + source.getCollectionName() + "'", settings,
+                (filter, pageState) -> source.findPage(filter, new CollectionFindOptions()
+                        .projection(projection)
+                        .pageState(pageState)),
+                mapper(new DocumentSerializer().getMapper()),
+                Document::get, columns).run();
+    }
+
+    /**
+     * Export a table.
+     *
+     * @param source table to export
+     * @param settings settings for format, segments, rotation and checkpoint
+     * @return report of the export
+     * @throws Exception if a page cannot be read or written, or the export does not complete within the timeout
+     */
+    public static ExportReport export(Table<Row> source, ExportSettings settings) throws Exception {
+        List<String> columns = settings.getColumns();
+        if (settings.getFormat() == ExportFormat.CSV && columns == null) {
+            columns = new ArrayList<>(source.getDefinition().getColumns().keySet());
+        }
+        return new ExportPipeline<Row>("'" + source.getTableName() + "'", settings,
+                (filter, pageState) -> {
+                    TableFindOptions options = new TableFindOptions().pageState(pageState);
+                    if (settings.getProjection() != null) {
+                        options.projection(settings.getProjection());
+                    }
+                    return source.findPage(filter, options);
+                },
+                mapper(new RowSerializer().getMapper()),
+                Row::get, columns).run();
+    }
+
+    /**
+     * Copy of the client mapper writing vectors as arrays of floats.
+     */
+    private static ObjectMapper mapper(ObjectMapper clientMapper) {
+        SimpleModule vectors = new SimpleModule("export-vectors");
+        vectors.addSerializer(DataAPIVector.class, new FloatArrayVectorSerializer());
+        return clientMapper.copy().registerModule(vectors);
+    }
+}
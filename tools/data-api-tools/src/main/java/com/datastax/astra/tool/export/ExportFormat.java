@@ -0,0 +1,29 @@
+package com.datastax.astra.tool.export;
+
+/**
+ * Layout of the exported files.
+ */
+public enum ExportFormat {
+
+    /** One JSON object per line, vectors written as arrays of floats. */
+    NDJSON("ndjson"),
+
+    /** Comma separated values with a header, nested values and vectors written as JSON. */
+    CSV("csv");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Extension of the files, without the compression suffix.
+     *
+     * @return
+     *      file extension
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,431 @@
+package com.datastax.astra.tool.export;
+
+import com.datastax.astra.client.core.paging.Page;
+import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.core.query.Filters;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pipeline writing the pages of a find to files.
+ * <p>
+ * Each segment of the source is paged on its own, on at most {@code readerThreadPoolSize} threads, and
+ * written to its own files. A segment fetches its next page while it writes the current one, so at most one
+ * page per segment is buffered. Files are rotated between two pages once they reach
+ * {@code maxFileSizeBytes}: the page state at that point is where the next file starts, and it is what the
+ * checkpoint saves for the segment. A restarted export rewrites the file that was incomplete and continues.
+ * </p>
+ *
+ * @param <T>
+ *      type of the exported records
+ */
+@Slf4j
+class ExportPipeline<T> {
+
+    /**
+     * Reads one page of the source.
+     *
+     * @param <T>
+     *      type of the exported records
+     */
+    @FunctionalInterface
+    interface PageReader<T> {
+
+        /**
+         * Read a page.
+         *
+         * @param filter
+         *      filter of the segment, null for all the records
+         * @param pageState
+         *      state returned by the previous page, null for the first one
+         * @return
+         *      the page
+         */
+        Page<T> read(Filter filter, String pageState);
+    }
+
+    /**
+     * Progress of a segment.
+     */
+    private static class Segment {
+        final int index;
+        final Filter filter;
+        /** Page starting the current file, null for the first page. */
+        String pageState;
+        /** Sequence of the current file. */
+        int file;
+        boolean done;
+
+        Segment(int index, Filter filter) {
+            this.index  = index;
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * Counts the bytes written to a file, after compression.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private final String name;
+
+    private final ExportSettings settings;
+
+    private final PageReader<T> reader;
+
+    /** Serializes records (NDJSON) and values (CSV), vectors as arrays of floats. */
+    private final ObjectMapper mapper;
+
+    /** Reads a column of a record (CSV). */
+    private final BiFunction<T, String, Object> columnReader;
+
+    /** Columns of CSV files. */
+    private final List<String> columns;
+
+    private List<Segment> segments;
+
+    private volatile boolean aborted;
+
+    private final List<Path> files = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong documentsWritten = new AtomicLong();
+    private final AtomicLong pages = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * Prepare an export.
+     *
+     * @param name
+     *      description of the export for the logs
+     * @param settings
+     *      settings
+     * @param reader
+     *      reads the pages of the source
+     * @param mapper
+     *      serializes records and values
+     * @param columnReader
+     *      reads a column of a record, for CSV files
+     * @param columns
+     *      columns of CSV files
+     */
+    ExportPipeline(String name, ExportSettings settings, PageReader<T> reader, ObjectMapper mapper,
+                   BiFunction<T, String, Object> columnReader, List<String> columns) {
+        this.name         = name;
+        this.settings     = settings;
+        this.reader       = reader;
+        this.mapper       = mapper;
+        this.columnReader = columnReader;
+        this.columns      = columns;
+    }
+
+    /**
+     * Run the export until every segment is written.
+     *
+     * @return
+     *      report of the run
+     * @throws Exception
+     *      a page cannot be read or written, or the export did not complete within the timeout
+     */
+    ExportReport run() throws Exception {
+        long top = System.currentTimeMillis();
+        long deadline = top + TimeUnit.SECONDS.toMillis(settings.getTimeoutSeconds());
+        Files.createDirectories(settings.getOutputDirectory());
+
+        // Segments, combined with the filter
+        Filter filter = settings.getFilter();
+        segments = new ArrayList<>();
+        if (settings.getSegments() == null || settings.getSegments().isEmpty()) {
+            segments.add(new Segment(0, filter));
+        } else {
+            for (Filter segment : settings.getSegments()) {
+                segments.add(new Segment(segments.size(), filter == null || filter.getDocumentMap().isEmpty()
+                        ? segment : Filters.and(filter, segment)));
+            }
+        }
+        int resumed = readCheckpoint();
+        if (settings.isLogProgress()) {
+            log.info("Exporting {} to {}: {} segments ({} already completed), format={}",
+                    name, settings.getOutputDirectory(), segments.size(), resumed, settings.getFormat());
+        }
+
+        int threads = Math.max(1, Math.min(settings.getReaderThreadPoolSize(), segments.size()));
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        ExecutorService fetchers = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (Segment segment : segments) {
+                if (!segment.done) {
+                    tasks.add(writers.submit(() -> export(segment, fetchers)));
+                }
+            }
+            for (Future<?> task : tasks) {
+                try {
+                    task.get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } catch (ExecutionException e) {
+                    aborted = true;
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } catch (TimeoutException e) {
+            throw new TimeoutException("Export of " + name + " did not complete within " + settings.getTimeoutSeconds()
+                    + "s, " + documentsWritten.get() + " documents written, restart with the checkpoint file to resume");
+        } finally {
+            aborted = true;
+            writers.shutdownNow();
+            fetchers.shutdownNow();
+            writers.awaitTermination(Math.min(30, settings.getTimeoutSeconds()), TimeUnit.SECONDS);
+        }
+        List<Path> completed = new ArrayList<>(files);
+        Collections.sort(completed);
+        ExportReport report = new ExportReport(documentsWritten.get(), pages.get(), completed, bytesWritten.get(),
+                resumed, System.currentTimeMillis() - top);
+        if (settings.isLogProgress()) {
+            log.info("{} documents exported from {} in {} ms ({} docs/sec), {} files, {} bytes",
+                    report.getDocumentsWritten(), name, report.getElapsedMillis(),
+                    (long) report.getDocumentsPerSecond(), completed.size(), report.getBytesWritten());
+        }
+        return report;
+    }
+
+    /**
+     * Page through a segment, writing its files.
+     */
+    private Void export(Segment segment, ExecutorService fetchers) throws Exception {
+        String state = segment.pageState;
+        CompletableFuture<Page<T>> next = fetch(segment, state, fetchers);
+        Path path = path(segment);
+        CountingOutputStream counter = new CountingOutputStream(Files.newOutputStream(path));
+        Writer out = open(counter);
+        try {
+            while (!aborted) {
+                Page<T> page;
+                try {
+                    page = next.get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+                pages.incrementAndGet();
+                String nextState = page.getPageState().orElse(null);
+                if (nextState != null) {
+                    // Prefetch while this page is written
+                    next = fetch(segment, nextState, fetchers);
+                }
+                for (T record : page.getResults()) {
+                    write(out, record);
+                }
+                documentsWritten.addAndGet(page.getResults().size());
+                out.flush();
+                if (nextState == null) {
+                    close(out, counter, path);
+                    out = null;
+                    checkpoint(segment, null, segment.file, true);
+                    return null;
+                }
+                if (counter.count >= settings.getMaxFileSizeBytes()) {
+                    close(out, counter, path);
+                    out = null;
+                    checkpoint(segment, nextState, segment.file + 1, false);
+                    path = path(segment);
+                    counter = new CountingOutputStream(Files.newOutputStream(path));
+                    out = open(counter);
+                }
+            }
+            return null;
+        } finally {
+            if (out != null) {
+                // Incomplete file, rewritten by the next run
+                out.close();
+            }
+        }
+    }
+
+    private CompletableFuture<Page<T>> fetch(Segment segment, String pageState, ExecutorService fetchers) {
+        return CompletableFuture.supplyAsync(() -> reader.read(segment.filter, pageState), fetchers);
+    }
+
+    // --------------------------------
+    // --- Files                   ----
+    // --------------------------------
+
+    private Path path(Segment segment) {
+        String fileName = String.format("%s-%03d-%05d.%s%s", settings.getFilePrefix(), segment.index, segment.file,
+                settings.getFormat().getExtension(), settings.isCompress() ? ".gz" : "");
+        return settings.getOutputDirectory().resolve(fileName);
+    }
+
+    private Writer open(OutputStream out) throws IOException {
+        // Sync flush after each page, so the size on disk tells when to rotate
+        OutputStream stream = settings.isCompress() ? new GZIPOutputStream(out, 64 * 1024, true) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), 64 * 1024);
+        if (settings.getFormat() == ExportFormat.CSV) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(settings.getSeparator());
+                }
+                writer.write(csv(columns.get(i)));
+            }
+            writer.write('\n');
+        }
+        return writer;
+    }
+
+    private void close(Writer out, CountingOutputStream counter, Path path) throws IOException {
+        out.close();
+        bytesWritten.addAndGet(counter.count);
+        files.add(path);
+    }
+
+    private void write(Writer out, T record) throws IOException {
+        if (settings.getFormat() == ExportFormat.NDJSON) {
+            out.write(mapper.writeValueAsString(record));
+        } else {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    out.write(settings.getSeparator());
+                }
+                out.write(csv(text(columnReader.apply(record, columns.get(i)))));
+            }
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Text of a CSV value: scalars as they are, dates as ISO-8601 instants, vectors and nested values as JSON.
+     */
+    private String text(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toInstant().toString();
+        }
+        JsonNode node = mapper.valueToTree(value);
+        return node.isValueNode() ? node.asText() : mapper.writeValueAsString(node);
+    }
+
+    private String csv(String value) {
+        boolean quote = value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0
+                || value.indexOf(settings.getSeparator()) >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    // --------------------------------
+    // --- Checkpoint              ----
+    // --------------------------------
+
+    /**
+     * Record the progress of a segment after a completed file and save it.
+     */
+    private synchronized void checkpoint(Segment segment, String pageState, int file, boolean done) {
+        segment.pageState = pageState;
+        segment.file      = file;
+        segment.done      = done;
+        Path path = settings.getCheckpointFile();
+        if (path == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.setProperty("segments", String.valueOf(segments.size()));
+        for (Segment s : segments) {
+            properties.setProperty("segment." + s.index + ".file", String.valueOf(s.file));
+            properties.setProperty("segment." + s.index + ".done", String.valueOf(s.done));
+            if (s.pageState != null) {
+                properties.setProperty("segment." + s.index + ".pageState", s.pageState);
+            }
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(out, "Export checkpoint of " + name);
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot write checkpoint {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Load the progress of previous runs.
+     */
+    private int readCheckpoint() throws IOException {
+        Path path = settings.getCheckpointFile();
+        if (path == null || !Files.exists(path)) {
+            return 0;
+        }
+        Properties properties = new Properties();
+        try (Reader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(in);
+        }
+        int saved = Integer.parseInt(properties.getProperty("segments", "0"));
+        if (saved != segments.size()) {
+            throw new IllegalArgumentException("Checkpoint " + path + " was written for " + saved
+                    + " segments, not " + segments.size());
+        }
+        int done = 0;
+        for (Segment segment : segments) {
+            segment.file      = Integer.parseInt(properties.getProperty("segment." + segment.index + ".file", "0"));
+            segment.done      = Boolean.parseBoolean(properties.getProperty("segment." + segment.index + ".done"));
+            segment.pageState = properties.getProperty("segment." + segment.index + ".pageState");
+            if (segment.done) {
+                done++;
+            }
+        }
+        return done;
+    }
+}
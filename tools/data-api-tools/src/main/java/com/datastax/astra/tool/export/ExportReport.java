@@ -0,0 +1,45 @@
+package com.datastax.astra.tool.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Outcome of an export.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ExportReport {
+
+    /** Documents written during this run. */
+    private final long documentsWritten;
+
+    /** find requests sent during this run. */
+    private final long pages;
+
+    /** Files completed during this run, in name order. */
+    private final List<Path> files;
+
+    /** Bytes written to the files of this run, after compression. */
+    private final long bytesWritten;
+
+    /** Segments not read because a previous run completed them. */
+    private final int segmentsResumed;
+
+    /** Duration of the run. */
+    private final long elapsedMillis;
+
+    /**
+     * Documents written per second.
+     *
+     * @return
+     *      throughput of the run
+     */
+    public double getDocumentsPerSecond() {
+        return elapsedMillis == 0 ? 0 : documentsWritten * 1000d / elapsedMillis;
+    }
+}
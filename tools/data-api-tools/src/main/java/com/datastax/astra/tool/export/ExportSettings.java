@@ -0,0 +1,110 @@
+package com.datastax.astra.tool.export;
+
+import com.datastax.astra.client.core.query.Filter;
+import com.datastax.astra.client.core.query.Projection;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Settings of an export.
+ */
+@Getter
+@Builder
+public class ExportSettings {
+
+    /**
+     * Directory receiving the files, created when missing.
+     */
+    @NonNull
+    private final Path outputDirectory;
+
+    /**
+     * Layout of the files.
+     * Default: NDJSON
+     */
+    @Builder.Default
+    private final ExportFormat format = ExportFormat.NDJSON;
+
+    /**
+     * Files are named {@code <prefix>-<segment>-<sequence>.<extension>}.
+     * Default: export
+     */
+    @Builder.Default
+    private final String filePrefix = "export";
+
+    /**
+     * Gzip the files ({@code .gz} suffix).
+     * Default: true
+     */
+    @Builder.Default
+    private final boolean compress = true;
+
+    /**
+     * A new file is started once a file reaches this size on disk, between two pages.
+     * Default: 256 MB
+     */
+    @Builder.Default
+    private final long maxFileSizeBytes = 256L * 1024 * 1024;
+
+    /**
+     * Optional filter on the source.
+     * Default: null (everything)
+     */
+    private final Filter filter;
+
+    /**
+     * Optional projection. Collections default to all the fields, vectors included.
+     */
+    private final Projection[] projection;
+
+    /**
+     * Optional split predicates of the source (for instance {@code Filters.objectIdTimeRanges}), each one is
+     * combined with the filter, read on its own and written to its own files. They must not overlap.
+     * Default: null (one segment)
+     */
+    private final List<Filter> segments;
+
+    /**
+     * Number of segments exported at the same time. Each one prefetches its next page while writing.
+     * Default: 4
+     */
+    @Builder.Default
+    private final int readerThreadPoolSize = 4;
+
+    /**
+     * Columns of CSV files. Tables default to the columns of their definition, collections to the
+     * fields of their first document.
+     */
+    private final List<String> columns;
+
+    /**
+     * Column separator of CSV files.
+     * Default: ','
+     */
+    @Builder.Default
+    private final char separator = ',';
+
+    /**
+     * Progress of each segment (page state and file sequence) is saved to this file, when set, every time
+     * a file is completed. An export restarted with it rewrites the incomplete files and continues.
+     */
+    private final Path checkpointFile;
+
+    /**
+     * Maximum duration of the export.
+     * Default: 3600 seconds
+     */
+    @Builder.Default
+    private final int timeoutSeconds = 3600;
+
+    /**
+     * Whether to log progress during the export.
+     * Default: true
+     */
+    @Builder.Default
+    private final boolean logProgress = true;
+}
@@ -1,43 +1,73 @@
 package com.datastax.astra.tool.json;
 
 import com.datastax.astra.client.collections.Collection;
+import com.datastax.astra.client.collections.commands.options.CollectionInsertManyOptions;
 import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.client.collections.exceptions.CollectionInsertManyException;
 import com.datastax.astra.internal.serdes.collections.DocumentMapper;
-import com.fasterxml.jackson.core.JsonFactory;
+import com.datastax.astra.tool.loader.InsertPipeline;
+import com.datastax.astra.tool.loader.LoadReport;
+import com.datastax.astra.tool.loader.csv.CsvLoadPipeline;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * JSON Loader
+ * <p>
+ * Two layouts are accepted, plain or gzip compressed, and detected from the first character of the file:
+ * </p>
+ * <ul>
+ *   <li>NDJSON, one document per line: the file is streamed through the bounded pipeline of the CSV loader,
+ *   split across {@code parserThreads} (uncompressed files only), with dead letters and checkpoints.</li>
+ *   <li>A top-level array of documents: read on a single thread by the same pipeline. Elements are only
+ *   tokenized to find their bounds, their text is sliced from the file and decoded once by the mapper. A resumed
+ *   load skips again the elements loaded before the checkpoint, prefer NDJSON for large loads.</li>
+ * </ul>
+ * <p>
+ * Documents already in the collection, sent again after a retry or a resume, are counted as skipped.
+ * </p>
+ */
 @Slf4j
 public class JsonDocumentLoader {
 
+    /** Reads the documents, thread safe. */
+    private static final ObjectMapper JSON = new ObjectMapper();
+
     /**
-     * Distributed import of CSV file into Astra.
+     * Distributed import of a JSON file into Astra.
      *
+     * @return
+     *      report of the load
      * @throws Exception
-     *      exception in processing CSV
+     *      exception in processing JSON
      */
-    public static void load(String fileName, Collection<Document> collection, DocumentMapper processor) throws Exception {
-        load(fileName, JsonLoaderSettings.builder().build(), collection, processor);
+    public static LoadReport load(String fileName, Collection<Document> collection, DocumentMapper processor) throws Exception {
+        return load(fileName, JsonLoaderSettings.builder().build(), collection, processor);
     }
 
     /**
-     * Distributed import of CSV file into Astra.
+     * Distributed import of a JSON file into Astra.
      *
+     * @return
+     *      report of the load
      * @throws Exception
-     *      exception in processing CSV
+     *      exception in processing JSON
      */
-    public static void load(String fileName, JsonLoaderSettings settings, Collection<Document> collection) throws Exception {
-        load(fileName, settings, collection, doc -> doc);
+    public static LoadReport load(String fileName, JsonLoaderSettings settings, Collection<Document> collection) throws Exception {
+        return load(fileName, settings, collection, doc -> doc);
     }
 
     /**
@@ -49,56 +79,207 @@ public class JsonDocumentLoader {
      *     collection
      * @param processor
      *     processor
+     * @return
+     *      report of the load
      * @throws Exception
-     *      exception in processing CSV
+     *      exception in processing JSON, or load not completed within {@code timeoutSeconds}
      */
-    public static void load(String fileName,
+    public static LoadReport load(String fileName,
                             JsonLoaderSettings settings,
                             Collection<Document> collection,
                             DocumentMapper processor)
     throws Exception {
-        AtomicInteger counter = new AtomicInteger();
-        long top = System.currentTimeMillis();
-        // Multithreaded executor to process the CSV file
-        long startTime = System.currentTimeMillis();
-        ObjectMapper objectMapper = new ObjectMapper();
-        List<Document> batch = new ArrayList<>(settings.batchSize);
-        ExecutorService executor = Executors.newFixedThreadPool(settings.threadPoolSize);
-
-        try (JsonParser parser = new JsonFactory().createParser(new File(fileName))) {
-            if (parser.nextToken() != JsonToken.START_ARRAY) {
-                throw new RuntimeException("JSON file must contain an array at the root");
+        // Ordered, so a refused document tells which ones before it were inserted
+        CollectionInsertManyOptions insertOptions = new CollectionInsertManyOptions()
+                .ordered(true)
+                .chunkSize(settings.getBatchSize());
+        return load(Paths.get(fileName), settings, processor, documents -> {
+            try {
+                collection.insertMany(documents, insertOptions);
+            } catch (CollectionInsertManyException e) {
+                throw InsertPipeline.PartialInsertException.of(e);
             }
-            while (parser.nextToken() == JsonToken.START_OBJECT) {
-                Document doc = objectMapper.readValue(parser, Document.class);
-                //Document doc = new Document();
-                //doc.putAll();
-                counter.incrementAndGet();
-                batch.add(processor.map(doc));
-                if (batch.size() == settings.batchSize) {
-                    final List<Document> batchToInsert = new ArrayList<>(batch);
-                    log.info("Enqueuing " + batch.size() + " rows into collection...");
-                    executor.submit(() -> collection.insertMany(batchToInsert));
-                    batch.clear();
+        });
+    }
+
+    /**
+     * Load a JSON file with the given inserter.
+     */
+    static LoadReport load(Path file, JsonLoaderSettings settings, DocumentMapper processor,
+                           InsertPipeline.BatchInserter<Document> inserter) throws Exception {
+        CsvLoadPipeline.RecordMapperFactory<Document> mappers =
+                header -> record -> processor.map(JSON.readValue(record, Document.class));
+        if (firstCharacter(file) == '[') {
+            return new CsvLoadPipeline<>(file, settings, JsonArraySource::new, mappers, inserter).run();
+        }
+        return new CsvLoadPipeline<>(file, settings, false, mappers, inserter).run();
+    }
+
+    /**
+     * Reads the elements of a top-level array, each one returned as its raw JSON text. The parser only skips
+     * over an element to find where it ends, the text is then sliced from the bytes kept by the stream.
+     * Offsets are the ones of the parser (uncompressed bytes for gzip files), so a resumed load skips the loaded
+     * elements. Elements that are not objects are returned as they are and rejected by the mapper.
+     */
+    private static class JsonArraySource implements CsvLoadPipeline.RecordSource {
+
+        private final RecordingInputStream input;
+
+        private final JsonParser parser;
+
+        JsonArraySource(Path file, long start) throws IOException {
+            this.input  = new RecordingInputStream(open(file));
+            this.parser = JSON.getFactory().createParser(input);
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("JSON file must contain an array at the root");
                 }
+                // Elements ending before the checkpoint were loaded by a previous run
+                while (getPosition() < start && nextToken() != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                    input.discardBefore(getPosition());
+                }
+            } catch (IOException | RuntimeException e) {
+                parser.close();
+                throw e;
             }
+        }
 
-            // Process remaining batch
-            if (!batch.isEmpty()) {
-                executor.submit(() -> collection.insertMany(batch));
+        /** {@inheritDoc} */
+        @Override
+        public String next() throws IOException {
+            // The end of the array is already reached when resuming a completed load
+            if (parser.isClosed() || parser.currentToken() == JsonToken.END_ARRAY || nextToken() == JsonToken.END_ARRAY) {
+                return null;
             }
-        } finally {
-            executor.shutdown();
-            log.info(counter.get() + " rows enqueued from " + collection + " in " + (System.currentTimeMillis() - startTime) + " ms");
-            try {
-                if (!executor.awaitTermination(settings.timeoutSeconds, TimeUnit.SECONDS)) {
-                    executor.shutdownNow();
-                    log.info(counter.get() + " rows processed in " + (System.currentTimeMillis() - startTime) + " ms");
+            long from = parser.currentTokenLocation().getByteOffset();
+            input.discardBefore(from);
+            if (!parser.currentToken().isStructStart()) {
+                return JSON.readTree(parser).toString();
+            }
+            parser.skipChildren();
+            return input.slice(from, getPosition());
+        }
+
+        /**
+         * Next token of the array, failing on a truncated file.
+         */
+        private JsonToken nextToken() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IllegalArgumentException("Unexpected end of the JSON array at " + parser.currentLocation());
+            }
+            return token;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long getPosition() {
+            return parser.currentLocation().getByteOffset();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /**
+     * Keeps the bytes read since the start of the current element, so its text can be sliced once the parser
+     * has skipped over it. Only the element and the read-ahead of the parser are held.
+     */
+    private static class RecordingInputStream extends FilterInputStream {
+
+        /** Bytes read from {@link #bufferStart}. */
+        private byte[] buffer = new byte[64 * 1024];
+
+        /** Offset in the stream of the first byte of the buffer. */
+        private long bufferStart;
+
+        /** Number of bytes in the buffer. */
+        private int length;
+
+        RecordingInputStream(InputStream in) {
+            super(in);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                if (length + n > buffer.length) {
+                    buffer = Arrays.copyOf(buffer, Math.max(2 * buffer.length, length + n));
+                }
+                System.arraycopy(b, off, buffer, length, n);
+                length += n;
+            }
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long skip(long n) throws IOException {
+            // Skipped bytes are read, so offsets stay aligned with the buffer
+            return Math.max(0, read(new byte[(int) Math.min(n, 8192)]));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        /**
+         * Drop the bytes before an offset, they will not be sliced.
+         */
+        void discardBefore(long offset) {
+            int drop = (int) Math.min(length, Math.max(0, offset - bufferStart));
+            System.arraycopy(buffer, drop, buffer, 0, length - drop);
+            length -= drop;
+            bufferStart += drop;
+        }
+
+        /**
+         * Text between two offsets of the stream, both in the buffer.
+         */
+        String slice(long from, long to) {
+            return new String(buffer, (int) (from - bufferStart), (int) (to - from), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Open a file, decompressing gzip files.
+     */
+    private static InputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 256 * 1024);
+        in.mark(2);
+        int b1 = in.read();
+        int b2 = in.read();
+        in.reset();
+        return b1 == 0x1F && b2 == 0x8B ? new BufferedInputStream(new GZIPInputStream(in, 64 * 1024)) : in;
+    }
+
+    /**
+     * First character of the content that is not a blank nor a byte order mark.
+     */
+    private static int firstCharacter(Path file) throws IOException {
+        try (InputStream in = open(file)) {
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (!Character.isWhitespace(b) && b != 0xEF && b != 0xBB && b != 0xBF) {
+                    return b;
                 }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                executor.shutdownNow();
             }
+            return -1;
         }
     }
 }
@@ -1,22 +1,11 @@
 package com.datastax.astra.tool.json;
 
-import lombok.Builder;
-
-@Builder
-public class JsonLoaderSettings {
-
-    private static final int BATCH_SIZE = 20;
-
-    private static final int THREAD_POOL_SIZE = 5;
-
-    private static final int TIMEOUT = 1800;
-
-    @Builder.Default
-    int batchSize = BATCH_SIZE;;
-
-    @Builder.Default
-    int threadPoolSize = THREAD_POOL_SIZE;;
-
-    @Builder.Default
-    int timeoutSeconds = TIMEOUT;
+import com.datastax.astra.tool.loader.LoaderSettings;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Settings of a JSON load. NDJSON files are split across {@code parserThreads}, arrays are parsed by one thread.
+ */
+@SuperBuilder
+public class JsonLoaderSettings extends LoaderSettings {
 }
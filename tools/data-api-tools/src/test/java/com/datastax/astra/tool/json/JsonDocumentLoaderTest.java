@@ -0,0 +1,142 @@
+package com.datastax.astra.tool.json;
+
+import com.datastax.astra.client.collections.definition.documents.Document;
+import com.datastax.astra.tool.loader.LoadReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonDocumentLoaderTest {
+
+    /** Inserted documents by id. */
+    private final Map<Object, Document> inserted = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldLoadNdjsonWithSeveralParsers(@TempDir Path tmp) throws Exception {
+        Path file = write(tmp.resolve("docs.ndjson"), ndjson(200), false);
+        JsonLoaderSettings settings = JsonLoaderSettings.builder()
+                .batchSize(7)
+                .parserThreads(3)
+                .splitSizeBytes(512)
+                .build();
+
+        LoadReport report = JsonDocumentLoader.load(file, settings, doc -> doc, this::insert);
+
+        assertThat(report.getRowsRead()).isEqualTo(200);
+        assertThat(report.getRowsInserted()).isEqualTo(200);
+        assertThat(inserted).hasSize(200);
+        assertDocument(inserted.get(42), 42);
+    }
+
+    @Test
+    void shouldLoadArrayElements(@TempDir Path tmp) throws Exception {
+        Path file = write(tmp.resolve("docs.json"), array(200), false);
+        JsonLoaderSettings settings = JsonLoaderSettings.builder()
+                .batchSize(10)
+                .deadLetterFile(tmp.resolve("dead-letters.ndjson"))
+                .build();
+
+        LoadReport report = JsonDocumentLoader.load(file, settings, doc -> doc, this::insert);
+
+        assertThat(report.getRowsInserted()).isEqualTo(200);
+        assertThat(report.getRowsRejected()).isEqualTo(1);
+        assertThat(inserted).hasSize(200);
+        assertDocument(inserted.get(0), 0);
+        assertDocument(inserted.get(199), 199);
+        assertThat(Files.readString(settings.getDeadLetterFile())).contains("\"record\":\"\\\"not a document\\\"\"");
+    }
+
+    @Test
+    void shouldResumeArrayAfterCheckpoint(@TempDir Path tmp) throws Exception {
+        Path file = write(tmp.resolve("docs.json"), array(100), false);
+        JsonLoaderSettings settings = JsonLoaderSettings.builder()
+                .batchSize(10)
+                .checkpointFile(tmp.resolve("checkpoint"))
+                .build();
+        JsonDocumentLoader.load(file, settings, doc -> doc, this::insert);
+        inserted.clear();
+
+        LoadReport report = JsonDocumentLoader.load(file, settings, doc -> doc, this::insert);
+
+        assertThat(report.getRowsRead()).isZero();
+        assertThat(report.getRowsResumed()).isEqualTo(101);
+        assertThat(inserted).isEmpty();
+    }
+
+    @Test
+    void shouldLoadGzipFiles(@TempDir Path tmp) throws Exception {
+        Path ndjson = write(tmp.resolve("docs.ndjson.gz"), ndjson(150), true);
+        Path array = write(tmp.resolve("docs.json.gz"), array(150), true);
+        JsonLoaderSettings settings = JsonLoaderSettings.builder()
+                .batchSize(20)
+                .parserThreads(2)
+                .build();
+
+        LoadReport fromNdjson = JsonDocumentLoader.load(ndjson, settings, doc -> doc, this::insert);
+        assertThat(fromNdjson.getRowsInserted()).isEqualTo(150);
+        assertDocument(inserted.get(149), 149);
+        inserted.clear();
+
+        LoadReport fromArray = JsonDocumentLoader.load(array, settings, doc -> doc, this::insert);
+        assertThat(fromArray.getRowsInserted()).isEqualTo(150);
+        assertThat(inserted).hasSize(150);
+        assertDocument(inserted.get(75), 75);
+    }
+
+    private void insert(List<Document> documents) {
+        documents.forEach(doc -> inserted.put(doc.get("_id"), doc));
+    }
+
+    private static void assertDocument(Document doc, int id) {
+        assertThat(doc.getString("text")).isEqualTo("café [" + id + "] {\"quoted\"}");
+        assertThat(doc.getList("vector", Double.class)).containsExactly(0.5, 1.5);
+        assertThat(doc.get("nested", Map.class)).containsEntry("id", id);
+    }
+
+    private static String document(int id) {
+        return "{\"_id\": " + id + ", \"text\": \"café [" + id + "] {\\\"quoted\\\"}\","
+                + " \"vector\": [0.5, 1.5], \"nested\": {\"id\": " + id + "}}";
+    }
+
+    private static String ndjson(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append(document(i)).append('\n');
+        }
+        return content.toString();
+    }
+
+    /**
+     * An indented array of documents, with one element that is not a document.
+     */
+    private static String array(int count) {
+        StringBuilder content = new StringBuilder("[\n");
+        for (int i = 0; i < count; i++) {
+            content.append("  ").append(document(i)).append(",\n");
+            if (i == count / 2) {
+                content.append("  \"not a document\",\n");
+            }
+        }
+        content.setLength(content.length() - 2);
+        return content.append("\n]\n").toString();
+    }
+
+    private static Path write(Path file, String content, boolean gzip) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try (OutputStream out = gzip ? new GZIPOutputStream(Files.newOutputStream(file)) : Files.newOutputStream(file)) {
+            out.write(bytes);
+        }
+        return file;
+    }
+}